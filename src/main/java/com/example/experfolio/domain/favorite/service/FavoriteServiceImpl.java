@@ -7,7 +7,8 @@ import com.example.experfolio.domain.favorite.entity.Favorite;
 import com.example.experfolio.domain.favorite.exception.DuplicateFavoriteException;
 import com.example.experfolio.domain.favorite.exception.FavoriteNotFoundException;
 import com.example.experfolio.domain.favorite.repository.FavoriteRepository;
-import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
 import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 즐겨찾기 서비스 구현체
  * Portfolio 중심 설계로 PortfolioRepository를 사용
@@ -27,6 +31,7 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final PortfolioRepository portfolioRepository;
+    private final PortfolioSummaryCache portfolioSummaryCache;
 
     @Override
     @Transactional
@@ -39,8 +44,9 @@ public class FavoriteServiceImpl implements FavoriteService {
         }
 
         // Portfolio 존재 확인 (구직자의 포트폴리오가 있는지 확인)
-        Portfolio portfolio = portfolioRepository.findByUserId(jobSeekerId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 구직자의 포트폴리오를 찾을 수 없습니다"));
+        if (!portfolioRepository.existsByUserId(jobSeekerId)) {
+            throw new IllegalArgumentException("해당 구직자의 포트폴리오를 찾을 수 없습니다");
+        }
 
         // Favorite 엔티티 생성
         Favorite favorite = Favorite.builder()
@@ -51,7 +57,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         Favorite savedFavorite = favoriteRepository.save(favorite);
         log.info("Favorite added successfully: id={}", savedFavorite.getId());
 
-        return convertToResponseDto(savedFavorite);
+        return convertToResponseDto(savedFavorite, portfolioSummaryCache.getAll(List.of(jobSeekerId)));
     }
 
     @Override
@@ -74,7 +80,11 @@ public class FavoriteServiceImpl implements FavoriteService {
 
         Page<Favorite> favoritePage = favoriteRepository.findByRecruiterId(recruiterId, pageable);
 
-        return favoritePage.map(this::convertToResponseDto);
+        // 한 페이지의 구직자 정보를 한 번에 조회 (캐시 미스만 MongoDB 조회)
+        Map<String, PortfolioSummaryDto> summaries = portfolioSummaryCache.getAll(
+                favoritePage.getContent().stream().map(Favorite::getJobSeekerId).toList());
+
+        return favoritePage.map(favorite -> convertToResponseDto(favorite, summaries));
     }
 
     @Override
@@ -95,11 +105,11 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     /**
      * Favorite -> FavoriteResponseDto 변환
-     * Portfolio에서 구직자 정보 가져오기
+     * Portfolio 요약에서 구직자 정보 가져오기
      */
-    private FavoriteResponseDto convertToResponseDto(Favorite favorite) {
+    private FavoriteResponseDto convertToResponseDto(Favorite favorite, Map<String, PortfolioSummaryDto> summaries) {
         String jobSeekerId = favorite.getJobSeekerId();
-        JobSeekerInfoDto jobSeekerInfo = buildJobSeekerInfo(jobSeekerId);
+        JobSeekerInfoDto jobSeekerInfo = buildJobSeekerInfo(jobSeekerId, summaries.get(jobSeekerId));
 
         return FavoriteResponseDto.builder()
                 .id(favorite.getId().toString())
@@ -109,22 +119,18 @@ public class FavoriteServiceImpl implements FavoriteService {
     }
 
     /**
-     * MongoDB Portfolio에서 구직자 정보 가져오기
+     * 포트폴리오 요약에서 구직자 정보 생성
      */
-    private JobSeekerInfoDto buildJobSeekerInfo(String jobSeekerId) {
-        // MongoDB에서 포트폴리오 정보 조회
-        Portfolio portfolio = portfolioRepository.findByUserId(jobSeekerId)
-                .orElse(null);
-
-        if (portfolio != null && portfolio.getBasicInfo() != null) {
+    private JobSeekerInfoDto buildJobSeekerInfo(String jobSeekerId, PortfolioSummaryDto summary) {
+        if (summary != null && summary.isBasicInfoPresent()) {
             // 포트폴리오가 있는 경우 - MongoDB에서 정보 사용
             return JobSeekerInfoDto.builder()
                     .id(jobSeekerId)
-                    .name(portfolio.getBasicInfo().getName())
-                    .desiredPosition(portfolio.getBasicInfo().getDesiredPosition())
-                    .major(portfolio.getBasicInfo().getMajor())
-                    .schoolName(portfolio.getBasicInfo().getSchoolName())
-                    .gpa(portfolio.getBasicInfo().getGpa())
+                    .name(summary.getName())
+                    .desiredPosition(summary.getDesiredPosition())
+                    .major(summary.getMajor())
+                    .schoolName(summary.getSchoolName())
+                    .gpa(summary.getGpa())
                     .build();
         } else {
             // 포트폴리오가 없는 경우 - 기본 정보만 반환
@@ -0,0 +1,97 @@
+package com.example.experfolio.domain.portfolio.cache;
+
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent.ChangeType;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포트폴리오 요약 캐시 (userId 기준)
+ * 검색 결과와 즐겨찾기 목록이 같은 후보자 정보를 반복 조회하지 않도록 크기/TTL 기준으로 보관한다.
+ * 한 페이지의 캐시 미스는 한 번의 MongoDB 조회로 채우며, 포트폴리오가 없는 userId도 함께 저장한다.
+ */
+@Slf4j
+@Component
+public class PortfolioSummaryCache {
+
+    /**
+     * 요약 필드(BasicInfo)가 바뀔 수 있는 변경
+     */
+    private static final Set<ChangeType> INVALIDATING_CHANGES =
+            EnumSet.of(ChangeType.CREATED, ChangeType.BASIC_INFO_UPDATED, ChangeType.DELETED);
+
+    private final PortfolioRepository portfolioRepository;
+    private final Cache<String, PortfolioSummaryDto> cache;
+
+    public PortfolioSummaryCache(
+            PortfolioRepository portfolioRepository,
+            MeterRegistry meterRegistry,
+            @Value("${portfolio.summary-cache.max-size:10000}") long maxSize,
+            @Value("${portfolio.summary-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.portfolioRepository = portfolioRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "portfolioSummaries");
+    }
+
+    /**
+     * 여러 userId의 요약 조회 (캐시 미스는 한 번에 조회)
+     *
+     * @return userId → 요약. 포트폴리오가 없는 userId는 basicInfoPresent=false인 요약
+     */
+    public Map<String, PortfolioSummaryDto> getAll(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(new LinkedHashSet<>(userIds), this::loadAll);
+    }
+
+    public PortfolioSummaryDto get(String userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @EventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (INVALIDATING_CHANGES.contains(event.getChangeType())) {
+            log.debug("Invalidating portfolio summary: userId={}, change={}", event.getUserId(), event.getChangeType());
+            invalidate(event.getUserId());
+        }
+    }
+
+    private Map<String, PortfolioSummaryDto> loadAll(Set<? extends String> userIds) {
+        Map<String, PortfolioSummaryDto> loaded = portfolioRepository.findSummariesByUserIdIn(List.copyOf(userIds)).stream()
+                .collect(Collectors.toMap(PortfolioSummaryDto::getUserId, Function.identity(), (first, second) -> first));
+        log.debug("Loaded {} portfolio summaries for {} cache misses", loaded.size(), userIds.size());
+
+        for (String userId : userIds) {
+            loaded.computeIfAbsent(userId, PortfolioSummaryDto::absent);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.experfolio.domain.portfolio.cache;
+
+import com.example.experfolio.domain.portfolio.document.ProcessingStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 직렬화된 포트폴리오 조회 결과와 ETag
+ * ETag는 version과 updatedAt, 임베딩 처리 상태 전체로 만들며, 이 값이 같으면 응답 본문도 같다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PortfolioView {
+
+    private final String etag;
+    private final byte[] body;
+
+    /**
+     * 포트폴리오 상태로 ETag 생성 (따옴표 제외)
+     */
+    public static String etag(Long version, LocalDateTime updatedAt, ProcessingStatus processingStatus) {
+        // 응답은 처리 상태 전체를 담으므로 (재시도 횟수/시각은 version을 올리지 않고 바뀜) 전체를 해시
+        return "v" + Objects.requireNonNullElse(version, 0L) + "-"
+                + Integer.toHexString(Objects.hash(updatedAt, processingStatus));
+    }
+
+    /**
+     * If-None-Match 헤더가 이 ETag와 일치하는지 확인 ("*", 여러 값, 약한 비교 W/ 지원)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String quoted = "\"" + etag + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
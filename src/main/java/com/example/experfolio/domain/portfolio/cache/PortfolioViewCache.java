@@ -0,0 +1,91 @@
+package com.example.experfolio.domain.portfolio.cache;
+
+import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioEmbeddingsUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 리크루터용 포트폴리오 조회 캐시 (userId 기준, 직렬화된 JSON 보관)
+ * 항목은 만들 때의 ETag와 함께 저장되며, 조회 시 현재 ETag와 같을 때만 사용한다.
+ * 따라서 다른 인스턴스에서 수정되어도 오래된 본문을 내보내지 않고, 같은 인스턴스의 수정은 이벤트로 바로 제거한다.
+ * 크기는 본문 바이트 합계로 제한한다.
+ */
+@Slf4j
+@Component
+public class PortfolioViewCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, PortfolioView> cache;
+
+    public PortfolioViewCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${portfolio.view-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${portfolio.view-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String userId, PortfolioView view) -> view.getBody().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "portfolioViews");
+    }
+
+    /**
+     * 현재 ETag의 조회 결과. 없거나 ETag가 다르면 loader로 만들어 저장한다.
+     *
+     * @param etag   현재 포트폴리오 상태의 ETag ({@link PortfolioView#etag})
+     * @param loader 캐시 미스 시 포트폴리오 조회
+     */
+    public PortfolioView get(String userId, String etag, Supplier<PortfolioResponseDto> loader) {
+        PortfolioView cached = cache.getIfPresent(userId);
+        if (cached != null && cached.getEtag().equals(etag)) {
+            return cached;
+        }
+
+        PortfolioResponseDto response = loader.get();
+        PortfolioView view = new PortfolioView(
+                PortfolioView.etag(response.getVersion(), response.getUpdatedAt(), response.getProcessingStatus()),
+                serialize(response));
+        cache.put(userId, view);
+        return view;
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @EventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        log.debug("Invalidating portfolio view: userId={}, change={}", event.getUserId(), event.getChangeType());
+        invalidate(event.getUserId());
+    }
+
+    @EventListener
+    public void onEmbeddingsUpdated(PortfolioEmbeddingsUpdatedEvent event) {
+        cache.invalidateAll(event.getVectors().keySet());
+    }
+
+    private byte[] serialize(PortfolioResponseDto response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포트폴리오를 변환하지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+}
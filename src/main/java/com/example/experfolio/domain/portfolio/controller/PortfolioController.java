@@ -1,15 +1,30 @@
 package com.example.experfolio.domain.portfolio.controller;
 
+import com.example.experfolio.domain.portfolio.cache.PortfolioView;
+import com.example.experfolio.domain.portfolio.document.Attachment;
 import com.example.experfolio.domain.portfolio.dto.BasicInfoDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadCompleteRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadResponseDto;
 import com.example.experfolio.domain.portfolio.dto.ExistPortfolioDto;
 import com.example.experfolio.domain.portfolio.dto.PortfolioItemDto;
 import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
 import com.example.experfolio.domain.portfolio.service.PortfolioService;
+import com.example.experfolio.domain.portfolio.upload.DirectUploadService;
+import com.example.experfolio.domain.portfolio.upload.StreamingAttachmentUploader;
+import com.example.experfolio.global.config.MultipartConfig;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,7 +46,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PortfolioController {
 
+    /**
+     * 브라우저/프록시는 저장하되 매번 ETag로 재검증
+     */
+    private static final CacheControl PORTFOLIO_VIEW_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final PortfolioService portfolioService;
+    private final StreamingAttachmentUploader streamingAttachmentUploader;
+    private final DirectUploadService directUploadService;
 
     /**
      * 1.1 포트폴리오 생성
@@ -172,15 +194,87 @@ public class PortfolioController {
      * 특정 사용자의 포트폴리오 조회
      * Actor: RECRUITER
      */
-    @Operation(summary = "사용자 포트폴리오 조회", description = "리크루터가 특정 사용자의 포트폴리오를 조회합니다.")
+    @Operation(summary = "사용자 포트폴리오 조회",
+            description = "리크루터가 특정 사용자의 포트폴리오를 조회합니다. ETag를 반환하며, If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = PortfolioResponseDto.class)))
+    @ApiResponse(responseCode = "304", description = "변경 없음 (본문 없음)")
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('RECRUITER')")
-    public ResponseEntity<PortfolioResponseDto> getPortfolioByUserId(
+    public ResponseEntity<byte[]> getPortfolioByUserId(
             @PathVariable String userId,
-            @AuthenticationPrincipal UserDetails currentUser
+            @AuthenticationPrincipal UserDetails currentUser,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        PortfolioResponseDto response = portfolioService.getPortfolioByUserId(userId);
-        return ResponseEntity.ok(response);
+        String etag = portfolioService.getPortfolioETag(userId);
+        if (PortfolioView.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(PORTFOLIO_VIEW_CACHE_CONTROL)
+                    .build();
+        }
+
+        PortfolioView view = portfolioService.getPortfolioView(userId, etag);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(view.getEtag())
+                .cacheControl(PORTFOLIO_VIEW_CACHE_CONTROL)
+                .body(view.getBody());
+    }
+
+    /**
+     * 포트폴리오 아이템에 첨부파일 스트리밍 업로드
+     * 요청 본문을 임시 저장 없이 바로 R2로 보낸다 (MultipartConfig에서 Spring multipart 처리 제외).
+     * Actor: JOB_SEEKER
+     */
+    @Operation(summary = "첨부파일 스트리밍 업로드",
+            description = "multipart/form-data의 파일 파트를 서버에 저장하지 않고 바로 저장소로 업로드하여 아이템에 추가합니다.")
+    @PostMapping(value = "/items/{itemId}/attachments" + MultipartConfig.STREAMING_PATH_SUFFIX,
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PortfolioResponseDto> streamAttachments(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String itemId,
+            HttpServletRequest request
+    ) {
+        String userId = userDetails.getUsername(); // UUID 문자열
+        portfolioService.requireItem(userId, itemId);
+        List<Attachment> attachments = streamingAttachmentUploader.upload(request, userId);
+        PortfolioResponseDto response = portfolioService.addAttachments(userId, itemId, attachments);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 첨부파일 직접 업로드 URL 발급
+     * Actor: JOB_SEEKER
+     */
+    @Operation(summary = "첨부파일 업로드 URL 발급",
+            description = "저장소에 바로 업로드할 수 있는 짧은 수명의 서명된 PUT URL을 발급합니다. 업로드 후 완료 요청이 필요합니다.")
+    @PostMapping("/items/{itemId}/attachments/upload-url")
+    public ResponseEntity<DirectUploadResponseDto> issueAttachmentUploadUrl(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String itemId,
+            @Valid @RequestBody DirectUploadRequestDto request
+    ) {
+        String userId = userDetails.getUsername(); // UUID 문자열
+        return ResponseEntity.ok(directUploadService.issue(userId, itemId, request));
+    }
+
+    /**
+     * 첨부파일 직접 업로드 완료
+     * Actor: JOB_SEEKER
+     */
+    @Operation(summary = "첨부파일 업로드 완료",
+            description = "업로드된 파일의 크기와 형식을 확인한 뒤 아이템에 첨부파일로 추가합니다.")
+    @PostMapping("/items/{itemId}/attachments/complete")
+    public ResponseEntity<PortfolioResponseDto> completeAttachmentUpload(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String itemId,
+            @Valid @RequestBody DirectUploadCompleteRequestDto request
+    ) {
+        String userId = userDetails.getUsername(); // UUID 문자열
+        PortfolioResponseDto response = directUploadService.complete(userId, itemId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.example.experfolio.domain.portfolio.converter;
+
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import org.bson.types.Binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 임베딩 벡터 ↔ BSON BinData 변환
+ *
+ * <pre>
+ * FLOAT32: subtype 0x09 (BSON vector) | dtype 0x27 | padding 0x00 | float32 LE × n
+ * INT8   : subtype 0x80 (사용자 정의) | dtype 0x03 | padding 0x00 | scale float32 LE | int8 × n
+ * </pre>
+ * FLOAT32는 BSON vector 명세와 같은 배치이므로 다른 클라이언트(pymongo Binary.as_vector 등)에서도 읽을 수 있다.
+ * BSON vector INT8(subtype 0x09, dtype 0x03)은 스케일이 없으므로 양자화 형식은 사용자 정의 subtype에 스케일을 함께 저장한다.
+ */
+public final class EmbeddingVectorCodec {
+
+    public static final byte VECTOR_SUBTYPE = 0x09;
+    public static final byte QUANTIZED_SUBTYPE = (byte) 0x80;
+
+    private static final byte DTYPE_FLOAT32 = 0x27;
+    private static final byte DTYPE_INT8 = 0x03;
+    private static final int HEADER_SIZE = 2;
+
+    private EmbeddingVectorCodec() {
+    }
+
+    public static Binary encode(EmbeddingVector vector, VectorStorageFormat format) {
+        return switch (format) {
+            case FLOAT32 -> encodeFloat32(vector.getValues());
+            case INT8 -> encodeInt8(vector.getValues());
+            case ARRAY -> throw new IllegalArgumentException("BSON 배열 형식은 BinData로 인코딩하지 않습니다");
+        };
+    }
+
+    public static EmbeddingVector decode(Binary binary) {
+        byte[] data = binary.getData();
+        if (data.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("벡터 BinData가 너무 짧습니다: " + data.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        byte dtype = data[0];
+
+        if (binary.getType() == VECTOR_SUBTYPE && dtype == DTYPE_FLOAT32) {
+            float[] values = new float[buffer.remaining() / Float.BYTES];
+            buffer.asFloatBuffer().get(values);
+            return EmbeddingVector.of(values);
+        }
+        if (binary.getType() == VECTOR_SUBTYPE && dtype == DTYPE_INT8) {
+            return EmbeddingVector.of(dequantize(buffer, 1f));
+        }
+        if (binary.getType() == QUANTIZED_SUBTYPE && dtype == DTYPE_INT8) {
+            float scale = buffer.getFloat();
+            return EmbeddingVector.of(dequantize(buffer, scale));
+        }
+        throw new IllegalArgumentException(String.format(
+                "지원하지 않는 벡터 형식입니다: subtype=0x%02x, dtype=0x%02x", binary.getType(), dtype));
+    }
+
+    private static Binary encodeFloat32(float[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(DTYPE_FLOAT32).put((byte) 0);
+        buffer.asFloatBuffer().put(values);
+        return new Binary(VECTOR_SUBTYPE, buffer.array());
+    }
+
+    /**
+     * 대칭 양자화: scale = max|v| / 127, q = round(v / scale)
+     */
+    private static Binary encodeInt8(float[] values) {
+        float maxAbs = 0f;
+        for (float value : values) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        float scale = maxAbs > 0f ? maxAbs / 127f : 1f;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + Float.BYTES + values.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(DTYPE_INT8).put((byte) 0).putFloat(scale);
+        for (float value : values) {
+            buffer.put((byte) Math.max(-127, Math.min(127, Math.round(value / scale))));
+        }
+        return new Binary(QUANTIZED_SUBTYPE, buffer.array());
+    }
+
+    private static float[] dequantize(ByteBuffer buffer, float scale) {
+        float[] values = new float[buffer.remaining()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.get() * scale;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.experfolio.domain.portfolio.converter;
+
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EmbeddingVector MongoDB 변환기 모음 (MongoConfig에서 등록)
+ */
+public final class EmbeddingVectorConverters {
+
+    private EmbeddingVectorConverters() {
+    }
+
+    public static List<Converter<?, ?>> converters(VectorStorageFormat format) {
+        Converter<EmbeddingVector, ?> writer = format == VectorStorageFormat.ARRAY
+                ? new EmbeddingVectorArrayWriter()
+                : new EmbeddingVectorWriter(format);
+        return List.of(writer, new BinaryEmbeddingVectorReader(), new LegacyEmbeddingVectorReader());
+    }
+
+    /**
+     * EmbeddingVector → BinData (설정된 저장 형식)
+     */
+    @WritingConverter
+    @RequiredArgsConstructor
+    public static class EmbeddingVectorWriter implements Converter<EmbeddingVector, Binary> {
+
+        private final VectorStorageFormat format;
+
+        @Override
+        public Binary convert(EmbeddingVector source) {
+            return EmbeddingVectorCodec.encode(source, format);
+        }
+    }
+
+    /**
+     * EmbeddingVector → BSON 배열 (ARRAY 형식)
+     */
+    @WritingConverter
+    public static class EmbeddingVectorArrayWriter implements Converter<EmbeddingVector, List<Double>> {
+
+        @Override
+        public List<Double> convert(EmbeddingVector source) {
+            float[] values = source.getValues();
+            List<Double> array = new ArrayList<>(values.length);
+            for (float value : values) {
+                array.add((double) value);
+            }
+            return array;
+        }
+    }
+
+    /**
+     * BinData → EmbeddingVector (float32, int8 모두 읽음)
+     */
+    @ReadingConverter
+    public static class BinaryEmbeddingVectorReader implements Converter<Binary, EmbeddingVector> {
+
+        @Override
+        public EmbeddingVector convert(Binary source) {
+            return EmbeddingVectorCodec.decode(source);
+        }
+    }
+
+    /**
+     * 마이그레이션 전 BSON 배열 → EmbeddingVector
+     */
+    @ReadingConverter
+    public static class LegacyEmbeddingVectorReader implements Converter<List<Number>, EmbeddingVector> {
+
+        @Override
+        public EmbeddingVector convert(List<Number> source) {
+            return EmbeddingVector.fromNumbers(source);
+        }
+    }
+}
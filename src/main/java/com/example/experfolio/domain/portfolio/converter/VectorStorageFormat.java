@@ -0,0 +1,23 @@
+package com.example.experfolio.domain.portfolio.converter;
+
+/**
+ * kureVector 저장 형식
+ */
+public enum VectorStorageFormat {
+
+    /**
+     * BSON double 배열 (BinData 도입 전 형식). 원소당 약 11바이트
+     * BinData를 읽지 못하는 이전 버전 인스턴스가 남아 있는 동안 사용하는 기본값
+     */
+    ARRAY,
+
+    /**
+     * little-endian float32 BinData (BSON vector subtype 9, dtype 0x27). 원소당 4바이트, 손실 없음
+     */
+    FLOAT32,
+
+    /**
+     * int8 대칭 양자화 + float32 스케일. 원소당 1바이트, 코사인 유사도 오차는 보통 1e-3 이하
+     */
+    INT8
+}
@@ -0,0 +1,63 @@
+package com.example.experfolio.domain.portfolio.document;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 임베딩 벡터 값 객체
+ * MongoDB에는 BinData(float32 또는 int8 양자화)로 저장되며 ({@code EmbeddingVectorConverters}),
+ * 애플리케이션에서는 박싱 없는 float[]로 다룬다.
+ */
+public final class EmbeddingVector {
+
+    private final float[] values;
+
+    private EmbeddingVector(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 배열을 복사하지 않고 감싼다. 이후 원본 배열을 수정하면 안 된다.
+     */
+    public static EmbeddingVector of(float[] values) {
+        return new EmbeddingVector(values);
+    }
+
+    /**
+     * 레거시 BSON 배열(List&lt;Double&gt;) 변환. null 원소는 0으로 읽는다.
+     */
+    public static EmbeddingVector fromNumbers(List<? extends Number> values) {
+        float[] result = new float[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            Number value = values.get(i);
+            result[i] = value != null ? value.floatValue() : 0f;
+        }
+        return new EmbeddingVector(result);
+    }
+
+    /**
+     * 벡터 값 (복사본이 아닌 내부 배열 - 읽기 전용으로 사용)
+     */
+    public float[] getValues() {
+        return values;
+    }
+
+    public int dimension() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof EmbeddingVector other && Arrays.equals(values, other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingVector[dimension=" + values.length + "]";
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.experfolio.domain.portfolio.document;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +13,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class Embeddings {
     private String searchableText;
-    private List<Double> kureVector;
+    /**
+     * kureVector를 만든 searchableText의 해시 (SearchableTextBuilder.hash)
+     */
+    private String searchableTextHash;
+    private EmbeddingVector kureVector;
     private LocalDateTime lastUpdated;
 }
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -42,5 +43,12 @@ public class Portfolio {
 
     @Field("updatedAt")
     private LocalDateTime updatedAt;
+
+    /**
+     * 낙관적 잠금 버전 (수정마다 1씩 증가, 레거시 문서는 첫 수정 때 1이 된다)
+     */
+    @Version
+    @Field("version")
+    private Long version;
 }
 
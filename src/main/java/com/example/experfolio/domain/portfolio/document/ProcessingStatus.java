@@ -14,4 +14,14 @@ import lombok.NoArgsConstructor;
 public class ProcessingStatus {
     private boolean needsEmbedding;
     private LocalDateTime lastProcessed;
+
+    /**
+     * 연속 임베딩 실패 횟수 (성공하거나 포트폴리오가 수정되면 초기화)
+     */
+    private Integer embeddingAttempts;
+
+    /**
+     * 임베딩 실패 후 다음 재시도 가능 시각 (없으면 바로 대상)
+     */
+    private LocalDateTime nextAttemptAt;
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.experfolio.domain.portfolio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 첨부파일 직접 업로드 완료 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "첨부파일 직접 업로드 완료 요청")
+public class DirectUploadCompleteRequestDto {
+
+    @NotBlank(message = "objectKey는 필수입니다.")
+    @Schema(description = "업로드 URL 발급 시 받은 object key")
+    private String objectKey;
+}
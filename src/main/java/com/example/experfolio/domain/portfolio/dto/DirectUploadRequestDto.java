@@ -0,0 +1,30 @@
+package com.example.experfolio.domain.portfolio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 첨부파일 직접 업로드 URL 발급 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "첨부파일 직접 업로드 URL 발급 요청")
+public class DirectUploadRequestDto {
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    @Schema(description = "원본 파일명 (확장자로 형식 결정)", example = "portfolio.pdf")
+    private String originalFilename;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    @Schema(description = "파일 크기 (bytes). 업로드 시 Content-Length와 같아야 합니다.", example = "1048576")
+    private Long fileSize;
+}
@@ -0,0 +1,37 @@
+package com.example.experfolio.domain.portfolio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 첨부파일 직접 업로드 URL 발급 응답 DTO
+ * 클라이언트는 uploadUrl로 headers를 그대로 붙여 PUT한 뒤 objectKey로 완료 요청을 보낸다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "첨부파일 직접 업로드 URL")
+public class DirectUploadResponseDto {
+
+    @Schema(description = "업로드용 임시 object key (완료 요청에 사용, 완료 후 첨부파일은 uploads/를 뺀 key로 저장)")
+    private String objectKey;
+
+    @Schema(description = "서명된 업로드 URL")
+    private String uploadUrl;
+
+    @Schema(description = "HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)")
+    private Map<String, String> headers;
+
+    @Schema(description = "URL 만료 시각")
+    private LocalDateTime expiresAt;
+}
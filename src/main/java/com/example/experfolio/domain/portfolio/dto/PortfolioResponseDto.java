@@ -25,4 +25,5 @@ public class PortfolioResponseDto {
     private ProcessingStatus processingStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
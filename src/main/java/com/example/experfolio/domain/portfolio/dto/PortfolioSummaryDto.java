@@ -0,0 +1,41 @@
+package com.example.experfolio.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포트폴리오 요약 (검색 후보자/즐겨찾기 구직자 정보용 프로젝션)
+ * 아이템, 첨부파일, 임베딩 벡터 없이 BasicInfo 일부 필드와 수상 개수만 담는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSummaryDto {
+
+    private String userId;
+
+    /**
+     * basicInfo 존재 여부 (없으면 나머지 필드는 비어 있음)
+     */
+    private boolean basicInfoPresent;
+
+    private String name;
+    private String schoolName;
+    private Double gpa;
+    private String major;
+    private String desiredPosition;
+    private int awardsCount;
+
+    /**
+     * 포트폴리오가 없는 userId의 요약 (캐시에 없음 상태를 저장하기 위함)
+     */
+    public static PortfolioSummaryDto absent(String userId) {
+        return PortfolioSummaryDto.builder()
+                .userId(userId)
+                .basicInfoPresent(false)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.experfolio.domain.portfolio.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포트폴리오 변경 이벤트
+ * PortfolioService가 포트폴리오를 변경할 때마다 발행되며, 검색 캐시 등이 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PortfolioChangedEvent {
+
+    private final String userId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED,
+        BASIC_INFO_UPDATED,
+        ITEMS_UPDATED,
+        ITEMS_REORDERED,
+        /** 첨부파일 메타데이터만 변경 (임베딩 입력, 요약, 검색 색인과 무관) */
+        ATTACHMENTS_UPDATED,
+        DELETED
+    }
+
+    /**
+     * 검색 결과에 영향을 주는 변경인지 여부 (needsEmbedding 플래그를 세우는 변경 + 삭제)
+     * 순서 변경과 첨부파일 변경은 조회 캐시(PortfolioViewCache)만 무효화한다.
+     */
+    public boolean isSearchRelevant() {
+        return changeType != ChangeType.ITEMS_REORDERED && changeType != ChangeType.ATTACHMENTS_UPDATED;
+    }
+}
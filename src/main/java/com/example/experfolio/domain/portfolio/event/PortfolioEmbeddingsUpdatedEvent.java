@@ -0,0 +1,22 @@
+package com.example.experfolio.domain.portfolio.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 포트폴리오 임베딩 갱신 이벤트
+ * 임베딩 워커가 한 배치의 벡터를 MongoDB에 기록한 뒤 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PortfolioEmbeddingsUpdatedEvent {
+
+    /**
+     * userId → 새 kureVector
+     */
+    private final Map<String, float[]> vectors;
+    private final LocalDateTime lastUpdated;
+}
@@ -0,0 +1,208 @@
+package com.example.experfolio.domain.portfolio.index;
+
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * portfolios 컬렉션 인덱스 관리
+ * 기동 시 {@link PortfolioIndexes}에 선언된 인덱스를 확인하여 없는 인덱스만 만들고,
+ * 옵션이 다른 인덱스/관리 대상이 아닌 인덱스/사용되지 않는 인덱스와 대표 쿼리의 실행 계획을 점검해 보고한다.
+ * 기존 인덱스는 삭제하거나 다시 만들지 않는다 (옵션이 다르면 운영자가 직접 정리).
+ */
+@Slf4j
+@Component
+public class PortfolioIndexManager {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final boolean createMissing;
+    private final boolean verifyQueryPlans;
+
+    public PortfolioIndexManager(
+            MongoTemplate mongoTemplate,
+            @Value("${portfolio.indexes.enabled:true}") boolean enabled,
+            @Value("${portfolio.indexes.create-missing:true}") boolean createMissing,
+            @Value("${portfolio.indexes.verify-query-plans:true}") boolean verifyQueryPlans) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.createMissing = createMissing;
+        this.verifyQueryPlans = verifyQueryPlans;
+    }
+
+    @PostConstruct
+    public void ensureIndexes() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            PortfolioIndexReport report = check();
+            if (report.isHealthy()) {
+                log.info("Portfolio indexes verified in {}ms: {}", System.currentTimeMillis() - startTime, report.summary());
+            } else {
+                log.warn("Portfolio indexes need attention: {}", report.summary());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to verify portfolio indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스 확인/생성 후 점검 결과 반환
+     */
+    public PortfolioIndexReport check() {
+        PortfolioIndexReport report = new PortfolioIndexReport();
+        IndexOperations indexOps = mongoTemplate.indexOps(Portfolio.class);
+        List<IndexInfo> existing = indexOps.getIndexInfo();
+
+        Set<String> managed = new HashSet<>();
+        for (Index index : PortfolioIndexes.definitions()) {
+            String name = nameOf(index);
+            Optional<IndexInfo> match = existing.stream()
+                    .filter(info -> sameKeys(index, info) && sameOptions(index, info))
+                    .findFirst();
+            // 같은 이름이거나 같은 키에 옵션만 다른 인덱스가 있으면 생성이 실패하므로 보고만 한다
+            Optional<IndexInfo> conflict = existing.stream()
+                    .filter(info -> info.getName().equals(name) || sameKeys(index, info))
+                    .findFirst();
+
+            if (match.isPresent()) {
+                managed.add(match.get().getName());
+                report.getPresent().add(match.get().getName());
+            } else if (conflict.isPresent()) {
+                managed.add(conflict.get().getName());
+                report.getConflicting().add(name + " (existing " + describe(conflict.get()) + ")");
+            } else if (createMissing) {
+                try {
+                    indexOps.ensureIndex(index);
+                    report.getCreated().add(name);
+                } catch (Exception e) {
+                    log.warn("Failed to create portfolio index {}: {}", name, e.getMessage());
+                    report.getMissing().add(name);
+                }
+            } else {
+                report.getMissing().add(name);
+            }
+        }
+
+        existing.stream()
+                .map(IndexInfo::getName)
+                .filter(name -> !ID_INDEX.equals(name) && !managed.contains(name))
+                .forEach(report.getUnmanaged()::add);
+
+        collectUnused(report);
+
+        if (verifyQueryPlans) {
+            for (PortfolioIndexes.ExpectedPlan expected : PortfolioIndexes.expectedPlans()) {
+                QueryPlan plan = explain(expected.getQuery());
+                if (!plan.usesIndex(expected.getIndexName())) {
+                    report.getPlanViolations().add(expected.getName() + " expected " + expected.getIndexName()
+                            + " but was " + plan);
+                }
+            }
+        }
+        return report;
+    }
+
+    /**
+     * queryPlanner 수준 explain (쿼리를 실제로 실행하지 않음)
+     */
+    public QueryPlan explain(Query query) {
+        Document find = new Document("find", collectionName())
+                .append("filter", query.getQueryObject());
+        if (!query.getSortObject().isEmpty()) {
+            find.append("sort", query.getSortObject());
+        }
+        if (query.getLimit() > 0) {
+            find.append("limit", query.getLimit());
+        }
+        return QueryPlan.from(mongoTemplate.executeCommand(
+                new Document("explain", find).append("verbosity", "queryPlanner")));
+    }
+
+    /**
+     * $indexStats 기준 마지막 재시작 이후 한 번도 사용되지 않은 인덱스 (이번에 만든 인덱스 제외)
+     */
+    private void collectUnused(PortfolioIndexReport report) {
+        try {
+            Document result = mongoTemplate.executeCommand(new Document("aggregate", collectionName())
+                    .append("pipeline", List.of(new Document("$indexStats", new Document())))
+                    .append("cursor", new Document()));
+            List<Document> stats = result.get("cursor", Document.class).getList("firstBatch", Document.class);
+
+            Map<String, Long> ops = new LinkedHashMap<>();
+            for (Document stat : stats) {
+                Document accesses = stat.get("accesses", Document.class);
+                Number count = accesses != null ? accesses.get("ops", Number.class) : null;
+                ops.merge(stat.getString("name"), count != null ? count.longValue() : 0L, Long::sum);
+            }
+            ops.forEach((name, count) -> {
+                if (count == 0 && !ID_INDEX.equals(name) && !report.getCreated().contains(name)) {
+                    report.getUnused().add(name);
+                }
+            });
+        } catch (Exception e) {
+            log.debug("Skipping portfolio index usage stats: {}", e.getMessage());
+        }
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(Portfolio.class);
+    }
+
+    private static String nameOf(Index index) {
+        return index.getIndexOptions().getString("name");
+    }
+
+    private static boolean sameKeys(Index index, IndexInfo info) {
+        Document keys = index.getIndexKeys();
+        List<IndexField> fields = info.getIndexFields();
+        if (fields.size() != keys.size()) {
+            return false;
+        }
+        int position = 0;
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            IndexField field = fields.get(position++);
+            if (!field.getKey().equals(key.getKey()) || field.getDirection() == null
+                    || field.getDirection().isAscending() != (((Number) key.getValue()).intValue() > 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameOptions(Index index, IndexInfo info) {
+        Document options = index.getIndexOptions();
+        boolean unique = Boolean.TRUE.equals(options.getBoolean("unique"));
+        Document filter = options.get("partialFilterExpression", Document.class);
+        Document existingFilter = info.getPartialFilterExpression() != null
+                ? Document.parse(info.getPartialFilterExpression())
+                : null;
+        return unique == info.isUnique() && Objects.equals(filter, existingFilter);
+    }
+
+    private static String describe(IndexInfo info) {
+        return info.getName() + " unique=" + info.isUnique()
+                + (info.getPartialFilterExpression() != null ? " partial=" + info.getPartialFilterExpression() : "");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.experfolio.domain.portfolio.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시 인덱스 점검 결과
+ */
+@Getter
+public class PortfolioIndexReport {
+
+    /**
+     * 같은 키/옵션으로 이미 있는 관리 인덱스
+     */
+    private final List<String> present = new ArrayList<>();
+
+    /**
+     * 이번 기동에서 생성한 관리 인덱스
+     */
+    private final List<String> created = new ArrayList<>();
+
+    /**
+     * 없고 만들지도 못한 관리 인덱스 (생성 비활성화 또는 생성 실패)
+     */
+    private final List<String> missing = new ArrayList<>();
+
+    /**
+     * 같은 키에 다른 옵션(unique, partial 등)으로 만들어진 인덱스. 자동으로 바꾸지 않는다.
+     */
+    private final List<String> conflicting = new ArrayList<>();
+
+    /**
+     * 관리 대상이 아닌 인덱스 (_id 제외)
+     */
+    private final List<String> unmanaged = new ArrayList<>();
+
+    /**
+     * $indexStats 기준 마지막 재시작 이후 사용되지 않은 인덱스
+     */
+    private final List<String> unused = new ArrayList<>();
+
+    /**
+     * 기대한 인덱스를 쓰지 않는 대표 쿼리
+     */
+    private final List<String> planViolations = new ArrayList<>();
+
+    public boolean isHealthy() {
+        return missing.isEmpty() && conflicting.isEmpty() && planViolations.isEmpty();
+    }
+
+    public String summary() {
+        return "present=" + present + ", created=" + created + ", missing=" + missing
+                + ", conflicting=" + conflicting + ", unmanaged=" + unmanaged + ", unused=" + unused
+                + ", planViolations=" + planViolations;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.experfolio.domain.portfolio.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * portfolios 컬렉션의 관리 대상 인덱스와, 각 인덱스를 사용해야 하는 대표 쿼리
+ * 인덱스를 추가/변경할 때는 여기만 수정하면 기동 시 생성·검증과 실행 계획 테스트에 함께 반영된다.
+ */
+public final class PortfolioIndexes {
+
+    /**
+     * userId 조회/존재 확인/삭제와 모든 부분 갱신의 조건 (포트폴리오는 사용자당 하나)
+     */
+    public static final String USER_ID = "userId_unique";
+
+    /**
+     * 임베딩 워커의 재임베딩 대상 조회 (needsEmbedding=true 문서만 포함, 오래된 순)
+     */
+    public static final String PENDING_EMBEDDING = "pending_embedding_updatedAt";
+
+    /**
+     * 최근 수정 순 조회 (기동 시 후보자 요약 예열)
+     */
+    public static final String UPDATED_AT = "updatedAt_desc";
+
+    private static final Criteria PENDING = Criteria.where("processingStatus.needsEmbedding").is(true);
+
+    private PortfolioIndexes() {
+    }
+
+    public static List<Index> definitions() {
+        return List.of(
+                new Index().on("userId", Sort.Direction.ASC).unique().named(USER_ID),
+                new Index().on("updatedAt", Sort.Direction.ASC).named(PENDING_EMBEDDING)
+                        .partial(PartialIndexFilter.of(PENDING)),
+                new Index().on("updatedAt", Sort.Direction.DESC).named(UPDATED_AT)
+        );
+    }
+
+    /**
+     * 실행 계획 검증 대상 쿼리 (필드명은 저장 필드명 기준)
+     */
+    public static List<ExpectedPlan> expectedPlans() {
+        return List.of(
+                new ExpectedPlan("findByUserId", Query.query(Criteria.where("userId").is("user-1")), USER_ID),
+                new ExpectedPlan("findByUserIdIn",
+                        Query.query(Criteria.where("userId").in("user-1", "user-2")), USER_ID),
+                new ExpectedPlan("pendingEmbeddings",
+                        Query.query(PENDING)
+                                .addCriteria(new Criteria().orOperator(
+                                        Criteria.where("processingStatus.nextAttemptAt").is(null),
+                                        Criteria.where("processingStatus.nextAttemptAt").lte(new Date())))
+                                .with(Sort.by(Sort.Direction.ASC, "updatedAt")).limit(100),
+                        PENDING_EMBEDDING),
+                new ExpectedPlan("recentlyUpdated",
+                        new Query().with(Sort.by(Sort.Direction.DESC, "updatedAt")).limit(100), UPDATED_AT)
+        );
+    }
+
+    /**
+     * 지정한 인덱스로 실행되어야 하는 쿼리
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ExpectedPlan {
+        private final String name;
+        private final Query query;
+        private final String indexName;
+    }
+}
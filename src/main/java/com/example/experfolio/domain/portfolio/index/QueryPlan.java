@@ -0,0 +1,89 @@
+package com.example.experfolio.domain.portfolio.index;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * explain(queryPlanner) 결과의 승리 계획 요약
+ * 클래식 엔진(winningPlan.inputStage), SBE(winningPlan.queryPlan), 샤드(winningPlan.shards) 형식을 모두 읽는다.
+ */
+public class QueryPlan {
+
+    private static final List<String> CHILD_KEYS =
+            List.of("queryPlan", "inputStage", "inputStages", "shards", "winningPlan");
+
+    private final List<String> stages;
+    private final Set<String> indexNames;
+
+    private QueryPlan(List<String> stages, Set<String> indexNames) {
+        this.stages = stages;
+        this.indexNames = indexNames;
+    }
+
+    /**
+     * explain 명령 응답에서 승리 계획 추출
+     */
+    public static QueryPlan from(Document explain) {
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        Document winningPlan = queryPlanner != null ? queryPlanner.get("winningPlan", Document.class) : null;
+
+        List<String> stages = new ArrayList<>();
+        Set<String> indexNames = new LinkedHashSet<>();
+        if (winningPlan != null) {
+            collect(winningPlan, stages, indexNames);
+        }
+        return new QueryPlan(stages, indexNames);
+    }
+
+    /**
+     * 계획에 포함된 단계 (위에서 아래 순서)
+     */
+    public List<String> getStages() {
+        return stages;
+    }
+
+    public Set<String> getIndexNames() {
+        return indexNames;
+    }
+
+    public boolean isCollectionScan() {
+        return stages.contains("COLLSCAN");
+    }
+
+    /**
+     * 인덱스 스캔으로 실행되고 지정한 인덱스를 사용하는지
+     */
+    public boolean usesIndex(String indexName) {
+        return !isCollectionScan() && indexNames.contains(indexName);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" <- ", stages) + (indexNames.isEmpty() ? "" : " " + indexNames);
+    }
+
+    private static void collect(Document stage, List<String> stages, Set<String> indexNames) {
+        if (stage.get("stage") instanceof String name) {
+            stages.add(name);
+        }
+        if (stage.get("indexName") instanceof String indexName) {
+            indexNames.add(indexName);
+        }
+        for (String key : CHILD_KEYS) {
+            Object child = stage.get(key);
+            if (child instanceof Document document) {
+                collect(document, stages, indexNames);
+            } else if (child instanceof List<?> list) {
+                for (Object element : list) {
+                    if (element instanceof Document document) {
+                        collect(document, stages, indexNames);
+                    }
+                }
+            }
+        }
+    }
+}
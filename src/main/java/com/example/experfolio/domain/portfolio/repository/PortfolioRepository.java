@@ -11,7 +11,7 @@ import java.util.Optional;
  * 포트폴리오 MongoDB Repository
  */
 @Repository
-public interface PortfolioRepository extends MongoRepository<Portfolio, String> {
+public interface PortfolioRepository extends MongoRepository<Portfolio, String>, PortfolioRepositoryCustom {
 
     /**
      * userId로 포트폴리오 조회
@@ -0,0 +1,102 @@
+package com.example.experfolio.domain.portfolio.repository;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포트폴리오 커스텀 Repository (MongoTemplate 기반 프로젝션 조회, 부분 갱신)
+ *
+ * 갱신 메서드는 모두 조건부 findAndModify 한 번으로 처리하며 version을 1 올린다.
+ * 반환되는 문서에는 embeddings.kureVector가 포함되지 않는다.
+ */
+public interface PortfolioRepositoryCustom {
+
+    /**
+     * 여러 userId의 포트폴리오 요약 조회 (BasicInfo 일부 필드 + 수상 개수만 전송)
+     */
+    List<PortfolioSummaryDto> findSummariesByUserIdIn(List<String> userIds);
+
+    /**
+     * 아이템 추가 전 확인용 조회 (version, 아이템 id/order만 전송)
+     */
+    Optional<Portfolio> findItemOrdersByUserId(String userId);
+
+    /**
+     * 아이템 삭제 전 확인용 조회 (version과 해당 아이템만 전송, 아이템이 없으면 portfolioItems가 null)
+     */
+    Optional<Portfolio> findItemByUserId(String userId, String itemId);
+
+    /**
+     * 조회 캐시 검증용 상태 조회 (version, updatedAt, processingStatus만 전송)
+     */
+    Optional<Portfolio> findVersionInfoByUserId(String userId);
+
+    /**
+     * BasicInfo 교체 ($set) 후 재임베딩 대상으로 표시
+     */
+    Optional<Portfolio> updateBasicInfo(String userId, BasicInfo basicInfo);
+
+    /**
+     * 아이템 추가 ($push) 후 재임베딩 대상으로 표시
+     * 아이템 수가 maxItems 미만이고 version이 expectedVersion과 같을 때만 반영한다.
+     *
+     * @return 반영되지 않았으면 empty
+     */
+    Optional<Portfolio> pushItem(String userId, PortfolioItem item, int maxItems, Long expectedVersion);
+
+    /**
+     * 아이템 내용 수정 (positional $set) 및 첨부파일 추가 ($push) 후 재임베딩 대상으로 표시
+     *
+     * @return 포트폴리오 또는 아이템이 없으면 empty
+     */
+    Optional<Portfolio> updateItem(String userId, String itemId, PortfolioItem changes, List<Attachment> newAttachments);
+
+    /**
+     * 아이템 삭제 ($pull) 후 재임베딩 대상으로 표시
+     * version이 expectedVersion과 같을 때만 반영한다. (삭제할 첨부파일은 같은 version에서 조회한 아이템 기준)
+     *
+     * @return 삭제 후 문서, 아이템이 없거나 version이 바뀌었으면 empty
+     */
+    Optional<Portfolio> pullItem(String userId, String itemId, Long expectedVersion);
+
+    /**
+     * 아이템 order 일괄 변경 (arrayFilters $set). 모든 itemId가 존재할 때만 반영한다.
+     */
+    Optional<Portfolio> reorderItems(String userId, List<String> itemIds);
+
+    /**
+     * 아이템에 첨부파일 추가 (positional $push)
+     * 같은 objectKey가 이미 있는 아이템에는 반영하지 않는다 (완료 요청 재시도 시 중복 방지).
+     *
+     * @return 포트폴리오 또는 아이템이 없거나 이미 추가된 첨부파일이면 empty
+     */
+    Optional<Portfolio> pushAttachments(String userId, String itemId, List<Attachment> attachments);
+
+    /**
+     * 아이템의 첨부파일 한 개 삭제 (positional $pull)
+     *
+     * @return 해당 첨부파일이 없으면 empty
+     */
+    Optional<Portfolio> pullAttachment(String userId, String itemId, String objectKey);
+
+    /**
+     * version이 그대로일 때만 재임베딩 표시 해제 (임베딩 입력이 바뀌지 않은 수정)
+     */
+    boolean clearNeedsEmbedding(String portfolioId, Long version);
+
+    /**
+     * 포트폴리오에 해당 아이템이 있는지 확인
+     */
+    boolean existsItem(String userId, String itemId);
+
+    /**
+     * 아이템에 해당 첨부파일이 있는지 확인
+     */
+    boolean existsAttachment(String userId, String itemId, String objectKey);
+}
@@ -0,0 +1,230 @@
+package com.example.experfolio.domain.portfolio.repository;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 포트폴리오 커스텀 Repository 구현
+ */
+@RequiredArgsConstructor
+public class PortfolioRepositoryCustomImpl implements PortfolioRepositoryCustom {
+
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String NEEDS_EMBEDDING = "processingStatus.needsEmbedding";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<PortfolioSummaryDto> findSummariesByUserIdIn(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 서버에서 필요한 필드만 남기고 수상 개수도 서버에서 계산 (awards 배열은 전송하지 않음)
+        TypedAggregation<Portfolio> aggregation = Aggregation.newAggregation(Portfolio.class,
+                Aggregation.match(Criteria.where("userId").in(userIds)),
+                Aggregation.project()
+                        .andExclude("_id")
+                        .and("userId").as("userId")
+                        .and(context -> new Document("$gt", Arrays.asList("$basicInfo", null))).as("basicInfoPresent")
+                        .and("basicInfo.name").as("name")
+                        .and("basicInfo.schoolName").as("schoolName")
+                        .and("basicInfo.gpa").as("gpa")
+                        .and("basicInfo.major").as("major")
+                        .and("basicInfo.desiredPosition").as("desiredPosition")
+                        .and(ArrayOperators.Size.lengthOfArray(
+                                ConditionalOperators.ifNull("basicInfo.awards").then(List.of())))
+                        .as("awardsCount"));
+
+        return mongoTemplate.aggregate(aggregation, PortfolioSummaryDto.class).getMappedResults();
+    }
+
+    @Override
+    public Optional<Portfolio> findItemOrdersByUserId(String userId) {
+        Query query = byUserId(userId);
+        query.fields().include(VERSION).include("portfolioItems.id").include("portfolioItems.order");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Portfolio.class));
+    }
+
+    @Override
+    public Optional<Portfolio> findItemByUserId(String userId, String itemId) {
+        Query query = byUserId(userId);
+        query.fields().include(VERSION).elemMatch("portfolioItems", Criteria.where("id").is(itemId));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Portfolio.class));
+    }
+
+    @Override
+    public Optional<Portfolio> findVersionInfoByUserId(String userId) {
+        Query query = byUserId(userId);
+        query.fields().include(VERSION).include(UPDATED_AT).include("processingStatus");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Portfolio.class));
+    }
+
+    @Override
+    public Optional<Portfolio> updateBasicInfo(String userId, BasicInfo basicInfo) {
+        Update update = contentUpdate(LocalDateTime.now()).set("basicInfo", basicInfo);
+        return modify(byUserId(userId), update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> pushItem(String userId, PortfolioItem item, int maxItems, Long expectedVersion) {
+        // portfolioItems.{maxItems-1}이 없어야 아이템 수가 maxItems 미만
+        Query query = byUserId(userId);
+        query.addCriteria(Criteria.where("portfolioItems." + (maxItems - 1)).exists(false)
+                .and(VERSION).is(expectedVersion));
+
+        Update update = contentUpdate(item.getUpdatedAt()).push("portfolioItems", item);
+        return modify(query, update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> updateItem(String userId, String itemId, PortfolioItem changes,
+                                          List<Attachment> newAttachments) {
+        Update update = contentUpdate(changes.getUpdatedAt())
+                .set("portfolioItems.$.type", changes.getType())
+                .set("portfolioItems.$.title", changes.getTitle())
+                .set("portfolioItems.$.content", changes.getContent())
+                .set("portfolioItems.$.updatedAt", changes.getUpdatedAt());
+        if (newAttachments != null && !newAttachments.isEmpty()) {
+            update.push("portfolioItems.$.attachments").each(newAttachments.toArray());
+        }
+        return modify(byItem(userId, itemId), update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> pullItem(String userId, String itemId, Long expectedVersion) {
+        Query query = byItem(userId, itemId);
+        query.addCriteria(Criteria.where(VERSION).is(expectedVersion));
+
+        Update update = contentUpdate(LocalDateTime.now())
+                .pull("portfolioItems", new Document("_id", itemId));
+        return modify(query, update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> reorderItems(String userId, List<String> itemIds) {
+        // 같은 id가 여러 번 오면 마지막 위치를 사용 (같은 원소를 두 번 갱신하면 서버가 거부)
+        Map<String, Integer> orders = new LinkedHashMap<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            orders.remove(itemIds.get(i));
+            orders.put(itemIds.get(i), i + 1);
+        }
+
+        Query query = byUserId(userId);
+        Update update = new Update()
+                .set(UPDATED_AT, LocalDateTime.now())
+                .inc(VERSION, 1);
+        if (!orders.isEmpty()) {
+            query.addCriteria(Criteria.where("portfolioItems.id").all(orders.keySet()));
+        }
+
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : orders.entrySet()) {
+            String identifier = "i" + index++;
+            update.set("portfolioItems.$[" + identifier + "].order", entry.getValue());
+            // arrayFilters는 매핑되지 않으므로 저장 필드명(_id)을 그대로 사용
+            update.filterArray(Criteria.where(identifier + "._id").is(entry.getKey()));
+        }
+        return modify(query, update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> pushAttachments(String userId, String itemId, List<Attachment> attachments) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .push("portfolioItems.$.attachments").each(attachments.toArray())
+                .set("portfolioItems.$.updatedAt", now)
+                .set(UPDATED_AT, now)
+                .inc(VERSION, 1);
+        List<String> objectKeys = attachments.stream().map(Attachment::getObjectKey).toList();
+        Query query = byUserId(userId);
+        query.addCriteria(Criteria.where("portfolioItems").elemMatch(Criteria.where("id").is(itemId)
+                .and("attachments.objectKey").nin(objectKeys)));
+        return modify(query, update, true);
+    }
+
+    @Override
+    public Optional<Portfolio> pullAttachment(String userId, String itemId, String objectKey) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = byUserId(userId);
+        query.addCriteria(Criteria.where("portfolioItems").elemMatch(Criteria.where("id").is(itemId)
+                .and("attachments.objectKey").is(objectKey)));
+
+        Update update = new Update()
+                .pull("portfolioItems.$.attachments", new Document("objectKey", objectKey))
+                .set("portfolioItems.$.updatedAt", now)
+                .set(UPDATED_AT, now)
+                .inc(VERSION, 1);
+        return modify(query, update, true);
+    }
+
+    @Override
+    public boolean clearNeedsEmbedding(String portfolioId, Long version) {
+        // 엔티티 타입으로 갱신하면 version이 자동 증가하므로 컬렉션 이름으로 갱신 (사용자 수정이 아님)
+        Query query = Query.query(Criteria.where("_id").is(portfolioId).and(VERSION).is(version));
+        return mongoTemplate.updateFirst(query, new Update().set(NEEDS_EMBEDDING, false),
+                mongoTemplate.getCollectionName(Portfolio.class)).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean existsItem(String userId, String itemId) {
+        return mongoTemplate.exists(byItem(userId, itemId), Portfolio.class);
+    }
+
+    @Override
+    public boolean existsAttachment(String userId, String itemId, String objectKey) {
+        Query query = byUserId(userId);
+        query.addCriteria(Criteria.where("portfolioItems").elemMatch(Criteria.where("id").is(itemId)
+                .and("attachments.objectKey").is(objectKey)));
+        return mongoTemplate.exists(query, Portfolio.class);
+    }
+
+    /**
+     * 임베딩 입력이 바뀌는 수정의 공통 갱신 (updatedAt, version, 재임베딩 표시)
+     * 입력이 바뀌었으므로 이전 임베딩 실패의 재시도 대기도 해제한다.
+     */
+    private static Update contentUpdate(LocalDateTime now) {
+        return new Update()
+                .set(UPDATED_AT, now)
+                .set(NEEDS_EMBEDDING, true)
+                .unset("processingStatus.embeddingAttempts")
+                .unset("processingStatus.nextAttemptAt")
+                .inc(VERSION, 1);
+    }
+
+    private Optional<Portfolio> modify(Query query, Update update, boolean returnNew) {
+        query.fields().exclude("embeddings.kureVector");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(returnNew), Portfolio.class));
+    }
+
+    private static Query byUserId(String userId) {
+        return Query.query(Criteria.where("userId").is(userId));
+    }
+
+    private static Query byItem(String userId, String itemId) {
+        return Query.query(Criteria.where("userId").is(userId).and("portfolioItems.id").is(itemId));
+    }
+}
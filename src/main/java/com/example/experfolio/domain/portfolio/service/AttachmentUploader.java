@@ -0,0 +1,129 @@
+package com.example.experfolio.domain.portfolio.service;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 포트폴리오 첨부파일 병렬 업로드 (R2)
+ * 한 요청의 파일들을 업로드 실행자에서 동시에 올리고, 하나라도 실패하면 이미 올라간 파일을 삭제한다.
+ * 요청당 동시 업로드 수는 portfolio.upload.parallelism, 전체 동시 업로드 수는 실행자 풀 크기로 제한된다.
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+
+    private final FileStorageService fileStorageService;
+    private final Executor executor;
+    private final int parallelism;
+
+    public AttachmentUploader(
+            FileStorageService fileStorageService,
+            @Qualifier("attachmentUploadExecutor") Executor executor,
+            @Value("${portfolio.upload.parallelism:4}") int parallelism) {
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 비어 있지 않은 파일을 모두 업로드하고 파일 순서대로 첨부파일 메타데이터 반환
+     *
+     * @param extractionStatus 새 첨부파일의 텍스트 추출 상태
+     * @throws RuntimeException 하나라도 실패한 경우 (성공한 업로드는 삭제된 뒤)
+     */
+    public List<Attachment> upload(MultipartFile[] files, String userId, String extractionStatus) {
+        List<Attachment> attachments = new ArrayList<>();
+        if (files == null || files.length == 0) {
+            return attachments;
+        }
+
+        List<MultipartFile> nonEmpty = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (!file.isEmpty()) {
+                nonEmpty.add(file);
+            }
+        }
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Attachment>> uploads = new ArrayList<>(nonEmpty.size());
+        for (MultipartFile file : nonEmpty) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                uploads.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return uploadOne(file, userId, extractionStatus);
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+
+        // 진행 중인 업로드를 취소하면 R2에 객체가 남을 수 있으므로 모두 끝날 때까지 기다린 뒤 정리한다
+        Throwable failure = null;
+        for (CompletableFuture<Attachment> upload : uploads) {
+            try {
+                attachments.add(upload.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.error("File upload failed for userId: {} ({} of {} uploaded)", userId, attachments.size(),
+                    nonEmpty.size(), failure);
+            deleteUploaded(attachments);
+            if (failure instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RuntimeException("파일 업로드에 실패했습니다", failure);
+        }
+        return attachments;
+    }
+
+    /**
+     * 업로드한 파일 삭제. 삭제 실패는 로그만 남긴다.
+     */
+    public void deleteUploaded(List<Attachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        try {
+            fileStorageService.deleteFiles(attachments.stream().map(Attachment::getObjectKey).toList());
+        } catch (Exception e) {
+            log.warn("Failed to clean up {} uploaded files", attachments.size(), e);
+        }
+    }
+
+    private Attachment uploadOne(MultipartFile file, String userId, String extractionStatus) {
+        try {
+            String objectKey = fileStorageService.saveFile(file, userId);
+            return Attachment.builder()
+                    .objectKey(objectKey)
+                    .originalFilename(file.getOriginalFilename())
+                    .contentType(file.getContentType())
+                    .fileSize(file.getSize())
+                    .extractionStatus(extractionStatus)
+                    .build();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+}
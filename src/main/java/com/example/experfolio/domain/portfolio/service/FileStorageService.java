@@ -8,12 +8,20 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -26,6 +34,7 @@ import java.util.UUID;
 public class FileStorageService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${r2.bucket-name}")
     private String bucketName;
@@ -35,6 +44,11 @@ public class FileStorageService {
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
 
+    /**
+     * Minimum multipart part size (S3/R2, except the last part)
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024; // 5MB
+
     private static final List<String> ALLOWED_EXTENSIONS = List.of(
             "jpg", "jpeg", "png", "gif", "pdf", "doc", "docx", "txt", "hwp"
     );
@@ -67,6 +81,75 @@ public class FileStorageService {
         return objectKey;
     }
 
+    /**
+     * Stream a file to R2 without spooling it
+     * The caller has already read the first bytes of the file into {@code buffer[0..length)}.
+     * If the file ended within the buffer it is stored with a single PUT, otherwise it is sent as
+     * a multipart upload whose parts are filled one at a time from the same buffer.
+     * Content validation (extension, magic number, size limit) is the caller's responsibility.
+     *
+     * @param buffer part buffer, at least {@link #MIN_PART_SIZE} bytes
+     * @param length bytes already read into the buffer
+     * @param in     remaining file content
+     * @return R2 object key (storage path)
+     */
+    public String saveStream(String userId, String originalFilename, String contentType,
+                             byte[] buffer, int length, InputStream in) throws IOException {
+        if (buffer.length < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Part buffer must be at least " + MIN_PART_SIZE + " bytes");
+        }
+        String objectKey = generateObjectKey(userId, originalFilename);
+
+        if (length < buffer.length) {
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(contentType)
+                    .contentLength((long) length)
+                    .build();
+            s3Client.putObject(putRequest, partBody(buffer, length));
+            log.info("File streamed to R2: {} ({}bytes)", objectKey, length);
+            return objectKey;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long total = 0;
+            int filled = length;
+            while (filled > 0) {
+                int partNumber = parts.size() + 1;
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) filled)
+                        .build(), partBody(buffer, filled));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                total += filled;
+                filled = in.readNBytes(buffer, 0, buffer.length);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("File streamed to R2: {} ({}bytes, {} parts)", objectKey, total, parts.size());
+            return objectKey;
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(objectKey, uploadId);
+            throw e;
+        }
+    }
+
     /**
      * Save multiple files to R2
      */
@@ -131,6 +214,90 @@ public class FileStorageService {
         }
     }
 
+    private void abortMultipartUpload(String objectKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {} for {}", uploadId, objectKey, e);
+        }
+    }
+
+    /**
+     * Request body backed by the buffer without copying it
+     * The SDK may open the stream more than once on retry, so each call starts from offset 0.
+     */
+    private static RequestBody partBody(byte[] buffer, int length) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length),
+                length, "application/octet-stream");
+    }
+
+    /**
+     * Issue a presigned PUT URL for a direct client upload
+     * Content-Type, Content-Length and metadata are signed, so the client must send exactly these values.
+     */
+    public PresignedPutObjectRequest presignUpload(String objectKey, String contentType, long contentLength,
+                                                   Map<String, String> metadata, Duration ttl) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .metadata(metadata)
+                .build();
+
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putRequest)
+                .build());
+    }
+
+    /**
+     * Get object metadata (HEAD)
+     * @return empty if the object does not exist
+     */
+    public Optional<HeadObjectResponse> headFile(String objectKey) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the first bytes of an object (ranged GET)
+     * Fails with 412 (S3Exception) if the object no longer has the given ETag.
+     */
+    public byte[] readPrefix(String objectKey, int length, String eTag) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .range("bytes=0-" + (length - 1))
+                .ifMatch(eTag)
+                .build()).asByteArray();
+    }
+
+    /**
+     * Server-side copy within the bucket (Content-Type and user metadata are copied as is)
+     * Fails with 412 (S3Exception) if the source no longer has the given ETag.
+     */
+    public void copyFile(String sourceKey, String targetKey, String eTag) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucketName)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucketName)
+                .destinationKey(targetKey)
+                .copySourceIfMatch(eTag)
+                .build());
+        log.info("File copied in R2: {} -> {}", sourceKey, targetKey);
+    }
+
     /**
      * Get public URL for file
      */
@@ -159,7 +326,7 @@ public class FileStorageService {
      * Generate unique object key
      * Format: portfolios/{userId}/{yyyy-MM-dd}/{uuid}_{timestamp}.{extension}
      */
-    private String generateObjectKey(String userId, String originalFilename) {
+    public String generateObjectKey(String userId, String originalFilename) {
         String dateFolder = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
         String extension = getFileExtension(originalFilename);
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
@@ -0,0 +1,111 @@
+package com.example.experfolio.domain.portfolio.service;
+
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorCodec;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * kureVector 저장 형식 마이그레이션
+ * BSON 배열(List&lt;Double&gt;)로 저장된 기존 벡터를 설정된 BinData 형식으로 다시 쓴다.
+ * 기동 시 한 번 실행되며, 배열인 문서만 대상으로 하므로 여러 번 실행해도 안전하다.
+ * 변환 사이에 임베딩 워커가 새 벡터를 쓴 문서는 배열 조건이 맞지 않아 건너뛴다.
+ * 저장 형식이 array이면 변환할 대상이 없으므로 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "portfolio.vector.migration.enabled", havingValue = "true")
+public class KureVectorMigration {
+
+    private static final String FIELD = "embeddings.kureVector";
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private final MongoTemplate mongoTemplate;
+    private final VectorStorageFormat format;
+    private final int batchSize;
+
+    public KureVectorMigration(
+            MongoTemplate mongoTemplate,
+            @Value("${portfolio.vector.storage-format:array}") String format,
+            @Value("${portfolio.vector.migration.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.format = VectorStorageFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (format == VectorStorageFormat.ARRAY) {
+            log.warn("kureVector migration skipped: portfolio.vector.storage-format is array");
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Portfolio.class));
+        Bson legacy = Filters.type(FIELD, BsonType.ARRAY);
+
+        long migrated = 0;
+        long skipped = 0;
+        long arrayBytes = 0;
+        long binaryBytes = 0;
+        List<WriteModel<Document>> batch = new ArrayList<>(batchSize);
+
+        for (Document document : collection.find(legacy).projection(Projections.include(FIELD)).batchSize(batchSize)) {
+            Object value = document.getEmbedded(List.of("embeddings", "kureVector"), Object.class);
+            if (!(value instanceof List<?> values) || values.stream().anyMatch(v -> v != null && !(v instanceof Number))) {
+                skipped++;
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            Binary binary = EmbeddingVectorCodec.encode(EmbeddingVector.fromNumbers((List<Number>) values), format);
+            arrayBytes += bsonSize(values);
+            binaryBytes += bsonSize(binary);
+
+            batch.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq("_id", document.get("_id")), legacy),
+                    Updates.set(FIELD, binary)));
+            if (batch.size() >= batchSize) {
+                migrated += collection.bulkWrite(batch).getModifiedCount();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrated += collection.bulkWrite(batch).getModifiedCount();
+        }
+
+        log.info("kureVector migration to {} finished: migrated={}, skipped={}, vector bytes {} -> {} ({}%) in {}ms",
+                format, migrated, skipped, arrayBytes, binaryBytes,
+                arrayBytes > 0 ? Math.round(100.0 * binaryBytes / arrayBytes) : 100,
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 필드 값 하나의 BSON 인코딩 크기 (단일 필드 문서 기준)
+     */
+    private static int bsonSize(Object value) {
+        return new RawBsonDocument(new Document("v", value), DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+}
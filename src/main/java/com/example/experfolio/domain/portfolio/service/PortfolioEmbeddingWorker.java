@@ -0,0 +1,330 @@
+package com.example.experfolio.domain.portfolio.service;
+
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.event.PortfolioEmbeddingsUpdatedEvent;
+import com.example.experfolio.domain.search.client.EmbeddingClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포트폴리오 임베딩 워커
+ * processingStatus.needsEmbedding=true인 포트폴리오를 배치로 가져와 searchableText를 만들고,
+ * AI 서버 임베딩 API를 제한된 동시성으로 호출한 뒤 결과를 bulk write로 기록한다.
+ * searchableText 해시가 마지막 임베딩 때와 같으면 임베딩 API를 호출하지 않고 플래그만 내린다.
+ * 임베딩 요청이 실패한 포트폴리오는 processingStatus.nextAttemptAt까지 조회 대상에서 빠지며,
+ * 재시도 간격은 실패할 때마다 두 배로 늘어난다. (한 포트폴리오가 대기열 앞을 막지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "embedding.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class PortfolioEmbeddingWorker {
+
+    private static final String NEEDS_EMBEDDING = "processingStatus.needsEmbedding";
+    private static final String EMBEDDING_ATTEMPTS = "processingStatus.embeddingAttempts";
+    private static final String NEXT_ATTEMPT_AT = "processingStatus.nextAttemptAt";
+    private static final String LAST_UPDATED = "embeddings.lastUpdated";
+
+    private final MongoTemplate mongoTemplate;
+    private final EmbeddingClient embeddingClient;
+    private final SearchableTextBuilder searchableTextBuilder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService executor;
+
+    private final int batchSize;
+    private final int requestBatchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final Counter embeddedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Counter unchangedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public PortfolioEmbeddingWorker(
+            MongoTemplate mongoTemplate,
+            EmbeddingClient embeddingClient,
+            SearchableTextBuilder searchableTextBuilder,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${embedding.worker.batch-size:100}") int batchSize,
+            @Value("${embedding.worker.request-batch-size:16}") int requestBatchSize,
+            @Value("${embedding.worker.concurrency:4}") int concurrency,
+            @Value("${embedding.worker.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${embedding.worker.retry-backoff-ms:60000}") long retryBackoffMs,
+            @Value("${embedding.worker.max-retry-backoff-ms:3600000}") long maxRetryBackoffMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.embeddingClient = embeddingClient;
+        this.searchableTextBuilder = searchableTextBuilder;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.requestBatchSize = requestBatchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoffMs);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "embedding-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.embeddedCounter = Counter.builder("embedding.worker.embedded")
+                .description("Portfolios whose embeddings were written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("embedding.worker.failed")
+                .description("Portfolios whose embedding request failed (retried on the next run)")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("embedding.worker.skipped")
+                .description("Portfolios cleared without calling the embedding API")
+                .register(meterRegistry);
+        this.unchangedCounter = Counter.builder("embedding.worker.unchanged")
+                .description("Portfolios skipped because their searchable text hash did not change")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("embedding.worker.batch")
+                .description("Time to embed and write back one batch")
+                .register(meterRegistry);
+        Gauge.builder("embedding.worker.backlog", backlog, AtomicLong::get)
+                .description("Portfolios waiting for embedding")
+                .register(meterRegistry);
+        Gauge.builder("embedding.worker.oldest.pending.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age in seconds of the oldest portfolio waiting for embedding")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(
+            initialDelayString = "${embedding.worker.initial-delay-ms:30000}",
+            fixedDelayString = "${embedding.worker.interval-ms:10000}"
+    )
+    public void run() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Portfolio> portfolios = fetchPendingBatch();
+                if (portfolios.isEmpty()) {
+                    break;
+                }
+                batchTimer.record(() -> processBatch(portfolios));
+                if (portfolios.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Embedding worker run failed: {}", e.getMessage(), e);
+        } finally {
+            refreshBacklogMetrics();
+        }
+    }
+
+    /**
+     * 재시도 대기 중이 아닌 재임베딩 대상을 오래된 순으로 조회
+     */
+    private List<Portfolio> fetchPendingBatch() {
+        Query query = pendingQuery()
+                .addCriteria(new Criteria().orOperator(
+                        Criteria.where(NEXT_ATTEMPT_AT).is(null),
+                        Criteria.where(NEXT_ATTEMPT_AT).lte(LocalDateTime.now())))
+                .with(Sort.by(Sort.Direction.ASC, "updatedAt"))
+                .limit(batchSize);
+        query.fields().exclude("embeddings.kureVector");
+        return mongoTemplate.find(query, Portfolio.class);
+    }
+
+    private void processBatch(List<Portfolio> portfolios) {
+        List<Portfolio> toEmbed = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<String> hashes = new ArrayList<>();
+        List<Portfolio> blank = new ArrayList<>();
+        List<Portfolio> unchanged = new ArrayList<>();
+
+        for (Portfolio portfolio : portfolios) {
+            String text = searchableTextBuilder.build(portfolio);
+            String hash = searchableTextBuilder.hash(text);
+            if (text.isEmpty()) {
+                blank.add(portfolio);
+            } else if (portfolio.getEmbeddings() != null
+                    && hash.equals(portfolio.getEmbeddings().getSearchableTextHash())) {
+                // 임베딩 입력이 그대로면 기존 벡터를 유지
+                unchanged.add(portfolio);
+            } else {
+                toEmbed.add(portfolio);
+                texts.add(text);
+                hashes.add(hash);
+            }
+        }
+
+        // 요청 배치 단위로 나눠 제한된 동시성으로 임베딩
+        List<CompletableFuture<List<float[]>>> futures = new ArrayList<>();
+        for (int from = 0; from < texts.size(); from += requestBatchSize) {
+            List<String> chunk = texts.subList(from, Math.min(from + requestBatchSize, texts.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> embeddingClient.embedAll(chunk), executor));
+        }
+
+        // MongoDB는 밀리초까지만 저장하므로 기록 여부 확인에 쓸 수 있도록 맞춘다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Portfolio.class);
+        Map<String, float[]> written = new HashMap<>();
+        int failed = 0;
+
+        for (int chunkIndex = 0; chunkIndex < futures.size(); chunkIndex++) {
+            int offset = chunkIndex * requestBatchSize;
+            List<float[]> vectors;
+            try {
+                vectors = futures.get(chunkIndex).join();
+            } catch (Exception e) {
+                int chunkSize = Math.min(requestBatchSize, texts.size() - offset);
+                failed += chunkSize;
+                log.warn("Embedding request failed for {} portfolios: {}", chunkSize, e.getMessage());
+                for (Portfolio portfolio : toEmbed.subList(offset, offset + chunkSize)) {
+                    bulk.updateOne(unchangedSince(portfolio), scheduleRetry(portfolio, now));
+                }
+                continue;
+            }
+
+            for (int i = 0; i < vectors.size(); i++) {
+                Portfolio portfolio = toEmbed.get(offset + i);
+                float[] vector = vectors.get(i);
+                bulk.updateOne(unchangedSince(portfolio), new Update()
+                        .set("embeddings.searchableText", texts.get(offset + i))
+                        .set("embeddings.searchableTextHash", hashes.get(offset + i))
+                        .set("embeddings.kureVector", EmbeddingVector.of(vector))
+                        .set(LAST_UPDATED, now)
+                        .set(NEEDS_EMBEDDING, false)
+                        .set("processingStatus.lastProcessed", now)
+                        .unset(EMBEDDING_ATTEMPTS)
+                        .unset(NEXT_ATTEMPT_AT));
+                written.put(portfolio.getUserId(), vector);
+            }
+        }
+
+        for (Portfolio portfolio : blank) {
+            bulk.updateOne(unchangedSince(portfolio), clearPending(now));
+        }
+        for (Portfolio portfolio : unchanged) {
+            bulk.updateOne(unchangedSince(portfolio), clearPending(now));
+        }
+
+        int operations = written.size() + blank.size() + unchanged.size() + failed;
+        if (operations > 0) {
+            int requested = written.size();
+            int matched = bulk.execute().getMatchedCount();
+            if (matched < operations && !written.isEmpty()) {
+                // 조회 이후 수정되어 조건이 맞지 않은 문서는 기록되지 않았으므로 인덱스에도 반영하지 않는다
+                written.keySet().retainAll(findWritten(written.keySet(), now));
+            }
+            log.info("Embedding batch written: embedded={}, blank={}, unchanged={}, failed={}, stale={}",
+                    written.size(), blank.size(), unchanged.size(), failed, requested - written.size());
+        }
+
+        embeddedCounter.increment(written.size());
+        skippedCounter.increment(blank.size());
+        unchangedCounter.increment(unchanged.size());
+        failedCounter.increment(failed);
+
+        if (!written.isEmpty()) {
+            eventPublisher.publishEvent(new PortfolioEmbeddingsUpdatedEvent(written, now));
+        }
+    }
+
+    private static Update clearPending(LocalDateTime now) {
+        return new Update()
+                .set(NEEDS_EMBEDDING, false)
+                .set("processingStatus.lastProcessed", now)
+                .unset(EMBEDDING_ATTEMPTS)
+                .unset(NEXT_ATTEMPT_AT);
+    }
+
+    /**
+     * 실패 횟수를 늘리고 다음 재시도 시각을 지수적으로 미룬다 (needsEmbedding은 유지)
+     */
+    private Update scheduleRetry(Portfolio portfolio, LocalDateTime now) {
+        Integer previous = portfolio.getProcessingStatus() != null
+                ? portfolio.getProcessingStatus().getEmbeddingAttempts()
+                : null;
+        int attempts = (previous != null ? previous : 0) + 1;
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxRetryBackoff) > 0) {
+            backoff = maxRetryBackoff;
+        }
+        return new Update()
+                .set(EMBEDDING_ATTEMPTS, attempts)
+                .set(NEXT_ATTEMPT_AT, now.plus(backoff));
+    }
+
+    /**
+     * 이번 배치의 벡터가 실제로 기록된 userId
+     */
+    private List<String> findWritten(Collection<String> userIds, LocalDateTime lastUpdated) {
+        Query query = Query.query(Criteria.where("userId").in(userIds).and(LAST_UPDATED).is(lastUpdated));
+        query.fields().include("userId");
+        return mongoTemplate.find(query, Portfolio.class).stream()
+                .map(Portfolio::getUserId)
+                .toList();
+    }
+
+    /**
+     * 조회 이후 수정되지 않은 경우에만 기록 (그 사이 수정됐다면 다음 실행에서 다시 임베딩)
+     */
+    private Query unchangedSince(Portfolio portfolio) {
+        return Query.query(Criteria.where("_id").is(portfolio.getId())
+                .and("updatedAt").is(portfolio.getUpdatedAt()));
+    }
+
+    private Query pendingQuery() {
+        return Query.query(Criteria.where(NEEDS_EMBEDDING).is(true));
+    }
+
+    private void refreshBacklogMetrics() {
+        try {
+            backlog.set(mongoTemplate.count(pendingQuery(), Portfolio.class));
+
+            Query oldest = pendingQuery().with(Sort.by(Sort.Direction.ASC, "updatedAt")).limit(1);
+            oldest.fields().include("updatedAt");
+            Portfolio portfolio = mongoTemplate.findOne(oldest, Portfolio.class);
+            oldestPendingAgeSeconds.set(portfolio != null && portfolio.getUpdatedAt() != null
+                    ? Duration.between(portfolio.getUpdatedAt(), LocalDateTime.now()).toSeconds()
+                    : 0);
+        } catch (Exception e) {
+            log.debug("Failed to refresh embedding backlog metrics: {}", e.getMessage());
+        }
+    }
+}
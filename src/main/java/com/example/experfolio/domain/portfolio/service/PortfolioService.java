@@ -1,10 +1,14 @@
 package com.example.experfolio.domain.portfolio.service;
 
+import com.example.experfolio.domain.portfolio.cache.PortfolioView;
+import com.example.experfolio.domain.portfolio.cache.PortfolioViewCache;
 import com.example.experfolio.domain.portfolio.document.*;
 import com.example.experfolio.domain.portfolio.dto.BasicInfoDto;
 import com.example.experfolio.domain.portfolio.dto.ExistPortfolioDto;
 import com.example.experfolio.domain.portfolio.dto.PortfolioItemDto;
 import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent.ChangeType;
 import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
 import com.example.experfolio.domain.user.entity.JobSeekerProfile;
 import com.example.experfolio.domain.user.entity.User;
@@ -14,6 +18,8 @@ import com.example.experfolio.domain.user.repository.UserRepository;
 import com.example.experfolio.domain.user.service.JobSeekerProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,12 +38,21 @@ public class PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
     private final FileStorageService fileStorageService;
+    private final AttachmentUploader attachmentUploader;
     private final JobSeekerProfileRepository jobSeekerProfileRepository;
     private final JobSeekerProfileService jobSeekerProfileService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchableTextBuilder searchableTextBuilder;
+    private final PortfolioViewCache portfolioViewCache;
 
     private static final int MAX_PORTFOLIO_ITEMS = 5;
 
+    /**
+     * 아이템 추가 중 다른 수정과 경합했을 때 재시도 횟수
+     */
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     /**
      * 1.1 포트폴리오 생성
      */
@@ -106,6 +121,8 @@ public class PortfolioService {
             throw new RuntimeException("포트폴리오 생성 중 오류가 발생했습니다", e);
         }
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.CREATED));
+
         return convertToResponseDto(savedPortfolio);
     }
 
@@ -147,9 +164,6 @@ public class PortfolioService {
     public PortfolioResponseDto updateBasicInfo(String userId, BasicInfoDto basicInfoDto) {
         log.info("Updating basicInfo for userId: {}", userId);
 
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
-
         // BasicInfo 업데이트
         BasicInfo basicInfo = BasicInfo.builder()
                 .name(basicInfoDto.getName())
@@ -163,83 +177,62 @@ public class PortfolioService {
                 .languages(basicInfoDto.getLanguages())
                 .build();
 
-        portfolio.setBasicInfo(basicInfo);
-        portfolio.setUpdatedAt(LocalDateTime.now());
-
-        // 재임베딩 플래그 설정
-        portfolio.getProcessingStatus().setNeedsEmbedding(true);
+        Portfolio updatedPortfolio = portfolioRepository.updateBasicInfo(userId, basicInfo)
+                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
 
-        Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        // 임베딩 입력이 바뀌지 않았다면 재임베딩 플래그 해제
+        clearEmbeddingFlagIfUnchanged(updatedPortfolio);
         log.info("BasicInfo updated for portfolioId: {}", updatedPortfolio.getId());
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.BASIC_INFO_UPDATED));
+
         return convertToResponseDto(updatedPortfolio);
     }
 
     /**
      * 3.1 포트폴리오 아이템 추가
+     * 아이템 수 제한과 order 계산은 조회한 version 기준으로 하고, 그 사이 다른 수정이 있으면 다시 조회해 재시도한다.
      */
     @Transactional
     public PortfolioResponseDto addPortfolioItem(String userId, PortfolioItemDto itemDto, MultipartFile[] files) {
         log.info("Adding portfolio item for userId: {}", userId);
 
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
+        Portfolio current = portfolioRepository.findItemOrdersByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
 
-        // 최대 개수 체크
-        if (portfolio.getPortfolioItems().size() >= MAX_PORTFOLIO_ITEMS) {
-            throw new IllegalStateException("포트폴리오 아이템은 최대 5개까지 추가 가능합니다");
-        }
+        // 최대 개수 체크 (업로드 전에 먼저 확인)
+        checkItemLimit(current);
 
-        // 파일 업로드 처리 (R2)
-        List<Attachment> attachments = new ArrayList<>();
-        if (files != null && files.length > 0) {
-            try {
-                for (MultipartFile file : files) {
-                    if (!file.isEmpty()) {
-                        String objectKey = fileStorageService.saveFile(file, userId);
-                        Attachment attachment = Attachment.builder()
-                                .objectKey(objectKey)
-                                .originalFilename(file.getOriginalFilename())
-                                .contentType(file.getContentType())
-                                .fileSize(file.getSize())
-                                .extractionStatus("pending")
-                                .build();
-                        attachments.add(attachment);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("File upload failed for userId: {}", userId, e);
-                throw new RuntimeException("파일 업로드에 실패했습니다", e);
-            }
-        }
-
-        // 새 order 계산 (기존 최대값 + 1)
-        int newOrder = portfolio.getPortfolioItems().stream()
-                .mapToInt(PortfolioItem::getOrder)
-                .max()
-                .orElse(0) + 1;
+        // 파일 업로드 처리 (R2, 병렬)
+        List<Attachment> attachments = attachmentUploader.upload(files, userId, "pending");
 
         // PortfolioItem 생성
+        LocalDateTime now = LocalDateTime.now();
         PortfolioItem newItem = PortfolioItem.builder()
                 .id(UUID.randomUUID().toString())
-                .order(newOrder)
                 .type(itemDto.getType())
                 .title(itemDto.getTitle())
                 .content(itemDto.getContent())
                 .attachments(attachments)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
 
-        portfolio.getPortfolioItems().add(newItem);
-        portfolio.setUpdatedAt(LocalDateTime.now());
-
-        // 재임베딩 플래그 설정
-        portfolio.getProcessingStatus().setNeedsEmbedding(true);
+        Portfolio updatedPortfolio;
+        try {
+            updatedPortfolio = pushItem(userId, newItem, current);
+        } catch (RuntimeException e) {
+            // 아이템이 저장되지 않았으므로 업로드한 파일 정리
+            attachmentUploader.deleteUploaded(attachments);
+            throw e;
+        }
 
-        Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        // 임베딩 입력이 바뀌지 않았다면 재임베딩 플래그 해제
+        clearEmbeddingFlagIfUnchanged(updatedPortfolio);
         log.info("Portfolio item added with id: {}", newItem.getId());
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ITEMS_UPDATED));
+
         return convertToResponseDto(updatedPortfolio);
     }
 
@@ -250,57 +243,34 @@ public class PortfolioService {
     public PortfolioResponseDto updatePortfolioItem(String userId, String itemId, PortfolioItemDto itemDto, MultipartFile[] files) {
         log.info("Updating portfolio item {} for userId: {}", itemId, userId);
 
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
-
-        // 아이템 찾기
-        PortfolioItem targetItem = portfolio.getPortfolioItems().stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다"));
-
-        // 아이템 업데이트
-        targetItem.setType(itemDto.getType());
-        targetItem.setTitle(itemDto.getTitle());
-        targetItem.setContent(itemDto.getContent());
-        targetItem.setUpdatedAt(LocalDateTime.now());
-
-        // 파일 업로드 처리 (기존 파일에 추가, R2)
-        if (files != null && files.length > 0) {
-            List<Attachment> attachments = targetItem.getAttachments();
-            if (attachments == null) {
-                attachments = new ArrayList<>();
-                targetItem.setAttachments(attachments);
-            }
-
-            try {
-                for (MultipartFile file : files) {
-                    if (!file.isEmpty()) {
-                        String objectKey = fileStorageService.saveFile(file, userId);
-                        Attachment attachment = Attachment.builder()
-                                .objectKey(objectKey)
-                                .originalFilename(file.getOriginalFilename())
-                                .contentType(file.getContentType())
-                                .fileSize(file.getSize())
-                                .extractionStatus("failed")
-                                .build();
-                        attachments.add(attachment);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("File upload failed for userId: {}, itemId: {}", userId, itemId, e);
-                throw new RuntimeException("파일 업로드에 실패했습니다", e);
-            }
+        // 파일이 있으면 업로드 전에 아이템 존재 여부 확인
+        if (hasFiles(files) && !portfolioRepository.existsItem(userId, itemId)) {
+            throw notFound(userId);
         }
 
-        portfolio.setUpdatedAt(LocalDateTime.now());
+        // 파일 업로드 처리 (기존 파일에 추가, R2, 병렬)
+        List<Attachment> attachments = attachmentUploader.upload(files, userId, "failed");
+
+        PortfolioItem changes = PortfolioItem.builder()
+                .type(itemDto.getType())
+                .title(itemDto.getTitle())
+                .content(itemDto.getContent())
+                .updatedAt(LocalDateTime.now())
+                .build();
 
-        // 재임베딩 플래그 설정
-        portfolio.getProcessingStatus().setNeedsEmbedding(true);
+        Optional<Portfolio> updated = portfolioRepository.updateItem(userId, itemId, changes, attachments);
+        if (updated.isEmpty()) {
+            attachmentUploader.deleteUploaded(attachments);
+            throw notFound(userId);
+        }
+        Portfolio updatedPortfolio = updated.get();
 
-        Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        // 임베딩 입력이 바뀌지 않았다면 재임베딩 플래그 해제
+        clearEmbeddingFlagIfUnchanged(updatedPortfolio);
         log.info("Portfolio item updated: {}", itemId);
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ITEMS_UPDATED));
+
         return convertToResponseDto(updatedPortfolio);
     }
 
@@ -311,32 +281,39 @@ public class PortfolioService {
     public void deletePortfolioItem(String userId, String itemId) {
         log.info("Deleting portfolio item {} for userId: {}", itemId, userId);
 
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
-
-        // 아이템 찾기
-        PortfolioItem targetItem = portfolio.getPortfolioItems().stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다"));
+        // 삭제할 아이템의 첨부파일은 같은 version에서 조회한 아이템 기준 (그 사이 다른 수정이 있으면 재시도)
+        PortfolioItem removedItem = null;
+        Portfolio updatedPortfolio = null;
+        for (int attempt = 1; updatedPortfolio == null; attempt++) {
+            if (attempt > MAX_UPDATE_ATTEMPTS) {
+                throw new OptimisticLockingFailureException("포트폴리오가 동시에 수정되었습니다. 다시 시도해주세요");
+            }
+            Portfolio current = portfolioRepository.findItemByUserId(userId, itemId)
+                    .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
+            if (current.getPortfolioItems() == null || current.getPortfolioItems().isEmpty()) {
+                throw new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다");
+            }
+            removedItem = current.getPortfolioItems().get(0);
+            updatedPortfolio = portfolioRepository.pullItem(userId, itemId, current.getVersion()).orElse(null);
+            if (updatedPortfolio == null) {
+                log.debug("Portfolio version changed during item delete, retrying: userId={}, attempt={}",
+                        userId, attempt);
+            }
+        }
 
         // 첨부파일 삭제 (R2)
-        if (targetItem.getAttachments() != null && !targetItem.getAttachments().isEmpty()) {
-            List<String> objectKeys = targetItem.getAttachments().stream()
+        if (removedItem.getAttachments() != null && !removedItem.getAttachments().isEmpty()) {
+            List<String> objectKeys = removedItem.getAttachments().stream()
                     .map(Attachment::getObjectKey)
                     .toList();
             fileStorageService.deleteFiles(objectKeys);
         }
 
-        // 아이템 삭제
-        portfolio.getPortfolioItems().remove(targetItem);
-        portfolio.setUpdatedAt(LocalDateTime.now());
-
-        // 재임베딩 플래그 설정
-        portfolio.getProcessingStatus().setNeedsEmbedding(true);
-
-        portfolioRepository.save(portfolio);
+        // 삭제 후 문서로 임베딩 입력 변경 여부 확인
+        clearEmbeddingFlagIfUnchanged(updatedPortfolio);
         log.info("Portfolio item deleted: {}", itemId);
+
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ITEMS_UPDATED));
     }
 
     /**
@@ -346,25 +323,12 @@ public class PortfolioService {
     public PortfolioResponseDto reorderPortfolioItems(String userId, List<String> itemIds) {
         log.info("Reordering portfolio items for userId: {}", userId);
 
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
-
-        // itemIds 순서대로 order 업데이트
-        for (int i = 0; i < itemIds.size(); i++) {
-            String itemId = itemIds.get(i);
-            PortfolioItem item = portfolio.getPortfolioItems().stream()
-                    .filter(pi -> pi.getId().equals(itemId))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다: " + itemId));
-
-            item.setOrder(i + 1);
-        }
-
-        portfolio.setUpdatedAt(LocalDateTime.now());
-
-        Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        Portfolio updatedPortfolio = portfolioRepository.reorderItems(userId, itemIds)
+                .orElseThrow(() -> reorderFailure(userId, itemIds));
         log.info("Portfolio items reordered");
 
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ITEMS_REORDERED));
+
         return convertToResponseDto(updatedPortfolio);
     }
 
@@ -411,6 +375,24 @@ public class PortfolioService {
         }
 
         log.info("Portfolio deleted for userId: {}", userId);
+
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.DELETED));
+    }
+
+    /**
+     * 수정은 needsEmbedding=true로 함께 기록하고, 임베딩 입력(searchableText)이 마지막 임베딩 때와 같으면
+     * 같은 version일 때만 플래그를 다시 내린다. 공백만 바뀐 수정이나 되돌린 수정은 기존 벡터를 그대로 사용한다.
+     * (플래그를 내리는 추가 갱신은 입력이 바뀌지 않은 드문 경우에만 발생)
+     */
+    private void clearEmbeddingFlagIfUnchanged(Portfolio portfolio) {
+        if (searchableTextBuilder.hasChanged(portfolio)) {
+            return;
+        }
+        portfolioRepository.clearNeedsEmbedding(portfolio.getId(), portfolio.getVersion());
+        if (portfolio.getProcessingStatus() != null) {
+            portfolio.getProcessingStatus().setNeedsEmbedding(false);
+        }
+        log.debug("Searchable text unchanged, skipping re-embedding for userId: {}", portfolio.getUserId());
     }
 
     /**
@@ -426,6 +408,7 @@ public class PortfolioService {
                 .processingStatus(portfolio.getProcessingStatus())
                 .createdAt(portfolio.getCreatedAt())
                 .updatedAt(portfolio.getUpdatedAt())
+                .version(portfolio.getVersion())
                 .build();
     }
 
@@ -478,6 +461,27 @@ public class PortfolioService {
         return convertToResponseDto(portfolio);
     }
 
+    /**
+     * 리크루터용 포트폴리오 조회의 현재 ETag (version, updatedAt, processingStatus만 조회)
+     */
+    @Transactional(readOnly = true)
+    public String getPortfolioETag(String userId) {
+        Portfolio portfolio = portfolioRepository.findVersionInfoByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
+        return PortfolioView.etag(portfolio.getVersion(), portfolio.getUpdatedAt(), portfolio.getProcessingStatus());
+    }
+
+    /**
+     * 리크루터용 포트폴리오 조회 결과 (직렬화된 JSON)
+     * 같은 ETag로 만든 결과가 캐시에 있으면 문서 조회, 정렬, 직렬화를 모두 생략한다.
+     *
+     * @param etag {@link #getPortfolioETag}로 확인한 현재 ETag
+     */
+    @Transactional(readOnly = true)
+    public PortfolioView getPortfolioView(String userId, String etag) {
+        return portfolioViewCache.get(userId, etag, () -> getPortfolioByUserId(userId));
+    }
+
     /**
      * 포트폴리오 아이템의 특정 첨부파일 삭제
      * Actor: JOB_SEEKER
@@ -486,28 +490,11 @@ public class PortfolioService {
     public void deleteAttachment(String userId, String itemId, String objectKey) {
         log.info("Deleting attachment {} from item {} for userId: {}", objectKey, itemId, userId);
 
-        // 포트폴리오 조회
-        Portfolio portfolio = portfolioRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
-
-        // 아이템 찾기
-        PortfolioItem targetItem = portfolio.getPortfolioItems().stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다"));
-
-        // 첨부파일 목록에서 해당 objectKey를 가진 파일 찾기
-        List<Attachment> attachments = targetItem.getAttachments();
-        if (attachments == null || attachments.isEmpty()) {
-            throw new IllegalArgumentException("첨부파일이 존재하지 않습니다");
-        }
-
-        boolean removed = attachments.removeIf(attachment ->
-            attachment.getObjectKey().equals(objectKey)
-        );
-
-        if (!removed) {
-            throw new IllegalArgumentException("첨부파일을 찾을 수 없습니다");
+        // 첨부파일 메타데이터 삭제 (첨부파일은 임베딩 입력이 아니므로 재임베딩 플래그는 그대로)
+        if (portfolioRepository.pullAttachment(userId, itemId, objectKey).isEmpty()) {
+            throw portfolioRepository.existsItem(userId, itemId)
+                    ? new IllegalArgumentException("첨부파일을 찾을 수 없습니다")
+                    : notFound(userId);
         }
 
         // R2에서 실제 파일 삭제
@@ -520,14 +507,101 @@ public class PortfolioService {
             log.warn("Attachment metadata removed from MongoDB but R2 deletion failed");
         }
 
-        // Portfolio 업데이트
-        targetItem.setUpdatedAt(LocalDateTime.now());
-        portfolio.setUpdatedAt(LocalDateTime.now());
+        log.info("Attachment deleted successfully: {}", objectKey);
 
-        // 재임베딩 플래그 설정
-        portfolio.getProcessingStatus().setNeedsEmbedding(true);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ATTACHMENTS_UPDATED));
+    }
 
-        portfolioRepository.save(portfolio);
-        log.info("Attachment deleted successfully: {}", objectKey);
+    /**
+     * 이미 업로드한 첨부파일을 아이템에 추가 (스트리밍/직접 업로드)
+     * 아이템이 그 사이 삭제되었으면 업로드한 파일을 정리하고, 이미 추가된 파일이면 (완료 요청 재시도) 현재 상태를 반환한다.
+     */
+    public PortfolioResponseDto addAttachments(String userId, String itemId, List<Attachment> attachments) {
+        log.info("Adding {} attachments to item {} for userId: {}", attachments.size(), itemId, userId);
+
+        // 첨부파일 메타데이터 추가 (첨부파일은 임베딩 입력이 아니므로 재임베딩 플래그는 그대로)
+        Optional<Portfolio> updated = portfolioRepository.pushAttachments(userId, itemId, attachments);
+        if (updated.isEmpty()) {
+            boolean alreadyAdded = attachments.stream().anyMatch(attachment ->
+                    portfolioRepository.existsAttachment(userId, itemId, attachment.getObjectKey()));
+            if (alreadyAdded) {
+                return getMyPortfolio(userId);
+            }
+            attachmentUploader.deleteUploaded(attachments);
+            throw notFound(userId);
+        }
+
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId, ChangeType.ATTACHMENTS_UPDATED));
+
+        return convertToResponseDto(updated.get());
+    }
+
+    /**
+     * 업로드 전 아이템 존재 확인
+     */
+    public void requireItem(String userId, String itemId) {
+        if (!portfolioRepository.existsItem(userId, itemId)) {
+            throw notFound(userId);
+        }
+    }
+
+    /**
+     * 아이템 추가. 조회 이후 다른 수정이 먼저 반영되었으면 다시 조회해 order와 개수 제한을 재계산한다.
+     */
+    private Portfolio pushItem(String userId, PortfolioItem newItem, Portfolio current) {
+        for (int attempt = 1; ; attempt++) {
+            newItem.setOrder(current.getPortfolioItems().stream()
+                    .mapToInt(PortfolioItem::getOrder)
+                    .max()
+                    .orElse(0) + 1);
+
+            Optional<Portfolio> updated = portfolioRepository.pushItem(userId, newItem, MAX_PORTFOLIO_ITEMS,
+                    current.getVersion());
+            if (updated.isPresent()) {
+                return updated.get();
+            }
+
+            current = portfolioRepository.findItemOrdersByUserId(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("포트폴리오를 찾을 수 없습니다"));
+            checkItemLimit(current);
+
+            if (attempt >= MAX_UPDATE_ATTEMPTS) {
+                throw new OptimisticLockingFailureException("포트폴리오가 동시에 수정되었습니다. 다시 시도해주세요");
+            }
+            log.debug("Portfolio version changed during item add, retrying: userId={}, attempt={}", userId, attempt);
+        }
+    }
+
+    private void checkItemLimit(Portfolio portfolio) {
+        if (portfolio.getPortfolioItems() != null && portfolio.getPortfolioItems().size() >= MAX_PORTFOLIO_ITEMS) {
+            throw new IllegalStateException("포트폴리오 아이템은 최대 5개까지 추가 가능합니다");
+        }
+    }
+
+    private boolean hasFiles(MultipartFile[] files) {
+        return files != null && Arrays.stream(files).anyMatch(file -> !file.isEmpty());
+    }
+
+    /**
+     * 순서 변경이 반영되지 않은 원인 (포트폴리오 없음 / 없는 아이템)
+     */
+    private IllegalArgumentException reorderFailure(String userId, List<String> itemIds) {
+        Portfolio portfolio = portfolioRepository.findItemOrdersByUserId(userId).orElse(null);
+        if (portfolio == null) {
+            return new IllegalArgumentException("포트폴리오를 찾을 수 없습니다");
+        }
+        Set<String> existing = new HashSet<>();
+        portfolio.getPortfolioItems().forEach(item -> existing.add(item.getId()));
+        return itemIds.stream()
+                .filter(itemId -> !existing.contains(itemId))
+                .findFirst()
+                .map(itemId -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다: " + itemId))
+                .orElseGet(() -> new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다"));
+    }
+
+    private IllegalArgumentException notFound(String userId) {
+        return portfolioRepository.existsByUserId(userId)
+                ? new IllegalArgumentException("포트폴리오 아이템을 찾을 수 없습니다")
+                : new IllegalArgumentException("포트폴리오를 찾을 수 없습니다");
     }
 }
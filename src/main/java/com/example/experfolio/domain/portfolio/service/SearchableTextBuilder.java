@@ -0,0 +1,149 @@
+package com.example.experfolio.domain.portfolio.service;
+
+import com.example.experfolio.domain.portfolio.document.*;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 입력 텍스트(Embeddings.searchableText) 생성기
+ * BasicInfo와 포트폴리오 아이템을 항목명이 붙은 줄 단위 텍스트로 합친다. (이름 등 개인정보는 제외)
+ *
+ * 같은 내용이면 항상 같은 텍스트가 나오도록 정규화한다. 아이템은 화면 순서가 아닌 내용 기준으로 정렬하고,
+ * 유니코드 정규화(NFC), 줄 안의 연속 공백 축약, 빈 줄 제거를 적용한다.
+ * 따라서 순서 변경이나 공백만 바뀐 수정은 {@link #hash(String)} 값이 같아 재임베딩하지 않는다.
+ */
+@Component
+public class SearchableTextBuilder {
+
+    /**
+     * 정규화 규칙 버전. 텍스트 형식을 바꾸면 올려서 기존 해시를 모두 무효화(전체 재임베딩)한다.
+     */
+    static final int CANONICAL_FORM_VERSION = 1;
+
+    private static final Pattern HORIZONTAL_WHITESPACE = Pattern.compile("\\h+");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\R");
+
+    private static final Comparator<PortfolioItem> CONTENT_ORDER = Comparator
+            .comparing((PortfolioItem item) -> normalize(item.getType()))
+            .thenComparing(item -> normalize(item.getTitle()))
+            .thenComparing(item -> normalize(item.getContent()));
+
+    public String build(Portfolio portfolio) {
+        StringBuilder text = new StringBuilder();
+
+        BasicInfo basicInfo = portfolio.getBasicInfo();
+        if (basicInfo != null) {
+            appendLine(text, "희망 직무", basicInfo.getDesiredPosition());
+            appendLine(text, "학교", basicInfo.getSchoolName());
+            appendLine(text, "전공", basicInfo.getMajor());
+            appendLine(text, "수상", join(basicInfo.getAwards(), award ->
+                    joinNonBlank(" ", award.getAwardName(), award.getAchievement())));
+            appendLine(text, "자격증", join(basicInfo.getCertifications(), Certification::getCertificationName));
+            appendLine(text, "어학", join(basicInfo.getLanguages(), language ->
+                    joinNonBlank(" ", language.getTestName(), language.getScore())));
+        }
+
+        List<PortfolioItem> items = portfolio.getPortfolioItems();
+        if (items != null) {
+            items.stream()
+                    .filter(Objects::nonNull)
+                    .sorted(CONTENT_ORDER)
+                    .forEach(item -> {
+                        appendLine(text, item.getType(), item.getTitle());
+                        String content = normalize(item.getContent());
+                        if (!content.isEmpty()) {
+                            text.append(content).append('\n');
+                        }
+                    });
+        }
+
+        return text.toString().trim();
+    }
+
+    /**
+     * 임베딩 입력 텍스트의 해시 (SHA-256 hex, 정규화 규칙 버전 포함)
+     * Embeddings.searchableTextHash와 비교해 임베딩 입력이 바뀌었는지 판단한다.
+     */
+    public String hash(String searchableText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((CANONICAL_FORM_VERSION + "\n").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(searchableText.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 포트폴리오의 현재 임베딩 입력이 마지막으로 임베딩한 입력과 다른지 확인
+     * (해시가 없는 기존 임베딩은 바뀐 것으로 본다)
+     */
+    public boolean hasChanged(Portfolio portfolio) {
+        Embeddings embeddings = portfolio.getEmbeddings();
+        if (embeddings == null || embeddings.getSearchableTextHash() == null) {
+            return true;
+        }
+        return !embeddings.getSearchableTextHash().equals(hash(build(portfolio)));
+    }
+
+    private static void appendLine(StringBuilder text, String label, String value) {
+        String normalizedValue = normalize(value);
+        if (!normalizedValue.isEmpty()) {
+            String normalizedLabel = normalize(label);
+            if (!normalizedLabel.isEmpty()) {
+                text.append(normalizedLabel).append(": ");
+            }
+            text.append(normalizedValue).append('\n');
+        }
+    }
+
+    /**
+     * NFC 정규화, 줄마다 연속 공백 축약 및 앞뒤 공백 제거, 빈 줄 제거
+     */
+    private static String normalize(String value) {
+        if (!StringUtils.hasText(value)) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC);
+        return LINE_BREAK.splitAsStream(normalized)
+                .map(line -> HORIZONTAL_WHITESPACE.matcher(line).replaceAll(" ").trim())
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static <T> String join(List<T> values, Function<T, String> mapper) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String joinNonBlank(String delimiter, String... values) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            if (StringUtils.hasText(value)) {
+                if (!joined.isEmpty()) {
+                    joined.append(delimiter);
+                }
+                joined.append(normalize(value));
+            }
+        }
+        return joined.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.experfolio.domain.portfolio.upload;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 허용하는 첨부파일 형식
+ * 확장자와 파일 앞부분(매직 넘버)이 모두 맞아야 하며, 저장 시 Content-Type은 클라이언트 값이 아니라 형식에서 정한다.
+ */
+@Getter
+public enum AttachmentType {
+
+    JPEG("image/jpeg", List.of("jpg", "jpeg"), startsWith(0xFF, 0xD8, 0xFF)),
+    PNG("image/png", List.of("png"), startsWith(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)),
+    GIF("image/gif", List.of("gif"), startsWith('G', 'I', 'F', '8', '7', 'a').or(startsWith('G', 'I', 'F', '8', '9', 'a'))),
+    PDF("application/pdf", List.of("pdf"), startsWith('%', 'P', 'D', 'F', '-')),
+    /**
+     * Word 97-2003 (OLE 복합 문서)
+     */
+    DOC("application/msword", List.of("doc"), startsWith(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)),
+    /**
+     * Office Open XML (ZIP)
+     */
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", List.of("docx"),
+            startsWith('P', 'K', 0x03, 0x04)),
+    /**
+     * 한글 5.0 (OLE 복합 문서)
+     */
+    HWP("application/x-hwp", List.of("hwp"), startsWith(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)),
+    /**
+     * 매직 넘버가 없으므로 앞부분에 NUL 바이트가 없는지만 확인
+     */
+    TXT("text/plain", List.of("txt"), AttachmentType::hasNoNulBytes);
+
+    /**
+     * 판별에 필요한 앞부분 바이트 수
+     */
+    public static final int SNIFF_LENGTH = 512;
+
+    private final String contentType;
+    private final List<String> extensions;
+    private final Signature signature;
+
+    AttachmentType(String contentType, List<String> extensions, Signature signature) {
+        this.contentType = contentType;
+        this.extensions = extensions;
+        this.signature = signature;
+    }
+
+    /**
+     * 파일명의 확장자로 형식 조회
+     */
+    public static Optional<AttachmentType> fromFilename(String filename) {
+        if (filename == null || !filename.contains(".")) {
+            return Optional.empty();
+        }
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(type -> type.extensions.contains(extension))
+                .findFirst();
+    }
+
+    /**
+     * 파일 앞부분이 이 형식의 시그니처와 일치하는지
+     *
+     * @param length buffer에 읽은 바이트 수
+     */
+    public boolean matches(byte[] buffer, int length) {
+        return signature.test(buffer, length);
+    }
+
+    public static String allowedExtensions() {
+        return String.join(", ", Arrays.stream(values()).flatMap(type -> type.extensions.stream()).toList());
+    }
+
+    private static Signature startsWith(int... magic) {
+        return (buffer, length) -> {
+            if (length < magic.length) {
+                return false;
+            }
+            for (int i = 0; i < magic.length; i++) {
+                if ((buffer[i] & 0xFF) != magic[i]) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean hasNoNulBytes(byte[] buffer, int length) {
+        int end = Math.min(length, SNIFF_LENGTH);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파일 앞부분 판별 조건
+     */
+    @FunctionalInterface
+    private interface Signature {
+
+        boolean test(byte[] buffer, int length);
+
+        default Signature or(Signature other) {
+            return (buffer, length) -> test(buffer, length) || other.test(buffer, length);
+        }
+    }
+}
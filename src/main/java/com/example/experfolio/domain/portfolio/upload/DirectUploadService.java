@@ -0,0 +1,202 @@
+package com.example.experfolio.domain.portfolio.upload;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadCompleteRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadResponseDto;
+import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import com.example.experfolio.domain.portfolio.service.PortfolioService;
+import com.example.experfolio.global.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 첨부파일 직접 업로드 (presigned URL)
+ * 클라이언트가 발급받은 URL로 R2에 바로 PUT하고 완료를 알리면, HEAD로 크기/형식을 확인한 뒤 아이템에 추가한다.
+ * 파일 내용은 애플리케이션 서버를 거치지 않으며, 완료 확인 시 앞부분만 읽어 매직 넘버를 검사한다.
+ *
+ * 발급 정보는 서버에 저장하지 않고 서명된 object 메타데이터(userId, itemId, 원본 파일명, 선언 크기)로 검증한다.
+ * presigned URL은 완료 후에도 만료 전까지 유효하므로, 업로드는 uploads/ 아래 임시 key로 받고
+ * 검사한 ETag와 같을 때만 서버 측 복사로 최종 key(portfolios/...)에 옮긴 뒤 임시 key를 삭제한다.
+ * 첨부파일이 가리키는 최종 key에는 쓰기 URL이 없으므로 검사 후 내용이 바뀌지 않는다.
+ * (완료되지 않은 임시 object는 버킷의 uploads/ 수명 주기 규칙으로 정리)
+ */
+@Slf4j
+@Service
+public class DirectUploadService {
+
+    static final String META_USER_ID = "user-id";
+    static final String META_ITEM_ID = "item-id";
+    static final String META_FILENAME = "original-filename";
+    static final String META_SIZE = "declared-size";
+
+    private static final String UPLOAD_PREFIX = "uploads/";
+
+    private static final String EXTRACTION_STATUS = "pending";
+
+    private final FileStorageService fileStorageService;
+    private final PortfolioService portfolioService;
+    private final Duration urlTtl;
+    private final long maxFileSize;
+
+    public DirectUploadService(
+            FileStorageService fileStorageService,
+            PortfolioService portfolioService,
+            @Value("${portfolio.upload.direct.url-ttl-seconds:300}") long urlTtlSeconds,
+            @Value("${portfolio.upload.direct.max-file-size:10485760}") long maxFileSize) {
+        this.fileStorageService = fileStorageService;
+        this.portfolioService = portfolioService;
+        this.urlTtl = Duration.ofSeconds(urlTtlSeconds);
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * 업로드 URL 발급
+     * Content-Type은 확장자로 정하며, Content-Type/Content-Length/메타데이터가 서명에 포함된다.
+     */
+    public DirectUploadResponseDto issue(String userId, String itemId, DirectUploadRequestDto request) {
+        portfolioService.requireItem(userId, itemId);
+
+        String filename = request.getOriginalFilename();
+        AttachmentType type = typeOf(filename);
+        if (request.getFileSize() > maxFileSize) {
+            throw new BadRequestException(
+                    String.format("파일 크기가 너무 큽니다. 최대 %dMB", maxFileSize / (1024 * 1024)));
+        }
+
+        String objectKey = UPLOAD_PREFIX + fileStorageService.generateObjectKey(userId, filename);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        metadata.put(META_USER_ID, userId);
+        metadata.put(META_ITEM_ID, itemId);
+        metadata.put(META_FILENAME, URLEncoder.encode(filename, StandardCharsets.UTF_8));
+        metadata.put(META_SIZE, String.valueOf(request.getFileSize()));
+
+        PresignedPutObjectRequest presigned = fileStorageService.presignUpload(objectKey, type.getContentType(),
+                request.getFileSize(), metadata, urlTtl);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            // host는 URL에서 정해지고 Content-Length는 HTTP 클라이언트가 붙인다
+            if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        log.info("Issued direct upload URL for userId: {}, item: {}, key: {}", userId, itemId, objectKey);
+
+        return DirectUploadResponseDto.builder()
+                .objectKey(objectKey)
+                .uploadUrl(presigned.url().toString())
+                .method(presigned.httpRequest().method().name())
+                .headers(headers)
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 업로드 완료 처리
+     * object가 이 사용자/아이템에 발급된 것인지, 크기와 Content-Type이 발급 시 값과 같은지, 내용이 형식과 맞는지 확인한다.
+     * 앞부분 읽기와 최종 key 복사는 HEAD의 ETag 조건부로 하여 확인한 내용만 첨부한다.
+     * 크기/형식이 맞지 않거나 확인 중에 바뀐 object는 삭제한다.
+     * 이미 최종 key로 옮겨진 object면 (완료 요청 재시도) 다시 검사하지 않고 아이템 추가만 시도한다.
+     */
+    public PortfolioResponseDto complete(String userId, String itemId, DirectUploadCompleteRequestDto request) {
+        String uploadKey = request.getObjectKey();
+        if (!uploadKey.startsWith(UPLOAD_PREFIX + "portfolios/" + userId + "/")) {
+            throw new BadRequestException("업로드 정보가 올바르지 않습니다");
+        }
+        String objectKey = uploadKey.substring(UPLOAD_PREFIX.length());
+
+        Optional<HeadObjectResponse> uploaded = fileStorageService.headFile(uploadKey);
+        if (uploaded.isEmpty()) {
+            HeadObjectResponse stored = fileStorageService.headFile(objectKey)
+                    .orElseThrow(() -> new BadRequestException("업로드된 파일을 찾을 수 없습니다"));
+            requireIssuedTo(stored, userId, itemId);
+            return portfolioService.addAttachments(userId, itemId, List.of(attachment(objectKey, stored)));
+        }
+
+        HeadObjectResponse head = uploaded.get();
+        requireIssuedTo(head, userId, itemId);
+
+        AttachmentType type = typeOf(uploadKey);
+        long size = Objects.requireNonNullElse(head.contentLength(), -1L);
+        if (!type.getContentType().equals(head.contentType())
+                || !String.valueOf(size).equals(head.metadata().get(META_SIZE))
+                || size <= 0 || size > maxFileSize) {
+            reject(uploadKey);
+            throw new BadRequestException("업로드된 파일의 크기 또는 형식이 발급 정보와 다릅니다");
+        }
+
+        try {
+            int sniffLength = (int) Math.min(size, AttachmentType.SNIFF_LENGTH);
+            byte[] prefix = fileStorageService.readPrefix(uploadKey, sniffLength, head.eTag());
+            if (!type.matches(prefix, prefix.length)) {
+                reject(uploadKey);
+                throw new BadRequestException("파일 내용이 확장자와 일치하지 않습니다");
+            }
+            fileStorageService.copyFile(uploadKey, objectKey, head.eTag());
+        } catch (S3Exception e) {
+            if (e.statusCode() != HttpStatus.PRECONDITION_FAILED.value()) {
+                throw e;
+            }
+            reject(uploadKey);
+            throw new BadRequestException("업로드된 파일이 확인 중에 변경되었습니다. 다시 업로드해주세요");
+        }
+        reject(uploadKey);
+
+        return portfolioService.addAttachments(userId, itemId, List.of(attachment(objectKey, head)));
+    }
+
+    private static void requireIssuedTo(HeadObjectResponse head, String userId, String itemId) {
+        Map<String, String> metadata = head.metadata();
+        if (!userId.equals(metadata.get(META_USER_ID)) || !itemId.equals(metadata.get(META_ITEM_ID))) {
+            throw new BadRequestException("업로드 정보가 올바르지 않습니다");
+        }
+    }
+
+    private static Attachment attachment(String objectKey, HeadObjectResponse head) {
+        return Attachment.builder()
+                .objectKey(objectKey)
+                .originalFilename(URLDecoder.decode(
+                        Objects.requireNonNullElse(head.metadata().get(META_FILENAME), ""), StandardCharsets.UTF_8))
+                .contentType(head.contentType())
+                .fileSize(head.contentLength())
+                .extractionStatus(EXTRACTION_STATUS)
+                .build();
+    }
+
+    private static AttachmentType typeOf(String filename) {
+        return AttachmentType.fromFilename(filename)
+                .orElseThrow(() -> new BadRequestException(String.format(
+                        "지원하지 않는 파일 형식입니다. 지원 형식: %s", AttachmentType.allowedExtensions())));
+    }
+
+    /**
+     * 임시 업로드 object 삭제 (실패해도 수명 주기 규칙으로 정리되므로 경고만 남김)
+     */
+    private void reject(String uploadKey) {
+        try {
+            fileStorageService.deleteFile(uploadKey);
+        } catch (Exception e) {
+            log.warn("Failed to delete direct upload object: {}", uploadKey, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.experfolio.domain.portfolio.upload;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트리밍 업로드용 고정 크기 파트 버퍼 풀
+ * 버퍼 수가 곧 동시 스트리밍 업로드 수 상한이므로, 업로드 힙 사용량은 partSize × maxBuffers를 넘지 않는다.
+ * 버퍼는 처음 필요할 때 만들고 반납된 버퍼를 재사용한다 (큰 배열을 요청마다 새로 할당하지 않음).
+ */
+public class PartBufferPool {
+
+    private final int partSize;
+    private final Semaphore permits;
+    private final Queue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+    public PartBufferPool(int partSize, int maxBuffers) {
+        this.partSize = partSize;
+        this.permits = new Semaphore(maxBuffers);
+    }
+
+    /**
+     * 버퍼 대여. 모두 사용 중이면 timeoutMs까지 기다린다.
+     *
+     * @return 시간 안에 빌리지 못하면 null
+     */
+    public byte[] acquire(long timeoutMs) throws InterruptedException {
+        if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
+        byte[] buffer = free.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    public void release(byte[] buffer) {
+        free.offer(buffer);
+        permits.release();
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.experfolio.domain.portfolio.upload;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import com.example.experfolio.global.exception.BadRequestException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUpload;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.UploadContext;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 스트리밍 첨부파일 업로드
+ * multipart 요청 본문을 commons-fileupload 스트리밍 API로 한 파트씩 읽어, 임시 파일이나 메모리 전체 버퍼 없이 R2로 보낸다.
+ * 파일마다 첫 파트 버퍼로 확장자와 매직 넘버를 확인한 뒤 같은 버퍼로 R2 멀티파트 업로드를 진행하므로,
+ * 요청당 힙 사용량은 파일 크기와 관계없이 파트 버퍼 하나다.
+ *
+ * 이 경로는 Spring multipart 처리를 거치지 않아야 한다 ({@code MultipartConfig} 참고).
+ */
+@Slf4j
+@Component
+public class StreamingAttachmentUploader {
+
+    private static final String EXTRACTION_STATUS = "pending";
+
+    private final FileStorageService fileStorageService;
+    private final PartBufferPool bufferPool;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long acquireTimeoutMs;
+
+    public StreamingAttachmentUploader(
+            FileStorageService fileStorageService,
+            @Value("${portfolio.upload.stream.part-size:5242880}") int partSize,
+            @Value("${portfolio.upload.stream.max-concurrent:8}") int maxConcurrent,
+            @Value("${portfolio.upload.stream.acquire-timeout-ms:3000}") long acquireTimeoutMs,
+            @Value("${portfolio.upload.stream.max-file-size:10485760}") long maxFileSize,
+            @Value("${portfolio.upload.stream.max-files:10}") int maxFiles) {
+        this.fileStorageService = fileStorageService;
+        this.bufferPool = new PartBufferPool(Math.max(partSize, FileStorageService.MIN_PART_SIZE), maxConcurrent);
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    public List<Attachment> upload(HttpServletRequest request, String userId) {
+        return upload(new ServletUploadContext(request), userId);
+    }
+
+    /**
+     * 요청의 파일 파트를 순서대로 R2에 업로드
+     * 하나라도 실패하면 이 요청에서 이미 올린 파일을 삭제한다.
+     */
+    public List<Attachment> upload(UploadContext context, String userId) {
+        String contentType = context.getContentType();
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith(FileUploadBase.MULTIPART)) {
+            throw new BadRequestException("multipart/form-data 요청이 아닙니다");
+        }
+
+        byte[] buffer = acquireBuffer();
+        List<Attachment> attachments = new ArrayList<>();
+        try {
+            FileUpload fileUpload = new FileUpload();
+            fileUpload.setFileSizeMax(maxFileSize);
+            fileUpload.setSizeMax(maxFileSize * maxFiles + FileUploadBase.MAX_HEADER_SIZE * (long) maxFiles);
+
+            FileItemIterator items = fileUpload.getItemIterator(context);
+            while (items.hasNext()) {
+                FileItemStream item = items.next();
+                String filename = item.getName();
+                if (item.isFormField() || filename == null || filename.isBlank()) {
+                    continue;
+                }
+                if (attachments.size() >= maxFiles) {
+                    throw new BadRequestException(String.format("한 번에 최대 %d개 파일까지 업로드할 수 있습니다", maxFiles));
+                }
+                attachments.add(uploadPart(item, filename, buffer, userId));
+            }
+            return attachments;
+        } catch (FileUploadException | IOException e) {
+            deleteUploaded(attachments);
+            if (isSizeExceeded(e) || isSizeExceeded(e.getCause())) {
+                throw new BadRequestException(
+                        String.format("파일 크기가 너무 큽니다. 최대 %dMB", maxFileSize / (1024 * 1024)));
+            }
+            if (e instanceof FileUploadException) {
+                throw new BadRequestException("잘못된 multipart 요청입니다: " + e.getMessage());
+            }
+            log.error("Streaming upload failed for userId: {}", userId, e);
+            throw new RuntimeException("파일 업로드에 실패했습니다", e);
+        } catch (RuntimeException e) {
+            deleteUploaded(attachments);
+            throw e;
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private Attachment uploadPart(FileItemStream item, String filename, byte[] buffer, String userId)
+            throws IOException {
+        AttachmentType type = AttachmentType.fromFilename(filename)
+                .orElseThrow(() -> new BadRequestException(String.format(
+                        "지원하지 않는 파일 형식입니다. 지원 형식: %s", AttachmentType.allowedExtensions())));
+
+        try (BoundedInputStream in = BoundedInputStream.builder().setInputStream(item.openStream()).get()) {
+            int length = in.readNBytes(buffer, 0, buffer.length);
+            if (length == 0) {
+                throw new BadRequestException("빈 파일은 업로드할 수 없습니다: " + filename);
+            }
+            if (!type.matches(buffer, length)) {
+                throw new BadRequestException("파일 내용이 확장자와 일치하지 않습니다: " + filename);
+            }
+
+            String objectKey = fileStorageService.saveStream(userId, filename, type.getContentType(),
+                    buffer, length, in);
+            return Attachment.builder()
+                    .objectKey(objectKey)
+                    .originalFilename(filename)
+                    .contentType(type.getContentType())
+                    .fileSize(in.getCount())
+                    .extractionStatus(EXTRACTION_STATUS)
+                    .build();
+        }
+    }
+
+    private static boolean isSizeExceeded(Throwable e) {
+        return e instanceof FileUploadBase.FileSizeLimitExceededException
+                || e instanceof FileUploadBase.SizeLimitExceededException;
+    }
+
+    private byte[] acquireBuffer() {
+        try {
+            byte[] buffer = bufferPool.acquire(acquireTimeoutMs);
+            if (buffer == null) {
+                throw new IllegalStateException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드가 중단되었습니다", e);
+        }
+    }
+
+    private void deleteUploaded(List<Attachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        try {
+            fileStorageService.deleteFiles(attachments.stream().map(Attachment::getObjectKey).toList());
+        } catch (Exception e) {
+            log.warn("Failed to clean up {} streamed files", attachments.size(), e);
+        }
+    }
+
+    /**
+     * jakarta 서블릿 요청을 commons-fileupload 요청 컨텍스트로 연결 (commons-fileupload 1.x는 javax 서블릿용)
+     */
+    private static class ServletUploadContext implements UploadContext {
+
+        private final HttpServletRequest request;
+
+        ServletUploadContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return request.getCharacterEncoding();
+        }
+
+        @Override
+        public String getContentType() {
+            return request.getContentType();
+        }
+
+        @Override
+        @Deprecated
+        public int getContentLength() {
+            return request.getContentLength();
+        }
+
+        @Override
+        public long contentLength() {
+            return request.getContentLengthLong();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return request.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.experfolio.domain.search.cache;
+
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 동일 검색 요청 병합 (single-flight)
+ * 같은 키의 검색이 진행 중이면 새 요청은 AI 서버를 다시 호출하지 않고 진행 중인 결과를 함께 기다린다.
+ * 결과 캐시와 무관하게 동작하며, 완료되면 즉시 제거되므로 결과를 보관하지 않는다.
+ */
+@Slf4j
+@Component
+public class SearchRequestCoalescer {
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Counter coalescedWaiters;
+    private final DistributionSummary waitersPerFlight;
+
+    public SearchRequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${search.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.coalescedWaiters = Counter.builder("search.coalesced.waiters")
+                .description("Search requests served by joining an identical in-flight request")
+                .register(meterRegistry);
+        this.waitersPerFlight = DistributionSummary.builder("search.coalesced.waiters.per.flight")
+                .description("Number of joined waiters per coalesced search")
+                .register(meterRegistry);
+        Gauge.builder("search.inflight", inFlight, Map::size)
+                .description("Distinct searches currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 진행 중 검색이 있으면 그 결과를, 없으면 직접 실행한 결과를 반환
+     *
+     * @param key    검색 모드 + 정규화된 쿼리
+     * @param search 실제 검색 (선행 요청의 호출 스레드에서 실행)
+     */
+    public SearchResponseDto execute(String key, Supplier<SearchResponseDto> search) {
+        if (!enabled) {
+            return search.get();
+        }
+
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            existing.waiters.incrementAndGet();
+            coalescedWaiters.increment();
+            log.debug("Joining in-flight search: {}", key);
+            return existing.await();
+        }
+
+        try {
+            SearchResponseDto response = search.get();
+            flight.future.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            int waiters = flight.waiters.get();
+            if (waiters > 0) {
+                waitersPerFlight.record(waiters);
+            }
+        }
+    }
+
+    private static class Flight {
+
+        private final CompletableFuture<SearchResponseDto> future = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private SearchResponseDto await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // 선행 요청과 같은 예외를 그대로 전달 (예외 처리 흐름 유지)
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
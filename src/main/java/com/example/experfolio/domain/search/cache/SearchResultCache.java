@@ -0,0 +1,125 @@
+package com.example.experfolio.domain.search.cache;
+
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioEmbeddingsUpdatedEvent;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 결과 캐시
+ * 정규화된 쿼리를 키로 AI 서버 검색 결과를 크기/TTL 기준으로 보관한다.
+ * 포트폴리오가 재임베딩 대상이 되면 전체 결과 순위가 바뀔 수 있으므로 전부 무효화한다.
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, SearchResponseDto> cache;
+    private final boolean enabled;
+    private final Counter invalidations;
+
+    /**
+     * 무효화 세대. 검색 도중 무효화가 일어나면 이전 세대의 결과는 저장하지 않는다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${search.cache.enabled:true}") boolean enabled,
+            @Value("${search.cache.max-size:500}") long maxSize,
+            @Value("${search.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("search.cache.invalidations")
+                .description("Number of full search result cache invalidations")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "searchResults");
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param key 정규화된 쿼리 ({@link #normalize(String)})
+     */
+    public Optional<SearchResponseDto> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * 현재 무효화 세대. 검색 시작 전에 읽어 두었다가 {@link #put}에 넘긴다.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시 저장. 검색 도중 무효화가 발생했다면 저장하지 않는다.
+     */
+    public void put(String key, SearchResponseDto response, long startGeneration) {
+        if (!enabled || response == null) {
+            return;
+        }
+        cache.put(key, response);
+
+        // put과 무효화가 경합한 경우 방금 넣은 항목을 되돌린다
+        if (generation.get() != startGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        invalidations.increment();
+    }
+
+    @EventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.isSearchRelevant()) {
+            log.debug("Invalidating search result cache: userId={}, change={}", event.getUserId(), event.getChangeType());
+            invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onEmbeddingsUpdated(PortfolioEmbeddingsUpdatedEvent event) {
+        log.debug("Invalidating search result cache: {} portfolios re-embedded", event.getVectors().size());
+        invalidateAll();
+    }
+
+    /**
+     * 캐시 키용 쿼리 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자화)
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.experfolio.domain.search.client;
+
+import com.example.experfolio.domain.search.dto.EmbeddingRequestDto;
+import com.example.experfolio.domain.search.dto.EmbeddingResponseDto;
+import com.example.experfolio.domain.search.exception.SearchServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * AI 서버 임베딩 API 클라이언트
+ * 검색 쿼리와 포트폴리오 텍스트를 KURE 임베딩 벡터로 변환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmbeddingClient {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${ai.server.url:http://localhost:8001}")
+    private String aiServerUrl;
+
+    @Value("${ai.server.embed-endpoint:/ai/embed}")
+    private String embedEndpoint;
+
+    /**
+     * 단일 텍스트 임베딩
+     */
+    public float[] embed(String text) {
+        return embedAll(List.of(text)).get(0);
+    }
+
+    /**
+     * 여러 텍스트를 한 번의 요청으로 임베딩
+     *
+     * @return texts와 같은 순서의 벡터 목록
+     */
+    public List<float[]> embedAll(List<String> texts) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<EmbeddingRequestDto> request = new HttpEntity<>(
+                EmbeddingRequestDto.builder().texts(texts).build(), headers);
+
+        EmbeddingResponseDto response;
+        try {
+            response = restTemplate.postForObject(aiServerUrl + embedEndpoint, request, EmbeddingResponseDto.class);
+        } catch (RestClientException e) {
+            log.error("Embedding request failed for {} texts: {}", texts.size(), e.getMessage());
+            throw new SearchServiceException("임베딩 요청에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        if (response == null || response.getEmbeddings() == null || response.getEmbeddings().size() != texts.size()) {
+            throw new SearchServiceException("임베딩 응답이 올바르지 않습니다");
+        }
+        return response.getEmbeddings();
+    }
+}
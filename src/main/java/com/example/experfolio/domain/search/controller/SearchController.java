@@ -1,7 +1,11 @@
 package com.example.experfolio.domain.search.controller;
 
+import com.example.experfolio.domain.search.dto.BatchSearchRequestDto;
+import com.example.experfolio.domain.search.dto.BatchSearchResponseDto;
 import com.example.experfolio.domain.search.dto.SearchRequestDto;
 import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.dto.SearchStreamEventDto;
+import com.example.experfolio.domain.search.exception.SearchServiceException;
 import com.example.experfolio.domain.search.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,12 +17,29 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
 
 /**
  * 검색 API 컨트롤러
@@ -30,13 +51,26 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Search", description = "검색 API")
 public class SearchController {
 
+    /**
+     * 값이 있으면 응답 본문에 단계별 소요 시간(timings)과 Server-Timing 헤더를 포함
+     * (단건 검색은 {@link SearchResponseTimingAdvice}, {@link SearchResponseJsonConverter}가 처리)
+     */
+    static final String DEBUG_HEADER = "X-Search-Debug";
+
     private final SearchService searchService;
+    private final ThreadPoolTaskExecutor searchStreamExecutor;
+
+    @Value("${search.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+
+    @Value("${search.debug.timing-enabled:true}")
+    private boolean debugTimingEnabled;
 
     @PostMapping
     @PreAuthorize("hasRole('RECRUITER')")
     @Operation(
             summary = "후보자 검색",
-            description = "AI 기반 후보자 검색을 수행합니다. RECRUITER 역할만 사용 가능합니다.",
+            description = "AI 기반 후보자 검색을 수행합니다. mode=LOCAL이면 백엔드 내 벡터 검색, KEYWORD이면 키워드(BM25) 검색, HYBRID이면 두 결과를 결합한 검색을 사용합니다. pageSize를 지정하면 첫 페이지와 nextCursor를 반환합니다. X-Search-Debug 헤더를 보내면 단계별 소요 시간(timings, Server-Timing 헤더)을 함께 반환합니다. filter로 학점 범위, 전공, 학교, 자격증 조건을 지정하면 조건을 만족하는 후보자만 검색합니다. RECRUITER 역할만 사용 가능합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
@@ -70,12 +104,199 @@ public class SearchController {
             )
     })
     public ResponseEntity<SearchResponseDto> search(
+            @AuthenticationPrincipal UserDetails userDetails,
             @Valid @RequestBody SearchRequestDto request
     ) {
         log.info("Search request received with query length: {}", request.getQuery().length());
 
-        SearchResponseDto response = searchService.search(request.getQuery());
+        SearchResponseDto response = request.getPageSize() != null
+                ? searchService.searchPage(userDetails.getUsername(), request.getQuery(), request.getMode(),
+                        request.getFilter(), request.getPageSize())
+                : searchService.search(request.getQuery(), request.getMode(), request.getFilter());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(
+            summary = "검색 결과 다음 페이지",
+            description = "pageSize를 지정한 검색 응답의 nextCursor로 다음 페이지를 조회합니다. AI 서버를 다시 호출하지 않습니다. RECRUITER 역할만 사용 가능합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SearchResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "검색 세션 만료 (다시 검색 필요)"
+            )
+    })
+    public ResponseEntity<SearchResponseDto> nextPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String cursor
+    ) {
+        return ResponseEntity.ok(searchService.nextPage(userDetails.getUsername(), cursor));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(
+            summary = "후보자 배치 검색",
+            description = "여러 쿼리를 한 번에 검색합니다. 쿼리들은 제한된 동시성으로 함께 실행되고, 결과의 후보자 정보는 한 번에 조회합니다. "
+                    + "결과는 요청 순서대로 반환되며, 일부 쿼리가 실패해도 나머지 결과는 정상 반환됩니다(status=partial). "
+                    + "X-Search-Debug 헤더를 보내면 쿼리별 단계 소요 시간(timings)을 함께 반환합니다. RECRUITER 역할만 사용 가능합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "배치 검색 완료 (쿼리별 성공/실패는 results의 status 확인)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchSearchResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (쿼리 목록이 비어있거나 50개 초과, 유효하지 않은 쿼리 포함)"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (JWT 토큰이 없거나 유효하지 않음)"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (RECRUITER 역할이 아님)"
+            )
+    })
+    public ResponseEntity<BatchSearchResponseDto> searchBatch(
+            @RequestHeader(value = DEBUG_HEADER, required = false) String debug,
+            @Valid @RequestBody BatchSearchRequestDto request
+    ) {
+        log.info("Batch search request received with {} queries", request.getQueries().size());
 
+        BatchSearchResponseDto response = searchService.searchBatch(request.getQueries());
+        if (!debugTimingEnabled || !StringUtils.hasText(debug)) {
+            // 중복 쿼리는 같은 결과 객체를 공유하므로 사본에서 timings를 제거
+            response.setResults(response.getResults().stream()
+                    .map(result -> result.getResult() == null ? result : result.toBuilder()
+                            .result(result.getResult().toBuilder().timings(null).build())
+                            .build())
+                    .toList());
+        }
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping(value = "/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Operation(
+            summary = "후보자 스트리밍 검색",
+            description = "후보자를 찾는 즉시 한 명씩 전송합니다. Accept: application/x-ndjson이면 NDJSON, 그 외에는 SSE로 응답합니다. "
+                    + "이벤트 순서는 META → CANDIDATE* → DONE이며, 실패 시 ERROR 이벤트로 끝납니다. RECRUITER 역할만 사용 가능합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트림 시작",
+                    content = {
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = SearchStreamEventDto.class)),
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = SearchStreamEventDto.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (쿼리가 비어있거나 유효하지 않음)"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (JWT 토큰이 없거나 유효하지 않음)"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (RECRUITER 역할이 아님)"
+            )
+    })
+    public ResponseEntity<ResponseBodyEmitter> searchStream(
+            @Valid @RequestBody SearchRequestDto request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.info("Streaming search request received with query length: {}", request.getQuery().length());
+
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        ResponseBodyEmitter emitter = ndjson
+                ? new ResponseBodyEmitter(streamTimeoutMs)
+                : new SseEmitter(streamTimeoutMs);
+
+        try {
+            searchStreamExecutor.execute(() -> runStream(request, emitter));
+        } catch (TaskRejectedException e) {
+            log.warn("Streaming search rejected: {}", e.getMessage());
+            send(emitter, SearchStreamEventDto.error("검색 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+            emitter.complete();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.TEXT_EVENT_STREAM)
+                .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                .body(emitter);
+    }
+
+    private void runStream(SearchRequestDto request, ResponseBodyEmitter emitter) {
+        try {
+            searchService.searchStream(request.getQuery(), request.getMode(), request.getFilter(),
+                    event -> send(emitter, event));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료
+            log.debug("Streaming search client disconnected: {}", e.getMessage());
+            emitter.completeWithError(e.getCause());
+        } catch (SearchServiceException e) {
+            log.error("Streaming search failed: {}", e.getMessage());
+            sendErrorAndComplete(emitter, e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error during streaming search: {}", e.getMessage(), e);
+            sendErrorAndComplete(emitter, "검색 중 예상치 못한 오류가 발생했습니다");
+        }
+    }
+
+    private void sendErrorAndComplete(ResponseBodyEmitter emitter, String message) {
+        try {
+            send(emitter, SearchStreamEventDto.error(message));
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            emitter.completeWithError(e.getCause());
+        }
+    }
+
+    /**
+     * 이벤트 하나 전송 (SSE: type을 이벤트 이름으로, NDJSON: JSON 한 줄)
+     */
+    private void send(ResponseBodyEmitter emitter, SearchStreamEventDto event) {
+        try {
+            if (emitter instanceof SseEmitter sseEmitter) {
+                sseEmitter.send(SseEmitter.event()
+                        .name(event.getType().name().toLowerCase(Locale.ROOT))
+                        .data(event, MediaType.APPLICATION_JSON));
+            } else {
+                emitter.send(event, MediaType.APPLICATION_JSON);
+                emitter.send("\n", MediaType.TEXT_PLAIN);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.experfolio.domain.search.controller;
+
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.metrics.SearchStage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * 검색 응답(SearchResponseDto) 전용 JSON 컨버터
+ * 직렬화 시간을 단계 메트릭(serialization)으로 남기고, 응답에 timings가 있으면 Server-Timing 헤더를 붙인다.
+ * 헤더를 본문보다 먼저 보내야 하므로 본문은 버퍼에 직렬화한 뒤 한 번에 쓴다.
+ * 다른 타입은 처리하지 않으며 기본 Jackson 컨버터가 그대로 담당한다.
+ * (MappingJackson2HttpMessageConverter를 상속하면 Boot 기본 컨버터 빈이 등록되지 않으므로 추상 클래스를 상속)
+ * 빈 등록은 SearchResponseConfig에서 한다. (@WebMvcTest 슬라이스가 컨버터를 스캔해 SearchMetrics를 요구하지 않도록)
+ */
+public class SearchResponseJsonConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final SearchMetrics searchMetrics;
+
+    public SearchResponseJsonConverter(ObjectMapper objectMapper, SearchMetrics searchMetrics) {
+        super(objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.searchMetrics = searchMetrics;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return SearchResponseDto.class.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return SearchResponseDto.class.isAssignableFrom(clazz) && super.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SearchResponseDto response = (SearchResponseDto) object;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        long serializationNanos = System.nanoTime() - start;
+
+        int candidateCount = response.getCandidates() != null ? response.getCandidates().size() : 0;
+        searchMetrics.recordStage(SearchStage.SERIALIZATION, response.getMode(), SearchMetrics.OUTCOME_SUCCESS,
+                candidateCount, serializationNanos);
+
+        if (response.getTimings() != null) {
+            outputMessage.getHeaders().set("Server-Timing", serverTiming(response.getTimings(), serializationNanos));
+        }
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: ai_call;dur=812.4, enrichment;dur=3.1, serialization;dur=0.2)
+     */
+    private static String serverTiming(Map<String, Double> timings, long serializationNanos) {
+        StringBuilder header = new StringBuilder();
+        timings.forEach((stage, millis) -> header.append(stage).append(";dur=").append(millis).append(", "));
+        header.append(SearchStage.SERIALIZATION.getTag()).append(";dur=")
+                .append(Math.round(serializationNanos / 10_000.0) / 100.0);
+        return header.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.experfolio.domain.search.controller;
+
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 검색 응답의 단계별 소요 시간(timings) 노출 여부 결정
+ * X-Search-Debug 헤더가 없거나 search.debug.timing-enabled=false이면 직렬화 전에 timings를 제거한다.
+ * Server-Timing 헤더는 {@link SearchResponseJsonConverter}가 남은 timings로 만든다.
+ */
+@RestControllerAdvice(assignableTypes = SearchController.class)
+public class SearchResponseTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${search.debug.timing-enabled:true}")
+    private boolean debugTimingEnabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return SearchResponseJsonConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        boolean includeTimings = debugTimingEnabled
+                && StringUtils.hasText(request.getHeaders().getFirst(SearchController.DEBUG_HEADER));
+        if (!includeTimings && body instanceof SearchResponseDto searchResponse) {
+            searchResponse.setTimings(null);
+        }
+        return body;
+    }
+}
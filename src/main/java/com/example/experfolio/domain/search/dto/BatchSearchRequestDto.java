@@ -0,0 +1,30 @@
+package com.example.experfolio.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 검색 요청 DTO
+ * 각 쿼리는 단건 검색과 같은 형식이며, pageSize는 배치 검색에서 사용하지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "배치 검색 요청")
+public class BatchSearchRequestDto {
+
+    @NotEmpty(message = "검색 쿼리 목록은 필수입니다")
+    @Size(max = 50, message = "한 번에 최대 50개의 쿼리까지 검색 가능합니다")
+    @Valid
+    @Schema(description = "검색 쿼리 목록 (응답은 같은 순서)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<SearchRequestDto> queries;
+}
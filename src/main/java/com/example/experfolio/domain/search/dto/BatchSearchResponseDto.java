@@ -0,0 +1,38 @@
+package com.example.experfolio.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 검색 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "배치 검색 응답")
+public class BatchSearchResponseDto {
+
+    @Schema(description = "응답 상태 (모두 성공: success, 일부 실패: partial, 모두 실패: error)", example = "success")
+    private String status;
+
+    @Schema(description = "쿼리별 결과 (요청 순서)")
+    private List<BatchSearchResultDto> results;
+
+    @Schema(description = "요청 쿼리 수", example = "12")
+    private int totalQueries;
+
+    @Schema(description = "실패한 쿼리 수", example = "0")
+    private int failedQueries;
+
+    @Schema(description = "모든 쿼리 결과에 등장한 서로 다른 후보자 수", example = "87")
+    private int uniqueCandidates;
+
+    @Schema(description = "백엔드에서 측정한 배치 전체 소요 시간", example = "2.41s")
+    private String searchTime;
+}
@@ -0,0 +1,57 @@
+package com.example.experfolio.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 검색의 쿼리별 결과 DTO
+ * 쿼리 하나가 실패해도 다른 쿼리의 결과에는 영향을 주지 않는다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "배치 검색 쿼리별 결과")
+public class BatchSearchResultDto {
+
+    public static final String STATUS_SUCCESS = "success";
+    public static final String STATUS_ERROR = "error";
+
+    @Schema(description = "요청 목록에서의 위치 (0부터)", example = "0")
+    private int index;
+
+    @Schema(description = "검색 쿼리", example = "React와 TypeScript 경험이 있는 프론트엔드 개발자")
+    private String query;
+
+    @Schema(description = "쿼리 처리 결과 (success | error)", example = "success")
+    private String status;
+
+    @Schema(description = "검색 결과 (success)")
+    private SearchResponseDto result;
+
+    @Schema(description = "오류 메시지 (error)")
+    private String error;
+
+    public static BatchSearchResultDto success(int index, String query, SearchResponseDto result) {
+        return BatchSearchResultDto.builder()
+                .index(index)
+                .query(query)
+                .status(STATUS_SUCCESS)
+                .result(result)
+                .build();
+    }
+
+    public static BatchSearchResultDto error(int index, String query, String message) {
+        return BatchSearchResultDto.builder()
+                .index(index)
+                .query(query)
+                .status(STATUS_ERROR)
+                .error(message)
+                .build();
+    }
+}
@@ -13,7 +13,7 @@ import java.util.List;
  * 후보자 정보 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "후보자 정보")
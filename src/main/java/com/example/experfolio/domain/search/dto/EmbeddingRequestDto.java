@@ -0,0 +1,22 @@
+package com.example.experfolio.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버 임베딩 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingRequestDto {
+
+    @JsonProperty("texts")
+    private List<String> texts;
+}
@@ -0,0 +1,22 @@
+package com.example.experfolio.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 서버 임베딩 응답 DTO (요청 texts와 같은 순서)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingResponseDto {
+
+    @JsonProperty("embeddings")
+    private List<float[]> embeddings;
+}
@@ -0,0 +1,86 @@
+package com.example.experfolio.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 사전 필터 DTO
+ * 조건을 만족하는 포트폴리오만 검색 후보가 된다. 지정하지 않은 조건은 적용하지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "검색 필터")
+public class SearchFilterDto {
+
+    @DecimalMin(value = "0.0", message = "최소 학점은 0 이상이어야 합니다")
+    @DecimalMax(value = "4.5", message = "최소 학점은 4.5 이하여야 합니다")
+    @Schema(description = "최소 학점 (이상)", example = "3.5")
+    private Double minGpa;
+
+    @DecimalMin(value = "0.0", message = "최대 학점은 0 이상이어야 합니다")
+    @DecimalMax(value = "4.5", message = "최대 학점은 4.5 이하여야 합니다")
+    @Schema(description = "최대 학점 (이하)", example = "4.5")
+    private Double maxGpa;
+
+    @Size(max = 20, message = "전공은 최대 20개까지 지정 가능합니다")
+    @Schema(description = "전공 (하나라도 일치)", example = "[\"컴퓨터공학\", \"소프트웨어학\"]")
+    private List<String> majors;
+
+    @Size(max = 20, message = "학교는 최대 20개까지 지정 가능합니다")
+    @Schema(description = "학교 (하나라도 일치)", example = "[\"서울대학교\"]")
+    private List<String> schoolNames;
+
+    @Size(max = 20, message = "자격증은 최대 20개까지 지정 가능합니다")
+    @Schema(description = "자격증 (모두 보유)", example = "[\"정보처리기사\"]")
+    private List<String> certifications;
+
+    /**
+     * 적용할 조건이 하나도 없는지 여부
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return minGpa == null && maxGpa == null
+                && isEmpty(majors) && isEmpty(schoolNames) && isEmpty(certifications);
+    }
+
+    /**
+     * 캐시 키용 문자열 (목록은 정렬해 순서와 무관하게 같은 키)
+     */
+    @JsonIgnore
+    public String cacheKey() {
+        return "gpa=" + minGpa + "~" + maxGpa
+                + "|major=" + sortedJoin(majors)
+                + "|school=" + sortedJoin(schoolNames)
+                + "|cert=" + sortedJoin(certifications);
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.stream().allMatch(value -> value == null || value.isBlank());
+    }
+
+    private static String sortedJoin(List<String> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
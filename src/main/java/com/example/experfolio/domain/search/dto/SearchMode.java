@@ -0,0 +1,14 @@
+package com.example.experfolio.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 검색 모드
+ */
+@Schema(description = "검색 모드 (AI: AI 서버 검색, LOCAL: 백엔드 내 벡터 검색, KEYWORD: 키워드(BM25) 검색, HYBRID: 키워드 + 벡터 결과 결합)")
+public enum SearchMode {
+    AI,
+    LOCAL,
+    KEYWORD,
+    HYBRID
+}
@@ -1,6 +1,10 @@
 package com.example.experfolio.domain.search.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -15,6 +19,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "검색 요청")
 public class SearchRequestDto {
 
@@ -22,4 +27,16 @@ public class SearchRequestDto {
     @Size(max = 500, message = "검색 쿼리는 최대 500자까지 입력 가능합니다")
     @Schema(description = "검색 쿼리", example = "React와 TypeScript 경험이 있는 프론트엔드 개발자", required = true)
     private String query;
+
+    @Schema(description = "검색 모드 (기본값 AI)", example = "AI")
+    private SearchMode mode;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 100, message = "페이지 크기는 최대 100까지 가능합니다")
+    @Schema(description = "페이지 크기 (지정하면 첫 페이지와 다음 페이지 커서를 반환, 없으면 전체 목록)", example = "10")
+    private Integer pageSize;
+
+    @Valid
+    @Schema(description = "사전 필터 (조건을 만족하는 후보자만 검색)")
+    private SearchFilterDto filter;
 }
@@ -1,5 +1,6 @@
 package com.example.experfolio.domain.search.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -8,12 +9,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 검색 응답 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "검색 응답")
@@ -28,10 +30,23 @@ public class SearchResponseDto {
     private List<CandidateDto> candidates;
 
     @JsonProperty("searchTime")
-    @Schema(description = "검색 소요 시간", example = "8.17s")
+    @Schema(description = "백엔드에서 측정한 검색 소요 시간", example = "8.17s")
     private String searchTime;
 
     @JsonProperty("totalResults")
     @Schema(description = "전체 결과 수", example = "10")
     private Integer totalResults;
+
+    @JsonProperty("mode")
+    @Schema(description = "실제로 검색을 수행한 모드 (AI 서버 장애 시 LOCAL로 대체될 수 있음)", example = "AI")
+    private SearchMode mode;
+
+    @JsonProperty("nextCursor")
+    @Schema(description = "다음 페이지 커서 (페이지 검색에서만, 마지막 페이지면 null)", example = "djF8...")
+    private String nextCursor;
+
+    @JsonProperty("timings")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "단계별 소요 시간(ms). X-Search-Debug 헤더를 보낸 경우에만 포함", example = "{\"ai_call\": 812.4, \"enrichment\": 3.1, \"total\": 817.9}")
+    private Map<String, Double> timings;
 }
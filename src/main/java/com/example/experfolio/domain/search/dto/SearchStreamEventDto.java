@@ -0,0 +1,73 @@
+package com.example.experfolio.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 검색 이벤트 DTO
+ * NDJSON에서는 한 줄, SSE에서는 type을 이벤트 이름으로 하는 한 이벤트에 해당한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "스트리밍 검색 이벤트 (meta → candidate* → done | error)")
+public class SearchStreamEventDto {
+
+    public enum Type {
+        META, CANDIDATE, DONE, ERROR
+    }
+
+    @Schema(description = "이벤트 종류", example = "CANDIDATE")
+    private Type type;
+
+    @Schema(description = "후보자 (CANDIDATE)")
+    private CandidateDto candidate;
+
+    @Schema(description = "검색 모드 (META: 요청 모드, DONE: 실제 수행 모드)", example = "AI")
+    private SearchMode mode;
+
+    @Schema(description = "전체 결과 수 (DONE)", example = "10")
+    private Integer totalResults;
+
+    @Schema(description = "검색 소요 시간 (DONE)", example = "8.17s")
+    private String searchTime;
+
+    @Schema(description = "오류 메시지 (ERROR)")
+    private String message;
+
+    public static SearchStreamEventDto meta(SearchMode mode) {
+        return SearchStreamEventDto.builder()
+                .type(Type.META)
+                .mode(mode)
+                .build();
+    }
+
+    public static SearchStreamEventDto candidate(CandidateDto candidate) {
+        return SearchStreamEventDto.builder()
+                .type(Type.CANDIDATE)
+                .candidate(candidate)
+                .build();
+    }
+
+    public static SearchStreamEventDto done(SearchResponseDto response) {
+        return SearchStreamEventDto.builder()
+                .type(Type.DONE)
+                .mode(response.getMode())
+                .totalResults(response.getTotalResults())
+                .searchTime(response.getSearchTime())
+                .build();
+    }
+
+    public static SearchStreamEventDto error(String message) {
+        return SearchStreamEventDto.builder()
+                .type(Type.ERROR)
+                .message(message)
+                .build();
+    }
+}
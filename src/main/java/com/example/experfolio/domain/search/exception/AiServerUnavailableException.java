@@ -0,0 +1,15 @@
+package com.example.experfolio.domain.search.exception;
+
+/**
+ * AI 서버 호출 불가 예외 (회로 차단, 지연 예산 초과, 동시 호출 한도 초과)
+ */
+public class AiServerUnavailableException extends SearchServiceException {
+
+    public AiServerUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiServerUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.experfolio.domain.search.filter;
+
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.search.dto.SearchFilterDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 필터용 포트폴리오 속성 인덱스
+ * 포트폴리오마다 슬롯 번호를 부여하고 전공/학교/자격증 값별 BitSet과 학점 배열을 유지한다.
+ * 필터 평가는 BitSet 연산과 학점 배열 한 번 순회로 끝나므로 전체 포트폴리오에 매 쿼리 적용할 수 있다.
+ * 문자열 값은 NFKC 정규화, 소문자화, 공백 제거 후 정확히 일치하는지 비교한다.
+ */
+public class PortfolioAttributeIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> slotByUserId = new ConcurrentHashMap<>();
+    private String[] userIds = new String[1024];
+    private float[] gpas = new float[1024];
+    /**
+     * 슬롯별로 색인한 정규화 값 (삭제 시 해당 BitSet만 비우기 위함)
+     */
+    private String[][] valuesBySlot = new String[1024][];
+    private final BitSet live = new BitSet();
+    private final List<Integer> freeSlots = new ArrayList<>();
+    private int slotCount;
+
+    private final Map<String, BitSet> majorSlots = new HashMap<>();
+    private final Map<String, BitSet> schoolSlots = new HashMap<>();
+    private final Map<String, BitSet> certificationSlots = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 포트폴리오 속성 추가 또는 교체 (basicInfo가 없으면 모든 속성이 비어 있는 것으로 색인)
+     */
+    public void upsert(String userId, BasicInfo basicInfo) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(userId);
+
+            int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.remove(freeSlots.size() - 1);
+            if (slot >= userIds.length) {
+                userIds = Arrays.copyOf(userIds, userIds.length * 2);
+                gpas = Arrays.copyOf(gpas, gpas.length * 2);
+                valuesBySlot = Arrays.copyOf(valuesBySlot, valuesBySlot.length * 2);
+            }
+            userIds[slot] = userId;
+            slotByUserId.put(userId, slot);
+            live.set(slot);
+
+            gpas[slot] = basicInfo != null && basicInfo.getGpa() != null
+                    ? basicInfo.getGpa().floatValue()
+                    : Float.NaN;
+            List<String> certifications = basicInfo != null && basicInfo.getCertifications() != null
+                    ? basicInfo.getCertifications().stream()
+                            .filter(Objects::nonNull)
+                            .map(certification -> normalize(certification.getCertificationName()))
+                            .filter(name -> !name.isEmpty())
+                            .distinct()
+                            .toList()
+                    : List.of();
+            String[] values = new String[2 + certifications.size()];
+            values[0] = normalize(basicInfo != null ? basicInfo.getMajor() : null);
+            values[1] = normalize(basicInfo != null ? basicInfo.getSchoolName() : null);
+            for (int i = 0; i < certifications.size(); i++) {
+                values[2 + i] = certifications.get(i);
+            }
+            valuesBySlot[slot] = values;
+
+            addValue(majorSlots, values[0], slot);
+            addValue(schoolSlots, values[1], slot);
+            for (int i = 2; i < values.length; i++) {
+                addValue(certificationSlots, values[i], slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터를 만족하는 포트폴리오 집합
+     * 평가 시점의 스냅샷이며, 이후 색인된 포트폴리오는 포함하지 않는다.
+     */
+    public Predicate<String> matching(SearchFilterDto filter) {
+        lock.readLock().lock();
+        try {
+            BitSet eligible = (BitSet) live.clone();
+
+            intersectAny(eligible, majorSlots, filter.getMajors());
+            intersectAny(eligible, schoolSlots, filter.getSchoolNames());
+            if (filter.getCertifications() != null) {
+                for (String certification : filter.getCertifications()) {
+                    String key = normalize(certification);
+                    if (!key.isEmpty()) {
+                        eligible.and(certificationSlots.getOrDefault(key, new BitSet()));
+                    }
+                }
+            }
+
+            if (filter.getMinGpa() != null || filter.getMaxGpa() != null) {
+                float min = filter.getMinGpa() != null ? filter.getMinGpa().floatValue() : Float.NEGATIVE_INFINITY;
+                float max = filter.getMaxGpa() != null ? filter.getMaxGpa().floatValue() : Float.POSITIVE_INFINITY;
+                for (int slot = eligible.nextSetBit(0); slot >= 0; slot = eligible.nextSetBit(slot + 1)) {
+                    // 학점이 없는 포트폴리오(NaN)는 범위 비교가 항상 false
+                    if (!(gpas[slot] >= min && gpas[slot] <= max)) {
+                        eligible.clear(slot);
+                    }
+                }
+            }
+
+            // 슬롯이 재사용되면 userId가 달라지므로 함께 비교한다
+            String[] slotUserIds = userIds;
+            return userId -> {
+                Integer slot = slotByUserId.get(userId);
+                return slot != null && eligible.get(slot) && userId.equals(slotUserIds[slot]);
+            };
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(String userId) {
+        Integer slot = slotByUserId.remove(userId);
+        if (slot == null) {
+            return false;
+        }
+        live.clear(slot);
+        userIds[slot] = null;
+        gpas[slot] = Float.NaN;
+
+        String[] values = valuesBySlot[slot];
+        clearValue(majorSlots, values[0], slot);
+        clearValue(schoolSlots, values[1], slot);
+        for (int i = 2; i < values.length; i++) {
+            clearValue(certificationSlots, values[i], slot);
+        }
+        valuesBySlot[slot] = null;
+        freeSlots.add(slot);
+        return true;
+    }
+
+    private static void addValue(Map<String, BitSet> slotsByValue, String key, int slot) {
+        if (!key.isEmpty()) {
+            slotsByValue.computeIfAbsent(key, k -> new BitSet()).set(slot);
+        }
+    }
+
+    private static void clearValue(Map<String, BitSet> slotsByValue, String key, int slot) {
+        BitSet slots = slotsByValue.get(key);
+        if (slots != null) {
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByValue.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 지정한 값 중 하나라도 가진 포트폴리오만 남김 (값이 없으면 조건 미적용)
+     */
+    private static void intersectAny(BitSet eligible, Map<String, BitSet> slotsByValue, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        BitSet any = null;
+        for (String value : values) {
+            String key = normalize(value);
+            if (key.isEmpty()) {
+                continue;
+            }
+            if (any == null) {
+                any = new BitSet();
+            }
+            BitSet slots = slotsByValue.get(key);
+            if (slots != null) {
+                any.or(slots);
+            }
+        }
+        if (any != null) {
+            eligible.and(any);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll("");
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.experfolio.domain.search.keyword;
+
+import com.example.experfolio.domain.search.keyword.KeywordTokenizer.QueryWord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * BM25 역색인
+ * 문서 갱신은 새 docId로 다시 추가하고 이전 docId는 삭제 표시만 한다 (포스팅은 항상 뒤에 덧붙임).
+ * 삭제 표시가 전체의 1/3을 넘으면 docId를 다시 매겨 포스팅을 압축한다.
+ * 문서 빈도(df)는 Lucene과 같이 압축 전까지 삭제된 문서를 포함한다.
+ */
+public class InvertedIndex {
+
+    private static final int MIN_DELETED_FOR_COMPACTION = 64;
+
+    private final float k1;
+    private final float b;
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docIdByUserId = new HashMap<>();
+    private List<String> userIdByDocId = new ArrayList<>();
+    private int[] docLengths = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int deletedCount;
+    private long totalLiveLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(float k1, float b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    public InvertedIndex() {
+        this(1.2f, 0.75f);
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     *
+     * @param tokens {@link KeywordTokenizer#tokenize(String)} 결과
+     */
+    public void upsert(String userId, List<String> tokens) {
+        Map<String, Integer> termFreqs = new LinkedHashMap<>();
+        for (String token : tokens) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(userId);
+            if (termFreqs.isEmpty()) {
+                return;
+            }
+
+            int docId = userIdByDocId.size();
+            userIdByDocId.add(userId);
+            docIdByUserId.put(userId, docId);
+            if (docId >= docLengths.length) {
+                docLengths = Arrays.copyOf(docLengths, docLengths.length * 2);
+            }
+            docLengths[docId] = tokens.size();
+            totalLiveLength += tokens.size();
+
+            termFreqs.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new PostingList()).add(docId, freq));
+
+            if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount * 3 > userIdByDocId.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 상위 k개 검색
+     */
+    public List<KeywordHit> search(List<QueryWord> queryWords, int k) {
+        return search(queryWords, k, null);
+    }
+
+    /**
+     * 조건을 만족하는 문서 중 BM25 상위 k개 검색
+     *
+     * @param filter userId 조건 (null이면 전체). 일치하는 문서에만 평가한다.
+     */
+    public List<KeywordHit> search(List<QueryWord> queryWords, int k, Predicate<String> filter) {
+        if (queryWords.isEmpty() || k <= 0) {
+            return List.of();
+        }
+
+        // 같은 토큰이 여러 단어에 나오면 한 번만 점수에 반영하고 단어 표시는 모두 남긴다
+        Map<String, Long> wordMaskByTerm = new LinkedHashMap<>();
+        for (int w = 0; w < Math.min(queryWords.size(), Long.SIZE); w++) {
+            for (String token : queryWords.get(w).getTokens()) {
+                wordMaskByTerm.merge(token, 1L << w, (left, right) -> left | right);
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = size();
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLiveLength / liveDocs;
+            int maxDocId = userIdByDocId.size();
+
+            float[] scores = new float[maxDocId];
+            long[] matchedWords = new long[maxDocId];
+            BitSet touched = new BitSet(maxDocId);
+
+            for (Map.Entry<String, Long> entry : wordMaskByTerm.entrySet()) {
+                PostingList postingList = postings.get(entry.getKey());
+                if (postingList == null) {
+                    continue;
+                }
+                int df = postingList.docFreq();
+                float idf = (float) Math.max(0, Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5)));
+
+                PostingList.Cursor cursor = postingList.cursor();
+                while (cursor.next()) {
+                    int docId = cursor.docId();
+                    if (deleted.get(docId)) {
+                        continue;
+                    }
+                    int tf = cursor.termFreq();
+                    float norm = k1 * (1 - b + b * docLengths[docId] / averageLength);
+                    scores[docId] += idf * (tf * (k1 + 1)) / (tf + norm);
+                    matchedWords[docId] |= entry.getValue();
+                    touched.set(docId);
+                }
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingDouble(docId -> scores[docId]));
+            for (int docId = touched.nextSetBit(0); docId >= 0; docId = touched.nextSetBit(docId + 1)) {
+                if (filter != null && !filter.test(userIdByDocId.get(docId))) {
+                    continue;
+                }
+                if (top.size() < k) {
+                    top.add(docId);
+                } else if (scores[docId] > scores[top.peek()]) {
+                    top.poll();
+                    top.add(docId);
+                }
+            }
+
+            KeywordHit[] hits = new KeywordHit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int docId = top.poll();
+                hits[i] = new KeywordHit(userIdByDocId.get(docId), scores[docId], matchedWordList(queryWords, matchedWords[docId]));
+            }
+            return List.of(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 (삭제되지 않은) 문서 수
+     */
+    public int size() {
+        return userIdByDocId.size() - deletedCount;
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 포스팅 압축 데이터 크기 (바이트)
+     */
+    public long postingsSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(PostingList::sizeInBytes).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(String userId) {
+        Integer docId = docIdByUserId.remove(userId);
+        if (docId == null) {
+            return false;
+        }
+        deleted.set(docId);
+        deletedCount++;
+        totalLiveLength -= docLengths[docId];
+        return true;
+    }
+
+    /**
+     * 삭제된 문서를 제거하고 docId를 0부터 다시 매김
+     */
+    private void compact() {
+        int maxDocId = userIdByDocId.size();
+        int[] remap = new int[maxDocId];
+        List<String> compactedUserIds = new ArrayList<>(maxDocId - deletedCount);
+        int[] compactedLengths = new int[Math.max(1024, maxDocId - deletedCount)];
+
+        for (int docId = 0; docId < maxDocId; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+            } else {
+                int newDocId = compactedUserIds.size();
+                remap[docId] = newDocId;
+                compactedUserIds.add(userIdByDocId.get(docId));
+                compactedLengths[newDocId] = docLengths[docId];
+            }
+        }
+
+        Map<String, PostingList> compactedPostings = new HashMap<>();
+        postings.forEach((term, postingList) -> {
+            PostingList compacted = postingList.remap(remap);
+            if (compacted.docFreq() > 0) {
+                compactedPostings.put(term, compacted);
+            }
+        });
+
+        postings = compactedPostings;
+        userIdByDocId = compactedUserIds;
+        docLengths = compactedLengths;
+        deleted = new BitSet();
+        deletedCount = 0;
+        docIdByUserId.replaceAll((userId, docId) -> remap[docId]);
+    }
+
+    private static List<String> matchedWordList(List<QueryWord> queryWords, long mask) {
+        List<String> words = new ArrayList<>(Long.bitCount(mask));
+        for (int w = 0; w < Math.min(queryWords.size(), Long.SIZE); w++) {
+            if ((mask & (1L << w)) != 0) {
+                words.add(queryWords.get(w).getWord());
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.experfolio.domain.search.keyword;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 키워드 검색 결과 (userId, BM25 점수, 일치한 쿼리 단어)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeywordHit {
+
+    private final String userId;
+    private final float score;
+    private final List<String> matchedWords;
+}
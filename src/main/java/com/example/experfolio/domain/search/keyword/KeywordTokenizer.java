@@ -0,0 +1,120 @@
+package com.example.experfolio.domain.search.keyword;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 키워드 검색용 토크나이저
+ * 형태소 분석기 없이 한국어 조사 결합("서울대학교에서")을 다루기 위해 한글 구간은 음절 bigram으로,
+ * 그 외(영문/숫자)는 단어 단위로 자른다. "c++", "c#", "node.js" 같은 기술 용어는 기호를 유지한다.
+ */
+public final class KeywordTokenizer {
+
+    private KeywordTokenizer() {
+    }
+
+    /**
+     * 문서 색인용 토큰 목록 (중복 포함, 문서 길이 = 토큰 수)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            appendTokens(word, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 쿼리를 단어별 토큰 목록으로 분리 (어떤 검색어가 일치했는지 표시하기 위함)
+     */
+    public static List<QueryWord> tokenizeQuery(String query) {
+        List<QueryWord> queryWords = new ArrayList<>();
+        for (String word : words(query)) {
+            List<String> tokens = new ArrayList<>();
+            appendTokens(word, tokens);
+            if (!tokens.isEmpty()) {
+                queryWords.add(new QueryWord(word, tokens));
+            }
+        }
+        return queryWords;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c) || (!current.isEmpty() && isTechSymbol(c))) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(trimTrailingDots(current));
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(trimTrailingDots(current));
+        }
+        words.removeIf(String::isEmpty);
+        return words;
+    }
+
+    /**
+     * 단어를 한글 구간과 그 외 구간으로 나눠 토큰 생성
+     */
+    private static void appendTokens(String word, List<String> tokens) {
+        int start = 0;
+        while (start < word.length()) {
+            boolean hangul = isHangul(word.charAt(start));
+            int end = start + 1;
+            while (end < word.length() && isHangul(word.charAt(end)) == hangul) {
+                end++;
+            }
+
+            String segment = word.substring(start, end);
+            if (hangul && segment.length() > 1) {
+                for (int i = 0; i + 1 < segment.length(); i++) {
+                    tokens.add(segment.substring(i, i + 2));
+                }
+            } else {
+                tokens.add(segment);
+            }
+            start = end;
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isTechSymbol(char c) {
+        return c == '+' || c == '#' || c == '.';
+    }
+
+    private static String trimTrailingDots(StringBuilder word) {
+        int end = word.length();
+        while (end > 0 && word.charAt(end - 1) == '.') {
+            end--;
+        }
+        return word.substring(0, end);
+    }
+
+    /**
+     * 쿼리 단어와 그 토큰
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class QueryWord {
+        private final String word;
+        private final List<String> tokens;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.experfolio.domain.search.keyword;
+
+import java.util.Arrays;
+
+/**
+ * 압축된 포스팅 리스트
+ * (docId 차이, 단어 빈도) 쌍을 가변 길이 정수(varint)로 이어 붙여 저장한다.
+ * docId는 항상 증가하는 순서로만 추가된다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int docFreq;
+
+    void add(int docId, int termFreq) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId must increase: " + docId + " <= " + lastDocId);
+        }
+        ensureCapacity(10);
+        writeVarInt(docId - lastDocId);
+        writeVarInt(termFreq);
+        lastDocId = docId;
+        docFreq++;
+    }
+
+    /**
+     * 포스팅을 가진 문서 수 (삭제 표시된 문서 포함)
+     */
+    int docFreq() {
+        return docFreq;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * 삭제된 문서를 제외하고 docId를 다시 매긴 포스팅 리스트 (remap[docId] < 0이면 삭제)
+     */
+    PostingList remap(int[] remap) {
+        PostingList compacted = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            int newDocId = remap[cursor.docId()];
+            if (newDocId >= 0) {
+                compacted.add(newDocId, cursor.termFreq());
+            }
+        }
+        return compacted;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 순차 디코더
+     */
+    final class Cursor {
+
+        private int position;
+        private int docId = -1;
+        private int termFreq;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docId += readVarInt();
+            termFreq = readVarInt();
+            return true;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int termFreq() {
+            return termFreq;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
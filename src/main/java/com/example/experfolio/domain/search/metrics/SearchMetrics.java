@@ -0,0 +1,104 @@
+package com.example.experfolio.domain.search.metrics;
+
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.global.warmup.WarmUpContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 지연 메트릭
+ * 전체 검색 시간(search.duration)과 단계별 시간(search.stage.duration)을
+ * 검색 모드, 결과(outcome), 후보자 수 구간 태그와 함께 히스토그램으로 기록한다.
+ * 기동 워밍업 검색({@link WarmUpContext})은 기록하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMetrics {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_CACHE_HIT = "cache_hit";
+    public static final String OUTCOME_FALLBACK = "fallback";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 검색 한 건의 전체 시간과 기록된 모든 단계 시간
+     */
+    public void record(SearchMode mode, String outcome, int candidateCount, SearchStageTimer timer) {
+        if (WarmUpContext.isActive()) {
+            return;
+        }
+        Tags tags = tags(mode, outcome, candidateCount);
+
+        timer(Timer.builder("search.duration")
+                .description("End-to-end search latency inside the backend"), tags)
+                .record(timer.elapsedNanos(), TimeUnit.NANOSECONDS);
+        timer.getStageNanos().forEach((stage, nanos) -> recordStage(stage, tags, nanos));
+
+        DistributionSummary.builder("search.candidates")
+                .description("Number of candidates returned per search")
+                .tag("mode", modeTag(mode))
+                .register(meterRegistry)
+                .record(candidateCount);
+    }
+
+    /**
+     * 단일 단계 시간 (검색 이후 컨트롤러의 직렬화 등)
+     */
+    public void recordStage(SearchStage stage, SearchMode mode, String outcome, int candidateCount, long nanos) {
+        if (WarmUpContext.isActive()) {
+            return;
+        }
+        recordStage(stage, tags(mode, outcome, candidateCount), nanos);
+    }
+
+    private void recordStage(SearchStage stage, Tags tags, long nanos) {
+        timer(Timer.builder("search.stage.duration")
+                .description("Search latency per processing stage"), tags.and("stage", stage.getTag()))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(Timer.Builder builder, Tags tags) {
+        return builder
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private static Tags tags(SearchMode mode, String outcome, int candidateCount) {
+        return Tags.of("mode", modeTag(mode), "outcome", outcome, "candidates", candidateBucket(candidateCount));
+    }
+
+    private static String modeTag(SearchMode mode) {
+        return mode != null ? mode.name() : "NONE";
+    }
+
+    /**
+     * 후보자 수 구간 (태그 카디널리티 제한)
+     */
+    static String candidateBucket(int count) {
+        if (count == 0) {
+            return "0";
+        } else if (count <= 10) {
+            return "1-10";
+        } else if (count <= 50) {
+            return "11-50";
+        } else if (count <= 200) {
+            return "51-200";
+        }
+        return "200+";
+    }
+}
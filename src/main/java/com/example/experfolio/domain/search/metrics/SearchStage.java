@@ -0,0 +1,22 @@
+package com.example.experfolio.domain.search.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 처리 단계 (메트릭 stage 태그와 응답 timings 키)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchStage {
+    CACHE_LOOKUP("cache_lookup"),
+    FILTER("filter"),
+    AI_CALL("ai_call"),
+    VECTOR_SEARCH("vector_search"),
+    KEYWORD_SEARCH("keyword_search"),
+    MAPPING("mapping"),
+    ENRICHMENT("enrichment"),
+    SERIALIZATION("serialization");
+
+    private final String tag;
+}
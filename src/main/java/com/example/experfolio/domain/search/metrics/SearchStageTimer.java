@@ -0,0 +1,66 @@
+package com.example.experfolio.domain.search.metrics;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 단계별 소요 시간 기록기
+ * 한 요청을 처리하는 스레드에서만 사용한다. 같은 단계를 여러 번 거치면 시간을 합산한다.
+ */
+public class SearchStageTimer {
+
+    private final long startNanos = System.nanoTime();
+    private final Map<SearchStage, Long> stageNanos = new EnumMap<>(SearchStage.class);
+
+    public <T> T time(SearchStage stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void time(SearchStage stage, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void add(SearchStage stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+    }
+
+    /**
+     * 기록된 단계별 시간 (나노초, 단계 순서대로)
+     */
+    public Map<SearchStage, Long> getStageNanos() {
+        return stageNanos;
+    }
+
+    /**
+     * 생성 이후 경과 시간 (나노초)
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 응답용 단계별 시간 (밀리초, 소수점 둘째 자리) + 전체 시간(total)
+     */
+    public Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        stageNanos.forEach((stage, nanos) -> millis.put(stage.getTag(), toMillis(nanos)));
+        millis.put("total", toMillis(elapsedNanos()));
+        return millis;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
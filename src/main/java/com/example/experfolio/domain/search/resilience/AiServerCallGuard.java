@@ -0,0 +1,353 @@
+package com.example.experfolio.domain.search.resilience;
+
+import com.example.experfolio.domain.search.exception.AiServerUnavailableException;
+import com.example.experfolio.global.warmup.WarmUpContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 호출 보호 계층
+ * - 지연 예산: 요청 스레드는 search.ai.budget-ms까지만 기다린다. (HTTP read timeout 30초와 무관)
+ * - 회로 차단: 실패가 누적되면 일정 시간 호출 없이 즉시 실패한다.
+ * - 헤지 요청: 최근 p95 응답 시간이 지나도 응답이 없으면 같은 요청을 한 번 더 보내 먼저 온 응답을 사용한다.
+ * 호출은 크기가 제한된 전용 풀에서 실행되므로 AI 서버가 느려져도 Tomcat 스레드가 묶이지 않는다.
+ *
+ * 빈으로 등록되는 인스턴스는 /ai/search 호출용(search.ai.*)이다. 다른 엔드포인트는 회로가 서로 영향을 주지 않도록
+ * 메트릭 접두사를 달리한 별도 인스턴스를 사용한다. (예: 로컬 검색의 쿼리 임베딩)
+ *
+ * 기동 워밍업 호출({@link WarmUpContext})은 회로의 성공/실패와 헤지 지연 계산에 반영하지 않는다.
+ * 아직 데워지지 않은 AI 서버의 느린 첫 응답으로 회로가 열리거나 헤지 지연이 늘어나지 않게 하기 위함이다.
+ */
+@Slf4j
+@Component
+public class AiServerCallGuard {
+
+    private static final int MIN_HEDGE_SAMPLES = 20;
+
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyTracker latencyTracker = new LatencyTracker(200);
+    private final ThreadPoolExecutor executor;
+
+    private final long budgetNanos;
+    private final boolean hedgeEnabled;
+    private final long defaultHedgeDelayNanos;
+    private final long minHedgeDelayNanos;
+    private final double hedgePercentile;
+
+    private final Counter rejectedByCircuit;
+    private final Counter rejectedByBulkhead;
+    private final Counter budgetExceeded;
+    private final Counter hedgesSent;
+    private final Counter hedgeWins;
+    private final MeterRegistry meterRegistry;
+    private final String metricPrefix;
+
+    @Autowired
+    public AiServerCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${search.ai.budget-ms:10000}") long budgetMs,
+            @Value("${search.ai.max-concurrent-calls:32}") int maxConcurrentCalls,
+            @Value("${search.ai.circuit.window-size:20}") int windowSize,
+            @Value("${search.ai.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${search.ai.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${search.ai.circuit.open-duration-ms:30000}") long openDurationMs,
+            @Value("${search.ai.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${search.ai.hedge.default-delay-ms:3000}") long defaultHedgeDelayMs,
+            @Value("${search.ai.hedge.min-delay-ms:200}") long minHedgeDelayMs,
+            @Value("${search.ai.hedge.percentile:0.95}") double hedgePercentile) {
+        this("search.ai", "ai-call-", meterRegistry, budgetMs, maxConcurrentCalls, windowSize, minimumCalls,
+                failureRateThreshold, openDurationMs, hedgeEnabled, defaultHedgeDelayMs, minHedgeDelayMs,
+                hedgePercentile);
+    }
+
+    /**
+     * @param metricPrefix 메트릭 이름 접두사 (예: search.ai → search.ai.rejected)
+     * @param threadPrefix 호출 스레드 이름 접두사
+     */
+    public AiServerCallGuard(String metricPrefix, String threadPrefix, MeterRegistry meterRegistry,
+                             long budgetMs, int maxConcurrentCalls, int windowSize, int minimumCalls,
+                             double failureRateThreshold, long openDurationMs, boolean hedgeEnabled,
+                             long defaultHedgeDelayMs, long minHedgeDelayMs, double hedgePercentile) {
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        this.hedgeEnabled = hedgeEnabled;
+        this.defaultHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(defaultHedgeDelayMs);
+        this.minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(minHedgeDelayMs);
+        this.hedgePercentile = hedgePercentile;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs,
+                System::nanoTime, this::onStateTransition);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.rejectedByCircuit = Counter.builder(metricPrefix + ".rejected")
+                .tag("reason", "circuit_open")
+                .description("AI server calls rejected without being sent")
+                .register(meterRegistry);
+        this.rejectedByBulkhead = Counter.builder(metricPrefix + ".rejected")
+                .tag("reason", "bulkhead_full")
+                .description("AI server calls rejected without being sent")
+                .register(meterRegistry);
+        this.budgetExceeded = Counter.builder(metricPrefix + ".budget.exceeded")
+                .description("AI server calls abandoned after the latency budget")
+                .register(meterRegistry);
+        this.hedgesSent = Counter.builder(metricPrefix + ".hedge.sent")
+                .description("Hedged (duplicate) AI server requests sent")
+                .register(meterRegistry);
+        this.hedgeWins = Counter.builder(metricPrefix + ".hedge.wins")
+                .description("Hedged requests that answered before the original")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("AI server circuit state (0=closed, 1=half-open, 2=open)")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".hedge.delay", this, guard -> guard.hedgeDelayNanos() / 1_000_000.0)
+                .description("Current hedge delay derived from recent latency")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * AI 서버 호출 실행
+     * 호출이 던진 예외(HttpClientErrorException 등)는 그대로 다시 던지며,
+     * 회로 차단·예산 초과·동시 호출 한도 초과 시에는 {@link AiServerUnavailableException}을 던진다.
+     */
+    public <T> T call(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejectedByCircuit.increment();
+            throw new AiServerUnavailableException("AI 서버 오류가 반복되어 호출이 일시 차단되었습니다");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        CompletableFuture<T> primary;
+        try {
+            primary = submit(call);
+        } catch (RejectedExecutionException e) {
+            // 호출하지 않았으므로 회로 결과에 반영하지 않는다
+            circuitBreaker.releasePermission();
+            rejectedByBulkhead.increment();
+            throw new AiServerUnavailableException("AI 서버 동시 호출 한도를 초과했습니다", e);
+        }
+
+        CompletableFuture<T> hedge = null;
+        try {
+            long hedgeDelay = hedgeDelayNanos();
+            if (hedgeEnabled && hedgeDelay < budgetNanos) {
+                try {
+                    return succeeded(primary.get(hedgeDelay, TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    hedge = trySubmitHedge(call);
+                }
+            }
+
+            CompletableFuture<T> winner = hedge != null ? firstSuccessful(primary, hedge) : primary;
+            T result = winner.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (hedge != null && hedge.isDone() && !hedge.isCompletedExceptionally()
+                    && (!primary.isDone() || primary.isCompletedExceptionally())) {
+                hedgeWins.increment();
+            }
+            return succeeded(result);
+
+        } catch (TimeoutException e) {
+            budgetExceeded.increment();
+            recordFailure();
+            throw new AiServerUnavailableException(
+                    "AI 서버가 " + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + "ms 안에 응답하지 않았습니다", e);
+
+        } catch (ExecutionException e) {
+            throw failed(e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission();
+            throw new AiServerUnavailableException("AI 서버 호출이 중단되었습니다", e);
+
+        } finally {
+            // 남은 시도는 취소 (이미 보낸 HTTP 요청은 전용 풀 스레드에서 read timeout까지 정리된다)
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 스트리밍 AI 서버 호출 실행 (헤지 없음)
+     * 지연 예산은 응답이 시작될 때까지만 적용하고, 이후에는 스트림이 끝날 때까지 기다린다.
+     * 호출은 응답 본문을 읽기 시작할 때 전달받은 onResponseStarted를 실행해야 한다.
+     * 결과는 {@link #call(Supplier)}와 같이 회로에 기록된다.
+     */
+    public <T> T callStreaming(Function<Runnable, T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rejectedByCircuit.increment();
+            throw new AiServerUnavailableException("AI 서버 오류가 반복되어 호출이 일시 차단되었습니다");
+        }
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        CompletableFuture<T> stream;
+        try {
+            stream = CompletableFuture.supplyAsync(() -> call.apply(() -> started.complete(null)), executor);
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.releasePermission();
+            rejectedByBulkhead.increment();
+            throw new AiServerUnavailableException("AI 서버 동시 호출 한도를 초과했습니다", e);
+        }
+
+        try {
+            CompletableFuture.anyOf(started, stream).get(budgetNanos, TimeUnit.NANOSECONDS);
+            return succeeded(stream.get());
+
+        } catch (TimeoutException e) {
+            budgetExceeded.increment();
+            recordFailure();
+            stream.cancel(true);
+            throw new AiServerUnavailableException(
+                    "AI 서버가 " + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + "ms 안에 응답하지 않았습니다", e);
+
+        } catch (ExecutionException e) {
+            throw failed(e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission();
+            stream.cancel(true);
+            throw new AiServerUnavailableException("AI 서버 호출이 중단되었습니다", e);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T succeeded(T result) {
+        recordSuccess();
+        return result;
+    }
+
+    /**
+     * 호출이 던진 예외를 회로에 기록하고 호출자에게 던질 예외로 변환
+     */
+    private RuntimeException failed(Throwable cause) {
+        if (cause instanceof HttpClientErrorException) {
+            // 잘못된 요청은 서버 장애가 아니다
+            recordSuccess();
+        } else {
+            recordFailure();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new AiServerUnavailableException("AI 서버 호출 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+    }
+
+    /**
+     * 회로 결과 기록 (워밍업 호출은 허가만 반납)
+     */
+    private void recordSuccess() {
+        if (WarmUpContext.isActive()) {
+            circuitBreaker.releasePermission();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void recordFailure() {
+        if (WarmUpContext.isActive()) {
+            circuitBreaker.releasePermission();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        // 호출 스레드의 워밍업 표시는 전용 풀 스레드로 전달되지 않으므로 미리 확인
+        boolean warmUp = WarmUpContext.isActive();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            T result = call.get();
+            if (!warmUp) {
+                latencyTracker.record(System.nanoTime() - start);
+            }
+            return result;
+        }, executor);
+    }
+
+    private <T> CompletableFuture<T> trySubmitHedge(Supplier<T> call) {
+        try {
+            CompletableFuture<T> hedge = submit(call);
+            hedgesSent.increment();
+            log.debug("Sent hedged AI server request after {}ms", hedgeDelayNanos() / 1_000_000);
+            return hedge;
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 먼저 성공한 응답으로 완료되고, 둘 다 실패하면 마지막 실패로 완료되는 future
+     */
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<T> attempt : List.of(first, second)) {
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error instanceof CompletionException
+                            && error.getCause() != null ? error.getCause() : error);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 헤지 지연: 최근 응답 시간의 백분위수 (샘플이 부족하면 기본값)
+     */
+    private long hedgeDelayNanos() {
+        if (latencyTracker.count() < MIN_HEDGE_SAMPLES) {
+            return defaultHedgeDelayNanos;
+        }
+        return Math.max(minHedgeDelayNanos, latencyTracker.percentile(hedgePercentile));
+    }
+
+    private void onStateTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        log.warn("AI server circuit [{}] {} -> {}", metricPrefix, from, to);
+        meterRegistry.counter(metricPrefix + ".circuit.transitions", Tags.of("from", from.name(), "to", to.name()))
+                .increment();
+    }
+}
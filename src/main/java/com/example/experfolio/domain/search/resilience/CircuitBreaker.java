@@ -0,0 +1,137 @@
+package com.example.experfolio.domain.search.resilience;
+
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과 기반 회로 차단기
+ * 최근 windowSize번 중 실패율이 임계치를 넘으면 OPEN으로 전환해 호출을 즉시 거부하고,
+ * openDuration이 지나면 HALF_OPEN에서 시험 호출 한 건만 허용해 결과에 따라 CLOSED/OPEN으로 돌아간다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+    private final BiConsumer<State, State> transitionListener;
+
+    /**
+     * 최근 호출 결과 (true = 실패) 링 버퍼
+     */
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMs,
+                          LongSupplier nanoClock, BiConsumer<State, State> transitionListener) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Invalid circuit breaker window: " + windowSize + "/" + minimumCalls);
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMs * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * 호출 허용 여부. true를 받은 호출자는 반드시 {@link #onSuccess()} 또는 {@link #onFailure()}를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            resetWindow();
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && (double) failures / recordedCalls >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 결과 없이 허용을 반납 (호출을 보내지 못한 경우)
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failures++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        openedAt = nanoClock.getAsLong();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        outcomeIndex = 0;
+        recordedCalls = 0;
+        failures = 0;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        if (previous != next && transitionListener != null) {
+            transitionListener.accept(previous, next);
+        }
+    }
+}
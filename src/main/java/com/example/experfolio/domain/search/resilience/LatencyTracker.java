@@ -0,0 +1,44 @@
+package com.example.experfolio.domain.search.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 링 버퍼 (헤지 지연 계산용 백분위수)
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    public LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * @param percentile 0.0 ~ 1.0
+     * @return 백분위수 (나노초), 샘플이 없으면 -1
+     */
+    public long percentile(double percentile) {
+        long[] copy;
+        synchronized (this) {
+            if (count == 0) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(copy);
+        int rank = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.max(0, Math.min(rank, copy.length - 1))];
+    }
+}
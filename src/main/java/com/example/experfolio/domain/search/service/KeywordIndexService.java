@@ -0,0 +1,201 @@
+package com.example.experfolio.domain.search.service;
+
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.service.SearchableTextBuilder;
+import com.example.experfolio.domain.search.dto.SearchFilterDto;
+import com.example.experfolio.domain.search.filter.PortfolioAttributeIndex;
+import com.example.experfolio.domain.search.keyword.InvertedIndex;
+import com.example.experfolio.domain.search.keyword.KeywordHit;
+import com.example.experfolio.domain.search.keyword.KeywordTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 백엔드 내 키워드(BM25) 검색 서비스
+ * 포트폴리오의 BasicInfo와 아이템 텍스트({@link SearchableTextBuilder})를 역색인에 적재하고,
+ * 같은 문서로 검색 필터용 속성 인덱스(학점, 전공, 학교, 자격증)도 함께 유지한다.
+ * PortfolioService의 변경 이벤트마다 해당 포트폴리오만 다시 색인하고,
+ * 주기적으로 updatedAt을 비교해 이벤트를 놓친 변경(다른 인스턴스 등)을 반영한다.
+ */
+@Slf4j
+@Service
+public class KeywordIndexService {
+
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    /**
+     * updatedAt이 없는 포트폴리오의 버전 값
+     */
+    private static final LocalDateTime UNKNOWN_VERSION = LocalDateTime.MIN;
+
+    private final MongoTemplate mongoTemplate;
+    private final SearchableTextBuilder searchableTextBuilder;
+    private final InvertedIndex index = new InvertedIndex();
+    private final PortfolioAttributeIndex attributeIndex = new PortfolioAttributeIndex();
+
+    /**
+     * 색인에 반영된 userId → updatedAt
+     */
+    private final Map<String, LocalDateTime> indexedVersions = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public KeywordIndexService(
+            MongoTemplate mongoTemplate,
+            SearchableTextBuilder searchableTextBuilder,
+            MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.searchableTextBuilder = searchableTextBuilder;
+
+        Gauge.builder("search.keyword.index.size", index, InvertedIndex::size)
+                .description("Number of portfolios in the keyword search index")
+                .register(meterRegistry);
+        Gauge.builder("search.keyword.index.postings.bytes", index, InvertedIndex::postingsSizeInBytes)
+                .description("Compressed size of keyword index posting lists")
+                .register(meterRegistry);
+    }
+
+    /**
+     * BM25 상위 k명 검색
+     */
+    public List<KeywordHit> search(String query, int k) {
+        return search(query, k, null);
+    }
+
+    /**
+     * 필터를 만족하는 포트폴리오 중 BM25 상위 k명 검색
+     *
+     * @param filter 검색 대상 userId 조건 (null이면 전체)
+     */
+    public List<KeywordHit> search(String query, int k, Predicate<String> filter) {
+        return index.search(KeywordTokenizer.tokenizeQuery(query), k, filter);
+    }
+
+    /**
+     * 검색 필터를 만족하는 userId 조건
+     */
+    public Predicate<String> matching(SearchFilterDto filter) {
+        return attributeIndex.matching(filter);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 단일 포트폴리오 색인 (기존 문서는 교체)
+     */
+    public void index(Portfolio portfolio) {
+        index.upsert(portfolio.getUserId(), KeywordTokenizer.tokenize(searchableTextBuilder.build(portfolio)));
+        attributeIndex.upsert(portfolio.getUserId(), portfolio.getBasicInfo());
+        indexedVersions.put(portfolio.getUserId(), Objects.requireNonNullElse(portfolio.getUpdatedAt(), UNKNOWN_VERSION));
+    }
+
+    public void remove(String userId) {
+        index.remove(userId);
+        attributeIndex.remove(userId);
+        indexedVersions.remove(userId);
+    }
+
+    /**
+     * MongoDB와 색인 동기화
+     * updatedAt만 먼저 읽어 바뀐 포트폴리오를 찾고, 해당 포트폴리오만 다시 읽어 색인한다.
+     */
+    @Scheduled(
+            initialDelayString = "${search.keyword.initial-delay-ms:0}",
+            fixedDelayString = "${search.keyword.refresh-interval-ms:300000}"
+    )
+    public void sync() {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            Map<String, LocalDateTime> current = loadVersions();
+
+            List<String> changed = new ArrayList<>();
+            current.forEach((userId, updatedAt) -> {
+                if (!updatedAt.equals(indexedVersions.get(userId))) {
+                    changed.add(userId);
+                }
+            });
+            List<String> removed = indexedVersions.keySet().stream()
+                    .filter(userId -> !current.containsKey(userId))
+                    .toList();
+
+            for (int from = 0; from < changed.size(); from += SYNC_BATCH_SIZE) {
+                loadPortfolios(changed.subList(from, Math.min(from + SYNC_BATCH_SIZE, changed.size())))
+                        .forEach(this::index);
+            }
+            removed.forEach(this::remove);
+
+            ready = true;
+
+            log.info("Keyword index synced: size={}, terms={}, postings={}B, changed={}, removed={} in {}ms",
+                    index.size(), index.termCount(), index.postingsSizeInBytes(), changed.size(), removed.size(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Failed to sync keyword index: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 포트폴리오 변경 직후 해당 문서만 다시 색인
+     */
+    @EventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (!event.isSearchRelevant()) {
+            return;
+        }
+        if (event.getChangeType() == PortfolioChangedEvent.ChangeType.DELETED) {
+            remove(event.getUserId());
+            return;
+        }
+
+        try {
+            List<Portfolio> portfolios = loadPortfolios(List.of(event.getUserId()));
+            if (portfolios.isEmpty()) {
+                remove(event.getUserId());
+            } else {
+                portfolios.forEach(this::index);
+            }
+        } catch (Exception e) {
+            // 다음 동기화에서 반영된다
+            log.warn("Failed to re-index portfolio for userId {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    private Map<String, LocalDateTime> loadVersions() {
+        Query query = new Query();
+        query.fields().include("userId").include("updatedAt");
+
+        Map<String, LocalDateTime> versions = new HashMap<>();
+        try (Stream<Portfolio> portfolios = mongoTemplate.stream(query, Portfolio.class)) {
+            portfolios.forEach(portfolio -> versions.put(portfolio.getUserId(),
+                    Objects.requireNonNullElse(portfolio.getUpdatedAt(), UNKNOWN_VERSION)));
+        }
+        return versions;
+    }
+
+    private List<Portfolio> loadPortfolios(List<String> userIds) {
+        Query query = new Query(Criteria.where("userId").in(userIds));
+        query.fields().include("userId").include("basicInfo").include("portfolioItems").include("updatedAt");
+        return mongoTemplate.find(query, Portfolio.class);
+    }
+}
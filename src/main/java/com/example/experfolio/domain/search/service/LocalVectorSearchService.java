@@ -0,0 +1,262 @@
+package com.example.experfolio.domain.search.service;
+
+import com.example.experfolio.domain.portfolio.document.Embeddings;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioEmbeddingsUpdatedEvent;
+import com.example.experfolio.domain.search.client.EmbeddingClient;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.vector.ExactVectorIndex;
+import com.example.experfolio.domain.search.vector.HnswIndex;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.example.experfolio.domain.search.vector.VectorIndex;
+import com.example.experfolio.domain.search.vector.VectorOps;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 백엔드 내 벡터 검색 서비스
+ * 모든 포트폴리오의 Embeddings.kureVector를 메모리 인덱스에 적재하고,
+ * 쿼리 임베딩과의 코사인 유사도로 상위 k명을 찾는다. AI 서버 검색의 저지연 모드이자 장애 시 대체 경로다.
+ *
+ * 인덱스는 search.local.index-type에 따라 전수 비교(exact) 또는 HNSW 근사 인덱스를 사용하며,
+ * 주기적으로 embeddings.lastUpdated를 비교해 바뀐 벡터만 반영한다 (전체 재구축 없음).
+ *
+ * 쿼리 임베딩도 AI 서버(/ai/embed)를 호출하므로 /ai/search와 별도의 회로·지연 예산으로 보호하고,
+ * 최근 쿼리 벡터는 캐시해 AI 서버가 응답하지 않아도 같은 쿼리는 검색할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class LocalVectorSearchService {
+
+    private static final int SYNC_BATCH_SIZE = 500;
+    private static final int RECALL_K = 10;
+
+    /**
+     * lastUpdated가 없는 (레거시) 임베딩의 버전 값
+     */
+    private static final LocalDateTime UNKNOWN_VERSION = LocalDateTime.MIN;
+
+    private final MongoTemplate mongoTemplate;
+    private final EmbeddingClient embeddingClient;
+    private final VectorIndex index;
+    private final int recallSampleSize;
+    private final AiServerCallGuard queryEmbeddingGuard;
+
+    /**
+     * 쿼리 원문 → 쿼리 임베딩
+     */
+    private final Cache<String, float[]> queryVectors;
+
+    /**
+     * 인덱스에 반영된 userId → embeddings.lastUpdated
+     */
+    private final Map<String, LocalDateTime> indexedVersions = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    private volatile double lastRecall = Double.NaN;
+
+    public LocalVectorSearchService(
+            MongoTemplate mongoTemplate,
+            EmbeddingClient embeddingClient,
+            MeterRegistry meterRegistry,
+            @Value("${search.local.index-type:exact}") String indexType,
+            @Value("${search.local.hnsw.m:16}") int hnswM,
+            @Value("${search.local.hnsw.ef-construction:200}") int efConstruction,
+            @Value("${search.local.hnsw.ef-search:64}") int efSearch,
+            @Value("${search.local.hnsw.recall-sample-size:50}") int recallSampleSize,
+            @Value("${search.local.query-embedding.budget-ms:2000}") long queryEmbeddingBudgetMs,
+            @Value("${search.local.query-embedding.max-concurrent-calls:16}") int queryEmbeddingMaxConcurrentCalls,
+            @Value("${search.local.query-embedding.cache-size:1000}") long queryVectorCacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.embeddingClient = embeddingClient;
+        this.recallSampleSize = recallSampleSize;
+        this.queryEmbeddingGuard = new AiServerCallGuard("search.local.embed", "ai-embed-", meterRegistry,
+                queryEmbeddingBudgetMs, queryEmbeddingMaxConcurrentCalls, 20, 10, 0.5, 30000,
+                false, 0, 0, 0.95);
+        this.queryVectors = Caffeine.newBuilder()
+                .maximumSize(queryVectorCacheSize)
+                .build();
+        this.index = "hnsw".equalsIgnoreCase(indexType)
+                ? new HnswIndex(0, hnswM, efConstruction, efSearch, System.nanoTime())
+                : new ExactVectorIndex(0);
+
+        Gauge.builder("search.local.index.size", index, VectorIndex::size)
+                .description("Number of portfolio vectors in the local search index")
+                .register(meterRegistry);
+        if (index instanceof HnswIndex hnsw) {
+            Gauge.builder("search.local.ann.recall", this, service -> service.lastRecall)
+                    .description("Last measured HNSW recall@" + RECALL_K + " against exact search")
+                    .register(meterRegistry);
+            Gauge.builder("search.local.ann.tombstones", hnsw, HnswIndex::deletedCount)
+                    .description("Deleted HNSW nodes kept as tombstones")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 쿼리를 임베딩하여 상위 k명 검색
+     */
+    public List<VectorHit> search(String query, int k) {
+        return search(query, k, null);
+    }
+
+    /**
+     * 조건을 만족하는 포트폴리오 중 상위 k명 검색
+     *
+     * @param filter userId 조건 (null이면 전체)
+     */
+    public List<VectorHit> search(String query, int k, Predicate<String> filter) {
+        float[] queryVector = queryVectors.get(query,
+                key -> queryEmbeddingGuard.call(() -> embeddingClient.embed(key)));
+        return index.search(queryVector, k, filter);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * AI 서버 호출 없이 검색할 수 있는 쿼리인지 (쿼리 임베딩이 캐시되어 있는지)
+     */
+    public boolean hasCachedQueryVector(String query) {
+        return queryVectors.getIfPresent(query) != null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryEmbeddingGuard.shutdown();
+    }
+
+    /**
+     * 단일 포트폴리오 벡터 반영 (재임베딩 직후 호출)
+     */
+    public void upsert(String userId, float[] vector, LocalDateTime lastUpdated) {
+        index.upsert(userId, vector);
+        indexedVersions.put(userId, Objects.requireNonNullElse(lastUpdated, UNKNOWN_VERSION));
+    }
+
+    public void remove(String userId) {
+        index.remove(userId);
+        indexedVersions.remove(userId);
+    }
+
+    /**
+     * MongoDB와 인덱스 동기화
+     * embeddings.lastUpdated만 먼저 읽어 바뀐 포트폴리오를 찾고, 해당 벡터만 다시 읽어 반영한다.
+     */
+    @Scheduled(
+            initialDelayString = "${search.local.initial-delay-ms:0}",
+            fixedDelayString = "${search.local.refresh-interval-ms:300000}"
+    )
+    public void sync() {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            Map<String, LocalDateTime> current = loadVersions();
+
+            List<String> changed = new ArrayList<>();
+            current.forEach((userId, lastUpdated) -> {
+                if (!lastUpdated.equals(indexedVersions.get(userId))) {
+                    changed.add(userId);
+                }
+            });
+            List<String> removed = indexedVersions.keySet().stream()
+                    .filter(userId -> !current.containsKey(userId))
+                    .toList();
+
+            for (int from = 0; from < changed.size(); from += SYNC_BATCH_SIZE) {
+                loadVectors(changed.subList(from, Math.min(from + SYNC_BATCH_SIZE, changed.size())));
+            }
+            removed.forEach(this::remove);
+
+            ready = true;
+
+            if (index instanceof HnswIndex hnsw && (!changed.isEmpty() || !removed.isEmpty())) {
+                lastRecall = hnsw.recallAtK(RECALL_K, recallSampleSize, startTime);
+            }
+
+            log.info("Local vector index synced: size={}, dim={}, changed={}, removed={}, recall@{}={}, simd={} in {}ms",
+                    index.size(), index.dimension(), changed.size(), removed.size(), RECALL_K, lastRecall,
+                    VectorOps.isSimdAvailable(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Failed to sync local vector index: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getChangeType() == PortfolioChangedEvent.ChangeType.DELETED) {
+            remove(event.getUserId());
+        }
+    }
+
+    /**
+     * 임베딩 워커가 기록한 벡터를 다음 동기화를 기다리지 않고 바로 반영
+     */
+    @EventListener
+    public void onEmbeddingsUpdated(PortfolioEmbeddingsUpdatedEvent event) {
+        event.getVectors().forEach((userId, vector) -> {
+            try {
+                upsert(userId, vector, event.getLastUpdated());
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping vector for userId {}: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    private Map<String, LocalDateTime> loadVersions() {
+        Query query = new Query(Criteria.where("embeddings.kureVector").exists(true));
+        query.fields().include("userId").include("embeddings.lastUpdated");
+
+        Map<String, LocalDateTime> versions = new HashMap<>();
+        try (Stream<Portfolio> portfolios = mongoTemplate.stream(query, Portfolio.class)) {
+            portfolios.forEach(portfolio -> {
+                LocalDateTime lastUpdated = portfolio.getEmbeddings() != null
+                        ? portfolio.getEmbeddings().getLastUpdated()
+                        : null;
+                versions.put(portfolio.getUserId(), Objects.requireNonNullElse(lastUpdated, UNKNOWN_VERSION));
+            });
+        }
+        return versions;
+    }
+
+    private void loadVectors(List<String> userIds) {
+        Query query = new Query(Criteria.where("userId").in(userIds));
+        query.fields().include("userId").include("embeddings.kureVector").include("embeddings.lastUpdated");
+
+        for (Portfolio portfolio : mongoTemplate.find(query, Portfolio.class)) {
+            Embeddings embeddings = portfolio.getEmbeddings();
+            if (embeddings == null || embeddings.getKureVector() == null) {
+                continue;
+            }
+            try {
+                upsert(portfolio.getUserId(), embeddings.getKureVector().getValues(),
+                        embeddings.getLastUpdated());
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping vector for userId {}: {}", portfolio.getUserId(), e.getMessage());
+            }
+        }
+    }
+}
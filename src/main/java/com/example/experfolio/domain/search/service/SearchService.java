@@ -1,17 +1,92 @@
 package com.example.experfolio.domain.search.service;
 
+import com.example.experfolio.domain.search.dto.BatchSearchResponseDto;
+import com.example.experfolio.domain.search.dto.SearchFilterDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchRequestDto;
 import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.dto.SearchStreamEventDto;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 검색 서비스 인터페이스
  */
 public interface SearchService {
 
+    /**
+     * 검색 실행 (AI 서버 검색)
+     *
+     * @param query 검색 쿼리
+     * @return 검색 결과
+     */
+    default SearchResponseDto search(String query) {
+        return search(query, SearchMode.AI);
+    }
+
     /**
      * 검색 실행
      *
      * @param query 검색 쿼리
+     * @param mode  검색 모드 (null이면 AI)
      * @return 검색 결과
      */
-    SearchResponseDto search(String query);
+    default SearchResponseDto search(String query, SearchMode mode) {
+        return search(query, mode, null);
+    }
+
+    /**
+     * 필터 검색 실행
+     * 필터를 만족하는 후보자만 점수를 매기고 userInfo를 채운다.
+     *
+     * @param query  검색 쿼리
+     * @param mode   검색 모드 (null이면 AI)
+     * @param filter 사전 필터 (null이면 전체)
+     * @return 검색 결과
+     */
+    SearchResponseDto search(String query, SearchMode mode, SearchFilterDto filter);
+
+    /**
+     * 페이지 검색 실행
+     * 전체 순위 목록을 검색 세션에 보관하고 첫 페이지와 다음 페이지 커서를 반환한다.
+     *
+     * @param ownerId  요청 사용자 ID (커서 소유자)
+     * @param query    검색 쿼리
+     * @param mode     검색 모드 (null이면 AI)
+     * @param filter   사전 필터 (null이면 전체)
+     * @param pageSize 페이지 크기
+     * @return 첫 페이지 검색 결과
+     */
+    SearchResponseDto searchPage(String ownerId, String query, SearchMode mode, SearchFilterDto filter, int pageSize);
+
+    /**
+     * 커서로 다음 페이지 조회 (AI 서버를 다시 호출하지 않음)
+     *
+     * @param ownerId 요청 사용자 ID
+     * @param cursor  이전 응답의 nextCursor
+     * @return 해당 페이지 검색 결과
+     */
+    SearchResponseDto nextPage(String ownerId, String cursor);
+
+    /**
+     * 스트리밍 검색 실행
+     * 후보자를 받는 즉시 작은 배치로 userInfo를 채워 listener에 전달한다. (META → CANDIDATE* → DONE)
+     *
+     * @param query    검색 쿼리
+     * @param mode     검색 모드 (null이면 AI)
+     * @param filter   사전 필터 (null이면 전체)
+     * @param listener 이벤트 수신자 (호출 스레드에서 순서대로 호출)
+     */
+    void searchStream(String query, SearchMode mode, SearchFilterDto filter, Consumer<SearchStreamEventDto> listener);
+
+    /**
+     * 배치 검색 실행
+     * 쿼리들을 제한된 동시성으로 함께 실행하고, 모든 결과의 후보자 userInfo를 한 번에 채운다.
+     * 한 쿼리의 실패는 해당 쿼리 결과에만 기록된다.
+     *
+     * @param requests 검색 요청 목록 (pageSize는 사용하지 않음)
+     * @return 요청 순서대로의 쿼리별 결과
+     */
+    BatchSearchResponseDto searchBatch(List<SearchRequestDto> requests);
 }
@@ -1,28 +1,69 @@
 package com.example.experfolio.domain.search.service;
 
-import com.example.experfolio.domain.portfolio.document.BasicInfo;
-import com.example.experfolio.domain.portfolio.document.Portfolio;
-import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.BatchSearchResponseDto;
+import com.example.experfolio.domain.search.dto.BatchSearchResultDto;
 import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchFilterDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
 import com.example.experfolio.domain.search.dto.SearchRequestDto;
 import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.dto.SearchStreamEventDto;
 import com.example.experfolio.domain.search.dto.UserInfoDto;
+import com.example.experfolio.domain.search.exception.AiServerUnavailableException;
 import com.example.experfolio.domain.search.exception.SearchServiceException;
+import com.example.experfolio.domain.search.keyword.KeywordHit;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.metrics.SearchStage;
+import com.example.experfolio.domain.search.metrics.SearchStageTimer;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.session.SearchCursor;
+import com.example.experfolio.domain.search.session.SearchSession;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.example.experfolio.global.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -34,7 +75,16 @@ import java.util.stream.Collectors;
 public class SearchServiceImpl implements SearchService {
 
     private final RestTemplate restTemplate;
-    private final PortfolioRepository portfolioRepository;
+    private final PortfolioSummaryCache portfolioSummaryCache;
+    private final SearchResultCache searchResultCache;
+    private final SearchRequestCoalescer searchRequestCoalescer;
+    private final LocalVectorSearchService localVectorSearchService;
+    private final KeywordIndexService keywordIndexService;
+    private final AiServerCallGuard aiServerCallGuard;
+    private final SearchSessionStore searchSessionStore;
+    private final SearchMetrics searchMetrics;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor searchBatchExecutor;
 
     @Value("${ai.server.url:http://localhost:8001}")
     private String aiServerUrl;
@@ -42,10 +92,555 @@ public class SearchServiceImpl implements SearchService {
     @Value("${ai.server.search-endpoint:/ai/search}")
     private String searchEndpoint;
 
+    @Value("${ai.server.search-stream-endpoint:}")
+    private String searchStreamEndpoint;
+
+    @Value("${search.stream.enrich-batch-size:5}")
+    private int streamEnrichBatchSize;
+
+    @Value("${search.local.top-k:20}")
+    private int localTopK;
+
+    @Value("${search.local.fallback-enabled:true}")
+    private boolean localFallbackEnabled;
+
+    @Value("${search.keyword.top-k:20}")
+    private int keywordTopK;
+
+    @Value("${search.hybrid.rrf-k:60}")
+    private int rrfK;
+
+    @Value("${search.batch.parallelism:8}")
+    private int batchParallelism;
+
+    @Value("${search.batch.timeout-ms:30000}")
+    private long batchTimeoutMs;
+
     @Override
-    public SearchResponseDto search(String query) {
-        log.info("Executing search with query: {}", maskQuery(query));
+    public SearchResponseDto search(String query, SearchMode mode, SearchFilterDto filter) {
+        SearchMode searchMode = mode != null ? mode : SearchMode.AI;
+        log.info("Executing {} search with query: {}", searchMode, maskQuery(query));
+
+        SearchStageTimer timer = new SearchStageTimer();
+        String outcome = SearchMetrics.OUTCOME_ERROR;
+        SearchResponseDto searchResponse = null;
+        try {
+            // 캐시 조회 (검색 모드 + 필터 + 정규화된 쿼리 기준)
+            String cacheKey = cacheKey(searchMode, query, filter);
+            SearchResponseDto cached = timer.time(SearchStage.CACHE_LOOKUP,
+                    () -> searchResultCache.get(cacheKey).orElse(null));
+            if (cached != null) {
+                log.info("Search cache hit for query: {}", maskQuery(query));
+                searchResponse = cached;
+                outcome = SearchMetrics.OUTCOME_CACHE_HIT;
+                return withTimings(cached, timer);
+            }
+
+            // 같은 쿼리의 동시 요청은 하나의 검색 결과를 공유
+            searchResponse = searchRequestCoalescer.execute(cacheKey, () -> {
+                long cacheGeneration = searchResultCache.currentGeneration();
+
+                SearchResponseDto response = executeSearch(query, searchMode, resolveFilter(filter, timer), timer);
+
+                // 대체 경로(fallback)로 만든 결과는 캐시하지 않는다
+                if (response != null && response.getMode() == searchMode) {
+                    searchResultCache.put(cacheKey, response, cacheGeneration);
+                }
+
+                return response;
+            });
+            outcome = outcomeOf(searchResponse, searchMode);
+            return withTimings(searchResponse, timer);
+        } finally {
+            searchMetrics.record(searchMode, outcome, candidateCount(searchResponse), timer);
+        }
+    }
+
+    /**
+     * 첫 페이지 검색
+     * 순위 목록만 만들어(userInfo 없이) 세션에 저장하고, 첫 페이지 후보자만 userInfo를 채운다.
+     * 캐시된 검색 결과가 있으면 그 순위를 그대로 사용한다.
+     */
+    @Override
+    public SearchResponseDto searchPage(String ownerId, String query, SearchMode mode, SearchFilterDto filter,
+                                        int pageSize) {
+        SearchMode searchMode = mode != null ? mode : SearchMode.AI;
+        log.info("Executing paged {} search with query: {}", searchMode, maskQuery(query));
+
+        SearchStageTimer timer = new SearchStageTimer();
+        String outcome = SearchMetrics.OUTCOME_ERROR;
+        SearchResponseDto ranked = null;
+        try {
+            String cacheKey = cacheKey(searchMode, query, filter);
+            SearchResponseDto cached = timer.time(SearchStage.CACHE_LOOKUP,
+                    () -> searchResultCache.get(cacheKey).orElse(null));
+            if (cached != null) {
+                ranked = cached;
+                outcome = SearchMetrics.OUTCOME_CACHE_HIT;
+            } else {
+                // userInfo가 없는 결과이므로 search()와 병합하지 않고, 검색 결과 캐시에도 넣지 않는다
+                ranked = searchRequestCoalescer.execute("ranked:" + cacheKey,
+                        () -> rankCandidates(query, searchMode, resolveFilter(filter, timer), timer));
+                if (ranked == null) {
+                    throw new SearchServiceException("AI 서버 응답이 비어 있습니다");
+                }
+                outcome = outcomeOf(ranked, searchMode);
+            }
+
+            SearchSession session = searchSessionStore.create(ownerId, ranked);
+            log.info("Search session created: size={}, pageSize={}", session.size(), pageSize);
+
+            List<CandidateDto> candidates = timer.time(SearchStage.MAPPING, () ->
+                    session.getRankedCandidates().subList(0, Math.min(pageSize, session.size())).stream()
+                            .map(candidate -> candidate.toBuilder().build())
+                            .collect(Collectors.toList()));
+            timer.time(SearchStage.ENRICHMENT, () -> enrichCandidatesWithUserInfo(candidates));
+
+            SearchResponseDto page = toPage(session, candidates, 0, pageSize);
+            page.setTimings(timer.toMillis());
+            return page;
+        } finally {
+            searchMetrics.record(searchMode, outcome, candidateCount(ranked), timer);
+        }
+    }
+
+    @Override
+    public SearchResponseDto nextPage(String ownerId, String cursor) {
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        SearchSession session = searchSessionStore.find(searchCursor.getSessionId())
+                .filter(found -> found.getOwnerId().equals(ownerId))
+                .orElseThrow(() -> new ResourceNotFoundException("검색 세션이 만료되었습니다. 다시 검색해주세요."));
+
+        // 해당 구간만 복사해 userInfo 채우기 (세션의 순위 목록은 수정하지 않음)
+        int from = Math.min(searchCursor.getOffset(), session.size());
+        int to = from + Math.min(searchCursor.getPageSize(), session.size() - from);
+        SearchStageTimer timer = new SearchStageTimer();
+        List<CandidateDto> candidates = timer.time(SearchStage.MAPPING, () ->
+                session.getRankedCandidates().subList(from, to).stream()
+                        .map(candidate -> candidate.toBuilder().build())
+                        .collect(Collectors.toList()));
+        timer.time(SearchStage.ENRICHMENT, () -> enrichCandidatesWithUserInfo(candidates));
+
+        SearchResponseDto page = toPage(session, candidates, from, searchCursor.getPageSize());
+        page.setTimings(timer.toMillis());
+        return page;
+    }
+
+    private SearchResponseDto toPage(SearchSession session, List<CandidateDto> candidates, int offset, int pageSize) {
+        int nextOffset = offset + candidates.size();
+        String nextCursor = nextOffset < session.size()
+                ? new SearchCursor(session.getId(), nextOffset, pageSize).encode()
+                : null;
+
+        return SearchResponseDto.builder()
+                .status("success")
+                .candidates(candidates)
+                .searchTime(session.getSearchTime())
+                .totalResults(session.size())
+                .mode(session.getMode())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public void searchStream(String query, SearchMode mode, SearchFilterDto filter,
+                             Consumer<SearchStreamEventDto> listener) {
+        SearchMode searchMode = mode != null ? mode : SearchMode.AI;
+        log.info("Executing streaming {} search with query: {}", searchMode, maskQuery(query));
+
+        listener.accept(SearchStreamEventDto.meta(searchMode));
+
+        SearchStageTimer timer = new SearchStageTimer();
+        String outcome = SearchMetrics.OUTCOME_ERROR;
+        SearchResponseDto searchResponse = null;
+        try {
+            String cacheKey = cacheKey(searchMode, query, filter);
+            SearchResponseDto cached = timer.time(SearchStage.CACHE_LOOKUP,
+                    () -> searchResultCache.get(cacheKey).orElse(null));
+            if (cached != null) {
+                log.info("Search cache hit for query: {}", maskQuery(query));
+                searchResponse = cached;
+                outcome = SearchMetrics.OUTCOME_CACHE_HIT;
+                emitCandidates(cached.getCandidates(), listener);
+                listener.accept(SearchStreamEventDto.done(cached));
+                return;
+            }
+            long cacheGeneration = searchResultCache.currentGeneration();
+            Predicate<String> eligible = resolveFilter(filter, timer);
+
+            if (searchMode == SearchMode.AI && StringUtils.hasText(searchStreamEndpoint)) {
+                searchResponse = streamFromAiServer(query, eligible, listener, timer);
+            }
+            if (searchResponse == null) {
+                // 스트리밍 엔드포인트가 없거나 사용할 수 없으면 순위 결과를 받은 뒤 userInfo를 배치 단위로 채워 전송
+                searchResponse = rankCandidates(query, searchMode, eligible, timer);
+                if (searchResponse == null) {
+                    throw new SearchServiceException("AI 서버 응답이 비어 있습니다");
+                }
+                emitInBatches(searchResponse.getCandidates(), listener, timer);
+            }
+
+            if (searchResponse.getMode() == searchMode) {
+                searchResultCache.put(cacheKey, searchResponse, cacheGeneration);
+            }
+            outcome = outcomeOf(searchResponse, searchMode);
+            listener.accept(SearchStreamEventDto.done(searchResponse));
+        } finally {
+            searchMetrics.record(searchMode, outcome, candidateCount(searchResponse), timer);
+        }
+    }
+
+    @Override
+    public BatchSearchResponseDto searchBatch(List<SearchRequestDto> requests) {
+        long startTime = System.nanoTime();
+        log.info("Executing batch search with {} queries", requests.size());
+
+        // 같은 쿼리(검색 모드 + 필터 + 정규화된 쿼리)는 한 번만 검색
+        Map<String, BatchQuery> uniqueQueries = new LinkedHashMap<>();
+        List<BatchQuery> queryByIndex = new ArrayList<>(requests.size());
+        for (SearchRequestDto request : requests) {
+            SearchMode searchMode = request.getMode() != null ? request.getMode() : SearchMode.AI;
+            String cacheKey = cacheKey(searchMode, request.getQuery(), request.getFilter());
+            queryByIndex.add(uniqueQueries.computeIfAbsent(cacheKey,
+                    key -> new BatchQuery(request.getQuery(), searchMode, request.getFilter(), key)));
+        }
+
+        long deadlineNanos = startTime + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        submitBatch(uniqueQueries.values(), deadlineNanos);
+        awaitBatch(uniqueQueries.values(), deadlineNanos);
+
+        // 새로 검색한 모든 결과의 후보자를 모아 userInfo를 한 번에 채운다 (캐시 결과는 이미 채워져 있음)
+        List<CandidateDto> unenriched = uniqueQueries.values().stream()
+                .filter(BatchQuery::needsEnrichment)
+                .flatMap(batchQuery -> batchQuery.response.getCandidates().stream())
+                .collect(Collectors.toList());
+        long enrichmentStart = System.nanoTime();
+        enrichCandidatesWithUserInfo(unenriched);
+        long enrichmentNanos = System.nanoTime() - enrichmentStart;
+
+        uniqueQueries.values().forEach(batchQuery -> completeBatchQuery(batchQuery, enrichmentNanos));
+
+        List<BatchSearchResultDto> results = new ArrayList<>(requests.size());
+        Set<String> uniqueCandidates = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BatchQuery batchQuery = queryByIndex.get(i);
+            String query = requests.get(i).getQuery();
+            if (batchQuery.error != null) {
+                results.add(BatchSearchResultDto.error(i, query, batchQuery.error));
+                continue;
+            }
+            results.add(BatchSearchResultDto.success(i, query, batchQuery.result));
+            if (batchQuery.result.getCandidates() != null) {
+                batchQuery.result.getCandidates().forEach(candidate -> uniqueCandidates.add(candidate.getUserId()));
+            }
+        }
+
+        int failed = (int) results.stream()
+                .filter(result -> BatchSearchResultDto.STATUS_ERROR.equals(result.getStatus()))
+                .count();
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info("Batch search completed in {}s: queries={}, unique={}, failed={}, enriched candidates={}",
+                String.format("%.2f", elapsedSeconds), requests.size(), uniqueQueries.size(), failed,
+                unenriched.size());
+
+        return BatchSearchResponseDto.builder()
+                .status(failed == 0 ? "success" : failed == requests.size() ? "error" : "partial")
+                .results(results)
+                .totalQueries(requests.size())
+                .failedQueries(failed)
+                .uniqueCandidates(uniqueCandidates.size())
+                .searchTime(String.format("%.2fs", elapsedSeconds))
+                .build();
+    }
+
+    /**
+     * 배치 쿼리를 검색 실행자에 제출
+     * 한 배치가 동시에 실행하는 쿼리 수를 search.batch.parallelism으로 제한해 다른 요청의 몫을 남긴다.
+     * 허가는 배치 제한 시간까지만 기다리며, 허가를 얻지 못했거나 실행자 큐에서 제한 시간을 넘긴 쿼리는
+     * 검색하지 않고 시간 초과로 기록한다.
+     */
+    private void submitBatch(Collection<BatchQuery> batchQueries, long deadlineNanos) {
+        Semaphore permits = new Semaphore(batchParallelism);
+        for (BatchQuery batchQuery : batchQueries) {
+            try {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                    log.warn("Batch search query timed out before start: {}", maskQuery(batchQuery.query));
+                    batchQuery.future = CompletableFuture.failedFuture(new TimeoutException());
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batchQuery.future = CompletableFuture.failedFuture(
+                        new SearchServiceException("배치 검색이 중단되었습니다", e));
+                continue;
+            }
+
+            try {
+                batchQuery.future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        if (System.nanoTime() - deadlineNanos >= 0) {
+                            // 큐에서 기다리는 동안 제한 시간이 지났으면 결과를 아무도 기다리지 않는다
+                            throw new CompletionException(new TimeoutException());
+                        }
+                        return rankBatchQuery(batchQuery);
+                    } finally {
+                        permits.release();
+                    }
+                }, searchBatchExecutor);
+            } catch (TaskRejectedException e) {
+                permits.release();
+                log.warn("Batch search query rejected: {}", e.getMessage());
+                batchQuery.future = CompletableFuture.failedFuture(
+                        new SearchServiceException("검색 요청이 많습니다. 잠시 후 다시 시도해주세요.", e));
+            }
+        }
+    }
+
+    /**
+     * 배치 쿼리 하나의 캐시 조회 또는 순위 검색 (검색 실행자 스레드)
+     */
+    private SearchResponseDto rankBatchQuery(BatchQuery batchQuery) {
+        SearchStageTimer timer = batchQuery.timer;
+        SearchResponseDto cached = timer.time(SearchStage.CACHE_LOOKUP,
+                () -> searchResultCache.get(batchQuery.cacheKey).orElse(null));
+        if (cached != null) {
+            batchQuery.cached = true;
+            return cached;
+        }
+
+        batchQuery.cacheGeneration = searchResultCache.currentGeneration();
+        SearchResponseDto response = rankCandidates(batchQuery.query, batchQuery.mode,
+                resolveFilter(batchQuery.filter, timer), timer);
+        if (response == null) {
+            throw new SearchServiceException("AI 서버 응답이 비어 있습니다");
+        }
+        return response;
+    }
+
+    /**
+     * 배치 쿼리 완료 대기. 배치 제한 시간을 넘긴 쿼리는 실패로 기록한다.
+     */
+    private void awaitBatch(Collection<BatchQuery> batchQueries, long deadlineNanos) {
+        for (BatchQuery batchQuery : batchQueries) {
+            try {
+                long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+                batchQuery.response = batchQuery.future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Batch search query timed out: {}", maskQuery(batchQuery.query));
+                batchQuery.timedOut = true;
+                batchQuery.error = "검색 시간이 초과되었습니다";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batchQuery.timedOut = true;
+                batchQuery.error = "배치 검색이 중단되었습니다";
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof TimeoutException) {
+                    // 허가나 실행자 큐를 기다리다 제한 시간을 넘겨 시작하지 않은 쿼리
+                    batchQuery.error = "검색 시간이 초과되었습니다";
+                } else if (cause instanceof SearchServiceException) {
+                    log.warn("Batch search query failed: {}", cause.getMessage());
+                    batchQuery.error = cause.getMessage();
+                } else {
+                    log.error("Unexpected error during batch search: {}", cause.getMessage(), cause);
+                    batchQuery.error = "검색 중 예상치 못한 오류가 발생했습니다";
+                }
+            }
+        }
+    }
+
+    /**
+     * 공통 userInfo 조회 이후 쿼리별 캐시 저장과 메트릭 기록
+     * 한 번의 userInfo 조회 시간은 그 결과를 기다린 모든 쿼리의 enrichment 단계에 포함한다.
+     */
+    private void completeBatchQuery(BatchQuery batchQuery, long enrichmentNanos) {
+        if (batchQuery.timedOut) {
+            // 아직 실행 중인 스레드가 타이머를 사용하고 있을 수 있으므로 메트릭을 남기지 않는다
+            return;
+        }
+
+        SearchStageTimer timer = batchQuery.timer;
+        SearchResponseDto response = batchQuery.response;
+        if (batchQuery.error != null) {
+            searchMetrics.record(batchQuery.mode, SearchMetrics.OUTCOME_ERROR, 0, timer);
+            return;
+        }
+
+        String outcome = SearchMetrics.OUTCOME_CACHE_HIT;
+        if (batchQuery.needsEnrichment()) {
+            timer.add(SearchStage.ENRICHMENT, enrichmentNanos);
+            outcome = outcomeOf(response, batchQuery.mode);
+        }
+        if (!batchQuery.cached && response.getMode() == batchQuery.mode) {
+            searchResultCache.put(batchQuery.cacheKey, response, batchQuery.cacheGeneration);
+        }
+
+        searchMetrics.record(batchQuery.mode, outcome, candidateCount(response), timer);
+        batchQuery.result = withTimings(response, timer);
+    }
+
+    /**
+     * 검색 모드별 실행 후 후보자 userInfo 채우기
+     *
+     * @param eligible 필터를 만족하는 userId 조건 (null이면 전체)
+     */
+    private SearchResponseDto executeSearch(String query, SearchMode mode, Predicate<String> eligible,
+                                            SearchStageTimer timer) {
+        SearchResponseDto response = rankCandidates(query, mode, eligible, timer);
+        if (response != null && response.getCandidates() != null) {
+            timer.time(SearchStage.ENRICHMENT, () -> enrichCandidatesWithUserInfo(response.getCandidates()));
+        }
+        return response;
+    }
+
+    /**
+     * 검색 모드별 실행 (userInfo는 채우지 않음)
+     * 배치 검색은 모든 쿼리의 후보자를 모아 한 번에 채우기 위해 이 단계까지만 실행한다.
+     */
+    private SearchResponseDto rankCandidates(String query, SearchMode mode, Predicate<String> eligible,
+                                             SearchStageTimer timer) {
+        return switch (mode) {
+            case LOCAL -> searchLocally(query, eligible, timer);
+            case KEYWORD -> searchByKeyword(query, eligible, timer);
+            case HYBRID -> searchHybrid(query, eligible, timer);
+            case AI -> searchWithAiServer(query, eligible, timer);
+        };
+    }
+
+    /**
+     * 검색 필터를 속성 인덱스로 평가 (필터가 없으면 null)
+     */
+    private Predicate<String> resolveFilter(SearchFilterDto filter, SearchStageTimer timer) {
+        if (filter == null || filter.isEmpty()) {
+            return null;
+        }
+        if (!keywordIndexService.isReady()) {
+            throw new SearchServiceException("검색 필터 인덱스가 아직 준비되지 않았습니다");
+        }
+        return timer.time(SearchStage.FILTER, () -> keywordIndexService.matching(filter));
+    }
+
+    /**
+     * 응답 사본에 이번 요청의 소요 시간 기록 (캐시된 원본은 수정하지 않음)
+     */
+    private static SearchResponseDto withTimings(SearchResponseDto response, SearchStageTimer timer) {
+        if (response == null) {
+            return null;
+        }
+        Map<String, Double> timings = timer.toMillis();
+        return response.toBuilder()
+                .searchTime(String.format("%.2fs", timings.get("total") / 1000.0))
+                .timings(timings)
+                .build();
+    }
+
+    private static String outcomeOf(SearchResponseDto response, SearchMode requestedMode) {
+        return response != null && response.getMode() != requestedMode
+                ? SearchMetrics.OUTCOME_FALLBACK
+                : SearchMetrics.OUTCOME_SUCCESS;
+    }
+
+    private static int candidateCount(SearchResponseDto response) {
+        return response != null && response.getCandidates() != null ? response.getCandidates().size() : 0;
+    }
+
+    private static String cacheKey(SearchMode mode, String query, SearchFilterDto filter) {
+        String filterKey = filter == null || filter.isEmpty() ? "" : filter.cacheKey();
+        return mode + ":" + filterKey + ":" + SearchResultCache.normalize(query);
+    }
+
+    /**
+     * AI 서버 NDJSON 스트리밍 검색 (한 줄에 CandidateDto 하나)
+     * 후보자가 도착하는 대로 배치 단위로 userInfo를 채워 전달한다. 필터를 만족하지 않는 후보자는 버린다.
+     * 호출 보호 계층의 회로와 동시 호출 한도를 따르며, 지연 예산은 응답이 시작될 때까지 적용된다.
+     *
+     * @return 검색 결과, 아무 후보도 보내기 전에 스트리밍 요청이 실패하거나 거절되면 null
+     */
+    private SearchResponseDto streamFromAiServer(String query, Predicate<String> eligible,
+                                                 Consumer<SearchStreamEventDto> listener, SearchStageTimer timer) {
+        String url = aiServerUrl + searchStreamEndpoint;
+        long startTime = System.currentTimeMillis();
+        CandidateStreamBatcher batcher = new CandidateStreamBatcher(listener, timer);
 
+        try {
+            aiServerCallGuard.callStreaming(onResponseStarted -> restTemplate.execute(url, HttpMethod.POST, request -> {
+                request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON));
+                objectMapper.writeValue(request.getBody(), SearchRequestDto.builder().query(query).build());
+            }, response -> {
+                onResponseStarted.run();
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        CandidateDto candidate = objectMapper.readValue(line, CandidateDto.class);
+                        if (eligible == null || eligible.test(candidate.getUserId())) {
+                            if (!batcher.add(candidate)) {
+                                return null;
+                            }
+                        }
+                    }
+                }
+                return null;
+            }));
+        } catch (AiServerUnavailableException e) {
+            if (batcher.abandonIfNothingEmitted()) {
+                log.warn("AI server streaming search rejected, using blocking search: {}", e.getMessage());
+                return null;
+            }
+            throw new SearchServiceException("AI 서버 스트리밍 응답이 중단되었습니다: " + e.getMessage(), e);
+        } catch (RestClientException e) {
+            if (batcher.abandonIfNothingEmitted()) {
+                log.warn("AI server streaming search unavailable, using blocking search: {}", e.getMessage());
+                return null;
+            }
+            throw new SearchServiceException("AI 서버 스트리밍 응답이 중단되었습니다: " + e.getMessage(), e);
+        }
+        batcher.flush();
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("Streaming search completed in {}ms, total results: {}", elapsed, batcher.candidates.size());
+
+        return SearchResponseDto.builder()
+                .status("success")
+                .candidates(batcher.candidates)
+                .searchTime(String.format("%.2fs", elapsed / 1000.0))
+                .totalResults(batcher.candidates.size())
+                .mode(SearchMode.AI)
+                .build();
+    }
+
+    /**
+     * 순위가 정해진 후보자 목록을 스트리밍 검색과 같은 배치 단위로 userInfo를 채워 전송
+     * (첫 후보자는 단독으로, 이후는 search.stream.enrich-batch-size 단위)
+     */
+    private void emitInBatches(List<CandidateDto> candidates, Consumer<SearchStreamEventDto> listener,
+                               SearchStageTimer timer) {
+        if (candidates == null) {
+            return;
+        }
+        CandidateStreamBatcher batcher = new CandidateStreamBatcher(listener, timer);
+        candidates.forEach(batcher::add);
+        batcher.flush();
+    }
+
+    /**
+     * userInfo가 이미 채워진 후보자 목록 전송
+     */
+    private void emitCandidates(List<CandidateDto> candidates, Consumer<SearchStreamEventDto> listener) {
+        if (candidates != null) {
+            candidates.forEach(candidate -> listener.accept(SearchStreamEventDto.candidate(candidate)));
+        }
+    }
+
+    /**
+     * AI 서버 검색
+     * 연결 실패나 서버 오류 시 로컬 벡터 검색이 가능하면 대체 경로로 응답한다.
+     * AI 서버는 필터를 알지 못하므로 필터를 만족하지 않는 후보자는 응답에서 제외한다.
+     */
+    private SearchResponseDto searchWithAiServer(String query, Predicate<String> eligible, SearchStageTimer timer) {
         try {
             // AI 서버 URL 구성
             String url = aiServerUrl + searchEndpoint;
@@ -63,13 +658,14 @@ public class SearchServiceImpl implements SearchService {
 
             log.info("Sending request: {}", request);
 
-            // AI 서버로 요청 전송
+            // AI 서버로 요청 전송 (지연 예산, 회로 차단, 헤지 요청 적용)
             long startTime = System.currentTimeMillis();
-            ResponseEntity<SearchResponseDto> response = restTemplate.postForEntity(
-                    url,
-                    request,
-                    SearchResponseDto.class
-            );
+            ResponseEntity<SearchResponseDto> response = timer.time(SearchStage.AI_CALL,
+                    () -> aiServerCallGuard.call(() -> restTemplate.postForEntity(
+                            url,
+                            request,
+                            SearchResponseDto.class
+                    )));
             log.info("Search response: {}", response.getBody());
             long endTime = System.currentTimeMillis();
 
@@ -79,15 +675,27 @@ public class SearchServiceImpl implements SearchService {
 
             // 응답에 userInfo 추가
             SearchResponseDto searchResponse = response.getBody();
-            if (searchResponse != null && searchResponse.getCandidates() != null) {
-                enrichCandidatesWithUserInfo(searchResponse.getCandidates());
+            if (searchResponse != null) {
+                searchResponse.setMode(SearchMode.AI);
+                if (eligible != null && searchResponse.getCandidates() != null) {
+                    searchResponse.setCandidates(timer.time(SearchStage.FILTER, () ->
+                            searchResponse.getCandidates().stream()
+                                    .filter(candidate -> eligible.test(candidate.getUserId()))
+                                    .collect(Collectors.toList())));
+                    searchResponse.setTotalResults(searchResponse.getCandidates().size());
+                }
             }
 
             return searchResponse;
 
+        } catch (AiServerUnavailableException e) {
+            log.error("AI server unavailable: {}", e.getMessage());
+            return fallbackToLocalSearch(query, eligible, timer, e);
+
         } catch (ResourceAccessException e) {
             log.error("Failed to connect to AI server: {}", e.getMessage());
-            throw new SearchServiceException("AI 서버에 연결할 수 없습니다. 서버가 실행 중인지 확인해주세요.", e);
+            return fallbackToLocalSearch(query, eligible, timer,
+                    new SearchServiceException("AI 서버에 연결할 수 없습니다. 서버가 실행 중인지 확인해주세요.", e));
 
         } catch (HttpClientErrorException e) {
             log.error("AI server returned client error: {} - {}", e.getStatusCode(), e.getMessage());
@@ -95,7 +703,8 @@ public class SearchServiceImpl implements SearchService {
 
         } catch (HttpServerErrorException e) {
             log.error("AI server returned server error: {} - {}", e.getStatusCode(), e.getMessage());
-            throw new SearchServiceException("AI 서버에서 오류가 발생했습니다: " + e.getMessage(), e);
+            return fallbackToLocalSearch(query, eligible, timer,
+                    new SearchServiceException("AI 서버에서 오류가 발생했습니다: " + e.getMessage(), e));
 
         } catch (Exception e) {
             log.error("Unexpected error during search: {}", e.getMessage(), e);
@@ -103,6 +712,168 @@ public class SearchServiceImpl implements SearchService {
         }
     }
 
+    /**
+     * 백엔드 내 벡터 검색 (AI 서버는 쿼리 임베딩에만 사용)
+     */
+    private SearchResponseDto searchLocally(String query, Predicate<String> eligible, SearchStageTimer timer) {
+        long startTime = System.currentTimeMillis();
+
+        if (!localVectorSearchService.isReady()) {
+            throw new SearchServiceException("로컬 검색 인덱스가 아직 준비되지 않았습니다");
+        }
+
+        List<VectorHit> hits = timer.time(SearchStage.VECTOR_SEARCH,
+                () -> localVectorSearchService.search(query, localTopK, eligible));
+        List<CandidateDto> candidates = timer.time(SearchStage.MAPPING, () -> hits.stream()
+                .map(hit -> CandidateDto.builder()
+                        .userId(hit.getUserId())
+                        .matchScore((double) hit.getScore())
+                        .build())
+                .collect(Collectors.toList()));
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("Local search completed in {}ms, total results: {}", elapsed, candidates.size());
+
+        return SearchResponseDto.builder()
+                .status("success")
+                .candidates(candidates)
+                .searchTime(String.format("%.2fs", elapsed / 1000.0))
+                .totalResults(candidates.size())
+                .mode(SearchMode.LOCAL)
+                .build();
+    }
+
+    /**
+     * 키워드(BM25) 검색. 외부 호출 없이 메모리 역색인만 사용한다.
+     * matchScore는 최상위 점수 대비 비율(0~1)이다.
+     */
+    private SearchResponseDto searchByKeyword(String query, Predicate<String> eligible, SearchStageTimer timer) {
+        long startTime = System.currentTimeMillis();
+
+        if (!keywordIndexService.isReady()) {
+            throw new SearchServiceException("키워드 검색 인덱스가 아직 준비되지 않았습니다");
+        }
+
+        List<KeywordHit> hits = timer.time(SearchStage.KEYWORD_SEARCH,
+                () -> keywordIndexService.search(query, keywordTopK, eligible));
+        float topScore = hits.isEmpty() ? 1f : hits.get(0).getScore();
+        List<CandidateDto> candidates = timer.time(SearchStage.MAPPING, () -> hits.stream()
+                .map(hit -> CandidateDto.builder()
+                        .userId(hit.getUserId())
+                        .matchScore((double) (hit.getScore() / topScore))
+                        .matchReason(keywordMatchReason(hit))
+                        .keywords(hit.getMatchedWords())
+                        .build())
+                .collect(Collectors.toList()));
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("Keyword search completed in {}ms, total results: {}", elapsed, candidates.size());
+
+        return SearchResponseDto.builder()
+                .status("success")
+                .candidates(candidates)
+                .searchTime(String.format("%.2fs", elapsed / 1000.0))
+                .totalResults(candidates.size())
+                .mode(SearchMode.KEYWORD)
+                .build();
+    }
+
+    /**
+     * 키워드 + 로컬 벡터 검색 결합 (Reciprocal Rank Fusion)
+     * 두 목록의 순위만 사용하므로 BM25와 코사인 유사도의 점수 척도를 맞출 필요가 없다.
+     * 벡터 인덱스나 쿼리 임베딩을 사용할 수 없으면 키워드 결과만 사용한다.
+     */
+    private SearchResponseDto searchHybrid(String query, Predicate<String> eligible, SearchStageTimer timer) {
+        long startTime = System.currentTimeMillis();
+
+        if (!keywordIndexService.isReady()) {
+            throw new SearchServiceException("키워드 검색 인덱스가 아직 준비되지 않았습니다");
+        }
+
+        List<KeywordHit> keywordHits = timer.time(SearchStage.KEYWORD_SEARCH,
+                () -> keywordIndexService.search(query, keywordTopK, eligible));
+        List<VectorHit> vectorHits = List.of();
+        if (localVectorSearchService.isReady()) {
+            try {
+                vectorHits = timer.time(SearchStage.VECTOR_SEARCH,
+                        () -> localVectorSearchService.search(query, localTopK, eligible));
+            } catch (RuntimeException e) {
+                log.warn("Vector part of hybrid search failed, using keyword results only: {}", e.getMessage());
+            }
+        }
+
+        long mappingStart = System.nanoTime();
+        Map<String, Double> fused = new LinkedHashMap<>();
+        for (int rank = 0; rank < keywordHits.size(); rank++) {
+            fused.merge(keywordHits.get(rank).getUserId(), 1.0 / (rrfK + rank + 1), Double::sum);
+        }
+        for (int rank = 0; rank < vectorHits.size(); rank++) {
+            fused.merge(vectorHits.get(rank).getUserId(), 1.0 / (rrfK + rank + 1), Double::sum);
+        }
+
+        Map<String, KeywordHit> keywordHitByUserId = new HashMap<>();
+        keywordHits.forEach(hit -> keywordHitByUserId.put(hit.getUserId(), hit));
+        // 두 목록 모두 1위일 때의 점수를 1.0으로 본다
+        double maxScore = 2.0 / (rrfK + 1);
+
+        List<CandidateDto> candidates = fused.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(Math.max(keywordTopK, localTopK))
+                .map(entry -> {
+                    KeywordHit keywordHit = keywordHitByUserId.get(entry.getKey());
+                    return CandidateDto.builder()
+                            .userId(entry.getKey())
+                            .matchScore(entry.getValue() / maxScore)
+                            .matchReason(keywordHit != null ? keywordMatchReason(keywordHit) : null)
+                            .keywords(keywordHit != null ? keywordHit.getMatchedWords() : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+        timer.add(SearchStage.MAPPING, System.nanoTime() - mappingStart);
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("Hybrid search completed in {}ms, keyword hits: {}, vector hits: {}, total results: {}",
+                elapsed, keywordHits.size(), vectorHits.size(), candidates.size());
+
+        return SearchResponseDto.builder()
+                .status("success")
+                .candidates(candidates)
+                .searchTime(String.format("%.2fs", elapsed / 1000.0))
+                .totalResults(candidates.size())
+                .mode(SearchMode.HYBRID)
+                .build();
+    }
+
+    private static String keywordMatchReason(KeywordHit hit) {
+        return "키워드 일치: " + String.join(", ", hit.getMatchedWords());
+    }
+
+    /**
+     * AI 서버 장애 시 로컬 검색으로 대체. 대체할 수 없으면 원래 예외를 던진다.
+     * 로컬 검색도 쿼리 임베딩에 AI 서버(/ai/embed)를 사용하므로, 대체 경로가 실제로 도움이 되는 경우는
+     * /ai/search만 실패한 경우(5xx, 연결 오류)다. 호출 보호 계층이 거절한 경우(회로 차단, 지연 예산·동시 호출
+     * 한도 초과)는 AI 서버 전체가 응답하지 않는 상황이므로, 쿼리 임베딩이 캐시된 쿼리만 대체한다.
+     */
+    private SearchResponseDto fallbackToLocalSearch(String query, Predicate<String> eligible, SearchStageTimer timer,
+                                                    SearchServiceException cause) {
+        if (!localFallbackEnabled || !localVectorSearchService.isReady()) {
+            throw cause;
+        }
+        if (cause instanceof AiServerUnavailableException && !localVectorSearchService.hasCachedQueryVector(query)) {
+            log.warn("Skipping local fallback, AI server call was rejected: {}", cause.getMessage());
+            throw cause;
+        }
+
+        try {
+            log.warn("Falling back to local vector search: {}", cause.getMessage());
+            return searchLocally(query, eligible, timer);
+        } catch (RuntimeException e) {
+            log.error("Local fallback search failed: {}", e.getMessage());
+            cause.addSuppressed(e);
+            throw cause;
+        }
+    }
+
     /**
      * 후보자 목록에 포트폴리오 기본 정보 추가
      *
@@ -120,27 +891,20 @@ public class SearchServiceImpl implements SearchService {
                 .map(CandidateDto::getUserId)
                 .collect(Collectors.toList());
 
-        // Step 2: 배치로 포트폴리오 조회
-        List<Portfolio> portfolios = portfolioRepository.findByUserIdIn(userIds);
-        log.debug("Found {} portfolios for {} user IDs", portfolios.size(), userIds.size());
-
-        // Step 3: userId -> Portfolio 맵 생성 (빠른 조회)
-        Map<String, Portfolio> portfolioMap = portfolios.stream()
-                .collect(Collectors.toMap(Portfolio::getUserId, p -> p));
+        // Step 2: userId -> 요약 (캐시 미스만 한 번에 조회)
+        Map<String, PortfolioSummaryDto> summaryMap = portfolioSummaryCache.getAll(userIds);
 
-        // Step 4: 각 candidate에 userInfo 추가
+        // Step 3: 각 candidate에 userInfo 추가
         for (CandidateDto candidate : candidates) {
-            Portfolio portfolio = portfolioMap.get(candidate.getUserId());
-
-            if (portfolio != null && portfolio.getBasicInfo() != null) {
-                BasicInfo basicInfo = portfolio.getBasicInfo();
+            PortfolioSummaryDto summary = summaryMap.get(candidate.getUserId());
 
+            if (summary != null && summary.isBasicInfoPresent()) {
                 UserInfoDto userInfo = UserInfoDto.builder()
-                        .name(basicInfo.getName())
-                        .schoolName(basicInfo.getSchoolName())
-                        .gpa(basicInfo.getGpa())
-                        .major(basicInfo.getMajor())
-                        .awardsCount(basicInfo.getAwards() != null ? basicInfo.getAwards().size() : 0)
+                        .name(summary.getName())
+                        .schoolName(summary.getSchoolName())
+                        .gpa(summary.getGpa())
+                        .major(summary.getMajor())
+                        .awardsCount(summary.getAwardsCount())
                         .build();
 
                 candidate.setUserInfo(userInfo);
@@ -165,4 +929,91 @@ public class SearchServiceImpl implements SearchService {
         }
         return query.substring(0, 20) + "...";
     }
+
+    /**
+     * 도착한 후보자를 모아 배치 단위로 userInfo를 채워 전송
+     * 첫 후보자는 바로 보내고, 이후에는 search.stream.enrich-batch-size 단위로 조회한다.
+     * 스트림은 호출 보호 계층의 스레드에서 읽으므로, 요청 스레드가 포기한 뒤에는 더 이상 전송하지 않는다.
+     */
+    private class CandidateStreamBatcher {
+
+        private final Consumer<SearchStreamEventDto> listener;
+        private final SearchStageTimer timer;
+        private final List<CandidateDto> candidates = new ArrayList<>();
+        private final List<CandidateDto> pending = new ArrayList<>();
+        private int emitted;
+        private boolean abandoned;
+
+        private CandidateStreamBatcher(Consumer<SearchStreamEventDto> listener, SearchStageTimer timer) {
+            this.listener = listener;
+            this.timer = timer;
+        }
+
+        /**
+         * @return 계속 읽어야 하면 true, 요청 스레드가 이미 포기했으면 false
+         */
+        private synchronized boolean add(CandidateDto candidate) {
+            if (abandoned) {
+                return false;
+            }
+            candidates.add(candidate);
+            pending.add(candidate);
+            if (pending.size() >= (emitted == 0 ? 1 : streamEnrichBatchSize)) {
+                flush();
+            }
+            return true;
+        }
+
+        private synchronized void flush() {
+            if (pending.isEmpty() || abandoned) {
+                return;
+            }
+            timer.time(SearchStage.ENRICHMENT, () -> enrichCandidatesWithUserInfo(pending));
+            emitCandidates(pending, listener);
+            emitted += pending.size();
+            pending.clear();
+        }
+
+        /**
+         * 아직 아무 후보도 보내지 않았으면 이후 전송을 막고 true (일반 검색으로 대체 가능)
+         */
+        private synchronized boolean abandonIfNothingEmitted() {
+            if (emitted == 0) {
+                abandoned = true;
+            }
+            return abandoned;
+        }
+    }
+
+    /**
+     * 배치 검색의 쿼리 하나 (중복 쿼리는 같은 객체를 공유)
+     * 실행자 스레드가 쓴 필드는 future 완료 이후 요청 스레드에서 읽는다.
+     */
+    private static class BatchQuery {
+
+        private final String query;
+        private final SearchMode mode;
+        private final SearchFilterDto filter;
+        private final String cacheKey;
+        private final SearchStageTimer timer = new SearchStageTimer();
+
+        private CompletableFuture<SearchResponseDto> future;
+        private boolean cached;
+        private long cacheGeneration;
+        private boolean timedOut;
+        private SearchResponseDto response;
+        private SearchResponseDto result;
+        private String error;
+
+        private BatchQuery(String query, SearchMode mode, SearchFilterDto filter, String cacheKey) {
+            this.query = query;
+            this.mode = mode;
+            this.filter = filter;
+            this.cacheKey = cacheKey;
+        }
+
+        private boolean needsEnrichment() {
+            return error == null && !cached && response.getCandidates() != null;
+        }
+    }
 }
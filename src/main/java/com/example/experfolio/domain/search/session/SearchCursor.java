@@ -0,0 +1,50 @@
+package com.example.experfolio.domain.search.session;
+
+import com.example.experfolio.global.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 페이지 커서 (세션 ID + 시작 위치 + 페이지 크기를 인코딩한 불투명 문자열)
+ * 커서는 클라이언트가 만들 수 있으므로 페이지 크기도 요청 DTO와 같은 상한으로 검증한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /** 페이지 크기 상한 (SearchRequestDto.pageSize의 @Max와 같음) */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final String sessionId;
+    private final int offset;
+    private final int pageSize;
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sessionId, String.valueOf(offset), String.valueOf(pageSize));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unsupported cursor");
+            }
+            int offset = Integer.parseInt(parts[2]);
+            int pageSize = Integer.parseInt(parts[3]);
+            if (offset < 0 || pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("invalid range");
+            }
+            return new SearchCursor(parts[1], offset, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 검색 커서입니다");
+        }
+    }
+}
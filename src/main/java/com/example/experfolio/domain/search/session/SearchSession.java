@@ -0,0 +1,37 @@
+package com.example.experfolio.domain.search.session;
+
+import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 세션
+ * 한 번의 검색으로 얻은 순위 목록(userInfo 제외)을 보관해 이후 페이지를 AI 서버 호출 없이 제공한다.
+ */
+@Getter
+@Builder
+public class SearchSession {
+
+    private final String id;
+
+    /**
+     * 세션을 만든 사용자 (다른 사용자의 커서 사용 방지)
+     */
+    private final String ownerId;
+
+    private final SearchMode mode;
+
+    /**
+     * 순위대로 정렬된 후보자 (userInfo 없음, 수정하지 않음)
+     */
+    private final List<CandidateDto> rankedCandidates;
+
+    private final String searchTime;
+
+    public int size() {
+        return rankedCandidates.size();
+    }
+}
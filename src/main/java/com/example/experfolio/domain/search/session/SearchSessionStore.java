@@ -0,0 +1,69 @@
+package com.example.experfolio.domain.search.session;
+
+import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 검색 세션 저장소
+ * 전체 보관 후보자 수(가중치)와 마지막 접근 후 TTL로 메모리 사용량을 제한한다.
+ */
+@Component
+public class SearchSessionStore {
+
+    private final Cache<String, SearchSession> sessions;
+
+    public SearchSessionStore(
+            MeterRegistry meterRegistry,
+            @Value("${search.session.max-candidates:200000}") long maxCandidates,
+            @Value("${search.session.ttl-seconds:1800}") long ttlSeconds) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumWeight(maxCandidates)
+                .weigher((String id, SearchSession session) -> session.size() + 1)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "searchSessions");
+    }
+
+    /**
+     * 검색 결과로 새 세션 생성 (userInfo는 페이지마다 다시 채우므로 보관하지 않는다)
+     */
+    public SearchSession create(String ownerId, SearchResponseDto response) {
+        List<CandidateDto> ranked = response.getCandidates() == null
+                ? List.of()
+                : response.getCandidates().stream()
+                        .map(candidate -> CandidateDto.builder()
+                                .userId(candidate.getUserId())
+                                .matchScore(candidate.getMatchScore())
+                                .matchReason(candidate.getMatchReason())
+                                .keywords(candidate.getKeywords())
+                                .build())
+                        .toList();
+
+        SearchSession session = SearchSession.builder()
+                .id(UUID.randomUUID().toString())
+                .ownerId(ownerId)
+                .mode(response.getMode())
+                .rankedCandidates(ranked)
+                .searchTime(response.getSearchTime())
+                .build();
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    public Optional<SearchSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId));
+    }
+}
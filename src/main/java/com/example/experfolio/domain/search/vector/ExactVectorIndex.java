@@ -0,0 +1,149 @@
+package com.example.experfolio.domain.search.vector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 전수 비교(exact) 벡터 인덱스
+ * 모든 벡터를 하나의 연속된 float[]에 행 단위로 저장하고, 질의마다 전체 행과 내적을 계산한다.
+ * 삭제는 마지막 행을 빈자리로 옮겨 배열을 빈틈없이 유지한다.
+ */
+public class ExactVectorIndex implements VectorIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> rowByUserId = new HashMap<>();
+
+    private int dimension;
+    private float[] data = new float[0];
+    private String[] userIds = new String[0];
+    private int size;
+
+    /**
+     * @param dimension 벡터 차원 (0이면 첫 upsert 시 결정)
+     */
+    public ExactVectorIndex(int dimension) {
+        this.dimension = dimension;
+    }
+
+    @Override
+    public void upsert(String userId, float[] vector) {
+        float[] normalized = Arrays.copyOf(vector, vector.length);
+        if (!VectorOps.normalize(normalized)) {
+            throw new IllegalArgumentException("영벡터는 인덱싱할 수 없습니다: " + userId);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (dimension == 0) {
+                dimension = normalized.length;
+            }
+            if (normalized.length != dimension) {
+                throw new IllegalArgumentException(String.format(
+                        "벡터 차원이 일치하지 않습니다: expected=%d, actual=%d", dimension, normalized.length));
+            }
+
+            Integer row = rowByUserId.get(userId);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowByUserId.put(userId, row);
+                userIds[row] = userId;
+            }
+            System.arraycopy(normalized, 0, data, row * dimension, dimension);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByUserId.remove(userId);
+            if (row == null) {
+                return false;
+            }
+            int last = --size;
+            if (row != last) {
+                System.arraycopy(data, last * dimension, data, row * dimension, dimension);
+                userIds[row] = userIds[last];
+                rowByUserId.put(userIds[row], row);
+            }
+            userIds[last] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VectorHit> search(float[] query, int k) {
+        return search(query, k, null);
+    }
+
+    @Override
+    public List<VectorHit> search(float[] query, int k, Predicate<String> filter) {
+        float[] normalized = Arrays.copyOf(query, query.length);
+        if (!VectorOps.normalize(normalized)) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return List.of();
+            }
+            if (normalized.length != dimension) {
+                throw new IllegalArgumentException(String.format(
+                        "쿼리 벡터 차원이 일치하지 않습니다: expected=%d, actual=%d", dimension, normalized.length));
+            }
+
+            TopKCollector collector = new TopKCollector(Math.min(k, size));
+            for (int row = 0, offset = 0; row < size; row++, offset += dimension) {
+                // 조건을 만족하지 않는 행은 내적을 계산하지 않는다
+                if (filter == null || filter.test(userIds[row])) {
+                    collector.offer(row, VectorOps.dot(normalized, 0, data, offset, dimension));
+                }
+            }
+            return collector.drainDescending(userIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        lock.readLock().lock();
+        try {
+            return dimension;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= userIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, Math.max(rows, userIds.length + (userIds.length >> 1)));
+        data = Arrays.copyOf(data, newCapacity * dimension);
+        userIds = Arrays.copyOf(userIds, newCapacity);
+    }
+}
@@ -0,0 +1,679 @@
+package com.example.experfolio.domain.search.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ *
+ * <ul>
+ *     <li>벡터는 노드 번호 순으로 하나의 연속된 float[]에 저장한다.</li>
+ *     <li>삭제는 톰스톤 방식이다. 삭제된 노드는 탐색 경로로는 계속 쓰이지만 결과에서는 제외되며,
+ *     삭제된 노드를 이웃으로 가진 노드들은 즉시 이웃을 다시 선택한다.</li>
+ *     <li>갱신은 기존 노드 삭제 후 새 노드 삽입으로 처리하므로 전체 재구축이 필요 없다.</li>
+ *     <li>삭제 노드가 전체의 절반을 넘으면 살아 있는 노드만으로 그래프를 다시 만들어 톰스톤을 회수한다.
+ *     (삭제 시 이웃을 복구하므로 역색인보다 높은 비율까지 톰스톤을 허용한다)</li>
+ * </ul>
+ * 탐색은 읽기 락, 삽입/삭제는 쓰기 락으로 보호한다.
+ */
+public class HnswIndex implements VectorIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * 필터 검색 시 탐색 폭 배수
+     */
+    private static final int FILTERED_EF_MULTIPLIER = 4;
+
+    private static final int MIN_DELETED_FOR_COMPACTION = 64;
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private volatile int efSearch;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> nodeByUserId = new HashMap<>();
+
+    private int dimension;
+    private float[] vectors = new float[0];
+    private String[] userIds = new String[0];
+    private int[] levels = new int[0];
+    /**
+     * links[node][level] = {이웃 수, 이웃1, 이웃2, ...}
+     */
+    private int[][][] links = new int[0][][];
+    private final BitSet deleted = new BitSet();
+    /**
+     * nodesByLevel[level] = 최상위 레이어가 level인 노드 (삭제 노드는 진입점을 다시 고를 때 제거)
+     */
+    private final List<IntStack> nodesByLevel = new ArrayList<>();
+
+    private int nodeCount;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param dimension      벡터 차원 (0이면 첫 upsert 시 결정)
+     * @param m              상위 레이어의 노드당 최대 이웃 수 (레이어 0은 2m)
+     * @param efConstruction 삽입 시 후보 탐색 폭
+     * @param efSearch       검색 시 후보 탐색 폭
+     * @param seed           레벨 추첨용 난수 시드
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, int efSearch, long seed) {
+        if (m < 2) {
+            throw new IllegalArgumentException("m은 2 이상이어야 합니다");
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.efSearch = Math.max(efSearch, 1);
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public int getEfSearch() {
+        return efSearch;
+    }
+
+    /**
+     * 검색 탐색 폭 조정 (클수록 recall이 높고 느려진다)
+     */
+    public void setEfSearch(int efSearch) {
+        this.efSearch = Math.max(efSearch, 1);
+    }
+
+    @Override
+    public void upsert(String userId, float[] vector) {
+        float[] normalized = Arrays.copyOf(vector, vector.length);
+        if (!VectorOps.normalize(normalized)) {
+            throw new IllegalArgumentException("영벡터는 인덱싱할 수 없습니다: " + userId);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (dimension == 0) {
+                dimension = normalized.length;
+            }
+            if (normalized.length != dimension) {
+                throw new IllegalArgumentException(String.format(
+                        "벡터 차원이 일치하지 않습니다: expected=%d, actual=%d", dimension, normalized.length));
+            }
+
+            Integer existing = nodeByUserId.get(userId);
+            if (existing != null) {
+                markDeleted(existing);
+            }
+            insert(userId, normalized);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByUserId.get(userId);
+            if (node == null) {
+                return false;
+            }
+            markDeleted(node);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VectorHit> search(float[] query, int k) {
+        return search(query, k, null);
+    }
+
+    /**
+     * 필터 검색
+     * 그래프 탐색 폭(ef)을 넓혀 조건을 만족하는 노드만 수집하고, k개를 채우지 못하면
+     * (조건이 매우 좁은 경우) 조건을 만족하는 노드만 전수 비교한다.
+     */
+    @Override
+    public List<VectorHit> search(float[] query, int k, Predicate<String> filter) {
+        float[] normalized = Arrays.copyOf(query, query.length);
+        if (!VectorOps.normalize(normalized)) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            checkQueryDimension(normalized);
+            if (filter == null) {
+                return searchInternal(normalized, k, Math.max(efSearch, k), null);
+            }
+            int ef = Math.max(efSearch, k) * FILTERED_EF_MULTIPLIER;
+            List<VectorHit> hits = searchInternal(normalized, k, ef, filter);
+            if (hits.size() < Math.min(k, nodeCount - deletedCount)) {
+                return exactSearchInternal(normalized, k, filter);
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 모든 노드를 전수 비교한 정확한 상위 k개 (recall 측정 기준)
+     */
+    public List<VectorHit> exactSearch(float[] query, int k) {
+        float[] normalized = Arrays.copyOf(query, query.length);
+        if (!VectorOps.normalize(normalized)) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            checkQueryDimension(normalized);
+            return exactSearchInternal(normalized, k, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * recall@k 측정
+     * 저장된 벡터 중 sampleSize개를 질의로 사용해 HNSW 결과와 전수 비교 결과의 겹침 비율을 계산한다.
+     *
+     * @return 0.0 ~ 1.0 (인덱스가 비어 있으면 1.0)
+     */
+    public double recallAtK(int k, int sampleSize, long seed) {
+        lock.readLock().lock();
+        try {
+            int live = nodeCount - deletedCount;
+            if (live == 0 || k <= 0) {
+                return 1.0;
+            }
+
+            SplittableRandom sampler = new SplittableRandom(seed);
+            float[] query = new float[dimension];
+            long expectedTotal = 0;
+            long matched = 0;
+
+            for (int sample = 0; sample < sampleSize; sample++) {
+                int node = randomLiveNode(sampler);
+                System.arraycopy(vectors, node * dimension, query, 0, dimension);
+
+                List<VectorHit> exact = exactSearchInternal(query, k, null);
+                Set<String> approximate = new HashSet<>();
+                for (VectorHit hit : searchInternal(query, k, Math.max(efSearch, k), null)) {
+                    approximate.add(hit.getUserId());
+                }
+
+                expectedTotal += exact.size();
+                for (VectorHit hit : exact) {
+                    if (approximate.contains(hit.getUserId())) {
+                        matched++;
+                    }
+                }
+            }
+            return expectedTotal == 0 ? 1.0 : (double) matched / expectedTotal;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int dimension() {
+        lock.readLock().lock();
+        try {
+            return dimension;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 톰스톤으로 남아 있는 삭제 노드 수
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void checkQueryDimension(float[] query) {
+        if (nodeCount > 0 && query.length != dimension) {
+            throw new IllegalArgumentException(String.format(
+                    "쿼리 벡터 차원이 일치하지 않습니다: expected=%d, actual=%d", dimension, query.length));
+        }
+    }
+
+    // ===== 검색 =====
+
+    private List<VectorHit> searchInternal(float[] query, int k, int ef, Predicate<String> filter) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+
+        int current = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            current = greedyClosest(query, current, level);
+        }
+
+        ScoredNodeHeap results = searchLayer(query, current, ef, 0);
+
+        TopKCollector collector = new TopKCollector(Math.min(k, results.size()));
+        for (int i = 0; i < results.size(); i++) {
+            int node = results.nodeAt(i);
+            if (!deleted.get(node) && (filter == null || filter.test(userIds[node]))) {
+                collector.offer(node, results.scoreAt(i));
+            }
+        }
+        return collector.drainDescending(userIds);
+    }
+
+    private List<VectorHit> exactSearchInternal(float[] query, int k, Predicate<String> filter) {
+        int live = nodeCount - deletedCount;
+        if (live == 0 || k <= 0) {
+            return List.of();
+        }
+        TopKCollector collector = new TopKCollector(Math.min(k, live));
+        for (int node = 0; node < nodeCount; node++) {
+            if (!deleted.get(node) && (filter == null || filter.test(userIds[node]))) {
+                collector.offer(node, VectorOps.dot(query, 0, vectors, node * dimension, dimension));
+            }
+        }
+        return collector.drainDescending(userIds);
+    }
+
+    /**
+     * 한 레이어에서 질의와 가장 가까운 노드를 탐욕적으로 찾는다 (ef = 1)
+     */
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] neighbors = links[current][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int candidate = neighbors[i];
+                float score = similarity(query, candidate);
+                if (score > best) {
+                    best = score;
+                    current = candidate;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레이어에서 ef개의 최근접 후보를 찾는다 (삭제 노드 포함, 결과는 최소 힙)
+     */
+    private ScoredNodeHeap searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodeCount);
+        ScoredNodeHeap candidates = ScoredNodeHeap.maxHeap(ef * 2);
+        ScoredNodeHeap results = ScoredNodeHeap.minHeap(ef + 1);
+
+        float startScore = similarity(query, start);
+        visited.set(start);
+        candidates.push(start, startScore);
+        results.push(start, startScore);
+
+        while (!candidates.isEmpty()) {
+            float candidateScore = candidates.peekScore();
+            if (results.size() >= ef && candidateScore < results.peekScore()) {
+                break;
+            }
+            int candidate = candidates.pop();
+
+            int[] neighbors = links[candidate][level];
+            for (int i = 1; i <= neighbors[0]; i++) {
+                int neighbor = neighbors[i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                float score = similarity(query, neighbor);
+                if (results.size() < ef || score > results.peekScore()) {
+                    candidates.push(neighbor, score);
+                    results.push(neighbor, score);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // ===== 삽입 / 삭제 =====
+
+    private void insert(String userId, float[] vector) {
+        int level = randomLevel();
+        int node = allocate(userId, vector, level);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            ScoredNodeHeap found = searchLayer(vector, current, efConstruction, l);
+
+            List<int[]> candidates = new ArrayList<>(found.size());
+            int best = current;
+            float bestScore = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < found.size(); i++) {
+                int candidate = found.nodeAt(i);
+                float score = found.scoreAt(i);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = candidate;
+                }
+                if (candidate != node && !deleted.get(candidate)) {
+                    candidates.add(new int[]{candidate, Float.floatToRawIntBits(score)});
+                }
+            }
+
+            int[] selected = selectNeighbors(node, candidates, maxNeighbors(l));
+            setLinks(node, l, selected);
+            for (int neighbor : selected) {
+                addLink(neighbor, l, node);
+            }
+            current = best;
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private void markDeleted(int node) {
+        deleted.set(node);
+        deletedCount++;
+        nodeByUserId.remove(userIds[node]);
+
+        // 삭제 노드를 이웃으로 가진 노드들의 연결을 복구
+        for (int level = 0; level <= levels[node]; level++) {
+            int[] deletedLinks = links[node][level];
+            for (int i = 1; i <= deletedLinks[0]; i++) {
+                int neighbor = deletedLinks[i];
+                if (deleted.get(neighbor) || !hasLink(neighbor, level, node)) {
+                    continue;
+                }
+                repairLinks(neighbor, level, deletedLinks);
+            }
+        }
+
+        if (node == entryPoint) {
+            reassignEntryPoint();
+        }
+    }
+
+    private void repairLinks(int node, int level, int[] deletedLinks) {
+        Set<Integer> seen = new HashSet<>();
+        List<int[]> candidates = new ArrayList<>();
+
+        int[] current = links[node][level];
+        for (int i = 1; i <= current[0]; i++) {
+            addRepairCandidate(node, current[i], seen, candidates);
+        }
+        for (int i = 1; i <= deletedLinks[0]; i++) {
+            addRepairCandidate(node, deletedLinks[i], seen, candidates);
+        }
+
+        setLinks(node, level, selectNeighbors(node, candidates, maxNeighbors(level)));
+    }
+
+    private void addRepairCandidate(int node, int candidate, Set<Integer> seen, List<int[]> candidates) {
+        if (candidate == node || deleted.get(candidate) || !seen.add(candidate)) {
+            return;
+        }
+        float score = VectorOps.dot(vectors, node * dimension, vectors, candidate * dimension, dimension);
+        candidates.add(new int[]{candidate, Float.floatToRawIntBits(score)});
+    }
+
+    /**
+     * 살아 있는 노드 중 레이어가 가장 높은 노드를 새 진입점으로 선택
+     * 위 레이어부터 내려오며 삭제 노드를 목록에서 제거하므로 노드마다 한 번만 확인한다.
+     */
+    private void reassignEntryPoint() {
+        entryPoint = -1;
+        maxLevel = -1;
+        for (int level = nodesByLevel.size() - 1; level >= 0; level--) {
+            IntStack nodes = nodesByLevel.get(level);
+            while (nodes.size > 0 && deleted.get(nodes.peek())) {
+                nodes.pop();
+            }
+            if (nodes.size > 0) {
+                entryPoint = nodes.peek();
+                maxLevel = level;
+                return;
+            }
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount * 2 > nodeCount) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 노드를 버리고 살아 있는 노드만으로 그래프를 다시 구성 (노드 번호도 0부터 다시 매김)
+     */
+    private void compact() {
+        int live = nodeCount - deletedCount;
+        String[] liveUserIds = new String[live];
+        float[][] liveVectors = new float[live][];
+        int count = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (!deleted.get(node)) {
+                liveUserIds[count] = userIds[node];
+                liveVectors[count++] = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+            }
+        }
+
+        vectors = new float[0];
+        userIds = new String[0];
+        levels = new int[0];
+        links = new int[0][][];
+        deleted.clear();
+        nodesByLevel.clear();
+        nodeByUserId.clear();
+        nodeCount = 0;
+        deletedCount = 0;
+        entryPoint = -1;
+        maxLevel = -1;
+
+        ensureCapacity(live);
+        for (int i = 0; i < live; i++) {
+            insert(liveUserIds[i], liveVectors[i]);
+        }
+    }
+
+    private void addLink(int node, int level, int newNeighbor) {
+        int[] current = links[node][level];
+        int capacity = maxNeighbors(level);
+        if (current[0] < capacity) {
+            current[++current[0]] = newNeighbor;
+            return;
+        }
+
+        // 이웃이 가득 찼으면 기존 이웃 + 새 이웃 중에서 다시 선택 (삭제 노드는 우선 탈락)
+        List<int[]> candidates = new ArrayList<>(capacity + 1);
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 1; i <= current[0]; i++) {
+            addRepairCandidate(node, current[i], seen, candidates);
+        }
+        addRepairCandidate(node, newNeighbor, seen, candidates);
+        setLinks(node, level, selectNeighbors(node, candidates, capacity));
+    }
+
+    /**
+     * 이웃 선택 휴리스틱 (HNSW 논문 Algorithm 4)
+     * 이미 선택된 이웃보다 기준 노드에 더 가까운 후보만 고르고, 모자라면 탈락 후보로 채운다.
+     *
+     * @param candidates {node, floatBits(기준 노드와의 유사도)} 목록
+     */
+    private int[] selectNeighbors(int base, List<int[]> candidates, int maxCount) {
+        candidates.sort((a, b) -> Float.compare(Float.intBitsToFloat(b[1]), Float.intBitsToFloat(a[1])));
+
+        int[] selected = new int[Math.min(maxCount, candidates.size())];
+        int count = 0;
+        List<int[]> pruned = new ArrayList<>();
+
+        for (int[] candidate : candidates) {
+            if (count == selected.length) {
+                break;
+            }
+            float toBase = Float.intBitsToFloat(candidate[1]);
+            boolean keep = true;
+            for (int i = 0; i < count; i++) {
+                float toSelected = VectorOps.dot(vectors, candidate[0] * dimension, vectors, selected[i] * dimension, dimension);
+                if (toSelected > toBase) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[count++] = candidate[0];
+            } else {
+                pruned.add(candidate);
+            }
+        }
+
+        for (int i = 0; count < selected.length && i < pruned.size(); i++) {
+            selected[count++] = pruned.get(i)[0];
+        }
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    private void setLinks(int node, int level, int[] neighbors) {
+        int[] target = links[node][level];
+        target[0] = neighbors.length;
+        System.arraycopy(neighbors, 0, target, 1, neighbors.length);
+    }
+
+    private boolean hasLink(int node, int level, int target) {
+        if (levels[node] < level) {
+            return false;
+        }
+        int[] neighbors = links[node][level];
+        for (int i = 1; i <= neighbors[0]; i++) {
+            if (neighbors[i] == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int allocate(String userId, float[] vector, int level) {
+        ensureCapacity(nodeCount + 1);
+        int node = nodeCount++;
+
+        System.arraycopy(vector, 0, vectors, node * dimension, dimension);
+        userIds[node] = userId;
+        levels[node] = level;
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            links[node][l] = new int[maxNeighbors(l) + 1];
+        }
+        nodeByUserId.put(userId, node);
+        while (nodesByLevel.size() <= level) {
+            nodesByLevel.add(new IntStack());
+        }
+        nodesByLevel.get(level).push(node);
+        return node;
+    }
+
+    private void ensureCapacity(int nodes) {
+        if (nodes <= userIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, Math.max(nodes, userIds.length + (userIds.length >> 1)));
+        vectors = Arrays.copyOf(vectors, newCapacity * dimension);
+        userIds = Arrays.copyOf(userIds, newCapacity);
+        levels = Arrays.copyOf(levels, newCapacity);
+        links = Arrays.copyOf(links, newCapacity);
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private int randomLiveNode(SplittableRandom sampler) {
+        while (true) {
+            int node = sampler.nextInt(nodeCount);
+            if (!deleted.get(node)) {
+                return node;
+            }
+        }
+    }
+
+    private int maxNeighbors(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private float similarity(float[] query, int node) {
+        return VectorOps.dot(query, 0, vectors, node * dimension, dimension);
+    }
+
+    private static final class IntStack {
+
+        private int[] values = new int[8];
+        private int size;
+
+        private void push(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int peek() {
+            return values[size - 1];
+        }
+
+        private void pop() {
+            size--;
+        }
+    }
+}
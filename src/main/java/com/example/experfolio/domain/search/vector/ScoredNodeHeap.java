@@ -0,0 +1,111 @@
+package com.example.experfolio.domain.search.vector;
+
+import java.util.Arrays;
+
+/**
+ * (node, score) 이진 힙
+ * HNSW 탐색의 후보 큐(최대 힙)와 결과 집합(최소 힙)에 사용한다.
+ */
+final class ScoredNodeHeap {
+
+    private final boolean maxHeap;
+    private int[] nodes;
+    private float[] scores;
+    private int size;
+
+    ScoredNodeHeap(int initialCapacity, boolean maxHeap) {
+        this.maxHeap = maxHeap;
+        this.nodes = new int[Math.max(initialCapacity, 4)];
+        this.scores = new float[nodes.length];
+    }
+
+    static ScoredNodeHeap maxHeap(int initialCapacity) {
+        return new ScoredNodeHeap(initialCapacity, true);
+    }
+
+    static ScoredNodeHeap minHeap(int initialCapacity) {
+        return new ScoredNodeHeap(initialCapacity, false);
+    }
+
+    void push(int node, float score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        nodes[size] = node;
+        scores[size] = score;
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    int peekNode() {
+        return nodes[0];
+    }
+
+    float peekScore() {
+        return scores[0];
+    }
+
+    /**
+     * @return 꺼낸 node
+     */
+    int pop() {
+        int node = nodes[0];
+        size--;
+        nodes[0] = nodes[size];
+        scores[0] = scores[size];
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int child = left;
+            if (left + 1 < size && before(left + 1, left)) {
+                child = left + 1;
+            }
+            if (!before(child, index)) {
+                break;
+            }
+            swap(index, child);
+            index = child;
+        }
+        return node;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int nodeAt(int index) {
+        return nodes[index];
+    }
+
+    float scoreAt(int index) {
+        return scores[index];
+    }
+
+    private boolean before(int i, int j) {
+        return maxHeap ? scores[i] > scores[j] : scores[i] < scores[j];
+    }
+
+    private void swap(int i, int j) {
+        int node = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = node;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
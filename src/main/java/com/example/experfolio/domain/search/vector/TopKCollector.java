@@ -0,0 +1,102 @@
+package com.example.experfolio.domain.search.vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상위 k개 (row, score) 수집기
+ * 박싱 없이 int/float 배열 위의 최소 힙으로 동작한다.
+ */
+final class TopKCollector {
+
+    private final int capacity;
+    private final int[] rows;
+    private final float[] scores;
+    private int size;
+
+    TopKCollector(int capacity) {
+        this.capacity = capacity;
+        this.rows = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    /**
+     * 현재 수집된 최저 점수 (가득 차지 않았으면 -∞)
+     */
+    float threshold() {
+        return size < capacity ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    void offer(int row, float score) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            rows[size] = row;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            rows[0] = row;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순으로 꺼낸다. 호출 후 수집기는 비워진다.
+     */
+    List<VectorHit> drainDescending(String[] ids) {
+        VectorHit[] hits = new VectorHit[size];
+        for (int i = size - 1; i >= 0; i--) {
+            hits[i] = new VectorHit(ids[rows[0]], scores[0]);
+            size--;
+            rows[0] = rows[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return new ArrayList<>(List.of(hits));
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int row = rows[i];
+        rows[i] = rows[j];
+        rows[j] = row;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.experfolio.domain.search.vector;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 벡터 검색 결과 (userId + 코사인 유사도)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class VectorHit {
+    private final String userId;
+    private final float score;
+}
@@ -0,0 +1,42 @@
+package com.example.experfolio.domain.search.vector;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 포트폴리오 임베딩 벡터 인덱스
+ * 저장되는 벡터는 모두 L2 정규화되어 있으며 점수는 코사인 유사도다.
+ */
+public interface VectorIndex {
+
+    /**
+     * 벡터 추가 또는 교체
+     */
+    void upsert(String userId, float[] vector);
+
+    /**
+     * 벡터 삭제
+     *
+     * @return 삭제된 항목이 있었는지 여부
+     */
+    boolean remove(String userId);
+
+    /**
+     * 코사인 유사도 기준 상위 k개 검색 (내림차순)
+     */
+    List<VectorHit> search(float[] query, int k);
+
+    /**
+     * 조건을 만족하는 userId 중 코사인 유사도 기준 상위 k개 검색 (내림차순)
+     *
+     * @param filter userId 조건 (null이면 전체)
+     */
+    List<VectorHit> search(float[] query, int k, Predicate<String> filter);
+
+    int size();
+
+    /**
+     * 벡터 차원 (아직 비어 있으면 0)
+     */
+    int dimension();
+}
@@ -0,0 +1,57 @@
+package com.example.experfolio.domain.search.vector;
+
+
+/**
+ * 벡터 연산 유틸리티
+ * JDK Vector API(jdk.incubator.vector)가 로드되어 있으면 SIMD 구현을, 없으면 스칼라 구현을 사용한다.
+ */
+public final class VectorOps {
+
+    private static final boolean SIMD_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorOps() {
+    }
+
+    public static boolean isSimdAvailable() {
+        return SIMD_AVAILABLE;
+    }
+
+    /**
+     * 내적 계산 (a[aOffset..aOffset+length) · b[bOffset..bOffset+length))
+     */
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        if (SIMD_AVAILABLE) {
+            return SimdVectorOps.dot(a, aOffset, b, bOffset, length);
+        }
+        return scalarDot(a, aOffset, b, bOffset, length);
+    }
+
+    public static float dot(float[] a, float[] b) {
+        return dot(a, 0, b, 0, a.length);
+    }
+
+    static float scalarDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * L2 정규화 (제자리 변환). 정규화된 벡터끼리의 내적은 코사인 유사도와 같다.
+     *
+     * @return 영벡터라서 정규화할 수 없으면 false
+     */
+    public static boolean normalize(float[] vector) {
+        float norm = (float) Math.sqrt(dot(vector, vector));
+        if (norm == 0f || Float.isNaN(norm)) {
+            return false;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= norm;
+        }
+        return true;
+    }
+}
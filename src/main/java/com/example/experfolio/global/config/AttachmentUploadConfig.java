@@ -0,0 +1,36 @@
+package com.example.experfolio.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 첨부파일 업로드 실행자 설정
+ * 모든 요청의 R2 업로드가 이 풀을 공유하므로 풀 크기가 동시에 진행되는 업로드 수(버퍼/커넥션 사용량)의 상한이다.
+ * 큐가 가득 차면 요청 스레드가 직접 업로드하여 대기 작업이 무한히 쌓이지 않는다.
+ */
+@Configuration
+public class AttachmentUploadConfig {
+
+    @Value("${portfolio.upload.pool-size:16}")
+    private int poolSize;
+
+    @Value("${portfolio.upload.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor attachmentUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("attachment-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -1,14 +1,21 @@
 package com.example.experfolio.global.config;
 
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorConverters;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.MongoConverterConfigurationAdapter;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.Locale;
+
 /**
  * MongoDB 설정 클래스
  *
@@ -25,6 +32,9 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     @Value("${spring.data.mongodb.database:experfolio}")
     private String databaseName;
 
+    @Value("${portfolio.vector.storage-format:array}")
+    private String vectorStorageFormat;
+
     @Override
     protected String getDatabaseName() {
         return databaseName;
@@ -36,8 +46,18 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
         return MongoClients.create(mongoUri);
     }
 
+    /**
+     * 커스텀 변환기(kureVector BinData 등)가 등록된 매핑 컨버터를 사용
+     */
+    @Override
     @Bean
-    public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(mongoClient(), getDatabaseName());
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory databaseFactory, MappingMongoConverter converter) {
+        return new MongoTemplate(databaseFactory, converter);
+    }
+
+    @Override
+    protected void configureConverters(MongoConverterConfigurationAdapter adapter) {
+        VectorStorageFormat format = VectorStorageFormat.valueOf(vectorStorageFormat.toUpperCase(Locale.ROOT));
+        adapter.registerConverters(EmbeddingVectorConverters.converters(format));
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.experfolio.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+/**
+ * multipart 처리 설정
+ * 스트리밍 업로드 경로(…/stream)는 Spring이 파트를 미리 메모리/임시 파일로 받지 않도록 multipart로 보지 않는다.
+ * 해당 요청 본문은 컨트롤러에서 commons-fileupload 스트리밍 API로 직접 읽는다.
+ * (이 빈이 있으면 Spring Boot 기본 MultipartResolver는 등록되지 않지만 spring.servlet.multipart 제한은 그대로 적용된다)
+ */
+@Configuration
+public class MultipartConfig {
+
+    public static final String STREAMING_PATH_SUFFIX = "/stream";
+
+    @Bean
+    public MultipartResolver multipartResolver() {
+        return new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !request.getRequestURI().endsWith(STREAMING_PATH_SUFFIX) && super.isMultipart(request);
+            }
+        };
+    }
+}
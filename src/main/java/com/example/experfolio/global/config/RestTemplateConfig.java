@@ -1,17 +1,36 @@
 package com.example.experfolio.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 /**
  * RestTemplate 설정
+ * AI 서버 호출용 커넥션 풀(Apache HttpClient 5)을 사용해 요청마다 TCP/TLS 연결을 새로 맺지 않는다.
+ * ai.server.http.http2-enabled=true면 HTTP/2를 우선 협상하는 JDK HttpClient를 사용한다.
  */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
@@ -21,16 +40,87 @@ public class RestTemplateConfig {
     @Value("${ai.server.timeout.read:30000}")
     private int readTimeout;
 
-    @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeout);
-        factory.setReadTimeout(readTimeout);
+    @Value("${ai.server.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${ai.server.http.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${ai.server.http.connection-request-timeout:2000}")
+    private int connectionRequestTimeout;
+
+    @Value("${ai.server.http.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    @Value("${ai.server.http.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${ai.server.http.http2-enabled:false}")
+    private boolean http2Enabled;
 
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory aiServerRequestFactory) {
         return builder
-                .requestFactory(() -> factory)
-                .setConnectTimeout(Duration.ofMillis(connectTimeout))
-                .setReadTimeout(Duration.ofMillis(readTimeout))
+                .requestFactory(() -> aiServerRequestFactory)
+                .build();
+    }
+
+    /**
+     * 빈으로 등록해 종료 시 커넥션 풀을 닫는다.
+     */
+    @Bean
+    public ClientHttpRequestFactory aiServerRequestFactory(MeterRegistry meterRegistry) {
+        return http2Enabled
+                ? jdkRequestFactory()
+                : pooledRequestFactory(meterRegistry);
+    }
+
+    /**
+     * Apache HttpClient 5 커넥션 풀 (keep-alive, 라우트별 상한, 유휴 커넥션 정리, 풀 사용량 메트릭)
+     */
+    private ClientHttpRequestFactory pooledRequestFactory(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(idleEvictionSeconds))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
                 .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "aiServer").bindTo(meterRegistry);
+
+        log.info("AI server HTTP client: pooled (maxTotal={}, maxPerRoute={})", maxConnections, maxConnectionsPerRoute);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * JDK HttpClient (HTTP/2 우선, 미지원 서버는 HTTP/1.1로 협상). 내부 풀을 사용하며 풀 메트릭은 제공하지 않는다.
+     */
+    private ClientHttpRequestFactory jdkRequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeout));
+
+        log.info("AI server HTTP client: JDK HttpClient (HTTP/2 preferred)");
+        return factory;
     }
 }
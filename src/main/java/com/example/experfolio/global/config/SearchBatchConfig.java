@@ -0,0 +1,31 @@
+package com.example.experfolio.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 배치 검색 실행자 설정
+ * 배치 검색의 쿼리들은 이 풀에서 병렬로 실행되며, 풀 크기가 전체 배치 검색의 동시 실행 수 상한이다.
+ */
+@Configuration
+public class SearchBatchConfig {
+
+    @Value("${search.batch.pool-size:16}")
+    private int poolSize;
+
+    @Value("${search.batch.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor searchBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
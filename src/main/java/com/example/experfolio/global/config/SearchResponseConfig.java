@@ -0,0 +1,21 @@
+package com.example.experfolio.global.config;
+
+import com.example.experfolio.domain.search.controller.SearchResponseJsonConverter;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 검색 응답 컨버터 설정
+ * HttpMessageConverter 빈은 Boot 기본 컨버터 목록 앞에 추가되므로 SearchResponseDto 응답은 이 컨버터가 먼저 처리한다.
+ */
+@Configuration
+public class SearchResponseConfig {
+
+    @Bean
+    public SearchResponseJsonConverter searchResponseJsonConverter(ObjectMapper objectMapper,
+                                                                   SearchMetrics searchMetrics) {
+        return new SearchResponseJsonConverter(objectMapper, searchMetrics);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.experfolio.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 스트리밍 검색 실행자 설정
+ * SSE/NDJSON 검색은 요청 스레드를 반환한 뒤 이 풀에서 실행된다.
+ */
+@Configuration
+public class SearchStreamConfig {
+
+    @Value("${search.stream.pool-size:16}")
+    private int poolSize;
+
+    @Value("${search.stream.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor searchStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
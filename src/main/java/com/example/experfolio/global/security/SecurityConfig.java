@@ -4,7 +4,9 @@ import com.example.experfolio.global.security.jwt.JwtAccessDeniedHandler;
 import com.example.experfolio.global.security.jwt.JwtAuthenticationEntryPoint;
 import com.example.experfolio.global.security.jwt.JwtAuthenticationFilter;
 import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +19,10 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,6 +39,9 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    @Value("${management.server.port:-1}")
+    private int managementServerPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -64,11 +73,16 @@ public class SecurityConfig {
             // HTTP 요청에 대한 인가 설정
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                    // 스트리밍 응답의 비동기 디스패치 (최초 요청에서 이미 인가됨)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                     // 공개 API
                 .requestMatchers("/").permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/health").permitAll()
+
+                // Actuator (헬스 체크, Prometheus 스크랩) - 공개 라우팅하지 않는 관리 포트로 온 요청만 허용
+                .requestMatchers(managementEndpoints()).permitAll()
                 
                 // Swagger UI
                 .requestMatchers("/swagger-ui/**").permitAll()
@@ -99,6 +113,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 관리 포트(management.server.port)의 헬스 체크/Prometheus 엔드포인트
+     * 관리 포트를 따로 두지 않으면 어떤 요청도 일치하지 않아 Actuator도 인증이 필요하다.
+     */
+    private RequestMatcher managementEndpoints() {
+        RequestMatcher managementPort = request -> managementServerPort > 0
+                && request.getLocalPort() == managementServerPort;
+        return new AndRequestMatcher(managementPort, new OrRequestMatcher(
+                AntPathRequestMatcher.antMatcher("/actuator/health"),
+                AntPathRequestMatcher.antMatcher("/actuator/health/**"),
+                AntPathRequestMatcher.antMatcher("/actuator/prometheus")));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
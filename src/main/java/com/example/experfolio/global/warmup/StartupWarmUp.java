@@ -0,0 +1,322 @@
+package com.example.experfolio.global.warmup;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.search.client.EmbeddingClient;
+import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.dto.UserInfoDto;
+import com.example.experfolio.domain.search.service.SearchService;
+import com.example.experfolio.domain.user.entity.UserRole;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 기동 직후 워밍업
+ * 배포 직후 첫 요청이 커넥션 생성, 클래스 로딩/JIT, 빈 캐시 비용을 치르지 않도록
+ * readiness가 열리기 전에 커넥션 풀을 미리 열고, 자주 쓰는 검색을 실행하고, 최근 후보자 요약을 캐시에 적재한다.
+ *
+ * 각 단계의 실패는 기록만 하고 다음 단계로 넘어간다. 진행 상태는 {@link WarmUpHealthIndicator}가 readiness에 반영한다.
+ * 커넥션을 여는 블로킹 호출은 공용 ForkJoinPool 대신 워밍업 동안만 쓰는 전용 스레드에서 실행하고,
+ * 워밍업 검색은 {@link WarmUpContext}로 표시해 검색 메트릭과 AI 서버 회로 집계에서 제외한다.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp {
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final EmbeddingClient embeddingClient;
+    private final S3Client s3Client;
+    private final SearchService searchService;
+    private final PortfolioSummaryCache portfolioSummaryCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final long timeoutMs;
+    private final List<String> queries;
+    private final SearchMode searchMode;
+    private final int recentCandidates;
+    private final int aiConnections;
+    private final int mongoConnections;
+    private final int iterations;
+    private final String bucketName;
+
+    /**
+     * 단계 이름 → 결과 ("123ms" 또는 "failed: ...")
+     */
+    private final Map<String, String> stepResults = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private volatile State state = State.PENDING;
+    private volatile long startedAtNanos;
+    private volatile long durationMs = -1;
+
+    public StartupWarmUp(
+            MongoTemplate mongoTemplate,
+            EmbeddingClient embeddingClient,
+            S3Client s3Client,
+            SearchService searchService,
+            PortfolioSummaryCache portfolioSummaryCache,
+            JwtTokenProvider jwtTokenProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.timeout-ms:60000}") long timeoutMs,
+            @Value("${warmup.queries:}") List<String> queries,
+            @Value("${warmup.search-mode:AI}") SearchMode searchMode,
+            @Value("${warmup.recent-candidates:500}") int recentCandidates,
+            @Value("${warmup.ai-connections:4}") int aiConnections,
+            @Value("${warmup.mongo-connections:4}") int mongoConnections,
+            @Value("${warmup.iterations:200}") int iterations,
+            @Value("${r2.bucket-name:experfolio-files}") String bucketName) {
+        this.mongoTemplate = mongoTemplate;
+        this.embeddingClient = embeddingClient;
+        this.s3Client = s3Client;
+        this.searchService = searchService;
+        this.portfolioSummaryCache = portfolioSummaryCache;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.timeoutMs = timeoutMs;
+        this.queries = queries;
+        this.searchMode = searchMode;
+        this.recentCandidates = recentCandidates;
+        this.aiConnections = aiConnections;
+        this.mongoConnections = mongoConnections;
+        this.iterations = iterations;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * 기동 완료 후 별도 스레드에서 워밍업 (요청 처리와 liveness는 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = State.COMPLETED;
+            durationMs = 0;
+            return;
+        }
+        Thread thread = new Thread(this::run, "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 모든 워밍업 단계를 순서대로 실행
+     */
+    public void run() {
+        startedAtNanos = System.nanoTime();
+        state = State.RUNNING;
+        log.info("Startup warm-up started");
+
+        ExecutorService connectionExecutor = connectionExecutor();
+        try {
+            step("mongo_pool", () -> openMongoConnections(connectionExecutor));
+            step("ai_pool", () -> openAiServerConnections(connectionExecutor));
+        } finally {
+            connectionExecutor.shutdownNow();
+        }
+        step("r2", () -> s3Client.headBucket(request -> request.bucket(bucketName)));
+        step("jwt", this::exerciseJwt);
+        step("jackson", this::exerciseJackson);
+        step("candidate_summaries", this::preloadRecentCandidates);
+        step("search_queries", () -> WarmUpContext.run(this::replayQueries));
+
+        durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        state = State.COMPLETED;
+        Timer.builder("startup.warmup.duration")
+                .description("Time spent warming up before accepting traffic")
+                .tag("step", "total")
+                .register(meterRegistry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        log.info("Startup warm-up completed in {}ms: {}", durationMs, getStepResults());
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 제한 시간이 지나도록 끝나지 않았는지 (이 경우 readiness를 더 막지 않는다)
+     */
+    public boolean isTimedOut() {
+        return state == State.RUNNING
+                && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos) > timeoutMs;
+    }
+
+    /**
+     * 전체 소요 시간 (완료 전이면 -1)
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public Map<String, String> getStepResults() {
+        synchronized (stepResults) {
+            return new LinkedHashMap<>(stepResults);
+        }
+    }
+
+    private void step(String name, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            long elapsed = System.nanoTime() - start;
+            stepResults.put(name, TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+            Timer.builder("startup.warmup.duration")
+                    .description("Time spent warming up before accepting traffic")
+                    .tag("step", name)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.warn("Startup warm-up step {} failed: {}", name, e.getMessage());
+            stepResults.put(name, "failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 동시에 ping을 보내 MongoDB 커넥션 여러 개를 미리 연다
+     */
+    private void openMongoConnections(ExecutorService executor) {
+        runConcurrently(executor, mongoConnections, () -> mongoTemplate.executeCommand(new Document("ping", 1)));
+    }
+
+    /**
+     * 동시에 임베딩 요청을 보내 AI 서버 커넥션을 미리 열고 모델 추론 경로도 데운다
+     */
+    private void openAiServerConnections(ExecutorService executor) {
+        runConcurrently(executor, aiConnections, () -> embeddingClient.embed("warm-up"));
+    }
+
+    private void exerciseJwt() {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < iterations; i++) {
+            String token = jwtTokenProvider.createAccessToken("warmup@experfolio.local", UserRole.RECRUITER, userId);
+            if (!jwtTokenProvider.validateAccessToken(token)) {
+                throw new IllegalStateException("생성한 토큰 검증에 실패했습니다");
+            }
+            jwtTokenProvider.getAuthentication(token);
+        }
+    }
+
+    /**
+     * 검색 응답 직렬화/역직렬화 경로 (검색 API 응답과 AI 서버 응답 파싱에 쓰임)
+     */
+    private void exerciseJackson() {
+        List<CandidateDto> candidates = IntStream.range(0, 20)
+                .mapToObj(i -> CandidateDto.builder()
+                        .userId(UUID.randomUUID().toString())
+                        .matchScore(1.0 - i * 0.01)
+                        .matchReason("warm-up")
+                        .keywords(List.of("java", "spring"))
+                        .userInfo(UserInfoDto.builder().name("warm-up").gpa(4.0).awardsCount(1).build())
+                        .build())
+                .toList();
+        SearchResponseDto response = SearchResponseDto.builder()
+                .status("success")
+                .candidates(candidates)
+                .totalResults(candidates.size())
+                .mode(SearchMode.AI)
+                .build();
+
+        try {
+            for (int i = 0; i < iterations; i++) {
+                byte[] json = objectMapper.writeValueAsBytes(response);
+                objectMapper.readValue(json, SearchResponseDto.class);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최근 수정된 포트폴리오의 요약을 캐시에 적재 (검색 결과와 즐겨찾기 목록에서 바로 사용)
+     */
+    private void preloadRecentCandidates() {
+        if (recentCandidates <= 0) {
+            return;
+        }
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt"))
+                .limit(recentCandidates);
+        query.fields().include("userId");
+
+        List<String> userIds = mongoTemplate.find(query, Portfolio.class).stream()
+                .map(Portfolio::getUserId)
+                .toList();
+        portfolioSummaryCache.getAll(userIds);
+        log.debug("Preloaded {} candidate summaries", userIds.size());
+    }
+
+    /**
+     * 자주 쓰는 검색을 실행해 결과 캐시를 채운다
+     */
+    private void replayQueries() {
+        List<String> failed = new ArrayList<>();
+        for (String query : queries) {
+            if (query == null || query.isBlank()) {
+                continue;
+            }
+            try {
+                searchService.search(query.trim(), searchMode);
+            } catch (Exception e) {
+                failed.add(query.trim());
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException(failed.size() + "/" + queries.size() + " queries failed");
+        }
+    }
+
+    /**
+     * 커넥션을 동시에 열기 위한 전용 스레드 (커넥션 수만큼, 워밍업이 끝나면 종료)
+     */
+    private ExecutorService connectionExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, Math.max(aiConnections, mongoConnections)), runnable -> {
+            Thread thread = new Thread(runnable, "startup-warmup-io-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static void runConcurrently(ExecutorService executor, int count, Runnable action) {
+        CompletableFuture.allOf(IntStream.range(0, Math.max(1, count))
+                        .mapToObj(i -> CompletableFuture.runAsync(action, executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.experfolio.global.warmup;
+
+/**
+ * 현재 스레드가 기동 워밍업 작업을 실행 중인지 표시
+ * 워밍업 검색은 실제 사용자 요청이 아니므로 검색 지연 메트릭(search.duration 등)과
+ * AI 서버 회로 차단기의 성공/실패 집계에서 제외한다. (SearchMetrics, AiServerCallGuard에서 확인)
+ */
+public final class WarmUpContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private WarmUpContext() {
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * 워밍업 표시를 켠 채로 실행
+     */
+    public static void run(Runnable action) {
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+}
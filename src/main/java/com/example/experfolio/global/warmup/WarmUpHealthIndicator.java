@@ -0,0 +1,37 @@
+package com.example.experfolio.global.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 상태 health indicator (health 이름: warmUp)
+ * readiness 그룹에 포함되어 워밍업이 끝나기 전에는 트래픽을 받지 않도록 OUT_OF_SERVICE를 반환한다.
+ * 제한 시간(warmup.timeout-ms)이 지나면 워밍업이 끝나지 않았더라도 UP으로 바뀐다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmUp startupWarmUp;
+
+    @Override
+    public Health health() {
+        StartupWarmUp.State state = startupWarmUp.getState();
+        boolean timedOut = startupWarmUp.isTimedOut();
+
+        Health.Builder builder = state == StartupWarmUp.State.COMPLETED || timedOut
+                ? Health.up()
+                : Health.outOfService();
+        builder.withDetail("state", state)
+                .withDetail("steps", startupWarmUp.getStepResults());
+        if (timedOut) {
+            builder.withDetail("timedOut", true);
+        }
+        if (startupWarmUp.getDurationMs() >= 0) {
+            builder.withDetail("durationMs", startupWarmUp.getDurationMs());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.experfolio.global.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 서버 HTTP 클라이언트 설정 테스트
+ *
+ * 커넥션 풀이 keep-alive 커넥션을 재사용하고 풀 메트릭을 등록하는지 확인합니다.
+ */
+@DisplayName("RestTemplateConfig 테스트")
+class RestTemplateConfigTest {
+
+    private HttpServer server;
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ai/ping", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("순차 요청은 하나의 풀 커넥션을 재사용하고 풀 메트릭을 노출")
+    void pooledClientReusesConnections() throws Exception {
+        RestTemplateConfig config = newConfig(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ClientHttpRequestFactory factory = config.aiServerRequestFactory(meterRegistry);
+        RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder(), factory);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ai/ping";
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("ok");
+        }
+
+        assertThat(factory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        assertThat(clientAddresses).hasSize(1);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "aiServer").gauge().value()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value()).isEqualTo(1.0);
+
+        ((HttpComponentsClientHttpRequestFactory) factory).destroy();
+    }
+
+    private RestTemplateConfig newConfig(boolean http2Enabled) {
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "connectTimeout", 1000);
+        ReflectionTestUtils.setField(config, "readTimeout", 1000);
+        ReflectionTestUtils.setField(config, "maxConnections", 10);
+        ReflectionTestUtils.setField(config, "maxConnectionsPerRoute", 10);
+        ReflectionTestUtils.setField(config, "connectionRequestTimeout", 1000);
+        ReflectionTestUtils.setField(config, "idleEvictionSeconds", 30L);
+        ReflectionTestUtils.setField(config, "timeToLiveSeconds", 300L);
+        ReflectionTestUtils.setField(config, "http2Enabled", http2Enabled);
+        return config;
+    }
+}
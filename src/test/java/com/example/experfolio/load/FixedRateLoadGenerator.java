@@ -0,0 +1,217 @@
+package com.example.experfolio.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 요청률(open-loop) 부하 생성기
+ * 디스패처 스레드가 i번째 요청을 정확히 start + i/rate 시각에 워커 풀에 넘기고,
+ * 지연은 실제 시작 시각이 아니라 "의도한 시작 시각"부터 잰다.
+ * 서버가 느려져 워커가 밀려도 대기 시간이 지연에 그대로 포함되므로 coordinated omission이 생기지 않는다.
+ *
+ * 지연은 미리 할당한 배열에 기록하여 측정 자체가 힙 할당을 만들지 않게 한다.
+ * 대기 시간 안에 끝나지 않은 요청은 실패로 세고, 지연은 의도한 시작 시각부터 중단 시점까지로 기록한다.
+ */
+public class FixedRateLoadGenerator {
+
+    public static final String THREAD_PREFIX = "load-worker-";
+
+    /**
+     * 요청 하나 실행. 예외를 던지거나 false를 반환하면 오류로 집계한다.
+     */
+    @FunctionalInterface
+    public interface Request {
+        boolean execute(long sequence) throws Exception;
+    }
+
+    private final double requestsPerSecond;
+    private final int concurrency;
+
+    /**
+     * @param requestsPerSecond 목표 요청률
+     * @param concurrency       동시에 실행할 수 있는 최대 요청 수 (워커 스레드 수)
+     */
+    public FixedRateLoadGenerator(double requestsPerSecond, int concurrency) {
+        if (requestsPerSecond <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("rate and concurrency must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 지정 시간 동안 부하를 걸고 결과를 반환
+     *
+     * @param durationMs 측정 구간 길이
+     * @param request    실행할 요청
+     */
+    public Result run(long durationMs, Request request) throws InterruptedException {
+        int total = (int) Math.max(1, Math.round(requestsPerSecond * durationMs / 1000.0));
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        AtomicLongArray latencies = new AtomicLongArray(total);
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong completedAt = new AtomicLong();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        try {
+            for (int i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                int sequence = i;
+                workers.execute(() -> {
+                    boolean success;
+                    try {
+                        success = request.execute(sequence);
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    long end = System.nanoTime();
+                    // 중단 시점에 미완료로 기록된 요청은 덮어쓰지 않는다
+                    if (latencies.compareAndSet(sequence, 0, end - intendedStart)) {
+                        completedAt.accumulateAndGet(end, Math::max);
+                        if (!success) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        boolean finished = workers.awaitTermination(Math.max(60_000, durationMs), TimeUnit.MILLISECONDS);
+        int unfinished = 0;
+        if (!finished) {
+            workers.shutdownNow();
+            long cutOff = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                if (latencies.compareAndSet(i, 0, cutOff - (start + i * intervalNanos))) {
+                    unfinished++;
+                }
+            }
+            completedAt.accumulateAndGet(cutOff, Math::max);
+        }
+
+        long[] recorded = new long[total];
+        for (int i = 0; i < total; i++) {
+            recorded[i] = latencies.get(i);
+        }
+        long dispatchNanos = Math.max(1, total * intervalNanos);
+        long elapsedNanos = Math.max(dispatchNanos, completedAt.get() - start);
+        return new Result(total, errors.get() + unfinished, unfinished, recorded, dispatchNanos, elapsedNanos,
+                requestsPerSecond, concurrency);
+    }
+
+    /**
+     * 한 번의 부하 실행 결과 (지연은 나노초)
+     */
+    public static class Result {
+
+        private final int requests;
+        private final int errors;
+        private final int unfinished;
+        private final long[] sortedLatencies;
+        private final long dispatchNanos;
+        private final long elapsedNanos;
+        private final double targetRate;
+        private final int concurrency;
+
+        Result(int requests, int errors, int unfinished, long[] latencies, long dispatchNanos, long elapsedNanos,
+               double targetRate, int concurrency) {
+            this.requests = requests;
+            this.errors = errors;
+            this.unfinished = unfinished;
+            this.sortedLatencies = latencies.clone();
+            java.util.Arrays.sort(this.sortedLatencies);
+            this.dispatchNanos = dispatchNanos;
+            this.elapsedNanos = elapsedNanos;
+            this.targetRate = targetRate;
+            this.concurrency = concurrency;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        /**
+         * 실패한 요청 수 (대기 시간 안에 끝나지 않은 요청 포함)
+         */
+        public int getErrors() {
+            return errors;
+        }
+
+        /**
+         * 대기 시간 안에 끝나지 않아 중단한 요청 수
+         */
+        public int getUnfinished() {
+            return unfinished;
+        }
+
+        public double getTargetRate() {
+            return targetRate;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * 첫 요청 시작부터 마지막 요청 완료까지
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * 마지막 요청을 보낸 뒤 모든 응답이 끝날 때까지 걸린 시간
+         */
+        public long getDrainNanos() {
+            return elapsedNanos - dispatchNanos;
+        }
+
+        /**
+         * 시간 안에 끝나지 않은 요청이 있었는지 (해당 요청의 지연은 중단 시점까지로 기록된다)
+         */
+        public boolean isTruncated() {
+            return unfinished > 0;
+        }
+
+        /**
+         * 실제 성공 처리량: 첫 요청 시작부터 마지막 응답까지의 구간 기준.
+         * 목표 요청률({@link #getTargetRate()})에 못 미치면 오류가 났거나 응답이 밀린 것이다.
+         */
+        public double getThroughput() {
+            return (requests - errors) / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * 지연 분위수 (nearest-rank)
+         *
+         * @param percentile 0~100
+         */
+        public long percentileNanos(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+            return sortedLatencies[Math.min(sortedLatencies.length - 1, Math.max(0, rank - 1))];
+        }
+
+        public long maxNanos() {
+            return sortedLatencies[sortedLatencies.length - 1];
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.experfolio.load;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 스텁 AI 서버의 합성 응답 지연 분포 (밀리초)
+ *
+ * <pre>
+ * fixed:50                        항상 50ms
+ * uniform:20-200                  20~200ms 균등 분포
+ * lognormal:median=300,p99=2000   중앙값 300ms, p99 2초인 로그 정규 분포 (실제 모델 추론 지연과 비슷한 긴 꼬리)
+ * </pre>
+ */
+public abstract class LatencyDistribution {
+
+    /**
+     * p99에 해당하는 표준 정규 분포 분위수
+     */
+    private static final double Z_99 = 2.3263;
+
+    public abstract double sampleMillis();
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        String type = parts[0].toLowerCase(Locale.ROOT);
+        String args = parts.length > 1 ? parts[1] : "";
+
+        return switch (type) {
+            case "fixed" -> fixed(Double.parseDouble(args));
+            case "uniform" -> {
+                String[] range = args.split("-");
+                yield uniform(Double.parseDouble(range[0]), Double.parseDouble(range[1]));
+            }
+            case "lognormal" -> {
+                Map<String, Double> params = Stream.of(args.split(","))
+                        .map(param -> param.split("="))
+                        .collect(Collectors.toMap(pair -> pair[0].trim(), pair -> Double.parseDouble(pair[1])));
+                yield logNormal(params.get("median"), params.get("p99"));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    public static LatencyDistribution fixed(double millis) {
+        return describe(() -> millis, "fixed:" + millis);
+    }
+
+    public static LatencyDistribution uniform(double minMillis, double maxMillis) {
+        return describe(() -> ThreadLocalRandom.current().nextDouble(minMillis, maxMillis),
+                "uniform:" + minMillis + "-" + maxMillis);
+    }
+
+    public static LatencyDistribution logNormal(double medianMillis, double p99Millis) {
+        if (p99Millis < medianMillis) {
+            throw new IllegalArgumentException("p99 must be >= median");
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = Math.log(p99Millis / medianMillis) / Z_99;
+        return describe(() -> Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()),
+                "lognormal:median=" + medianMillis + ",p99=" + p99Millis);
+    }
+
+    private static LatencyDistribution describe(java.util.function.DoubleSupplier sampler, String description) {
+        return new LatencyDistribution() {
+            @Override
+            public double sampleMillis() {
+                return sampler.getAsDouble();
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+}
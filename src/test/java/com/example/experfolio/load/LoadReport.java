@@ -0,0 +1,145 @@
+package com.example.experfolio.load;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 실행 한 번의 보고서
+ * 처리량, 지연 분위수, 오류 수와 함께 실행 구간의 힙 할당량/할당률, GC 횟수/시간을 기록한다.
+ *
+ * 할당량은 {@link com.sun.management.ThreadMXBean}의 JVM 전체 누적 할당 바이트(종료된 스레드 포함) 차이에서
+ * 스텁 AI 서버 스레드의 할당을 빼서, 부하 생성기와 백엔드 코드가 만든 할당만 센다.
+ */
+public class LoadReport {
+
+    private final String name;
+    private final FixedRateLoadGenerator.Result result;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMs;
+    private final long aiRequests;
+
+    private LoadReport(String name, FixedRateLoadGenerator.Result result, long allocatedBytes,
+                       long gcCount, long gcTimeMs, long aiRequests) {
+        this.name = name;
+        this.result = result;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+        this.aiRequests = aiRequests;
+    }
+
+    public FixedRateLoadGenerator.Result getResult() {
+        return result;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public double getAllocationRateMbPerSecond() {
+        return allocatedBytes / 1_048_576.0 / (result.getElapsedNanos() / 1e9);
+    }
+
+    public double getAllocatedBytesPerRequest() {
+        return (double) allocatedBytes / result.getRequests();
+    }
+
+    /**
+     * 실행 전 상태를 기록하고, {@link #finish}로 보고서를 만든다.
+     */
+    public static Recorder start(String name) {
+        return new Recorder(name);
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT, """
+                        === load run: %s ===
+                        target rate      : %.1f req/s (concurrency %d)
+                        requests         : %d (errors %d, unfinished %d%s)
+                        throughput       : %.1f req/s achieved / %.1f req/s target (drain %.0f ms)
+                        latency (ms)     : p50 %.2f | p90 %.2f | p99 %.2f | p99.9 %.2f | max %.2f
+                        allocation       : %.1f MB total | %.1f MB/s | %.1f KB/req
+                        gc               : %d collections, %d ms
+                        stub ai requests : %d
+                        """,
+                name,
+                result.getTargetRate(), result.getConcurrency(),
+                result.getRequests(), result.getErrors(), result.getUnfinished(),
+                result.isTruncated() ? ", TRUNCATED" : "",
+                result.getThroughput(), result.getTargetRate(), millis(result.getDrainNanos()),
+                millis(result.percentileNanos(50)), millis(result.percentileNanos(90)),
+                millis(result.percentileNanos(99)), millis(result.percentileNanos(99.9)), millis(result.maxNanos()),
+                allocatedBytes / 1_048_576.0, getAllocationRateMbPerSecond(), getAllocatedBytesPerRequest() / 1024.0,
+                gcCount, gcTimeMs,
+                aiRequests);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    public static class Recorder {
+
+        private final String name;
+        private final long totalAllocatedBefore;
+        private final Map<Long, Long> stubAllocatedBefore;
+        private final long gcCountBefore;
+        private final long gcTimeBefore;
+
+        private Recorder(String name) {
+            this.name = name;
+            this.totalAllocatedBefore = threadMXBean().getTotalThreadAllocatedBytes();
+            this.stubAllocatedBefore = stubThreadAllocations();
+            this.gcCountBefore = gcCount();
+            this.gcTimeBefore = gcTime();
+        }
+
+        public LoadReport finish(FixedRateLoadGenerator.Result result, long aiRequests) {
+            long allocated = threadMXBean().getTotalThreadAllocatedBytes() - totalAllocatedBefore;
+            for (Map.Entry<Long, Long> entry : stubThreadAllocations().entrySet()) {
+                allocated -= entry.getValue() - stubAllocatedBefore.getOrDefault(entry.getKey(), 0L);
+            }
+            return new LoadReport(name, result, Math.max(0, allocated), gcCount() - gcCountBefore,
+                    gcTime() - gcTimeBefore, aiRequests);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * 스텁 AI 서버 스레드별 누적 할당 바이트 (고정 풀이므로 실행 구간 동안 살아 있다)
+     */
+    private static Map<Long, Long> stubThreadAllocations() {
+        Map<Long, Long> allocations = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (!thread.getName().startsWith(StubAiServer.THREAD_PREFIX)) {
+                continue;
+            }
+            long bytes = threadMXBean().getThreadAllocatedBytes(thread.threadId());
+            if (bytes >= 0) {
+                allocations.put(thread.threadId(), bytes);
+            }
+        }
+        return allocations;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.experfolio.load;
+
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorConverters;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.document.Award;
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import com.example.experfolio.domain.portfolio.document.Embeddings;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 후보자 userInfo 조회의 클라이언트 측 비용 비교: 전체 Portfolio 문서 vs 요약 프로젝션 문서
+ * 후보자 50명분의 BSON을 미리 만들어 두고, BSON 디코딩 + MappingMongoConverter.read만 측정한다.
+ * (MongoDB 서버 실행 시간과 네트워크 전송은 포함하지 않는다)
+ *
+ * <pre>
+ * gradle loadTest --tests '*PortfolioSummaryDecodeBenchmark'
+ * </pre>
+ */
+@Tag("load")
+@DisplayName("포트폴리오 요약 디코딩 비용 측정")
+class PortfolioSummaryDecodeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioSummaryDecodeBenchmark.class);
+
+    private static final int CANDIDATES = 50;
+    private static final int ITEMS = 5;
+    private static final int ATTACHMENTS_PER_ITEM = 3;
+    private static final int DIMENSION = 1024;
+    private static final int WARM_UP_RUNS = 200;
+    private static final int RUNS = 500;
+
+    @Test
+    @DisplayName("후보자 50명 기준 전송량, 디코딩 시간, 할당량 비교")
+    void compareFullAndSummaryDecode() {
+        MappingMongoConverter converter = converter();
+        Random random = new Random(1);
+
+        List<RawBsonDocument> full = new ArrayList<>(CANDIDATES);
+        List<RawBsonDocument> summaries = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            Portfolio portfolio = portfolio("user-" + i, random);
+            Document document = new Document();
+            converter.write(portfolio, document);
+            full.add(new RawBsonDocument(document, new DocumentCodec()));
+            summaries.add(new RawBsonDocument(summaryOf(portfolio), new DocumentCodec()));
+        }
+
+        Measurement fullRead = measure(full, raw -> converter.read(Portfolio.class, raw.decode(new DocumentCodec())));
+        Measurement summaryRead = measure(summaries,
+                raw -> converter.read(PortfolioSummaryDto.class, raw.decode(new DocumentCodec())));
+
+        log.info(String.format(Locale.ROOT, "payload   %,d B -> %,d B", payloadBytes(full), payloadBytes(summaries)));
+        log.info(String.format(Locale.ROOT, "latency   %.2f ms -> %.2f ms", fullRead.millis, summaryRead.millis));
+        log.info(String.format(Locale.ROOT, "allocated %,d B -> %,d B", fullRead.allocatedBytes,
+                summaryRead.allocatedBytes));
+
+        assertThat(payloadBytes(summaries)).isLessThan(payloadBytes(full));
+    }
+
+    /**
+     * 한 번에 후보자 전체를 읽는 시간과 할당량의 평균
+     */
+    private static Measurement measure(List<RawBsonDocument> documents, Function<RawBsonDocument, Object> read) {
+        for (int run = 0; run < WARM_UP_RUNS; run++) {
+            documents.forEach(read::apply);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int run = 0; run < RUNS; run++) {
+            documents.forEach(read::apply);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(elapsed / 1_000_000.0 / RUNS, allocated / RUNS);
+    }
+
+    private static long payloadBytes(List<RawBsonDocument> documents) {
+        return documents.stream().mapToLong(document -> document.getByteBuffer().remaining()).sum();
+    }
+
+    /**
+     * findSummariesByUserIdIn의 $project 결과와 같은 모양의 문서
+     */
+    private static Document summaryOf(Portfolio portfolio) {
+        BasicInfo basicInfo = portfolio.getBasicInfo();
+        return new Document("userId", portfolio.getUserId())
+                .append("basicInfoPresent", true)
+                .append("name", basicInfo.getName())
+                .append("schoolName", basicInfo.getSchoolName())
+                .append("gpa", basicInfo.getGpa())
+                .append("major", basicInfo.getMajor())
+                .append("desiredPosition", basicInfo.getDesiredPosition())
+                .append("awardsCount", basicInfo.getAwards().size());
+    }
+
+    private static Portfolio portfolio(String userId, Random random) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<PortfolioItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            List<Attachment> attachments = new ArrayList<>();
+            for (int j = 0; j < ATTACHMENTS_PER_ITEM; j++) {
+                attachments.add(Attachment.builder()
+                        .objectKey("portfolios/" + userId + "/item-" + i + "/file-" + j + ".pdf")
+                        .originalFilename("file-" + j + ".pdf")
+                        .contentType("application/pdf")
+                        .fileSize(1_000_000L + j)
+                        .extractionStatus("COMPLETED")
+                        .build());
+            }
+            items.add(PortfolioItem.builder()
+                    .id("item-" + i)
+                    .order(i)
+                    .type("PROJECT")
+                    .title("프로젝트 " + i)
+                    .content("프로젝트 설명 ".repeat(40))
+                    .attachments(attachments)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+
+        return Portfolio.builder()
+                .userId(userId)
+                .basicInfo(BasicInfo.builder()
+                        .name("이름-" + userId)
+                        .schoolName("한국대학교")
+                        .major("컴퓨터공학")
+                        .gpa(3.9)
+                        .desiredPosition("백엔드 개발자")
+                        .awards(List.of(Award.builder().awardName("대상").achievement("1위").awardY("2024").build(),
+                                Award.builder().awardName("우수상").achievement("2위").awardY("2023").build()))
+                        .build())
+                .portfolioItems(items)
+                .embeddings(Embeddings.builder()
+                        .searchableText("검색용 텍스트 ".repeat(200))
+                        .searchableTextHash("hash")
+                        .kureVector(EmbeddingVector.of(vector))
+                        .lastUpdated(now)
+                        .build())
+                .createdAt(now)
+                .updatedAt(now)
+                .version(1L)
+                .build();
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(
+                EmbeddingVectorConverters.converters(VectorStorageFormat.FLOAT32));
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static final class Measurement {
+
+        private final double millis;
+        private final long allocatedBytes;
+
+        private Measurement(double millis, long allocatedBytes) {
+            this.millis = millis;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.experfolio.load;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.service.KeywordIndexService;
+import com.example.experfolio.domain.search.service.LocalVectorSearchService;
+import com.example.experfolio.domain.search.service.SearchServiceImpl;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.example.experfolio.global.config.RestTemplateConfig;
+import com.example.experfolio.global.config.SearchBatchConfig;
+import com.example.experfolio.global.config.SearchResponseConfig;
+import com.example.experfolio.global.config.SearchStreamConfig;
+import com.example.experfolio.global.security.SecurityConfig;
+import com.example.experfolio.global.security.jwt.JwtAccessDeniedHandler;
+import com.example.experfolio.global.security.jwt.JwtAuthenticationEntryPoint;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 부하 테스트 슬라이스 구성
+ * {@code @WebMvcTest(SearchController.class)}에 검색 서비스 계층, AI 서버 커넥션 풀, 보안 설정을 실제 빈으로 더한다.
+ * MongoDB는 지연을 흉내 내는 메모리 PortfolioRepository로, 로컬 벡터/키워드 인덱스는 목으로 대신한다.
+ * 설정 값은 {@link SearchLoadHarness#registerProperties}가 등록한다.
+ */
+@TestConfiguration
+@ImportAutoConfiguration(RestTemplateAutoConfiguration.class)
+@Import({
+        SearchServiceImpl.class, PortfolioSummaryCache.class, SearchResultCache.class, SearchRequestCoalescer.class,
+        AiServerCallGuard.class, SearchSessionStore.class, SearchMetrics.class,
+        RestTemplateConfig.class, SearchBatchConfig.class, SearchStreamConfig.class, SearchResponseConfig.class,
+        SecurityConfig.class, JwtTokenProvider.class, JwtAuthenticationEntryPoint.class, JwtAccessDeniedHandler.class
+})
+public class SearchLoadConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public LocalVectorSearchService localVectorSearchService() {
+        return Mockito.mock(LocalVectorSearchService.class);
+    }
+
+    @Bean
+    public KeywordIndexService keywordIndexService() {
+        return Mockito.mock(KeywordIndexService.class);
+    }
+
+    /**
+     * findSummariesByUserIdIn만 응답하는 메모리 저장소. 호출마다 지정한 지연으로 MongoDB 왕복을 흉내 낸다.
+     */
+    @Bean
+    public PortfolioRepository portfolioRepository(@Value("${load.mongo-latency-ms:0}") long latencyMs) {
+        return (PortfolioRepository) Proxy.newProxyInstance(PortfolioRepository.class.getClassLoader(),
+                new Class<?>[]{PortfolioRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findSummariesByUserIdIn")) {
+                        if (latencyMs > 0) {
+                            TimeUnit.MILLISECONDS.sleep(latencyMs);
+                        }
+                        @SuppressWarnings("unchecked")
+                        List<String> userIds = (List<String>) args[0];
+                        return userIds.stream().map(SearchLoadConfig::summary).toList();
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> "InMemoryPortfolioRepository";
+                        };
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PortfolioSummaryDto summary(String userId) {
+        int hash = Math.abs(userId.hashCode());
+        return PortfolioSummaryDto.builder()
+                .userId(userId)
+                .basicInfoPresent(true)
+                .name("후보자 " + userId)
+                .schoolName("한국대학교")
+                .gpa(3.0 + hash % 15 / 10.0)
+                .major("컴퓨터공학")
+                .desiredPosition("백엔드 개발자")
+                .awardsCount(hash % 4)
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.experfolio.load;
+
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.user.entity.UserRole;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 검색 경로 부하 테스트 하네스
+ * {@code @WebMvcTest(SearchController.class)} + {@link SearchLoadConfig} 슬라이스 컨텍스트의 MockMvc로 요청을 보낸다.
+ * 보안 필터 체인(JWT 인증), 요청 검증, 검색 응답 컨버터, SearchServiceImpl → AiServerCallGuard → 풀링 RestTemplate
+ * 경로는 실제 빈이며, AI 서버는 {@link StubAiServer}, MongoDB는 메모리 PortfolioRepository가 대신한다.
+ *
+ * <pre>
+ * &#64;DynamicPropertySource
+ * static void properties(DynamicPropertyRegistry registry) throws IOException {
+ *     stubAiServer = SearchLoadHarness.startStubAiServer(SETTINGS);
+ *     SearchLoadHarness.registerProperties(registry, SETTINGS, stubAiServer);
+ * }
+ * </pre>
+ *
+ * 설정은 시스템 프로퍼티로 바꿀 수 있다 ({@link Settings}).
+ */
+public class SearchLoadHarness {
+
+    private final Settings settings;
+    private final StubAiServer stubAiServer;
+    private final MockMvc mockMvc;
+    private final String authorization;
+    private final String[] requestBodies;
+
+    public SearchLoadHarness(Settings settings, StubAiServer stubAiServer, MockMvc mockMvc,
+                             JwtTokenProvider jwtTokenProvider) {
+        this.settings = settings;
+        this.stubAiServer = stubAiServer;
+        this.mockMvc = mockMvc;
+        this.authorization = "Bearer " + jwtTokenProvider.createAccessToken("load-recruiter@experfolio.test",
+                UserRole.RECRUITER, UUID.randomUUID());
+
+        this.requestBodies = new String[settings.distinctQueries];
+        for (int i = 0; i < requestBodies.length; i++) {
+            requestBodies[i] = String.format(Locale.ROOT,
+                    "{\"query\":\"%d년차 백엔드 개발자 Spring Kafka 경험 %d\",\"mode\":\"%s\"}",
+                    i % 10 + 1, i, settings.mode);
+        }
+    }
+
+    /**
+     * 설정한 지연 분포로 스텁 AI 서버 시작. 종료는 테스트 클래스가 맡는다.
+     */
+    public static StubAiServer startStubAiServer(Settings settings) throws IOException {
+        return StubAiServer.start(settings.stubLatency, settings.stubCandidates, settings.candidatePool,
+                settings.stubErrorRate, 1024, settings.stubThreads);
+    }
+
+    /**
+     * 부하 설정을 슬라이스 컨텍스트의 애플리케이션 프로퍼티로 등록
+     */
+    public static void registerProperties(DynamicPropertyRegistry registry, Settings settings,
+                                          StubAiServer stubAiServer) {
+        registry.add("ai.server.url", stubAiServer::getUrl);
+        registry.add("ai.server.search-endpoint", () -> "/ai/search");
+        registry.add("ai.server.search-stream-endpoint", () -> "");
+        registry.add("ai.server.timeout.read", () -> 30000);
+        registry.add("ai.server.http.max-connections", () -> settings.aiMaxConnections);
+        registry.add("ai.server.http.max-connections-per-route", () -> settings.aiMaxConnections);
+        registry.add("search.ai.budget-ms", () -> 30000);
+        registry.add("search.ai.max-concurrent-calls", () -> settings.aiMaxConnections);
+        registry.add("search.ai.circuit.window-size", () -> 100);
+        registry.add("search.ai.circuit.minimum-calls", () -> 50);
+        registry.add("search.ai.hedge.enabled", () -> settings.hedgeEnabled);
+        registry.add("search.cache.enabled", () -> settings.searchCacheEnabled);
+        registry.add("search.cache.max-size", () -> 500);
+        registry.add("search.coalescing.enabled", () -> settings.coalescingEnabled);
+        registry.add("search.local.fallback-enabled", () -> false);
+        registry.add("search.debug.timing-enabled", () -> true);
+        registry.add("portfolio.summary-cache.max-size", () -> settings.summaryCacheSize);
+        registry.add("portfolio.summary-cache.ttl-seconds", () -> 600);
+        registry.add("load.mongo-latency-ms", () -> settings.mongoLatencyMs);
+    }
+
+    /**
+     * 검색 요청 한 건 실행
+     *
+     * @return 200 응답이면 true
+     */
+    public boolean search(long sequence) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/search")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBodies[(int) (sequence % requestBodies.length)]))
+                .andReturn();
+        return result.getResponse().getStatus() == 200;
+    }
+
+    /**
+     * 워밍업 후 측정 구간을 실행하고 보고서를 반환
+     */
+    public LoadReport run(String name) throws InterruptedException {
+        FixedRateLoadGenerator generator = new FixedRateLoadGenerator(settings.rate, settings.concurrency);
+        if (settings.warmUpMs > 0) {
+            generator.run(settings.warmUpMs, this::search);
+        }
+
+        long aiRequestsBefore = stubAiServer.getRequestCount();
+        LoadReport.Recorder recorder = LoadReport.start(name);
+        FixedRateLoadGenerator.Result result = generator.run(settings.durationMs, this::search);
+        return recorder.finish(result, stubAiServer.getRequestCount() - aiRequestsBefore);
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * 부하 실행 설정. 각 값은 괄호 안의 시스템 프로퍼티로 덮어쓴다.
+     */
+    public static class Settings {
+
+        /** 목표 요청률 (load.rate) */
+        double rate = doubleProperty("load.rate", 100);
+        /** 측정 구간 (load.duration-ms) */
+        long durationMs = longProperty("load.duration-ms", 30_000);
+        /** 워밍업 구간, 보고서에서 제외 (load.warm-up-ms) */
+        long warmUpMs = longProperty("load.warm-up-ms", 5_000);
+        /** 부하 생성기 워커 수 (load.concurrency) */
+        int concurrency = (int) longProperty("load.concurrency", 256);
+        /** 검색 모드 (load.mode) */
+        SearchMode mode = SearchMode.valueOf(System.getProperty("load.mode", "AI").toUpperCase(Locale.ROOT));
+        /** 서로 다른 쿼리 수 (load.distinct-queries) */
+        int distinctQueries = (int) longProperty("load.distinct-queries", 1000);
+        /** 검색 결과 캐시 사용 (load.search-cache) */
+        boolean searchCacheEnabled = Boolean.parseBoolean(System.getProperty("load.search-cache", "false"));
+        /** 동일 쿼리 합치기 사용 (load.coalescing) */
+        boolean coalescingEnabled = Boolean.parseBoolean(System.getProperty("load.coalescing", "false"));
+        /** 후보자 요약 캐시 크기 (load.summary-cache-size) */
+        long summaryCacheSize = longProperty("load.summary-cache-size", 10_000);
+        /** 요약 조회 한 번의 MongoDB 왕복 흉내 지연 (load.mongo-latency-ms) */
+        long mongoLatencyMs = longProperty("load.mongo-latency-ms", 2);
+        /** AI 서버 커넥션 풀/동시 호출 상한 (load.ai-max-connections) */
+        int aiMaxConnections = (int) longProperty("load.ai-max-connections", 50);
+        /** 헤지 요청 사용 (load.hedge) */
+        boolean hedgeEnabled = Boolean.parseBoolean(System.getProperty("load.hedge", "false"));
+
+        /** 스텁 AI 서버 지연 분포 (stub.latency) */
+        LatencyDistribution stubLatency = LatencyDistribution.parse(
+                System.getProperty("stub.latency", "lognormal:median=200,p99=1500"));
+        /** 검색 응답 후보자 수 (stub.candidates) */
+        int stubCandidates = (int) longProperty("stub.candidates", 20);
+        /** 후보자 userId 범위 (stub.candidate-pool) */
+        int candidatePool = (int) longProperty("stub.candidate-pool", 5_000);
+        /** 500 응답 비율 (stub.error-rate) */
+        double stubErrorRate = doubleProperty("stub.error-rate", 0);
+        /** 스텁 서버 처리 스레드 수 (stub.threads) */
+        int stubThreads = (int) longProperty("stub.threads", 200);
+
+        public Settings rate(double rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Settings durationMs(long durationMs) {
+            this.durationMs = durationMs;
+            return this;
+        }
+
+        public Settings warmUpMs(long warmUpMs) {
+            this.warmUpMs = warmUpMs;
+            return this;
+        }
+
+        public Settings concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Settings stubLatency(LatencyDistribution stubLatency) {
+            this.stubLatency = stubLatency;
+            return this;
+        }
+
+        public Settings stubThreads(int stubThreads) {
+            this.stubThreads = stubThreads;
+            return this;
+        }
+
+        public Settings mongoLatencyMs(long mongoLatencyMs) {
+            this.mongoLatencyMs = mongoLatencyMs;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "rate=%.0f/s, duration=%dms, warmUp=%dms, concurrency=%d, mode=%s, distinctQueries=%d, "
+                            + "searchCache=%s, coalescing=%s, mongoLatency=%dms, aiMaxConnections=%d, hedge=%s, "
+                            + "stub[latency=%s, candidates=%d, pool=%d, errorRate=%.3f, threads=%d]",
+                    rate, durationMs, warmUpMs, concurrency, mode, distinctQueries, searchCacheEnabled,
+                    coalescingEnabled, mongoLatencyMs, aiMaxConnections, hedgeEnabled, stubLatency, stubCandidates,
+                    candidatePool, stubErrorRate, stubThreads);
+        }
+
+        private static long longProperty(String key, long defaultValue) {
+            return Long.parseLong(System.getProperty(key, String.valueOf(defaultValue)));
+        }
+
+        private static double doubleProperty(String key, double defaultValue) {
+            return Double.parseDouble(System.getProperty(key, String.valueOf(defaultValue)));
+        }
+    }
+}
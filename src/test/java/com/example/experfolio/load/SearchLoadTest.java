@@ -0,0 +1,71 @@
+package com.example.experfolio.load;
+
+import com.example.experfolio.domain.search.controller.SearchController;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 경로 부하 테스트 (기본 test 태스크에서는 제외)
+ *
+ * <pre>
+ * gradle loadTest -Pload.rate=300 -Pload.duration-ms=60000 -Pstub.latency=lognormal:median=200,p99=1500
+ * </pre>
+ */
+@Tag("load")
+@WebMvcTest(controllers = SearchController.class)
+@Import(SearchLoadConfig.class)
+@DisplayName("검색 경로 부하 테스트")
+class SearchLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchLoadTest.class);
+
+    private static final SearchLoadHarness.Settings SETTINGS = new SearchLoadHarness.Settings();
+
+    private static StubAiServer stubAiServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @DynamicPropertySource
+    static void loadProperties(DynamicPropertyRegistry registry) throws IOException {
+        stubAiServer = SearchLoadHarness.startStubAiServer(SETTINGS);
+        SearchLoadHarness.registerProperties(registry, SETTINGS, stubAiServer);
+    }
+
+    @AfterAll
+    static void stopStubAiServer() {
+        if (stubAiServer != null) {
+            stubAiServer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("고정 요청률로 /api/v1/search 부하 실행 후 보고서 출력")
+    void searchAtFixedRate() throws Exception {
+        SearchLoadHarness harness = new SearchLoadHarness(SETTINGS, stubAiServer, mockMvc, jwtTokenProvider);
+
+        LoadReport report = harness.run("search " + SETTINGS);
+        log.info("\n{}", report.format());
+
+        assertThat(report.getResult().getRequests()).isPositive();
+        assertThat(report.getResult().getUnfinished()).isZero();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.experfolio.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내장 스텁 AI 서버
+ * Python AI 서버 없이 검색 경로를 부하 테스트할 수 있도록 /ai/search, /ai/search/stream, /ai/embed를
+ * 합성 지연과 지정한 후보자 수로 흉내 낸다. 후보자 userId는 candidate-0 ~ candidate-(pool-1)에서 뽑는다.
+ *
+ * 스레드 이름은 {@link #THREAD_PREFIX}로 시작하며, 부하 테스트의 할당량 측정에서 제외된다.
+ */
+public class StubAiServer implements AutoCloseable {
+
+    public static final String THREAD_PREFIX = "stub-ai-";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyDistribution latency;
+    private final int candidates;
+    private final int candidatePool;
+    private final double errorRate;
+    private final int embeddingDimension;
+    private final AtomicLong requests = new AtomicLong();
+
+    private StubAiServer(LatencyDistribution latency, int candidates, int candidatePool, double errorRate,
+                         int embeddingDimension, int threads) throws IOException {
+        this.latency = latency;
+        this.candidates = candidates;
+        this.candidatePool = candidatePool;
+        this.errorRate = errorRate;
+        this.embeddingDimension = embeddingDimension;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/ai/search/stream", this::searchStream);
+        server.createContext("/ai/search", this::search);
+        server.createContext("/ai/embed", this::embed);
+        server.start();
+    }
+
+    /**
+     * @param latency            검색/임베딩 응답 지연 분포
+     * @param candidates         검색 응답의 후보자 수
+     * @param candidatePool      후보자 userId 범위
+     * @param errorRate          500 응답 비율 (0~1)
+     * @param embeddingDimension 임베딩 벡터 차원
+     * @param threads            요청 처리 스레드 수 (동시에 지연 중인 요청 수 상한)
+     */
+    public static StubAiServer start(LatencyDistribution latency, int candidates, int candidatePool,
+                                     double errorRate, int embeddingDimension, int threads) throws IOException {
+        return new StubAiServer(latency, candidates, candidatePool, errorRate, embeddingDimension, threads);
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void search(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (delayOrFail(exchange)) {
+                return;
+            }
+
+            StringBuilder json = new StringBuilder(64 + candidates * 64)
+                    .append("{\"status\":\"success\",\"candidates\":[");
+            for (int i = 0; i < candidates; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendCandidate(json, i);
+            }
+            json.append("],\"totalResults\":").append(candidates).append(",\"searchTime\":\"0.00s\"}");
+            respond(exchange, "application/json", json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * NDJSON 스트림. 전체 지연을 후보자 수로 나눠 한 명씩 보낸다.
+     */
+    private void searchStream(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            requests.incrementAndGet();
+            long perCandidateNanos = TimeUnit.MICROSECONDS.toNanos((long) (latency.sampleMillis() * 1000))
+                    / Math.max(1, candidates);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < candidates; i++) {
+                    TimeUnit.NANOSECONDS.sleep(perCandidateNanos);
+                    StringBuilder line = new StringBuilder(64);
+                    appendCandidate(line, i);
+                    body.write(line.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void embed(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+            if (delayOrFail(exchange)) {
+                return;
+            }
+
+            int texts = request.path("texts").size();
+            StringBuilder json = new StringBuilder(32 + texts * embeddingDimension * 8).append("{\"embeddings\":[");
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int t = 0; t < texts; t++) {
+                json.append(t > 0 ? ",[" : "[");
+                for (int d = 0; d < embeddingDimension; d++) {
+                    if (d > 0) {
+                        json.append(',');
+                    }
+                    json.append(String.format(Locale.ROOT, "%.4f", random.nextGaussian()));
+                }
+                json.append(']');
+            }
+            json.append("]}");
+            respond(exchange, "application/json", json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 합성 지연 후 errorRate 확률로 500 응답
+     *
+     * @return 오류 응답을 보냈으면 true
+     */
+    private boolean delayOrFail(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            TimeUnit.MICROSECONDS.sleep((long) (latency.sampleMillis() * 1000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, "application/json",
+                    "{\"status\":\"error\"}".getBytes(StandardCharsets.UTF_8), 500);
+            return true;
+        }
+        return false;
+    }
+
+    private void appendCandidate(StringBuilder json, int rank) {
+        int userId = ThreadLocalRandom.current().nextInt(candidatePool);
+        json.append("{\"userId\":\"candidate-").append(userId)
+                .append("\",\"matchScore\":").append(String.format(Locale.ROOT, "%.4f", 1.0 - rank * 0.001))
+                .append(",\"matchReason\":\"stub\"}");
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        respond(exchange, contentType, body, 200);
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body, int status)
+            throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.experfolio.unit.load;
+
+import com.example.experfolio.domain.search.controller.SearchController;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import com.example.experfolio.load.LatencyDistribution;
+import com.example.experfolio.load.LoadReport;
+import com.example.experfolio.load.SearchLoadConfig;
+import com.example.experfolio.load.SearchLoadHarness;
+import com.example.experfolio.load.StubAiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = SearchController.class)
+@Import(SearchLoadConfig.class)
+@DisplayName("부하 테스트 하네스 단위 테스트")
+class LoadHarnessSmokeTest {
+
+    private static final SearchLoadHarness.Settings SETTINGS = new SearchLoadHarness.Settings()
+            .rate(50)
+            .durationMs(1000)
+            .warmUpMs(200)
+            .concurrency(16)
+            .stubThreads(16)
+            .stubLatency(LatencyDistribution.fixed(5))
+            .mongoLatencyMs(0);
+
+    private static StubAiServer stubAiServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @DynamicPropertySource
+    static void loadProperties(DynamicPropertyRegistry registry) throws IOException {
+        stubAiServer = SearchLoadHarness.startStubAiServer(SETTINGS);
+        SearchLoadHarness.registerProperties(registry, SETTINGS, stubAiServer);
+    }
+
+    @AfterAll
+    static void stopStubAiServer() {
+        if (stubAiServer != null) {
+            stubAiServer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("로그 정규 분포 지연의 중앙값과 p99가 설정값에 근접")
+    void logNormalLatency() {
+        LatencyDistribution distribution = LatencyDistribution.parse("lognormal:median=200,p99=1500");
+        double[] samples = DoubleStream.generate(distribution::sampleMillis).limit(200_000).toArray();
+        Arrays.sort(samples);
+
+        assertThat(samples[samples.length / 2]).isCloseTo(200, within(10.0));
+        assertThat(samples[(int) (samples.length * 0.99)]).isCloseTo(1500, within(150.0));
+        assertThat(LatencyDistribution.parse("uniform:20-30").sampleMillis()).isBetween(20.0, 30.0);
+    }
+
+    @Test
+    @DisplayName("토큰 없는 검색 요청은 보안 필터 체인에서 거부")
+    void unauthenticatedRequestRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"백엔드 개발자\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("짧은 고정 요청률 실행이 보안 필터와 실제 검색 빈을 거쳐 오류 없이 완료")
+    void shortRunCompletes() throws Exception {
+        SearchLoadHarness harness = new SearchLoadHarness(SETTINGS, stubAiServer, mockMvc, jwtTokenProvider);
+
+        LoadReport report = harness.run("smoke");
+
+        assertThat(report.getResult().getRequests()).isEqualTo(50);
+        assertThat(report.getResult().getErrors()).isZero();
+        assertThat(report.getResult().getUnfinished()).isZero();
+        assertThat(report.getResult().percentileNanos(50)).isGreaterThanOrEqualTo(5_000_000L);
+        assertThat(report.getResult().getThroughput()).isGreaterThan(0);
+        assertThat(report.getAllocatedBytes()).isPositive();
+        assertThat(report.format()).contains("p99", "achieved");
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.service.AttachmentUploader;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentUploader 단위 테스트")
+class AttachmentUploaderTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파일들을 동시에 업로드하고 결과는 파일 순서를 유지")
+    void uploadsConcurrentlyInFileOrder() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        given(fileStorageService.saveFile(any(), eq(USER_ID))).willAnswer(invocation -> {
+            allStarted.countDown();
+            // 세 업로드가 모두 시작되어야 진행 (순차 업로드라면 시간 초과)
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IOException("uploads did not overlap");
+            }
+            MultipartFile file = invocation.getArgument(0);
+            return "key-" + file.getOriginalFilename();
+        });
+
+        List<Attachment> attachments = uploader(3).upload(
+                files("a.pdf", "b.pdf", "", "c.pdf"), USER_ID, "pending");
+
+        assertThat(attachments).extracting(Attachment::getObjectKey)
+                .containsExactly("key-a.pdf", "key-b.pdf", "key-c.pdf");
+        assertThat(attachments).allSatisfy(attachment -> {
+            assertThat(attachment.getExtractionStatus()).isEqualTo("pending");
+            assertThat(attachment.getFileSize()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 모든 업로드가 끝난 뒤 성공한 파일을 삭제")
+    void deletesSucceededUploadsOnFailure() throws Exception {
+        given(fileStorageService.saveFile(any(), eq(USER_ID))).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if ("b.exe".equals(file.getOriginalFilename())) {
+                throw new IllegalArgumentException("Unsupported file format");
+            }
+            Thread.sleep(50);
+            return "key-" + file.getOriginalFilename();
+        });
+
+        assertThatThrownBy(() -> uploader(4).upload(files("a.pdf", "b.exe", "c.pdf"), USER_ID, "pending"))
+                .hasMessage("파일 업로드에 실패했습니다")
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+
+        then(fileStorageService).should().deleteFiles(List.of("key-a.pdf", "key-c.pdf"));
+    }
+
+    @Test
+    @DisplayName("요청당 동시 업로드 수를 parallelism으로 제한")
+    void limitsParallelismPerRequest() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(fileStorageService.saveFile(any(), eq(USER_ID))).willAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return "key";
+        });
+
+        uploader(2).upload(files("a.pdf", "b.pdf", "c.pdf", "d.pdf", "e.pdf"), USER_ID, "failed");
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        then(fileStorageService).should(never()).deleteFiles(any());
+    }
+
+    private AttachmentUploader uploader(int parallelism) {
+        return new AttachmentUploader(fileStorageService, executor, parallelism);
+    }
+
+    private static MultipartFile[] files(String... names) {
+        MultipartFile[] files = new MultipartFile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            byte[] content = names[i].isEmpty() ? new byte[0] : new byte[]{1};
+            files[i] = new MockMultipartFile("files", names[i], "application/pdf", content);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadCompleteRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadRequestDto;
+import com.example.experfolio.domain.portfolio.dto.DirectUploadResponseDto;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import com.example.experfolio.domain.portfolio.service.PortfolioService;
+import com.example.experfolio.domain.portfolio.upload.DirectUploadService;
+import com.example.experfolio.global.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectUploadService 단위 테스트")
+class DirectUploadServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String ITEM_ID = "item-1";
+    private static final String STORED_KEY = "portfolios/user-1/2026-10-16/abcd1234_20261016120000.pdf";
+    private static final String UPLOAD_KEY = "uploads/" + STORED_KEY;
+    private static final String ETAG = "\"5d41402abc4b2a76b9719d911017c592\"";
+    private static final byte[] PDF = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private PortfolioService portfolioService;
+
+    private S3Presigner presigner;
+    private DirectUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        presigner = S3Presigner.builder()
+                .endpointOverride(URI.create("https://account.r2.cloudflarestorage.com"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                .region(Region.of("auto"))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        FileStorageService fileStorageService = new FileStorageService(s3Client, presigner);
+        ReflectionTestUtils.setField(fileStorageService, "bucketName", "bucket");
+        service = new DirectUploadService(fileStorageService, portfolioService, 300, 10 * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    @DisplayName("발급 URL에 Content-Type과 메타데이터가 서명되고 objectKey는 사용자 임시 업로드 경로")
+    void issueSignsContentTypeAndMetadata() {
+        DirectUploadResponseDto response = service.issue(USER_ID, ITEM_ID,
+                new DirectUploadRequestDto("포트폴리오.PDF", 2048L));
+
+        then(portfolioService).should().requireItem(USER_ID, ITEM_ID);
+        assertThat(response.getObjectKey()).startsWith("uploads/portfolios/user-1/").endsWith(".pdf");
+        assertThat(response.getMethod()).isEqualTo("PUT");
+        assertThat(response.getUploadUrl())
+                .startsWith("https://account.r2.cloudflarestorage.com/bucket/" + response.getObjectKey())
+                .contains("X-Amz-Expires=300");
+        assertThat(response.getHeaders())
+                .containsEntry("content-type", "application/pdf")
+                .containsEntry("x-amz-meta-user-id", USER_ID)
+                .containsEntry("x-amz-meta-item-id", ITEM_ID)
+                .containsEntry("x-amz-meta-declared-size", "2048")
+                .doesNotContainKeys("host", "Host");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이나 최대 크기를 넘는 파일은 발급 거부")
+    void issueRejectsInvalidFiles() {
+        assertThatThrownBy(() -> service.issue(USER_ID, ITEM_ID, new DirectUploadRequestDto("run.exe", 10L)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.issue(USER_ID, ITEM_ID,
+                new DirectUploadRequestDto("big.pdf", 10L * 1024 * 1024 + 1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("10MB");
+    }
+
+    @Test
+    @DisplayName("HEAD와 앞부분 검사를 통과하면 같은 ETag일 때만 최종 key로 복사하고 임시 object 삭제")
+    void completeCopiesVerifiedObject() {
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(head("application/pdf", 2048L, "2048"));
+        given(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .willReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), PDF));
+
+        service.complete(USER_ID, ITEM_ID, new DirectUploadCompleteRequestDto(UPLOAD_KEY));
+
+        ArgumentCaptor<GetObjectRequest> get = ArgumentCaptor.forClass(GetObjectRequest.class);
+        then(s3Client).should().getObjectAsBytes(get.capture());
+        assertThat(get.getValue().range()).isEqualTo("bytes=0-511");
+        assertThat(get.getValue().ifMatch()).isEqualTo(ETAG);
+
+        ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        then(s3Client).should().copyObject(copy.capture());
+        assertThat(copy.getValue().sourceKey()).isEqualTo(UPLOAD_KEY);
+        assertThat(copy.getValue().destinationKey()).isEqualTo(STORED_KEY);
+        assertThat(copy.getValue().copySourceIfMatch()).isEqualTo(ETAG);
+
+        ArgumentCaptor<DeleteObjectRequest> delete = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        then(s3Client).should().deleteObject(delete.capture());
+        assertThat(delete.getValue().key()).isEqualTo(UPLOAD_KEY);
+
+        ArgumentCaptor<List<Attachment>> attachments = ArgumentCaptor.forClass(List.class);
+        then(portfolioService).should().addAttachments(eq(USER_ID), eq(ITEM_ID), attachments.capture());
+        assertThat(attachments.getValue()).singleElement().satisfies(attachment -> {
+            assertThat(attachment.getObjectKey()).isEqualTo(STORED_KEY);
+            assertThat(attachment.getOriginalFilename()).isEqualTo("이력서 최종.pdf");
+            assertThat(attachment.getFileSize()).isEqualTo(2048L);
+            assertThat(attachment.getContentType()).isEqualTo("application/pdf");
+        });
+    }
+
+    @Test
+    @DisplayName("검사 후 object가 다시 업로드되어 ETag가 바뀌면 복사하지 않고 거부")
+    void completeRejectsObjectChangedAfterCheck() {
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(head("application/pdf", 2048L, "2048"));
+        given(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .willReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), PDF));
+        given(s3Client.copyObject(any(CopyObjectRequest.class)))
+                .willThrow(S3Exception.builder().statusCode(412).message("PreconditionFailed").build());
+
+        assertThatThrownBy(() -> service.complete(USER_ID, ITEM_ID, new DirectUploadCompleteRequestDto(UPLOAD_KEY)))
+                .isInstanceOf(BadRequestException.class);
+
+        then(s3Client).should().deleteObject(any(DeleteObjectRequest.class));
+        then(portfolioService).should(never()).addAttachments(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("완료 요청 재시도 - 임시 object가 이미 옮겨졌으면 최종 key로 아이템 추가만 시도")
+    void completeRetryUsesStoredObject() {
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willAnswer(invocation -> {
+            HeadObjectRequest request = invocation.getArgument(0);
+            if (UPLOAD_KEY.equals(request.key())) {
+                throw NoSuchKeyException.builder().build();
+            }
+            return head("application/pdf", 2048L, "2048");
+        });
+
+        service.complete(USER_ID, ITEM_ID, new DirectUploadCompleteRequestDto(UPLOAD_KEY));
+
+        then(s3Client).should(never()).copyObject(any(CopyObjectRequest.class));
+        ArgumentCaptor<List<Attachment>> attachments = ArgumentCaptor.forClass(List.class);
+        then(portfolioService).should().addAttachments(eq(USER_ID), eq(ITEM_ID), attachments.capture());
+        assertThat(attachments.getValue()).singleElement()
+                .satisfies(attachment -> assertThat(attachment.getObjectKey()).isEqualTo(STORED_KEY));
+    }
+
+    @Test
+    @DisplayName("크기가 발급 정보와 다르면 object를 삭제하고 거부")
+    void completeRejectsSizeMismatch() {
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(head("application/pdf", 4096L, "2048"));
+
+        assertThatThrownBy(() -> service.complete(USER_ID, ITEM_ID, new DirectUploadCompleteRequestDto(UPLOAD_KEY)))
+                .isInstanceOf(BadRequestException.class);
+
+        then(s3Client).should().deleteObject(any(DeleteObjectRequest.class));
+        then(portfolioService).should(never()).addAttachments(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("다른 사용자 경로나 다른 아이템에 발급된 object는 삭제하지 않고 거부")
+    void completeRejectsForeignObjects() {
+        assertThatThrownBy(() -> service.complete(USER_ID, ITEM_ID,
+                new DirectUploadCompleteRequestDto("uploads/portfolios/user-2/2026-10-16/a.pdf")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.complete(USER_ID, ITEM_ID, new DirectUploadCompleteRequestDto(STORED_KEY)))
+                .isInstanceOf(BadRequestException.class);
+        then(s3Client).should(never()).headObject(any(HeadObjectRequest.class));
+
+        given(s3Client.headObject(any(HeadObjectRequest.class))).willReturn(head("application/pdf", 2048L, "2048"));
+        assertThatThrownBy(() -> service.complete(USER_ID, "item-2", new DirectUploadCompleteRequestDto(UPLOAD_KEY)))
+                .isInstanceOf(BadRequestException.class);
+        then(s3Client).should(never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    private static HeadObjectResponse head(String contentType, long contentLength, String declaredSize) {
+        return HeadObjectResponse.builder()
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .eTag(ETAG)
+                .metadata(Map.of(
+                        "user-id", USER_ID,
+                        "item-id", ITEM_ID,
+                        "original-filename", URLEncoder.encode("이력서 최종.pdf", StandardCharsets.UTF_8),
+                        "declared-size", declaredSize))
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorCodec;
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorConverters;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
+import com.example.experfolio.domain.portfolio.document.EmbeddingVector;
+import com.example.experfolio.domain.portfolio.document.Embeddings;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("EmbeddingVector Mongo 변환 단위 테스트")
+class EmbeddingVectorConvertersTest {
+
+    private static final int DIMENSION = 1024;
+
+    @Test
+    @DisplayName("float32 - BSON vector BinData로 쓰고 손실 없이 읽음")
+    void float32RoundTrip() {
+        MappingMongoConverter converter = converter(VectorStorageFormat.FLOAT32);
+        float[] vector = randomVector(new Random(1));
+
+        Document document = write(converter, vector);
+        Binary binary = (Binary) document.get("embeddings", Document.class).get("kureVector");
+
+        assertThat(binary.getType()).isEqualTo(EmbeddingVectorCodec.VECTOR_SUBTYPE);
+        assertThat(binary.getData()).hasSize(2 + DIMENSION * Float.BYTES);
+        assertThat(read(converter, document)).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("int8 - 원소당 1바이트, 코사인 유사도 유지")
+    void int8RoundTrip() {
+        MappingMongoConverter converter = converter(VectorStorageFormat.INT8);
+        float[] vector = randomVector(new Random(2));
+
+        Document document = write(converter, vector);
+        Binary binary = (Binary) document.get("embeddings", Document.class).get("kureVector");
+        float[] decoded = read(converter, document);
+
+        assertThat(binary.getType()).isEqualTo(EmbeddingVectorCodec.QUANTIZED_SUBTYPE);
+        assertThat(binary.getData()).hasSize(2 + Float.BYTES + DIMENSION);
+        assertThat(cosine(vector, decoded)).isCloseTo(1.0, within(1e-3));
+    }
+
+    @Test
+    @DisplayName("array - BinData 대신 BSON 배열로 쓰고 손실 없이 읽음")
+    void arrayRoundTrip() {
+        MappingMongoConverter converter = converter(VectorStorageFormat.ARRAY);
+        float[] vector = randomVector(new Random(3));
+
+        Document document = write(converter, vector);
+        Object stored = document.get("embeddings", Document.class).get("kureVector");
+
+        assertThat(stored).isInstanceOf(List.class);
+        assertThat((List<?>) stored).hasSize(DIMENSION).allMatch(Double.class::isInstance);
+        assertThat(read(converter, document)).containsExactly(vector);
+    }
+
+    @Test
+    @DisplayName("array - 임베딩 워커의 $set 갱신도 BSON 배열로 씀")
+    void arrayUpdate() {
+        MappingMongoConverter converter = converter(VectorStorageFormat.ARRAY);
+        Update update = new Update().set("embeddings.kureVector", EmbeddingVector.of(new float[]{0.5f, -0.25f}));
+
+        Document mapped = new UpdateMapper(converter).getMappedObject(update.getUpdateObject(),
+                converter.getMappingContext().getPersistentEntity(Portfolio.class));
+
+        assertThat(mapped.get("$set", Document.class).get("embeddings.kureVector")).isEqualTo(List.of(0.5, -0.25));
+    }
+
+    @Test
+    @DisplayName("마이그레이션 전 BSON 배열도 읽음")
+    void readLegacyArray() {
+        MappingMongoConverter converter = converter(VectorStorageFormat.FLOAT32);
+        Document document = new Document("userId", "user-1")
+                .append("embeddings", new Document("kureVector", List.of(0.5, -0.25, 1.0)));
+
+        assertThat(read(converter, document)).containsExactly(0.5f, -0.25f, 1.0f);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 BinData 형식은 거부")
+    void rejectUnknownFormat() {
+        assertThatThrownBy(() -> EmbeddingVectorCodec.decode(new Binary((byte) 0x09, new byte[]{0x10, 0, 1, 2})))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Document write(MappingMongoConverter converter, float[] vector) {
+        Portfolio portfolio = Portfolio.builder()
+                .userId("user-1")
+                .embeddings(Embeddings.builder()
+                        .kureVector(EmbeddingVector.of(vector))
+                        .lastUpdated(LocalDateTime.now())
+                        .build())
+                .build();
+        Document document = new Document();
+        converter.write(portfolio, document);
+        return document;
+    }
+
+    private static float[] read(MappingMongoConverter converter, Document document) {
+        return converter.read(Portfolio.class, document).getEmbeddings().getKureVector().getValues();
+    }
+
+    private static MappingMongoConverter converter(VectorStorageFormat format) {
+        MongoCustomConversions conversions = new MongoCustomConversions(EmbeddingVectorConverters.converters(format));
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+            normA += (double) a[i] * a[i];
+            normB += (double) b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.ProcessingStatus;
+import com.example.experfolio.domain.portfolio.event.PortfolioEmbeddingsUpdatedEvent;
+import com.example.experfolio.domain.portfolio.service.PortfolioEmbeddingWorker;
+import com.example.experfolio.domain.portfolio.service.SearchableTextBuilder;
+import com.example.experfolio.domain.search.client.EmbeddingClient;
+import com.example.experfolio.domain.search.exception.SearchServiceException;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PortfolioEmbeddingWorker 단위 테스트")
+class PortfolioEmbeddingWorkerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EmbeddingClient embeddingClient;
+
+    @Mock
+    private SearchableTextBuilder searchableTextBuilder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BulkOperations bulk;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    private final List<Query> pendingQueries = new ArrayList<>();
+    private PortfolioEmbeddingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PortfolioEmbeddingWorker(mongoTemplate, embeddingClient, searchableTextBuilder,
+                eventPublisher, new SimpleMeterRegistry(), 10, 1, 1, 5, 60_000, 3_600_000);
+
+        given(searchableTextBuilder.build(any())).willAnswer(invocation ->
+                "text-" + invocation.<Portfolio>getArgument(0).getUserId());
+        given(searchableTextBuilder.hash(anyString())).willReturn("new-hash");
+        given(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Portfolio.class))).willReturn(bulk);
+        given(bulk.execute()).willReturn(bulkWriteResult);
+        given(embeddingClient.embedAll(anyList())).willAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            if (texts.contains("text-user-bad")) {
+                throw new SearchServiceException("임베딩 실패");
+            }
+            return texts.stream().map(text -> new float[]{1f, 0f}).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("임베딩에 실패한 포트폴리오는 재시도 시각을 미뤄 다음 조회에서 제외")
+    void failedPortfolioIsBackedOff() {
+        given(mongoTemplate.find(any(Query.class), eq(Portfolio.class))).willAnswer(invocation -> {
+            pendingQueries.add(invocation.getArgument(0));
+            return pendingQueries.size() == 1 ? List.of(portfolio("bad", 2), portfolio("good", null)) : List.of();
+        });
+        given(bulkWriteResult.getMatchedCount()).willReturn(2);
+
+        worker.run();
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        then(bulk).should(times(2)).updateOne(any(Query.class), updates.capture());
+        Document retry = updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class);
+        assertThat(retry.get("processingStatus.embeddingAttempts")).isEqualTo(3);
+        assertThat((LocalDateTime) retry.get("processingStatus.nextAttemptAt"))
+                .isAfter(LocalDateTime.now().plusMinutes(3));
+        assertThat(retry).doesNotContainKey("processingStatus.needsEmbedding");
+
+        assertThat(pendingQueries.get(0).getQueryObject().getList("$or", Document.class))
+                .allMatch(clause -> clause.containsKey("processingStatus.nextAttemptAt"));
+    }
+
+    @Test
+    @DisplayName("조회 이후 수정되어 기록되지 않은 문서는 갱신 이벤트에서 제외")
+    void eventContainsOnlyWrittenDocuments() {
+        given(mongoTemplate.find(any(Query.class), eq(Portfolio.class))).willAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            if (query.getQueryObject().containsKey("embeddings.lastUpdated")) {
+                return List.of(portfolio("a", null));
+            }
+            pendingQueries.add(query);
+            return pendingQueries.size() == 1 ? List.of(portfolio("a", null), portfolio("b", null)) : List.of();
+        });
+        given(bulkWriteResult.getMatchedCount()).willReturn(1);
+
+        worker.run();
+
+        ArgumentCaptor<PortfolioEmbeddingsUpdatedEvent> event =
+                ArgumentCaptor.forClass(PortfolioEmbeddingsUpdatedEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue().getVectors()).containsOnlyKeys("user-a");
+    }
+
+    @Test
+    @DisplayName("모든 문서가 기록되면 다시 조회하지 않음")
+    void noRereadWhenAllMatched() {
+        given(mongoTemplate.find(any(Query.class), eq(Portfolio.class))).willAnswer(invocation -> {
+            pendingQueries.add(invocation.getArgument(0));
+            return pendingQueries.size() == 1 ? List.of(portfolio("a", null), portfolio("b", null)) : List.of();
+        });
+        given(bulkWriteResult.getMatchedCount()).willReturn(2);
+
+        worker.run();
+
+        ArgumentCaptor<PortfolioEmbeddingsUpdatedEvent> event =
+                ArgumentCaptor.forClass(PortfolioEmbeddingsUpdatedEvent.class);
+        then(eventPublisher).should().publishEvent(event.capture());
+        assertThat(event.getValue().getVectors()).containsOnlyKeys("user-a", "user-b");
+        assertThat(pendingQueries).allMatch(query -> !query.getQueryObject().containsKey("embeddings.lastUpdated"));
+    }
+
+    private static Portfolio portfolio(String name, Integer attempts) {
+        return Portfolio.builder()
+                .id("id-" + name)
+                .userId("user-" + name)
+                .updatedAt(UPDATED_AT)
+                .processingStatus(ProcessingStatus.builder()
+                        .needsEmbedding(true)
+                        .embeddingAttempts(attempts)
+                        .build())
+                .build();
+    }
+}
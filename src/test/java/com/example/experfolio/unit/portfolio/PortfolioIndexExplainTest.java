@@ -0,0 +1,83 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexManager;
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexReport;
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexes;
+import com.example.experfolio.domain.portfolio.index.QueryPlan;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MongoDB에서 대표 쿼리의 실행 계획 확인
+ * MONGODB_TEST_URI가 설정된 경우에만 실행되며, 임시 데이터베이스를 만들고 끝나면 삭제한다.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+@DisplayName("portfolios 인덱스 실행 계획 테스트 (MongoDB 필요)")
+class PortfolioIndexExplainTest {
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static PortfolioIndexManager manager;
+    private static PortfolioIndexReport report;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(System.getenv("MONGODB_TEST_URI"));
+        mongoTemplate = new MongoTemplate(client, "experfolio_index_" + UUID.randomUUID().toString().substring(0, 8));
+
+        List<Document> portfolios = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            portfolios.add(new Document("userId", "user-" + i)
+                    .append("updatedAt", Instant.now().minusSeconds(i))
+                    .append("processingStatus", new Document("needsEmbedding", i % 10 == 0)));
+        }
+        mongoTemplate.getCollection("portfolios").insertMany(portfolios);
+
+        manager = new PortfolioIndexManager(mongoTemplate, true, true, false);
+        report = manager.check();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (mongoTemplate != null) {
+            mongoTemplate.getDb().drop();
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("선언된 인덱스를 모두 생성")
+    void createsDeclaredIndexes() {
+        assertThat(report.getCreated()).containsExactly(
+                PortfolioIndexes.USER_ID, PortfolioIndexes.PENDING_EMBEDDING, PortfolioIndexes.UPDATED_AT);
+        assertThat(manager.check().getPresent()).containsExactlyElementsOf(report.getCreated());
+    }
+
+    @Test
+    @DisplayName("대표 쿼리는 컬렉션 스캔 없이 기대한 인덱스를 사용")
+    void expectedQueriesUseIndexes() {
+        for (PortfolioIndexes.ExpectedPlan expected : PortfolioIndexes.expectedPlans()) {
+            QueryPlan plan = manager.explain(expected.getQuery());
+
+            assertThat(plan.usesIndex(expected.getIndexName()))
+                    .as("%s: %s", expected.getName(), plan)
+                    .isTrue();
+        }
+    }
+}
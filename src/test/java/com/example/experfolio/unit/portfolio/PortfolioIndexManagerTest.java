@@ -0,0 +1,184 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexManager;
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexReport;
+import com.example.experfolio.domain.portfolio.index.PortfolioIndexes;
+import com.example.experfolio.domain.portfolio.index.QueryPlan;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PortfolioIndexManager 단위 테스트")
+class PortfolioIndexManagerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOps;
+
+    @BeforeEach
+    void setUp() {
+        given(mongoTemplate.indexOps(Portfolio.class)).willReturn(indexOps);
+        given(mongoTemplate.getCollectionName(Portfolio.class)).willReturn("portfolios");
+    }
+
+    @Test
+    @DisplayName("없는 인덱스만 생성하고 이미 있는 인덱스는 그대로 둔다")
+    void createsOnlyMissingIndexes() {
+        given(indexOps.getIndexInfo()).willReturn(List.of(
+                index("_id_", new Document("_id", 1), null),
+                index("userId_unique", new Document("userId", 1).append("unique", true), null)));
+        given(mongoTemplate.executeCommand(any(Document.class))).willReturn(indexStats());
+
+        PortfolioIndexReport report = manager(true, false).check();
+
+        ArgumentCaptor<Index> created = ArgumentCaptor.forClass(Index.class);
+        then(indexOps).should(times(2)).ensureIndex(created.capture());
+        assertThat(created.getAllValues()).extracting(i -> i.getIndexOptions().getString("name"))
+                .containsExactly(PortfolioIndexes.PENDING_EMBEDDING, PortfolioIndexes.UPDATED_AT);
+        assertThat(report.getPresent()).containsExactly(PortfolioIndexes.USER_ID);
+        assertThat(report.getCreated()).hasSize(2);
+        assertThat(report.isHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("옵션이 다른 인덱스는 바꾸지 않고 충돌로, 관리 대상이 아닌 인덱스와 미사용 인덱스는 따로 보고")
+    void reportsConflictingUnmanagedAndUnusedIndexes() {
+        given(indexOps.getIndexInfo()).willReturn(List.of(
+                index("_id_", new Document("_id", 1), null),
+                index("userId_1", new Document("userId", 1), null),
+                index(PortfolioIndexes.PENDING_EMBEDDING, new Document("updatedAt", 1),
+                        new Document("processingStatus.needsEmbedding", true)),
+                index(PortfolioIndexes.UPDATED_AT, new Document("updatedAt", -1), null),
+                index("email_1", new Document("email", 1), null)));
+        given(mongoTemplate.executeCommand(any(Document.class))).willReturn(indexStats(
+                "_id_", 0, "userId_1", 12, PortfolioIndexes.PENDING_EMBEDDING, 3,
+                PortfolioIndexes.UPDATED_AT, 1, "email_1", 0));
+
+        PortfolioIndexReport report = manager(true, false).check();
+
+        then(indexOps).should(never()).ensureIndex(any());
+        assertThat(report.getConflicting()).singleElement().asString()
+                .startsWith(PortfolioIndexes.USER_ID).contains("userId_1 unique=false");
+        assertThat(report.getPresent())
+                .containsExactly(PortfolioIndexes.PENDING_EMBEDDING, PortfolioIndexes.UPDATED_AT);
+        assertThat(report.getUnmanaged()).containsExactly("email_1");
+        assertThat(report.getUnused()).containsExactly("email_1");
+        assertThat(report.isHealthy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성이 비활성화되면 없는 인덱스를 누락으로 보고")
+    void reportsMissingWhenCreationDisabled() {
+        given(indexOps.getIndexInfo()).willReturn(List.of(index("_id_", new Document("_id", 1), null)));
+        given(mongoTemplate.executeCommand(any(Document.class))).willReturn(indexStats());
+
+        PortfolioIndexReport report = manager(false, false).check();
+
+        then(indexOps).should(never()).ensureIndex(any());
+        assertThat(report.getMissing()).containsExactly(
+                PortfolioIndexes.USER_ID, PortfolioIndexes.PENDING_EMBEDDING, PortfolioIndexes.UPDATED_AT);
+    }
+
+    @Test
+    @DisplayName("대표 쿼리가 기대한 인덱스를 쓰지 않으면 실행 계획 위반으로 보고")
+    void reportsPlanViolations() {
+        given(indexOps.getIndexInfo()).willReturn(List.of());
+        given(mongoTemplate.executeCommand(any(Document.class))).willAnswer(invocation -> {
+            Document command = invocation.getArgument(0);
+            if (command.containsKey("aggregate")) {
+                return indexStats();
+            }
+            Document find = command.get("explain", Document.class);
+            Document filter = find.get("filter", Document.class);
+            if (filter.containsKey("userId")) {
+                return explain(new Document("stage", "FETCH").append("inputStage",
+                        new Document("stage", "IXSCAN").append("indexName", PortfolioIndexes.USER_ID)));
+            }
+            return explain(new Document("stage", "SORT").append("inputStage", new Document("stage", "COLLSCAN")));
+        });
+
+        PortfolioIndexReport report = manager(true, true).check();
+
+        assertThat(report.getPlanViolations()).hasSize(2)
+                .allSatisfy(violation -> assertThat(violation).contains("COLLSCAN"));
+        assertThat(report.getPlanViolations().get(0)).startsWith("pendingEmbeddings");
+    }
+
+    @Test
+    @DisplayName("클래식/SBE/샤드 explain 형식에서 단계와 인덱스 이름 추출")
+    void parsesQueryPlans() {
+        QueryPlan classic = QueryPlan.from(explain(new Document("stage", "LIMIT").append("inputStage",
+                new Document("stage", "FETCH").append("inputStage",
+                        new Document("stage", "IXSCAN").append("indexName", "updatedAt_desc")))));
+        assertThat(classic.getStages()).containsExactly("LIMIT", "FETCH", "IXSCAN");
+        assertThat(classic.usesIndex("updatedAt_desc")).isTrue();
+
+        QueryPlan sbe = QueryPlan.from(explain(new Document("queryPlan",
+                new Document("stage", "FETCH").append("inputStage",
+                        new Document("stage", "IXSCAN").append("indexName", "userId_unique")))
+                .append("slotBasedPlan", new Document("stages", "..."))));
+        assertThat(sbe.usesIndex("userId_unique")).isTrue();
+
+        QueryPlan sharded = QueryPlan.from(explain(new Document("stage", "SHARD_MERGE").append("shards", List.of(
+                new Document("shardName", "s0").append("winningPlan", new Document("stage", "COLLSCAN"))))));
+        assertThat(sharded.isCollectionScan()).isTrue();
+        assertThat(sharded.usesIndex("userId_unique")).isFalse();
+
+        assertThat(QueryPlan.from(new Document()).getStages()).isEmpty();
+    }
+
+    private PortfolioIndexManager manager(boolean createMissing, boolean verifyQueryPlans) {
+        return new PortfolioIndexManager(mongoTemplate, true, createMissing, verifyQueryPlans);
+    }
+
+    private static IndexInfo index(String name, Document keyAndOptions, Document partialFilter) {
+        Document key = new Document(keyAndOptions);
+        Document source = new Document("v", 2).append("name", name);
+        if (Boolean.TRUE.equals(key.remove("unique"))) {
+            source.append("unique", true);
+        }
+        source.append("key", key);
+        if (partialFilter != null) {
+            source.append("partialFilterExpression", partialFilter);
+        }
+        return IndexInfo.indexInfoOf(source);
+    }
+
+    private static Document indexStats(Object... nameAndOps) {
+        List<Document> stats = new java.util.ArrayList<>();
+        for (int i = 0; i < nameAndOps.length; i += 2) {
+            stats.add(new Document("name", nameAndOps[i])
+                    .append("accesses", new Document("ops", ((Integer) nameAndOps[i + 1]).longValue())));
+        }
+        return new Document("cursor", new Document("firstBatch", stats)).append("ok", 1.0);
+    }
+
+    private static Document explain(Document winningPlan) {
+        return new Document("queryPlanner", new Document("winningPlan", winningPlan)).append("ok", 1.0);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorConverters;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepositoryCustomImpl;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PortfolioRepositoryCustomImpl 부분 갱신 단위 테스트")
+class PortfolioRepositoryCustomImplTest {
+
+    private MongoTemplate mongoTemplate;
+    private PortfolioRepositoryCustomImpl repository;
+    private QueryMapper queryMapper;
+    private UpdateMapper updateMapper;
+    private MongoPersistentEntity<?> entity;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(
+                EmbeddingVectorConverters.converters(VectorStorageFormat.FLOAT32));
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        queryMapper = new QueryMapper(converter);
+        updateMapper = new UpdateMapper(converter);
+        entity = mappingContext.getRequiredPersistentEntity(Portfolio.class);
+
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new PortfolioRepositoryCustomImpl(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("아이템 추가 - 개수/버전 조건부 $push, 벡터 제외, 갱신 후 문서 반환")
+    void pushItemWithSizeGuard() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        PortfolioItem item = PortfolioItem.builder().id("item-1").order(3).title("제목").updatedAt(now).build();
+
+        repository.pushItem("user-1", item, 5, 7L);
+
+        Captured captured = captureFindAndModify();
+        assertThat(captured.query()).containsEntry("userId", "user-1")
+                .containsEntry("portfolioItems.4", new Document("$exists", false))
+                .containsEntry("version", 7L);
+        assertThat(captured.fields()).containsEntry("embeddings.kureVector", 0);
+        assertThat(captured.options().isReturnNew()).isTrue();
+
+        Document pushed = captured.update().get("$push", Document.class).get("portfolioItems", Document.class);
+        assertThat(pushed).containsEntry("_id", "item-1").containsEntry("order", 3).doesNotContainKey("_class");
+        assertThat(captured.update().get("$inc", Document.class)).containsEntry("version", 1);
+        assertThat(captured.update().get("$set", Document.class))
+                .containsEntry("processingStatus.needsEmbedding", true);
+    }
+
+    @Test
+    @DisplayName("아이템 수정 - 위치 연산자 $set과 첨부파일 $push $each")
+    void updateItemPositional() {
+        PortfolioItem changes = PortfolioItem.builder().type("project").title("새 제목").content("내용")
+                .updatedAt(LocalDateTime.now()).build();
+        List<Attachment> attachments = List.of(Attachment.builder().objectKey("key-1").build());
+
+        repository.updateItem("user-1", "item-1", changes, attachments);
+
+        Captured captured = captureFindAndModify();
+        assertThat(captured.query()).containsEntry("portfolioItems._id", "item-1");
+        assertThat(captured.update().get("$set", Document.class))
+                .containsEntry("portfolioItems.$.title", "새 제목")
+                .containsEntry("portfolioItems.$.content", "내용")
+                .doesNotContainKey("portfolioItems");
+        Document push = captured.update().get("$push", Document.class)
+                .get("portfolioItems.$.attachments", Document.class);
+        assertThat(push.getList("$each", Document.class)).singleElement()
+                .satisfies(attachment -> assertThat(attachment).containsEntry("objectKey", "key-1"));
+    }
+
+    @Test
+    @DisplayName("순서 변경 - 모든 id 존재 조건, arrayFilters는 저장 필드명(_id) 사용, 중복 id는 마지막 위치")
+    void reorderWithArrayFilters() {
+        repository.reorderItems("user-1", List.of("b", "a", "b"));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        Captured captured = captureFindAndModify(update);
+        assertThat(captured.query().get("portfolioItems._id", Document.class).getList("$all", String.class))
+                .containsExactly("a", "b");
+        assertThat(captured.update().get("$set", Document.class))
+                .containsEntry("portfolioItems.$[i0].order", 2)
+                .containsEntry("portfolioItems.$[i1].order", 3);
+        assertThat(update.getValue().getArrayFilters())
+                .extracting(filter -> filter.asDocument())
+                .containsExactly(new Document("i0._id", "a"), new Document("i1._id", "b"));
+        assertThat(captured.update().get("$set", Document.class)).doesNotContainKey("processingStatus.needsEmbedding");
+    }
+
+    @Test
+    @DisplayName("첨부파일 추가 - 같은 objectKey가 없는 아이템에만 위치 연산자 $push, 재임베딩 플래그는 그대로")
+    void pushAttachments() {
+        repository.pushAttachments("user-1", "item-1",
+                List.of(Attachment.builder().objectKey("key-1").build(), Attachment.builder().objectKey("key-2").build()));
+
+        Captured captured = captureFindAndModify();
+        Document item = captured.query().get("portfolioItems", Document.class).get("$elemMatch", Document.class);
+        assertThat(item).containsEntry("_id", "item-1");
+        assertThat(item.get("attachments.objectKey", Document.class).getList("$nin", String.class))
+                .containsExactly("key-1", "key-2");
+        Document push = captured.update().get("$push", Document.class)
+                .get("portfolioItems.$.attachments", Document.class);
+        assertThat(push.getList("$each", Document.class)).extracting(attachment -> attachment.get("objectKey"))
+                .containsExactly("key-1", "key-2");
+        assertThat(captured.update().get("$set", Document.class)).doesNotContainKey("processingStatus.needsEmbedding");
+        assertThat(captured.update().get("$inc", Document.class)).containsEntry("version", 1);
+    }
+
+    @Test
+    @DisplayName("첨부파일 삭제 - 아이템과 첨부파일을 $elemMatch로 확인 후 위치 연산자 $pull")
+    void pullAttachment() {
+        repository.pullAttachment("user-1", "item-1", "key-1");
+
+        Captured captured = captureFindAndModify();
+        assertThat(captured.query().get("portfolioItems", Document.class).get("$elemMatch", Document.class))
+                .containsEntry("_id", "item-1")
+                .containsEntry("attachments.objectKey", "key-1");
+        assertThat(captured.update().get("$pull", Document.class))
+                .containsEntry("portfolioItems.$.attachments", new Document("objectKey", "key-1"));
+    }
+
+    @Test
+    @DisplayName("아이템 삭제 - 조회한 version일 때만 $pull 후 삭제 후 문서 반환")
+    void pullItemReturnsUpdated() {
+        repository.pullItem("user-1", "item-1", 4L);
+
+        Captured captured = captureFindAndModify();
+        assertThat(captured.query()).containsEntry("version", 4L);
+        assertThat(captured.update().get("$pull", Document.class))
+                .containsEntry("portfolioItems", new Document("_id", "item-1"));
+        assertThat(captured.update().get("$inc", Document.class)).containsEntry("version", 1);
+        assertThat(captured.options().isReturnNew()).isTrue();
+    }
+
+    private Captured captureFindAndModify() {
+        return captureFindAndModify(ArgumentCaptor.forClass(Update.class));
+    }
+
+    private Captured captureFindAndModify(ArgumentCaptor<Update> update) {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), options.capture(), eq(Portfolio.class));
+
+        return new Captured(
+                queryMapper.getMappedObject(query.getValue().getQueryObject(), entity),
+                query.getValue().getFieldsObject(),
+                updateMapper.getMappedObject(update.getValue().getUpdateObject(), entity),
+                options.getValue());
+    }
+
+    /**
+     * 매핑된 findAndModify 인자
+     */
+    private static class Captured {
+
+        private final Document query;
+        private final Document fields;
+        private final Document update;
+        private final FindAndModifyOptions options;
+
+        Captured(Document query, Document fields, Document update, FindAndModifyOptions options) {
+            this.query = query;
+            this.fields = fields;
+            this.update = update;
+            this.options = options;
+        }
+
+        Document query() {
+            return query;
+        }
+
+        Document fields() {
+            return fields;
+        }
+
+        Document update() {
+            return update;
+        }
+
+        FindAndModifyOptions options() {
+            return options;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.document.ProcessingStatus;
+import com.example.experfolio.domain.portfolio.dto.PortfolioItemDto;
+import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.portfolio.service.AttachmentUploader;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import com.example.experfolio.domain.portfolio.service.PortfolioService;
+import com.example.experfolio.domain.portfolio.service.SearchableTextBuilder;
+import com.example.experfolio.domain.user.repository.JobSeekerProfileRepository;
+import com.example.experfolio.domain.user.repository.UserRepository;
+import com.example.experfolio.domain.user.service.JobSeekerProfileService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioService 부분 갱신 단위 테스트")
+class PortfolioServiceAtomicUpdateTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private AttachmentUploader attachmentUploader;
+
+    @Mock
+    private JobSeekerProfileRepository jobSeekerProfileRepository;
+
+    @Mock
+    private JobSeekerProfileService jobSeekerProfileService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SearchableTextBuilder searchableTextBuilder;
+
+    @InjectMocks
+    private PortfolioService portfolioService;
+
+    @Test
+    @DisplayName("아이템 추가 중 version이 바뀌면 다시 조회해 order를 재계산")
+    void retryAddOnVersionConflict() {
+        given(portfolioRepository.findItemOrdersByUserId(USER_ID))
+                .willReturn(Optional.of(itemOrders(1L, 1)), Optional.of(itemOrders(2L, 2)));
+        List<Integer> pushedOrders = new ArrayList<>();
+        given(portfolioRepository.pushItem(eq(USER_ID), any(), eq(5), any())).willAnswer(invocation -> {
+            PortfolioItem item = invocation.getArgument(1);
+            pushedOrders.add(item.getOrder());
+            Long version = invocation.getArgument(3);
+            return version == 2L ? Optional.of(updated(3L)) : Optional.empty();
+        });
+        given(searchableTextBuilder.hasChanged(any())).willReturn(true);
+
+        PortfolioResponseDto response = portfolioService.addPortfolioItem(USER_ID, itemDto(), null);
+
+        assertThat(pushedOrders).containsExactly(2, 3);
+        assertThat(response.getVersion()).isEqualTo(3L);
+        then(portfolioRepository).should(never()).clearNeedsEmbedding(any(), any());
+    }
+
+    @Test
+    @DisplayName("경합 후 아이템 수가 한도에 도달하면 업로드한 파일을 정리하고 실패")
+    void cleanUpUploadsWhenLimitReached() throws Exception {
+        given(portfolioRepository.findItemOrdersByUserId(USER_ID))
+                .willReturn(Optional.of(itemOrders(1L, 4)), Optional.of(itemOrders(2L, 5)));
+        given(portfolioRepository.pushItem(eq(USER_ID), any(), anyInt(), any())).willReturn(Optional.empty());
+        MultipartFile[] files = {new MockMultipartFile("files", "a.pdf", "application/pdf", new byte[]{1})};
+        List<Attachment> uploaded = List.of(Attachment.builder().objectKey("key-1").build());
+        given(attachmentUploader.upload(files, USER_ID, "pending")).willReturn(uploaded);
+
+        assertThatThrownBy(() -> portfolioService.addPortfolioItem(USER_ID, itemDto(), files))
+                .isInstanceOf(IllegalStateException.class);
+
+        then(attachmentUploader).should().deleteUploaded(uploaded);
+    }
+
+    @Test
+    @DisplayName("임베딩 입력이 그대로면 같은 version일 때만 재임베딩 플래그 해제")
+    void clearFlagWhenSearchableTextUnchanged() {
+        given(portfolioRepository.updateItem(eq(USER_ID), eq("item-1"), any(), anyList()))
+                .willReturn(Optional.of(updated(5L)));
+        given(searchableTextBuilder.hasChanged(any())).willReturn(false);
+
+        PortfolioResponseDto response = portfolioService.updatePortfolioItem(USER_ID, "item-1", itemDto(), null);
+
+        then(portfolioRepository).should().clearNeedsEmbedding("portfolio-1", 5L);
+        assertThat(response.getProcessingStatus().isNeedsEmbedding()).isFalse();
+    }
+
+    @Test
+    @DisplayName("수정 대상이 없으면 포트폴리오/아이템 중 없는 쪽을 알려줌")
+    void notFoundMessages() {
+        given(portfolioRepository.updateItem(eq(USER_ID), eq("missing"), any(), anyList())).willReturn(Optional.empty());
+        given(portfolioRepository.existsByUserId(USER_ID)).willReturn(true);
+
+        assertThatThrownBy(() -> portfolioService.updatePortfolioItem(USER_ID, "missing", itemDto(), null))
+                .hasMessage("포트폴리오 아이템을 찾을 수 없습니다");
+    }
+
+    private static Portfolio itemOrders(Long version, int items) {
+        return Portfolio.builder()
+                .version(version)
+                .portfolioItems(IntStream.rangeClosed(1, items)
+                        .mapToObj(order -> PortfolioItem.builder().id("item-" + order).order(order).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+
+    private static Portfolio updated(Long version) {
+        return Portfolio.builder()
+                .id("portfolio-1")
+                .userId(USER_ID)
+                .version(version)
+                .portfolioItems(new ArrayList<>())
+                .processingStatus(ProcessingStatus.builder().needsEmbedding(true).build())
+                .build();
+    }
+
+    private static PortfolioItemDto itemDto() {
+        PortfolioItemDto dto = new PortfolioItemDto();
+        dto.setType("project");
+        dto.setTitle("제목");
+        dto.setContent("내용");
+        return dto;
+    }
+}
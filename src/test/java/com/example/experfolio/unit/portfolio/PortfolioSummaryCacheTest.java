@@ -0,0 +1,77 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent.ChangeType;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioSummaryCache 단위 테스트")
+class PortfolioSummaryCacheTest {
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    private PortfolioSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PortfolioSummaryCache(portfolioRepository, new SimpleMeterRegistry(), 100, 600);
+        given(portfolioRepository.findSummariesByUserIdIn(anyList())).willAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            return userIds.stream()
+                    .filter(userId -> !userId.startsWith("missing"))
+                    .map(userId -> PortfolioSummaryDto.builder()
+                            .userId(userId)
+                            .basicInfoPresent(true)
+                            .name("이름-" + userId)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("캐시 미스만 한 번의 조회로 채우고 포트폴리오가 없는 userId도 저장")
+    void loadMissesInOneRoundTrip() {
+        Map<String, PortfolioSummaryDto> first = cache.getAll(List.of("a", "b", "missing-1"));
+        Map<String, PortfolioSummaryDto> second = cache.getAll(List.of("a", "b", "c", "missing-1"));
+
+        assertThat(first.get("a").getName()).isEqualTo("이름-a");
+        assertThat(first.get("missing-1").isBasicInfoPresent()).isFalse();
+        assertThat(second).containsKeys("a", "b", "c", "missing-1");
+
+        then(portfolioRepository).should().findSummariesByUserIdIn(List.of("a", "b", "missing-1"));
+        then(portfolioRepository).should().findSummariesByUserIdIn(List.of("c"));
+    }
+
+    @Test
+    @DisplayName("기본 정보 변경/생성/삭제 시 해당 userId만 무효화, 아이템 변경은 유지")
+    void invalidateOnBasicInfoChanges() {
+        cache.getAll(List.of("a", "b"));
+
+        cache.onPortfolioChanged(new PortfolioChangedEvent("a", ChangeType.ITEMS_UPDATED));
+        cache.getAll(List.of("a", "b"));
+        then(portfolioRepository).should(times(1)).findSummariesByUserIdIn(anyList());
+
+        cache.onPortfolioChanged(new PortfolioChangedEvent("a", ChangeType.BASIC_INFO_UPDATED));
+        cache.getAll(List.of("a", "b"));
+        then(portfolioRepository).should().findSummariesByUserIdIn(List.of("a"));
+    }
+}
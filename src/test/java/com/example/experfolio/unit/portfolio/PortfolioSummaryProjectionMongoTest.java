@@ -0,0 +1,111 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Award;
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepositoryCustomImpl;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MongoDB에서 요약 집계 결과 확인
+ * MONGODB_TEST_URI가 설정된 경우에만 실행되며, 임시 데이터베이스를 만들고 끝나면 삭제한다.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+@DisplayName("포트폴리오 요약 집계 테스트 (MongoDB 필요)")
+class PortfolioSummaryProjectionMongoTest {
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static Map<String, PortfolioSummaryDto> summaries;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(System.getenv("MONGODB_TEST_URI"));
+        mongoTemplate = new MongoTemplate(client, "experfolio_summary_" + UUID.randomUUID().toString().substring(0, 8));
+
+        mongoTemplate.insert(Portfolio.builder()
+                .userId("full")
+                .basicInfo(BasicInfo.builder()
+                        .name("홍길동")
+                        .schoolName("한국대학교")
+                        .major("컴퓨터공학")
+                        .gpa(4.1)
+                        .desiredPosition("백엔드")
+                        .awards(List.of(Award.builder().awardName("대상").build(),
+                                Award.builder().awardName("우수상").build()))
+                        .build())
+                .build());
+        mongoTemplate.insert(Portfolio.builder()
+                .userId("no-awards")
+                .basicInfo(BasicInfo.builder().name("김철수").build())
+                .build());
+        mongoTemplate.insert(Portfolio.builder()
+                .userId("no-basic-info")
+                .build());
+
+        summaries = new PortfolioRepositoryCustomImpl(mongoTemplate)
+                .findSummariesByUserIdIn(List.of("full", "no-awards", "no-basic-info", "absent")).stream()
+                .collect(Collectors.toMap(PortfolioSummaryDto::getUserId, Function.identity()));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (mongoTemplate != null) {
+            mongoTemplate.getDb().drop();
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    @DisplayName("BasicInfo 필드와 수상 개수 매핑, 없는 userId는 결과에 없음")
+    void mapsFields() {
+        assertThat(summaries).containsOnlyKeys("full", "no-awards", "no-basic-info");
+
+        PortfolioSummaryDto full = summaries.get("full");
+        assertThat(full.isBasicInfoPresent()).isTrue();
+        assertThat(full.getName()).isEqualTo("홍길동");
+        assertThat(full.getSchoolName()).isEqualTo("한국대학교");
+        assertThat(full.getMajor()).isEqualTo("컴퓨터공학");
+        assertThat(full.getGpa()).isEqualTo(4.1);
+        assertThat(full.getDesiredPosition()).isEqualTo("백엔드");
+        assertThat(full.getAwardsCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("awards가 없으면 수상 개수 0")
+    void missingAwards() {
+        PortfolioSummaryDto summary = summaries.get("no-awards");
+
+        assertThat(summary.isBasicInfoPresent()).isTrue();
+        assertThat(summary.getName()).isEqualTo("김철수");
+        assertThat(summary.getAwardsCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("basicInfo가 없으면 basicInfoPresent=false")
+    void missingBasicInfo() {
+        PortfolioSummaryDto summary = summaries.get("no-basic-info");
+
+        assertThat(summary.isBasicInfoPresent()).isFalse();
+        assertThat(summary.getName()).isNull();
+        assertThat(summary.getAwardsCount()).isZero();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.converter.EmbeddingVectorConverters;
+import com.example.experfolio.domain.portfolio.converter.VectorStorageFormat;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepositoryCustomImpl;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PortfolioRepositoryCustomImpl 요약 프로젝션 단위 테스트")
+class PortfolioSummaryProjectionTest {
+
+    private MongoMappingContext mappingContext;
+    private MappingMongoConverter converter;
+    private MongoTemplate mongoTemplate;
+    private PortfolioRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(
+                EmbeddingVectorConverters.converters(VectorStorageFormat.FLOAT32));
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new PortfolioRepositoryCustomImpl(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("userId로 거른 뒤 BasicInfo 필드만 남기고 수상 개수는 서버에서 계산")
+    @SuppressWarnings("unchecked")
+    void projectsSummaryFields() {
+        given(mongoTemplate.aggregate(any(TypedAggregation.class), eq(PortfolioSummaryDto.class)))
+                .willReturn(new AggregationResults<>(List.of(), new Document()));
+
+        repository.findSummariesByUserIdIn(List.of("user-1", "user-2"));
+
+        ArgumentCaptor<TypedAggregation<Portfolio>> captor = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(captor.capture(), eq(PortfolioSummaryDto.class));
+        List<Document> pipeline = captor.getValue().toPipeline(
+                new TypeBasedAggregationOperationContext(Portfolio.class, mappingContext, new QueryMapper(converter)));
+
+        assertThat(pipeline).hasSize(2);
+        assertThat(pipeline.get(0).get("$match", Document.class).get("userId", Document.class).get("$in"))
+                .isEqualTo(List.of("user-1", "user-2"));
+
+        Document project = pipeline.get(1).get("$project", Document.class);
+        assertThat(project)
+                .containsEntry("_id", 0)
+                .containsEntry("userId", 1)
+                .containsEntry("name", "$basicInfo.name")
+                .containsEntry("schoolName", "$basicInfo.schoolName")
+                .containsEntry("gpa", "$basicInfo.gpa")
+                .containsEntry("major", "$basicInfo.major")
+                .containsEntry("desiredPosition", "$basicInfo.desiredPosition")
+                .containsEntry("basicInfoPresent", new Document("$gt", Arrays.asList("$basicInfo", null)))
+                .containsEntry("awardsCount", new Document("$size",
+                        new Document("$ifNull", List.of("$basicInfo.awards", List.of()))));
+        // 아이템, 첨부파일, 임베딩은 내려받지 않는다
+        assertThat(project).doesNotContainKeys("portfolioItems", "embeddings", "basicInfo");
+    }
+
+    @Test
+    @DisplayName("빈 userId 목록은 조회하지 않음")
+    void emptyUserIds() {
+        assertThat(repository.findSummariesByUserIdIn(List.of())).isEmpty();
+
+        verify(mongoTemplate, never()).aggregate(any(TypedAggregation.class), eq(PortfolioSummaryDto.class));
+    }
+
+    @Test
+    @DisplayName("프로젝션 결과 문서를 PortfolioSummaryDto로 매핑")
+    void mapsProjectedDocument() {
+        PortfolioSummaryDto summary = converter.read(PortfolioSummaryDto.class, new Document("userId", "user-1")
+                .append("basicInfoPresent", true)
+                .append("name", "홍길동")
+                .append("schoolName", "한국대학교")
+                .append("gpa", 4.1)
+                .append("major", "컴퓨터공학")
+                .append("desiredPosition", "백엔드")
+                .append("awardsCount", 2));
+
+        assertThat(summary.getUserId()).isEqualTo("user-1");
+        assertThat(summary.isBasicInfoPresent()).isTrue();
+        assertThat(summary.getName()).isEqualTo("홍길동");
+        assertThat(summary.getSchoolName()).isEqualTo("한국대학교");
+        assertThat(summary.getGpa()).isEqualTo(4.1);
+        assertThat(summary.getMajor()).isEqualTo("컴퓨터공학");
+        assertThat(summary.getDesiredPosition()).isEqualTo("백엔드");
+        assertThat(summary.getAwardsCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("basicInfo가 없는 포트폴리오는 basicInfoPresent=false, 수상 개수 0으로 매핑")
+    void mapsMissingBasicInfo() {
+        // basicInfo가 없으면 $project는 basicInfo.* 필드를 만들지 않는다
+        PortfolioSummaryDto summary = converter.read(PortfolioSummaryDto.class, new Document("userId", "user-2")
+                .append("basicInfoPresent", false)
+                .append("awardsCount", 0));
+
+        assertThat(summary.getUserId()).isEqualTo("user-2");
+        assertThat(summary.isBasicInfoPresent()).isFalse();
+        assertThat(summary.getName()).isNull();
+        assertThat(summary.getGpa()).isNull();
+        assertThat(summary.getAwardsCount()).isZero();
+    }
+}
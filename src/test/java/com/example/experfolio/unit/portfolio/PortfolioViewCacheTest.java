@@ -0,0 +1,122 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioView;
+import com.example.experfolio.domain.portfolio.cache.PortfolioViewCache;
+import com.example.experfolio.domain.portfolio.document.ProcessingStatus;
+import com.example.experfolio.domain.portfolio.dto.PortfolioResponseDto;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent.ChangeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PortfolioViewCache 단위 테스트")
+class PortfolioViewCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private PortfolioViewCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PortfolioViewCache(new ObjectMapper().registerModule(new JavaTimeModule()),
+                new SimpleMeterRegistry(), 1024 * 1024, 600);
+    }
+
+    @Test
+    @DisplayName("같은 ETag면 캐시된 본문을 재사용하고, 버전이 바뀌면 다시 조회")
+    void reuseWhileETagMatches() {
+        String etag = PortfolioView.etag(3L, UPDATED_AT, status(false));
+
+        PortfolioView first = cache.get("user-1", etag, loader(3L, false));
+        PortfolioView second = cache.get("user-1", etag, loader(3L, false));
+        PortfolioView changed = cache.get("user-1", PortfolioView.etag(4L, UPDATED_AT, status(false)), loader(4L, false));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getEtag()).isEqualTo(etag);
+        assertThat(new String(first.getBody())).contains("\"userId\":\"user-1\"", "\"version\":3");
+        assertThat(changed.getEtag()).isNotEqualTo(etag);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("포트폴리오 변경 이벤트 시 항목 제거")
+    void invalidateOnChange() {
+        String etag = PortfolioView.etag(3L, UPDATED_AT, status(false));
+        cache.get("user-1", etag, loader(3L, false));
+
+        cache.onPortfolioChanged(new PortfolioChangedEvent("user-1", ChangeType.ITEMS_REORDERED));
+        cache.get("user-1", etag, loader(3L, false));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ETag는 임베딩 처리 상태 변경도 반영")
+    void etagReflectsProcessingStatus() {
+        assertThat(PortfolioView.etag(3L, UPDATED_AT, status(true)))
+                .isNotEqualTo(PortfolioView.etag(3L, UPDATED_AT, status(false)));
+        assertThat(PortfolioView.etag(null, UPDATED_AT, null)).startsWith("v0-");
+    }
+
+    @Test
+    @DisplayName("임베딩 재시도 상태만 바뀌어도 ETag가 달라져 캐시된 본문을 다시 만듦")
+    void etagReflectsEmbeddingRetryState() {
+        ProcessingStatus retrying = status(true);
+        String before = PortfolioView.etag(3L, UPDATED_AT, retrying);
+        cache.get("user-1", before, loader(3L, true));
+
+        retrying.setEmbeddingAttempts(1);
+        String after = PortfolioView.etag(3L, UPDATED_AT, retrying);
+        PortfolioView reloaded = cache.get("user-1", after, () -> {
+            loads.incrementAndGet();
+            return PortfolioResponseDto.builder()
+                    .userId("user-1")
+                    .version(3L)
+                    .updatedAt(UPDATED_AT)
+                    .processingStatus(retrying)
+                    .build();
+        });
+
+        assertThat(after).isNotEqualTo(before);
+        assertThat(PortfolioView.matches("\"" + before + "\"", after)).isFalse();
+        assertThat(new String(reloaded.getBody())).contains("\"embeddingAttempts\":1");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 비교 - 여러 값, 약한 ETag, 와일드카드")
+    void matchIfNoneMatch() {
+        assertThat(PortfolioView.matches("\"v3-abc\"", "v3-abc")).isTrue();
+        assertThat(PortfolioView.matches("\"v2-000\", W/\"v3-abc\"", "v3-abc")).isTrue();
+        assertThat(PortfolioView.matches("*", "v3-abc")).isTrue();
+        assertThat(PortfolioView.matches("v3-abc", "v3-abc")).isFalse();
+        assertThat(PortfolioView.matches(null, "v3-abc")).isFalse();
+    }
+
+    private Supplier<PortfolioResponseDto> loader(Long version, boolean needsEmbedding) {
+        return () -> {
+            loads.incrementAndGet();
+            return PortfolioResponseDto.builder()
+                    .userId("user-1")
+                    .version(version)
+                    .updatedAt(UPDATED_AT)
+                    .processingStatus(status(needsEmbedding))
+                    .build();
+        };
+    }
+
+    private static ProcessingStatus status(boolean needsEmbedding) {
+        return ProcessingStatus.builder().needsEmbedding(needsEmbedding).build();
+    }
+}
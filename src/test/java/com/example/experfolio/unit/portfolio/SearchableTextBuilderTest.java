@@ -0,0 +1,91 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Award;
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.Embeddings;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.portfolio.document.PortfolioItem;
+import com.example.experfolio.domain.portfolio.service.SearchableTextBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchableTextBuilder 단위 테스트")
+class SearchableTextBuilderTest {
+
+    private final SearchableTextBuilder builder = new SearchableTextBuilder();
+
+    @Test
+    @DisplayName("기본 정보와 아이템을 내용 기준 순서로 합치고 이름은 제외")
+    void buildFromBasicInfoAndItems() {
+        Portfolio portfolio = Portfolio.builder()
+                .basicInfo(BasicInfo.builder()
+                        .name("홍길동")
+                        .desiredPosition("백엔드 개발자")
+                        .major("컴퓨터공학")
+                        .awards(List.of(Award.builder().awardName("해커톤").achievement("대상").build()))
+                        .build())
+                .portfolioItems(List.of(
+                        PortfolioItem.builder().order(2).type("career").title("인턴").content(" Spring 서버 개발 ").build(),
+                        PortfolioItem.builder().order(1).type("project").title("검색 서비스").build()))
+                .build();
+
+        assertThat(builder.build(portfolio)).isEqualTo("""
+                희망 직무: 백엔드 개발자
+                전공: 컴퓨터공학
+                수상: 해커톤 대상
+                career: 인턴
+                Spring 서버 개발
+                project: 검색 서비스""");
+    }
+
+    @Test
+    @DisplayName("내용이 없으면 빈 문자열")
+    void emptyPortfolio() {
+        assertThat(builder.build(Portfolio.builder().build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순서 변경과 공백만 다른 수정은 같은 해시")
+    void hashIgnoresOrderAndWhitespace() {
+        Portfolio original = portfolio(
+                PortfolioItem.builder().order(1).type("project").title("검색 서비스").content("Spring 서버 개발").build(),
+                PortfolioItem.builder().order(2).type("career").title("인턴").content("API 설계").build());
+        Portfolio reordered = portfolio(
+                PortfolioItem.builder().order(1).type("career").title("인턴 ").content("API   설계\n\n").build(),
+                PortfolioItem.builder().order(2).type("project").title("검색 서비스").content("  Spring\t서버 개발").build());
+        Portfolio edited = portfolio(
+                PortfolioItem.builder().order(1).type("project").title("검색 서비스").content("Spring 서버 개발").build(),
+                PortfolioItem.builder().order(2).type("career").title("인턴").content("API 설계 및 배포").build());
+
+        String hash = builder.hash(builder.build(original));
+
+        assertThat(builder.hash(builder.build(reordered))).isEqualTo(hash);
+        assertThat(builder.hash(builder.build(edited))).isNotEqualTo(hash).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("마지막 임베딩 해시와 비교해 변경 여부 판단 (해시가 없으면 변경)")
+    void hasChanged() {
+        Portfolio portfolio = portfolio(PortfolioItem.builder().order(1).type("project").title("검색 서비스").build());
+        assertThat(builder.hasChanged(portfolio)).isTrue();
+
+        portfolio.setEmbeddings(Embeddings.builder()
+                .searchableTextHash(builder.hash(builder.build(portfolio)))
+                .build());
+        assertThat(builder.hasChanged(portfolio)).isFalse();
+
+        portfolio.getPortfolioItems().get(0).setTitle("추천 서비스");
+        assertThat(builder.hasChanged(portfolio)).isTrue();
+    }
+
+    private static Portfolio portfolio(PortfolioItem... items) {
+        return Portfolio.builder()
+                .basicInfo(BasicInfo.builder().desiredPosition("백엔드 개발자").build())
+                .portfolioItems(List.of(items))
+                .build();
+    }
+}
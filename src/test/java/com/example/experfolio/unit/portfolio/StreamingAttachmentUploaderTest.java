@@ -0,0 +1,240 @@
+package com.example.experfolio.unit.portfolio;
+
+import com.example.experfolio.domain.portfolio.document.Attachment;
+import com.example.experfolio.domain.portfolio.service.FileStorageService;
+import com.example.experfolio.domain.portfolio.upload.AttachmentType;
+import com.example.experfolio.domain.portfolio.upload.StreamingAttachmentUploader;
+import com.example.experfolio.global.exception.BadRequestException;
+import org.apache.commons.fileupload.UploadContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StreamingAttachmentUploader 단위 테스트")
+class StreamingAttachmentUploaderTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String BOUNDARY = "----experfolio-boundary";
+    private static final int PART_SIZE = FileStorageService.MIN_PART_SIZE;
+    private static final byte[] PDF = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @Mock
+    private S3Client s3Client;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(s3Client, null);
+        ReflectionTestUtils.setField(fileStorageService, "bucketName", "bucket");
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+    }
+
+    @Test
+    @DisplayName("파트 버퍼보다 작은 파일은 PUT 한 번, Content-Type은 형식에서 결정")
+    void smallFileUsesSinglePut() {
+        byte[] content = file(PDF, 1000);
+
+        List<Attachment> attachments = uploader(20 * 1024 * 1024).upload(
+                request(part("files", "resume.pdf", "application/octet-stream", content)), USER_ID);
+
+        assertThat(attachments).singleElement().satisfies(attachment -> {
+            assertThat(attachment.getOriginalFilename()).isEqualTo("resume.pdf");
+            assertThat(attachment.getContentType()).isEqualTo("application/pdf");
+            assertThat(attachment.getFileSize()).isEqualTo(1000L);
+            assertThat(attachment.getObjectKey()).startsWith("portfolios/" + USER_ID + "/").endsWith(".pdf");
+        });
+        ArgumentCaptor<PutObjectRequest> put = ArgumentCaptor.forClass(PutObjectRequest.class);
+        then(s3Client).should().putObject(put.capture(), any(RequestBody.class));
+        assertThat(put.getValue().contentLength()).isEqualTo(1000L);
+        assertThat(put.getValue().contentType()).isEqualTo("application/pdf");
+        then(s3Client).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("큰 파일은 고정 크기 파트로 나눠 멀티파트 업로드")
+    void largeFileUsesMultipartUpload() {
+        int size = PART_SIZE * 2 + 1234;
+        byte[] content = file(PDF, size);
+
+        List<Attachment> attachments = uploader(20 * 1024 * 1024).upload(
+                request(part("files", "portfolio.pdf", "application/pdf", content)), USER_ID);
+
+        assertThat(attachments).singleElement()
+                .satisfies(attachment -> assertThat(attachment.getFileSize()).isEqualTo((long) size));
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        then(s3Client).should(times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+                .containsExactly((long) PART_SIZE, (long) PART_SIZE, 1234L);
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        then(s3Client).should().completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("내용이 확장자와 다르면 거부하고 앞서 올린 파일을 삭제")
+    void rejectsSignatureMismatchAndCleansUp() {
+        byte[] body = body(
+                part("files", "a.pdf", "application/pdf", file(PDF, 100)),
+                part("files", "b.png", "image/png", file(PDF, 100)));
+
+        assertThatThrownBy(() -> uploader(20 * 1024 * 1024).upload(context(body), USER_ID))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("b.png");
+
+        ArgumentCaptor<DeleteObjectsRequest> delete = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        then(s3Client).should().deleteObjects(delete.capture());
+        assertThat(delete.getValue().delete().objects()).extracting(ObjectIdentifier::key)
+                .singleElement().asString().endsWith(".pdf");
+    }
+
+    @Test
+    @DisplayName("파일 크기 제한을 넘으면 진행 중인 멀티파트 업로드를 중단")
+    void abortsMultipartUploadWhenTooLarge() {
+        byte[] content = file(PDF, PART_SIZE + 1024 * 1024);
+
+        assertThatThrownBy(() -> uploader(PART_SIZE + 1024).upload(
+                request(part("files", "big.pdf", "application/pdf", content)), USER_ID))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("파일 크기");
+
+        then(s3Client).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        then(s3Client).should(never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("폼 필드와 빈 파일 입력은 건너뜀")
+    void skipsFormFieldsAndEmptyInputs() {
+        byte[] body = body(
+                field("note", "hello"),
+                part("files", "", "application/octet-stream", new byte[0]),
+                part("files", "photo.png", "image/png", file(PNG, 64)));
+
+        List<Attachment> attachments = uploader(20 * 1024 * 1024).upload(context(body), USER_ID);
+
+        assertThat(attachments).extracting(Attachment::getContentType).containsExactly("image/png");
+    }
+
+    @Test
+    @DisplayName("확장자별 매직 넘버 판별")
+    void detectsSignatures() {
+        assertThat(AttachmentType.fromFilename("CV.PDF")).contains(AttachmentType.PDF);
+        assertThat(AttachmentType.fromFilename("run.exe")).isEmpty();
+        assertThat(AttachmentType.PNG.matches(PNG, PNG.length)).isTrue();
+        assertThat(AttachmentType.PNG.matches(PNG, 4)).isFalse();
+        assertThat(AttachmentType.JPEG.matches(PDF, PDF.length)).isFalse();
+        byte[] text = "이력서".getBytes(StandardCharsets.UTF_8);
+        assertThat(AttachmentType.TXT.matches(text, text.length)).isTrue();
+        assertThat(AttachmentType.TXT.matches(new byte[]{'a', 0, 'b'}, 3)).isFalse();
+    }
+
+    private StreamingAttachmentUploader uploader(long maxFileSize) {
+        return new StreamingAttachmentUploader(fileStorageService, PART_SIZE, 2, 1000, maxFileSize, 5);
+    }
+
+    private static byte[] file(byte[] header, int size) {
+        byte[] content = Arrays.copyOf(header, size);
+        Arrays.fill(content, header.length, size, (byte) 'x');
+        return content;
+    }
+
+    private static byte[] part(String field, String filename, String contentType, byte[] content) {
+        String headers = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + field + "\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n";
+        return concat(headers.getBytes(StandardCharsets.UTF_8), content, "\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] field(String name, String value) {
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static UploadContext request(byte[]... parts) {
+        return context(body(parts));
+    }
+
+    private static byte[] body(byte[]... parts) {
+        return concat(concat(parts), ("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UploadContext context(byte[] body) {
+        return new UploadContext() {
+            @Override
+            public long contentLength() {
+                return body.length;
+            }
+
+            @Override
+            public String getCharacterEncoding() {
+                return "UTF-8";
+            }
+
+            @Override
+            public String getContentType() {
+                return "multipart/form-data; boundary=" + BOUNDARY;
+            }
+
+            @Override
+            public int getContentLength() {
+                return body.length;
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(body);
+            }
+        };
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] array : arrays) {
+            out.writeBytes(array);
+        }
+        return out.toByteArray();
+    }
+}
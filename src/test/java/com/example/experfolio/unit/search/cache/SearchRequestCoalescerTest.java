@@ -0,0 +1,123 @@
+package com.example.experfolio.unit.search.cache;
+
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.exception.SearchServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SearchRequestCoalescer 단위 테스트")
+class SearchRequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchRequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new SearchRequestCoalescer(meterRegistry, true);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 검색하고 같은 결과를 공유")
+    void coalesceConcurrentRequests() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SearchResponseDto response = SearchResponseDto.builder().status("success").build();
+
+        List<Future<SearchResponseDto>> futures = submitAll(() -> {
+            calls.incrementAndGet();
+            await(release);
+            return response;
+        });
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<SearchResponseDto> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("search.coalesced.waiters").counter().count()).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("search.coalesced.waiters.per.flight").summary().max()).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("search.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("선행 요청의 예외는 대기 중인 요청에도 그대로 전달")
+    void propagateFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<SearchResponseDto>> futures = submitAll(() -> {
+            await(release);
+            throw new SearchServiceException("AI 서버에 연결할 수 없습니다.");
+        });
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<SearchResponseDto> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SearchServiceException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("완료된 검색은 보관하지 않으므로 다음 요청은 다시 검색")
+    void doesNotRetainResults() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute("AI:react", () -> SearchResponseDto.builder().totalResults(calls.incrementAndGet()).build());
+        SearchResponseDto second = coalescer.execute("AI:react",
+                () -> SearchResponseDto.builder().totalResults(calls.incrementAndGet()).build());
+
+        assertThat(second.getTotalResults()).isEqualTo(2);
+    }
+
+    private List<Future<SearchResponseDto>> submitAll(Supplier<SearchResponseDto> search) {
+        List<Future<SearchResponseDto>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("AI:react 개발자", search)));
+        }
+        return futures;
+    }
+
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("search.coalesced.waiters").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
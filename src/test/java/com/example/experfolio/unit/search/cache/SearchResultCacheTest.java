@@ -0,0 +1,83 @@
+package com.example.experfolio.unit.search.cache;
+
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent;
+import com.example.experfolio.domain.portfolio.event.PortfolioChangedEvent.ChangeType;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchResultCache 단위 테스트")
+class SearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SearchResultCache(meterRegistry, true, 10, 600);
+    }
+
+    @Test
+    @DisplayName("쿼리 정규화 - 공백 축약, 앞뒤 공백 제거, 소문자화")
+    void normalize() {
+        assertThat(SearchResultCache.normalize("  React   와\tTypeScript  "))
+                .isEqualTo("react 와 typescript");
+        assertThat(SearchResultCache.normalize("ＲＥＡＣＴ")).isEqualTo("react");
+        assertThat(SearchResultCache.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 후 조회 시 히트, 히트/미스 메트릭 기록")
+    void putAndGet() {
+        String key = SearchResultCache.normalize("React 개발자");
+        SearchResponseDto response = SearchResponseDto.builder().status("success").totalResults(0).build();
+
+        assertThat(cache.get(key)).isEmpty();
+        cache.put(key, response, cache.currentGeneration());
+
+        assertThat(cache.get(SearchResultCache.normalize("  react   개발자 "))).containsSame(response);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검색 관련 포트폴리오 변경 시 전체 무효화, 순서/첨부파일 변경은 유지")
+    void invalidateOnPortfolioChange() {
+        String key = "react";
+        cache.put(key, SearchResponseDto.builder().build(), cache.currentGeneration());
+
+        cache.onPortfolioChanged(new PortfolioChangedEvent("user-1", ChangeType.ITEMS_REORDERED));
+        cache.onPortfolioChanged(new PortfolioChangedEvent("user-1", ChangeType.ATTACHMENTS_UPDATED));
+        assertThat(cache.get(key)).isPresent();
+
+        cache.onPortfolioChanged(new PortfolioChangedEvent("user-1", ChangeType.ITEMS_UPDATED));
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(meterRegistry.get("search.cache.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검색 도중 무효화되면 이전 세대 결과는 저장하지 않음")
+    void skipStalePut() {
+        long generation = cache.currentGeneration();
+        cache.invalidateAll();
+
+        cache.put("react", SearchResponseDto.builder().build(), generation);
+
+        assertThat(cache.get("react")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 저장/조회하지 않음")
+    void disabled() {
+        SearchResultCache disabled = new SearchResultCache(new SimpleMeterRegistry(), false, 10, 600);
+        disabled.put("react", SearchResponseDto.builder().build(), disabled.currentGeneration());
+
+        assertThat(disabled.get("react")).isEmpty();
+    }
+}
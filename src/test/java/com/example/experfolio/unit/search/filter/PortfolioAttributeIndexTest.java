@@ -0,0 +1,90 @@
+package com.example.experfolio.unit.search.filter;
+
+import com.example.experfolio.domain.portfolio.document.BasicInfo;
+import com.example.experfolio.domain.portfolio.document.Certification;
+import com.example.experfolio.domain.search.dto.SearchFilterDto;
+import com.example.experfolio.domain.search.filter.PortfolioAttributeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PortfolioAttributeIndex 단위 테스트")
+class PortfolioAttributeIndexTest {
+
+    private PortfolioAttributeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PortfolioAttributeIndex();
+        index.upsert("kim", basicInfo("서울대학교", "컴퓨터공학", 4.1, "정보처리기사", "SQLD"));
+        index.upsert("lee", basicInfo("연세대학교", "소프트웨어학", 3.4, "정보처리기사"));
+        index.upsert("park", basicInfo("서울대학교", "경영학", 3.9));
+        index.upsert("choi", basicInfo("고려대학교", "컴퓨터 공학", null));
+        index.upsert("jung", null);
+    }
+
+    @Test
+    @DisplayName("학점 범위 - 학점이 없는 포트폴리오는 제외")
+    void gpaRange() {
+        assertThat(matching(SearchFilterDto.builder().minGpa(3.5).build())).containsExactly("kim", "park");
+        assertThat(matching(SearchFilterDto.builder().minGpa(3.0).maxGpa(3.9).build())).containsExactly("lee", "park");
+    }
+
+    @Test
+    @DisplayName("전공/학교는 하나라도 일치, 공백과 대소문자 무시")
+    void anyOfMajorAndSchool() {
+        assertThat(matching(SearchFilterDto.builder().majors(List.of("컴퓨터공학", "소프트웨어학")).build()))
+                .containsExactly("kim", "lee", "choi");
+        assertThat(matching(SearchFilterDto.builder()
+                .majors(List.of("컴퓨터공학"))
+                .schoolNames(List.of(" 서울대학교 "))
+                .build()))
+                .containsExactly("kim");
+    }
+
+    @Test
+    @DisplayName("자격증은 모두 보유해야 일치")
+    void allOfCertifications() {
+        assertThat(matching(SearchFilterDto.builder().certifications(List.of("정보처리기사")).build()))
+                .containsExactly("kim", "lee");
+        assertThat(matching(SearchFilterDto.builder().certifications(List.of("정보처리기사", "sqld")).build()))
+                .containsExactly("kim");
+        assertThat(matching(SearchFilterDto.builder().certifications(List.of("없는자격증")).build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신/삭제 후 이전 속성으로는 일치하지 않음")
+    void upsertAndRemove() {
+        index.upsert("kim", basicInfo("카이스트", "전산학", 3.2));
+        assertThat(matching(SearchFilterDto.builder().schoolNames(List.of("서울대학교")).build()))
+                .containsExactly("park");
+
+        assertThat(index.remove("park")).isTrue();
+        index.upsert("new", basicInfo("서울대학교", "경영학", 3.9));
+        assertThat(matching(SearchFilterDto.builder().schoolNames(List.of("서울대학교")).build()))
+                .containsExactly("new");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    private List<String> matching(SearchFilterDto filter) {
+        Predicate<String> eligible = index.matching(filter);
+        return Stream.of("kim", "lee", "park", "choi", "jung", "new").filter(eligible).toList();
+    }
+
+    private static BasicInfo basicInfo(String schoolName, String major, Double gpa, String... certifications) {
+        return BasicInfo.builder()
+                .schoolName(schoolName)
+                .major(major)
+                .gpa(gpa)
+                .certifications(Stream.of(certifications)
+                        .map(name -> Certification.builder().certificationName(name).build())
+                        .toList())
+                .build();
+    }
+}
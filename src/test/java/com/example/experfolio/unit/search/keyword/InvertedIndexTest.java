@@ -0,0 +1,118 @@
+package com.example.experfolio.unit.search.keyword;
+
+import com.example.experfolio.domain.search.keyword.InvertedIndex;
+import com.example.experfolio.domain.search.keyword.KeywordHit;
+import com.example.experfolio.domain.search.keyword.KeywordTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvertedIndex 단위 테스트")
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("토큰화 - 소문자화, 기술명 기호 유지, 한글 음절 bigram")
+    void tokenize() {
+        assertThat(KeywordTokenizer.tokenize("Ｃ++ 와 Node.js, C#."))
+                .containsExactly("c++", "와", "node.js", "c#");
+        assertThat(KeywordTokenizer.tokenize("백엔드개발")).containsExactly("백엔", "엔드", "드개", "개발");
+        assertThat(KeywordTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BM25 - 희귀한 단어와 높은 빈도, 짧은 문서가 우선")
+    void bm25Ranking() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert("common", tokens("java spring 개발자"));
+        index.upsert("kotlin", tokens("kotlin spring 개발자"));
+        index.upsert("kotlin-twice", tokens("kotlin kotlin spring 개발자"));
+        index.upsert("long", tokens("kotlin spring 개발자 java python go rust typescript react vue"));
+
+        List<KeywordHit> hits = index.search(KeywordTokenizer.tokenizeQuery("Kotlin 개발자"), 10);
+
+        assertThat(hits).extracting(KeywordHit::getUserId)
+                .containsExactly("kotlin-twice", "kotlin", "long", "common");
+        assertThat(hits.get(0).getMatchedWords()).containsExactly("kotlin", "개발자");
+        assertThat(hits.get(3).getMatchedWords()).containsExactly("개발자");
+    }
+
+    @Test
+    @DisplayName("한글 어절 일부로도 검색 (조사가 붙은 단어)")
+    void koreanPartialMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert("a", tokens("추천시스템을 개발했습니다"));
+        index.upsert("b", tokens("결제 서비스 운영"));
+
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("추천 시스템"), 10))
+                .extracting(KeywordHit::getUserId).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제 - 이전 내용은 검색되지 않음")
+    void upsertAndRemove() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert("a", tokens("react"));
+        index.upsert("b", tokens("react vue"));
+
+        index.upsert("a", tokens("angular"));
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("react"), 10))
+                .extracting(KeywordHit::getUserId).containsExactly("b");
+
+        assertThat(index.remove("b")).isTrue();
+        assertThat(index.remove("b")).isFalse();
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("react"), 10)).isEmpty();
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("angular"), 10))
+                .extracting(KeywordHit::getUserId).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("삭제 문서가 많아지면 압축 후에도 같은 결과")
+    void compaction() {
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 300; i++) {
+            index.upsert("user-" + i, tokens("spring " + (i % 2 == 0 ? "kafka" : "redis")));
+        }
+        long sizeBefore = index.postingsSizeInBytes();
+
+        // 같은 문서를 반복 갱신해 삭제 표시를 쌓는다 (압축이 여러 번 일어남)
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 300; i += 2) {
+                index.upsert("user-" + i, tokens("spring kafka"));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(300);
+        assertThat(index.postingsSizeInBytes()).isLessThan(sizeBefore * 2);
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("kafka"), 1000)).hasSize(150)
+                .allSatisfy(hit -> assertThat(Integer.parseInt(hit.getUserId().substring(5)) % 2).isZero());
+    }
+
+    @Test
+    @DisplayName("필터를 만족하는 문서만 결과에 포함")
+    void searchWithFilter() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert("a", tokens("kotlin kotlin"));
+        index.upsert("b", tokens("kotlin"));
+
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("kotlin"), 10, userId -> !userId.equals("a")))
+                .extracting(KeywordHit::getUserId).containsExactly("b");
+    }
+
+        @Test
+    @DisplayName("일치하는 단어가 없거나 빈 쿼리면 빈 결과")
+    void noMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert("a", tokens("java"));
+
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("golang"), 10)).isEmpty();
+        assertThat(index.search(KeywordTokenizer.tokenizeQuery("  "), 10)).isEmpty();
+    }
+
+    private static List<String> tokens(String text) {
+        return KeywordTokenizer.tokenize(text);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.experfolio.unit.search.resilience;
+
+import com.example.experfolio.domain.search.exception.AiServerUnavailableException;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.resilience.CircuitBreaker.State;
+import com.example.experfolio.global.warmup.WarmUpContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AiServerCallGuard 단위 테스트")
+class AiServerCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AiServerCallGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        if (guard != null) {
+            guard.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("지연 예산을 넘기면 기다리지 않고 AiServerUnavailableException")
+    void budgetExceeded() {
+        guard = newGuard(100, false, 50);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> guard.call(() -> sleepAndReturn(2000, "late")))
+                .isInstanceOf(AiServerUnavailableException.class);
+
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1000);
+        assertThat(meterRegistry.get("search.ai.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("서버 오류가 반복되면 회로가 열려 호출 없이 즉시 실패, 클라이언트 오류는 실패로 세지 않음")
+    void circuitOpensOnServerErrors() {
+        guard = newGuard(1000, false, 50);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                calls.incrementAndGet();
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(guard.getCircuitState()).isEqualTo(State.CLOSED);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                calls.incrementAndGet();
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            })).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(guard.getCircuitState()).isEqualTo(State.OPEN);
+
+        assertThatThrownBy(() -> guard.call(() -> {
+            calls.incrementAndGet();
+            return "never";
+        })).isInstanceOf(AiServerUnavailableException.class);
+        assertThat(calls).hasValue(8);
+        assertThat(meterRegistry.get("search.ai.circuit.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("원 요청이 헤지 지연을 넘기면 두 번째 요청을 보내 먼저 온 응답 사용")
+    void hedgedRequestWins() {
+        guard = newGuard(3000, true, 50);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = guard.call(() -> attempts.incrementAndGet() == 1
+                ? sleepAndReturn(2000, "slow")
+                : "fast");
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(meterRegistry.get("search.ai.hedge.sent").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("search.ai.hedge.wins").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 지연 안에 응답하면 헤지 요청을 보내지 않음")
+    void noHedgeWhenFast() {
+        guard = newGuard(3000, true, 500);
+
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(meterRegistry.get("search.ai.hedge.sent").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출은 응답이 시작될 때까지만 지연 예산 적용")
+    void streamingBudgetAppliesUntilResponseStarts() {
+        guard = newGuard(200, false, 50);
+
+        String result = guard.callStreaming(onResponseStarted -> {
+            onResponseStarted.run();
+            return sleepAndReturn(500, "streamed");
+        });
+        assertThat(result).isEqualTo("streamed");
+
+        assertThatThrownBy(() -> guard.callStreaming(onResponseStarted -> sleepAndReturn(2000, "late")))
+                .isInstanceOf(AiServerUnavailableException.class);
+        assertThat(meterRegistry.get("search.ai.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("스트리밍 호출 실패도 회로에 기록되어 회로가 열리면 호출 없이 거절")
+    void streamingFailuresOpenCircuit() {
+        guard = newGuard(1000, false, 50);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.callStreaming(onResponseStarted -> {
+                calls.incrementAndGet();
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            })).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(guard.getCircuitState()).isEqualTo(State.OPEN);
+
+        assertThatThrownBy(() -> guard.callStreaming(onResponseStarted -> {
+            calls.incrementAndGet();
+            return "never";
+        })).isInstanceOf(AiServerUnavailableException.class);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("워밍업 호출의 실패는 회로에 기록하지 않음")
+    void warmUpCallsDoNotTripCircuit() {
+        guard = newGuard(1000, false, 50);
+
+        WarmUpContext.run(() -> {
+            for (int i = 0; i < 6; i++) {
+                assertThatThrownBy(() -> guard.call(() -> {
+                    throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+                })).isInstanceOf(HttpServerErrorException.class);
+            }
+        });
+
+        assertThat(guard.getCircuitState()).isEqualTo(State.CLOSED);
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private AiServerCallGuard newGuard(long budgetMs, boolean hedgeEnabled, long hedgeDelayMs) {
+        return new AiServerCallGuard(meterRegistry, budgetMs, 4, 10, 4, 0.5, 60000,
+                hedgeEnabled, hedgeDelayMs, 10, 0.95);
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.experfolio.unit.search.service;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.BatchSearchResponseDto;
+import com.example.experfolio.domain.search.dto.BatchSearchResultDto;
+import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchRequestDto;
+import com.example.experfolio.domain.search.exception.SearchServiceException;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.service.KeywordIndexService;
+import com.example.experfolio.domain.search.service.LocalVectorSearchService;
+import com.example.experfolio.domain.search.service.SearchServiceImpl;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SearchServiceImpl 배치 검색 단위 테스트")
+class SearchServiceBatchTest {
+
+    private static final int PARALLELISM = 2;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private LocalVectorSearchService localVectorSearchService;
+
+    @Mock
+    private KeywordIndexService keywordIndexService;
+
+    private ThreadPoolTaskExecutor executor;
+    private SearchServiceImpl searchService;
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+
+        searchService = new SearchServiceImpl(new RestTemplate(),
+                new PortfolioSummaryCache(portfolioRepository, meterRegistry, 100, 600),
+                new SearchResultCache(meterRegistry, true, 10, 600),
+                new SearchRequestCoalescer(meterRegistry, true), localVectorSearchService, keywordIndexService,
+                new AiServerCallGuard(meterRegistry, 5000, 4, 20, 10, 0.5, 30000, false, 3000, 200, 0.95),
+                new SearchSessionStore(meterRegistry, 1000, 600), new SearchMetrics(meterRegistry), new ObjectMapper(),
+                executor);
+        ReflectionTestUtils.setField(searchService, "localTopK", 5);
+        ReflectionTestUtils.setField(searchService, "batchParallelism", PARALLELISM);
+        ReflectionTestUtils.setField(searchService, "batchTimeoutMs", 10_000L);
+
+        given(localVectorSearchService.isReady()).willReturn(true);
+        // 쿼리 "q{n}"은 user-n ~ user-(n+4)를 반환 (이웃 쿼리끼리 후보자가 겹침)
+        given(localVectorSearchService.search(anyString(), anyInt(), any())).willAnswer(invocation -> {
+            String query = invocation.getArgument(0);
+            int running = this.running.incrementAndGet();
+            maxRunning.accumulateAndGet(running, Math::max);
+            try {
+                Thread.sleep(20);
+                if (query.startsWith("fail")) {
+                    throw new SearchServiceException("임베딩 실패");
+                }
+                int start = Integer.parseInt(query.substring(1));
+                return IntStream.range(start, start + 5)
+                        .mapToObj(i -> new VectorHit("user-" + i, 1.0f - (i - start) * 0.1f))
+                        .toList();
+            } finally {
+                this.running.decrementAndGet();
+            }
+        });
+        given(portfolioRepository.findSummariesByUserIdIn(anyList())).willAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            return userIds.stream()
+                    .map(userId -> PortfolioSummaryDto.builder()
+                            .userId(userId)
+                            .basicInfoPresent(true)
+                            .name("이름-" + userId)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("쿼리를 제한된 동시성으로 실행하고 전체 후보자 userInfo는 한 번에 조회")
+    void runConcurrentlyAndEnrichOnce() {
+        List<SearchRequestDto> requests = IntStream.range(0, 6)
+                .mapToObj(i -> request("q" + (i * 2)))
+                .toList();
+
+        BatchSearchResponseDto response = searchService.searchBatch(requests);
+
+        assertThat(response.getStatus()).isEqualTo("success");
+        assertThat(response.getResults()).extracting(BatchSearchResultDto::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(response.getResults().get(1).getResult().getCandidates())
+                .extracting(CandidateDto::getUserId)
+                .containsExactly("user-2", "user-3", "user-4", "user-5", "user-6");
+        assertThat(response.getResults().get(1).getResult().getCandidates().get(0).getUserInfo().getName())
+                .isEqualTo("이름-user-2");
+        assertThat(response.getUniqueCandidates()).isEqualTo(15);
+        assertThat(maxRunning.get()).isBetween(2, PARALLELISM);
+
+        then(portfolioRepository).should(times(1)).findSummariesByUserIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("실패한 쿼리는 해당 결과에만 기록하고 나머지는 정상 반환")
+    void isolateFailures() {
+        BatchSearchResponseDto response = searchService.searchBatch(
+                List.of(request("q0"), request("fail"), request("q10")));
+
+        assertThat(response.getStatus()).isEqualTo("partial");
+        assertThat(response.getFailedQueries()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchSearchResultDto::getStatus)
+                .containsExactly("success", "error", "success");
+        assertThat(response.getResults().get(1).getError()).isEqualTo("임베딩 실패");
+        assertThat(response.getResults().get(2).getResult().getCandidates()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("같은 쿼리는 한 번만 검색하고, 이후 배치에서는 캐시 결과를 사용")
+    void deduplicateAndShareCache() {
+        BatchSearchResponseDto first = searchService.searchBatch(
+                List.of(request("q0"), request("  Q0 "), request("q3")));
+        BatchSearchResponseDto second = searchService.searchBatch(List.of(request("q3")));
+
+        assertThat(first.getResults()).allMatch(result -> result.getStatus().equals("success"));
+        assertThat(first.getResults().get(1).getResult().getCandidates())
+                .extracting(CandidateDto::getUserId)
+                .containsExactlyElementsOf(first.getResults().get(0).getResult().getCandidates().stream()
+                        .map(CandidateDto::getUserId).toList());
+        assertThat(second.getResults().get(0).getResult().getTimings()).containsOnlyKeys("cache_lookup", "total");
+
+        then(localVectorSearchService).should(times(1)).search(eq("q0"), anyInt(), any());
+        then(localVectorSearchService).should(times(1)).search(eq("q3"), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("허가를 제한 시간 안에 얻지 못한 쿼리는 실행하지 않고 시간 초과로 기록")
+    void permitWaitBoundedByDeadline() {
+        ReflectionTestUtils.setField(searchService, "batchTimeoutMs", 100L);
+        willAnswer(invocation -> {
+            Thread.sleep(400);
+            return List.of();
+        }).given(localVectorSearchService).search(anyString(), anyInt(), any());
+
+        long start = System.nanoTime();
+        BatchSearchResponseDto response = searchService.searchBatch(IntStream.range(0, 6)
+                .mapToObj(i -> request("q" + i))
+                .toList());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(350);
+        assertThat(response.getStatus()).isEqualTo("error");
+        assertThat(response.getResults()).extracting(BatchSearchResultDto::getError)
+                .containsOnly("검색 시간이 초과되었습니다");
+        then(localVectorSearchService).should(times(PARALLELISM)).search(anyString(), anyInt(), any());
+    }
+
+    private static SearchRequestDto request(String query) {
+        return SearchRequestDto.builder().query(query).mode(SearchMode.LOCAL).build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.experfolio.unit.search.service;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.exception.AiServerUnavailableException;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.service.KeywordIndexService;
+import com.example.experfolio.domain.search.service.LocalVectorSearchService;
+import com.example.experfolio.domain.search.service.SearchServiceImpl;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SearchServiceImpl 로컬 검색 대체 단위 테스트")
+class SearchServiceFallbackTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private LocalVectorSearchService localVectorSearchService;
+
+    @Mock
+    private KeywordIndexService keywordIndexService;
+
+    private AiServerCallGuard aiServerCallGuard;
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        aiServerCallGuard = new AiServerCallGuard(meterRegistry, 100, 4, 20, 10, 0.5, 30000, false, 3000, 200, 0.95);
+        searchService = new SearchServiceImpl(restTemplate,
+                new PortfolioSummaryCache(portfolioRepository, meterRegistry, 100, 600),
+                new SearchResultCache(meterRegistry, true, 10, 600),
+                new SearchRequestCoalescer(meterRegistry, true), localVectorSearchService, keywordIndexService,
+                aiServerCallGuard, new SearchSessionStore(meterRegistry, 1000, 600), new SearchMetrics(meterRegistry),
+                new ObjectMapper(), new ThreadPoolTaskExecutor());
+        ReflectionTestUtils.setField(searchService, "aiServerUrl", "http://ai-server");
+        ReflectionTestUtils.setField(searchService, "searchEndpoint", "/ai/search");
+        ReflectionTestUtils.setField(searchService, "localTopK", 5);
+        ReflectionTestUtils.setField(searchService, "localFallbackEnabled", true);
+
+        given(localVectorSearchService.isReady()).willReturn(true);
+        given(localVectorSearchService.search(anyString(), anyInt(), any()))
+                .willReturn(List.of(new VectorHit("user-1", 0.9f)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiServerCallGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("/ai/search가 5xx로 응답하면 로컬 벡터 검색으로 대체")
+    void fallbackOnServerError() {
+        given(restTemplate.postForEntity(anyString(), any(), eq(SearchResponseDto.class)))
+                .willThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        SearchResponseDto response = searchService.search("React 개발자", SearchMode.AI, null);
+
+        assertThat(response.getMode()).isEqualTo(SearchMode.LOCAL);
+        assertThat(response.getCandidates()).extracting("userId").containsExactly("user-1");
+    }
+
+    @Test
+    @DisplayName("지연 예산을 넘기면 쿼리 임베딩도 AI 서버를 기다려야 하므로 대체하지 않음")
+    void skipFallbackWhenGuardRejected() {
+        given(restTemplate.postForEntity(anyString(), any(), eq(SearchResponseDto.class))).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return null;
+        });
+
+        assertThatThrownBy(() -> searchService.search("React 개발자", SearchMode.AI, null))
+                .isInstanceOf(AiServerUnavailableException.class);
+        then(localVectorSearchService).should(never()).search(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("지연 예산을 넘겨도 쿼리 임베딩이 캐시되어 있으면 로컬 벡터 검색으로 대체")
+    void fallbackWhenQueryVectorCached() {
+        given(restTemplate.postForEntity(anyString(), any(), eq(SearchResponseDto.class))).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return null;
+        });
+        given(localVectorSearchService.hasCachedQueryVector("React 개발자")).willReturn(true);
+
+        SearchResponseDto response = searchService.search("React 개발자", SearchMode.AI, null);
+
+        assertThat(response.getMode()).isEqualTo(SearchMode.LOCAL);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.experfolio.unit.search.service;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.CandidateDto;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.service.KeywordIndexService;
+import com.example.experfolio.domain.search.service.LocalVectorSearchService;
+import com.example.experfolio.domain.search.service.SearchServiceImpl;
+import com.example.experfolio.domain.search.session.SearchCursor;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.example.experfolio.global.exception.BadRequestException;
+import com.example.experfolio.global.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SearchServiceImpl 페이지 검색 단위 테스트")
+class SearchServicePagingTest {
+
+    private static final String OWNER_ID = "recruiter-1";
+    private static final int TOTAL = 25;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private LocalVectorSearchService localVectorSearchService;
+
+    @Mock
+    private KeywordIndexService keywordIndexService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchService = new SearchServiceImpl(new RestTemplate(),
+                new PortfolioSummaryCache(portfolioRepository, meterRegistry, 100, 600),
+                new SearchResultCache(meterRegistry, true, 10, 600),
+                new SearchRequestCoalescer(meterRegistry, true), localVectorSearchService, keywordIndexService,
+                new AiServerCallGuard(meterRegistry, 5000, 4, 20, 10, 0.5, 30000, false, 3000, 200, 0.95),
+                new SearchSessionStore(meterRegistry, 1000, 600), new SearchMetrics(meterRegistry), new ObjectMapper(),
+                new ThreadPoolTaskExecutor());
+        ReflectionTestUtils.setField(searchService, "localTopK", TOTAL);
+
+        given(localVectorSearchService.isReady()).willReturn(true);
+        given(localVectorSearchService.search(anyString(), anyInt(), any())).willReturn(IntStream.range(0, TOTAL)
+                .mapToObj(i -> new VectorHit("user-" + i, 1.0f - i * 0.01f))
+                .toList());
+        given(portfolioRepository.findSummariesByUserIdIn(anyList())).willAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            return userIds.stream()
+                    .map(userId -> PortfolioSummaryDto.builder()
+                            .userId(userId)
+                            .basicInfoPresent(true)
+                            .name("이름-" + userId)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("커서로 순위 목록을 끝까지 순회하며 검색은 한 번만 실행")
+    void pageThroughSession() {
+        SearchResponseDto first = searchService.searchPage(OWNER_ID, "React 개발자", SearchMode.LOCAL, null, 10);
+        SearchResponseDto second = searchService.nextPage(OWNER_ID, first.getNextCursor());
+        SearchResponseDto last = searchService.nextPage(OWNER_ID, second.getNextCursor());
+
+        assertThat(first.getCandidates()).hasSize(10);
+        assertThat(first.getTotalResults()).isEqualTo(TOTAL);
+        assertThat(second.getCandidates()).extracting(CandidateDto::getUserId)
+                .containsExactlyElementsOf(IntStream.range(10, 20).mapToObj(i -> "user-" + i).toList());
+        assertThat(second.getCandidates().get(0).getUserInfo().getName()).isEqualTo("이름-user-10");
+        assertThat(last.getCandidates()).hasSize(5);
+        assertThat(last.getNextCursor()).isNull();
+
+        then(localVectorSearchService).should().search(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 순위 목록 전체가 아니라 해당 페이지 후보자만 userInfo 조회")
+    @SuppressWarnings("unchecked")
+    void enrichOnlyFirstPage() {
+        SearchResponseDto first = searchService.searchPage(OWNER_ID, "React 개발자", SearchMode.LOCAL, null, 10);
+
+        assertThat(first.getCandidates()).extracting(candidate -> candidate.getUserInfo().getName())
+                .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> "이름-user-" + i).toList());
+        ArgumentCaptor<List<String>> userIds = ArgumentCaptor.forClass(List.class);
+        then(portfolioRepository).should().findSummariesByUserIdIn(userIds.capture());
+        assertThat(userIds.getValue()).hasSize(10);
+        assertThat(first.getTimings()).containsKeys("vector_search", "mapping", "enrichment", "total");
+    }
+
+    @Test
+    @DisplayName("단계별 소요 시간을 응답 사본과 메트릭에 기록 (캐시 히트는 outcome=cache_hit)")
+    void recordStageTimings() {
+        SearchResponseDto first = searchService.search("React 개발자", SearchMode.LOCAL);
+        SearchResponseDto cached = searchService.search("React 개발자", SearchMode.LOCAL);
+
+        assertThat(first.getTimings()).containsKeys("cache_lookup", "vector_search", "mapping", "enrichment", "total");
+        assertThat(cached.getTimings()).containsOnlyKeys("cache_lookup", "total");
+        assertThat(cached).isNotSameAs(first);
+
+        assertThat(meterRegistry.get("search.stage.duration")
+                .tags("stage", "vector_search", "mode", "LOCAL", "outcome", "success", "candidates", "11-50")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("search.duration").tags("outcome", "cache_hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 커서는 만료된 세션으로 처리")
+    void rejectOtherOwner() {
+        SearchResponseDto first = searchService.searchPage(OWNER_ID, "React 개발자", SearchMode.LOCAL, null, 10);
+
+        assertThatThrownBy(() -> searchService.nextPage("recruiter-2", first.getNextCursor()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 BadRequest")
+    void rejectMalformedCursor() {
+        assertThatThrownBy(() -> searchService.nextPage(OWNER_ID, "not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기를 상한보다 크게 조작한 커서는 BadRequest")
+    void rejectOversizedCursor() {
+        SearchResponseDto first = searchService.searchPage(OWNER_ID, "React 개발자", SearchMode.LOCAL, null, 10);
+        String sessionId = SearchCursor.decode(first.getNextCursor()).getSessionId();
+
+        assertThatThrownBy(() -> searchService.nextPage(OWNER_ID,
+                new SearchCursor(sessionId, 0, Integer.MAX_VALUE).encode()))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> searchService.nextPage(OWNER_ID,
+                new SearchCursor(sessionId, 20, SearchCursor.MAX_PAGE_SIZE + 1).encode()))
+                .isInstanceOf(BadRequestException.class);
+
+        SearchResponseDto tail = searchService.nextPage(OWNER_ID,
+                new SearchCursor(sessionId, 20, SearchCursor.MAX_PAGE_SIZE).encode());
+        assertThat(tail.getCandidates()).hasSize(TOTAL - 20);
+        assertThat(tail.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.experfolio.unit.search.service;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.dto.PortfolioSummaryDto;
+import com.example.experfolio.domain.portfolio.repository.PortfolioRepository;
+import com.example.experfolio.domain.search.cache.SearchRequestCoalescer;
+import com.example.experfolio.domain.search.cache.SearchResultCache;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchStreamEventDto;
+import com.example.experfolio.domain.search.dto.SearchStreamEventDto.Type;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.resilience.AiServerCallGuard;
+import com.example.experfolio.domain.search.service.KeywordIndexService;
+import com.example.experfolio.domain.search.service.LocalVectorSearchService;
+import com.example.experfolio.domain.search.service.SearchServiceImpl;
+import com.example.experfolio.domain.search.session.SearchSessionStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchServiceImpl 스트리밍 검색 단위 테스트")
+class SearchServiceStreamTest {
+
+    private static final int CANDIDATES = 12;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private LocalVectorSearchService localVectorSearchService;
+
+    @Mock
+    private KeywordIndexService keywordIndexService;
+
+    private final List<String> trace = new ArrayList<>();
+
+    private HttpServer server;
+    private SearchResultCache searchResultCache;
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ai/search/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int i = 0; i < CANDIDATES; i++) {
+                    body.write(("{\"userId\":\"user-" + i + "\",\"matchScore\":0." + (90 - i) + "}\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            }
+        });
+        server.createContext("/ai/search", exchange -> {
+            byte[] body = "{\"status\":\"success\",\"candidates\":[{\"userId\":\"user-0\",\"matchScore\":0.9}],\"totalResults\":1,\"searchTime\":\"1.00s\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/ai/search/ranked", exchange -> {
+            String candidates = IntStream.range(0, CANDIDATES)
+                    .mapToObj(i -> "{\"userId\":\"user-" + i + "\",\"matchScore\":0." + (90 - i) + "}")
+                    .collect(Collectors.joining(","));
+            byte[] body = ("{\"status\":\"success\",\"candidates\":[" + candidates + "],\"totalResults\":"
+                    + CANDIDATES + ",\"searchTime\":\"1.00s\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        searchResultCache = new SearchResultCache(meterRegistry, true, 10, 600);
+        searchService = new SearchServiceImpl(new RestTemplate(),
+                new PortfolioSummaryCache(portfolioRepository, meterRegistry, 100, 600), searchResultCache,
+                new SearchRequestCoalescer(meterRegistry, true), localVectorSearchService, keywordIndexService,
+                new AiServerCallGuard(meterRegistry, 5000, 4, 20, 10, 0.5, 30000, false, 3000, 200, 0.95),
+                new SearchSessionStore(meterRegistry, 1000, 600), new SearchMetrics(meterRegistry), new ObjectMapper(),
+                new ThreadPoolTaskExecutor());
+        ReflectionTestUtils.setField(searchService, "aiServerUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(searchService, "searchEndpoint", "/ai/search");
+        ReflectionTestUtils.setField(searchService, "searchStreamEndpoint", "/ai/search/stream");
+        ReflectionTestUtils.setField(searchService, "streamEnrichBatchSize", 5);
+
+        given(portfolioRepository.findSummariesByUserIdIn(anyList())).willAnswer(invocation -> {
+            List<String> userIds = invocation.getArgument(0);
+            trace.add("enrich:" + userIds.size());
+            return userIds.stream()
+                    .map(userId -> PortfolioSummaryDto.builder()
+                            .userId(userId)
+                            .basicInfoPresent(true)
+                            .name("이름-" + userId)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("NDJSON 후보자를 도착 순서대로 전송하고 첫 후보자는 단독으로, 이후는 배치로 userInfo 조회")
+    void streamCandidatesInBatches() {
+        List<SearchStreamEventDto> events = new ArrayList<>();
+
+        searchService.searchStream("React 개발자", SearchMode.AI, null, events::add);
+
+        assertThat(events).extracting(SearchStreamEventDto::getType)
+                .startsWith(Type.META)
+                .endsWith(Type.DONE)
+                .filteredOn(type -> type == Type.CANDIDATE).hasSize(CANDIDATES);
+        assertThat(events.subList(1, CANDIDATES + 1))
+                .extracting(event -> event.getCandidate().getUserId())
+                .containsExactlyElementsOf(IntStream.range(0, CANDIDATES).mapToObj(i -> "user-" + i).toList());
+        assertThat(events.get(1).getCandidate().getUserInfo().getName()).isEqualTo("이름-user-0");
+        assertThat(events.get(events.size() - 1).getTotalResults()).isEqualTo(CANDIDATES);
+
+        // 1 + 5 + 5 + 1
+        then(portfolioRepository).should(times(4)).findSummariesByUserIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("스트리밍 엔드포인트가 없으면 순위 결과의 첫 후보자를 나머지 배치 조회 전에 전송")
+    void rankedSearchEmitsFirstCandidateBeforeBatches() {
+        ReflectionTestUtils.setField(searchService, "searchEndpoint", "/ai/search/ranked");
+        ReflectionTestUtils.setField(searchService, "searchStreamEndpoint", "");
+
+        searchService.searchStream("React 개발자", SearchMode.AI, null, event -> {
+            if (event.getType() == Type.CANDIDATE) {
+                trace.add(event.getCandidate().getUserId());
+            }
+        });
+
+        List<String> expected = new ArrayList<>(List.of("enrich:1", "user-0", "enrich:5"));
+        IntStream.rangeClosed(1, 5).forEach(i -> expected.add("user-" + i));
+        expected.add("enrich:5");
+        IntStream.rangeClosed(6, 10).forEach(i -> expected.add("user-" + i));
+        expected.addAll(List.of("enrich:1", "user-11"));
+        assertThat(trace).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("스트리밍 결과는 캐시되어 다음 요청은 AI 서버를 다시 호출하지 않음")
+    void cacheStreamedResult() {
+        searchService.searchStream("React 개발자", SearchMode.AI, null, event -> { });
+        server.removeContext("/ai/search/stream");
+
+        List<SearchStreamEventDto> events = new ArrayList<>();
+        searchService.searchStream("react   개발자", SearchMode.AI, null, events::add);
+
+        assertThat(events).filteredOn(event -> event.getType() == Type.CANDIDATE).hasSize(CANDIDATES);
+    }
+
+    @Test
+    @DisplayName("스트리밍 엔드포인트를 사용할 수 없으면 일반 검색 결과를 전송")
+    void fallbackToBlockingSearch() {
+        server.removeContext("/ai/search/stream");
+        server.createContext("/ai/search/stream", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        List<SearchStreamEventDto> events = new ArrayList<>();
+
+        searchService.searchStream("React 개발자", SearchMode.AI, null, events::add);
+
+        assertThat(events).extracting(SearchStreamEventDto::getType)
+                .containsExactly(Type.META, Type.CANDIDATE, Type.DONE);
+        assertThat(events.get(2).getMode()).isEqualTo(SearchMode.AI);
+    }
+}
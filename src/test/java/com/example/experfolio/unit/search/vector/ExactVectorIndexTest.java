@@ -0,0 +1,118 @@
+package com.example.experfolio.unit.search.vector;
+
+import com.example.experfolio.domain.search.vector.ExactVectorIndex;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import com.example.experfolio.domain.search.vector.VectorOps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExactVectorIndex 단위 테스트")
+class ExactVectorIndexTest {
+
+    private static final int DIMENSION = 67; // SIMD lane 수의 배수가 아닌 차원으로 꼬리 처리까지 검증
+
+    @Test
+    @DisplayName("SIMD 내적과 스칼라 내적 결과 일치")
+    void dotMatchesScalar() {
+        Random random = new Random(7);
+        float[] a = randomVector(random, DIMENSION);
+        float[] b = randomVector(random, DIMENSION);
+
+        double expected = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            expected += (double) a[i] * b[i];
+        }
+
+        assertThat((double) VectorOps.dot(a, b)).isCloseTo(expected, within(1e-4));
+    }
+
+    @Test
+    @DisplayName("상위 k개가 전수 코사인 유사도 순위와 일치")
+    void searchReturnsExactTopK() {
+        Random random = new Random(42);
+        ExactVectorIndex index = new ExactVectorIndex(0);
+        float[][] vectors = new float[500][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random, DIMENSION);
+            index.upsert("user-" + i, vectors[i]);
+        }
+        float[] query = randomVector(random, DIMENSION);
+
+        List<VectorHit> hits = index.search(query, 10);
+
+        List<String> expected = IntStream.range(0, vectors.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> -cosine(query, vectors[i])))
+                .limit(10)
+                .map(i -> "user-" + i)
+                .toList();
+        assertThat(hits).extracting(VectorHit::getUserId).containsExactlyElementsOf(expected);
+        assertThat(hits.get(0).getScore()).isGreaterThanOrEqualTo(hits.get(9).getScore());
+    }
+
+    @Test
+    @DisplayName("upsert는 기존 벡터를 교체하고 remove는 나머지 행을 유지")
+    void upsertAndRemove() {
+        ExactVectorIndex index = new ExactVectorIndex(3);
+        index.upsert("a", new float[]{1, 0, 0});
+        index.upsert("b", new float[]{0, 1, 0});
+        index.upsert("c", new float[]{0, 0, 1});
+
+        index.upsert("a", new float[]{0, 0, 2});
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(new float[]{0, 0, 1}, 1)).extracting(VectorHit::getUserId).containsExactly("a");
+
+        assertThat(index.remove("a")).isTrue();
+        assertThat(index.remove("a")).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search(new float[]{0, 0, 1}, 1)).extracting(VectorHit::getUserId).containsExactly("c");
+        assertThat(index.search(new float[]{0, 1, 0}, 5)).extracting(VectorHit::getUserId).containsExactly("b", "c");
+    }
+
+    @Test
+    @DisplayName("필터를 만족하는 행만 검색")
+    void searchWithFilter() {
+        ExactVectorIndex index = new ExactVectorIndex(3);
+        index.upsert("a", new float[]{1, 0, 0});
+        index.upsert("b", new float[]{0.9f, 0.1f, 0});
+        index.upsert("c", new float[]{0, 1, 0});
+
+        assertThat(index.search(new float[]{1, 0, 0}, 2, userId -> !userId.equals("a")))
+                .extracting(VectorHit::getUserId).containsExactly("b", "c");
+    }
+
+        @Test
+    @DisplayName("차원이 다른 벡터는 거부")
+    void rejectDimensionMismatch() {
+        ExactVectorIndex index = new ExactVectorIndex(3);
+
+        assertThatThrownBy(() -> index.upsert("a", new float[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.upsert("a", new float[]{0, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+            normA += (double) a[i] * a[i];
+            normB += (double) b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.experfolio.unit.search.vector;
+
+import com.example.experfolio.domain.search.vector.HnswIndex;
+import com.example.experfolio.domain.search.vector.VectorHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HnswIndex 단위 테스트")
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int COUNT = 2000;
+
+    @Test
+    @DisplayName("recall@10이 전수 비교 대비 0.9 이상")
+    void recallAgainstExactSearch() {
+        HnswIndex index = buildIndex(new Random(1));
+
+        assertThat(index.size()).isEqualTo(COUNT);
+        assertThat(index.recallAtK(10, 100, 3)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("efSearch가 클수록 recall이 높거나 같음")
+    void efSearchTradeOff() {
+        HnswIndex index = buildIndex(new Random(2));
+
+        index.setEfSearch(10);
+        double lowRecall = index.recallAtK(10, 100, 5);
+        index.setEfSearch(200);
+        double highRecall = index.recallAtK(10, 100, 5);
+
+        assertThat(highRecall).isGreaterThanOrEqualTo(lowRecall);
+        assertThat(highRecall).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("삭제된 항목은 결과에서 제외되고 재구축 없이 recall 유지")
+    void deleteKeepsGraphNavigable() {
+        HnswIndex index = buildIndex(new Random(3));
+
+        for (int i = 0; i < COUNT; i += 3) {
+            assertThat(index.remove("user-" + i)).isTrue();
+        }
+
+        assertThat(index.deletedCount()).isEqualTo((COUNT + 2) / 3);
+        assertThat(index.size()).isEqualTo(COUNT - (COUNT + 2) / 3);
+        assertThat(index.recallAtK(10, 100, 7)).isGreaterThanOrEqualTo(0.9);
+
+        List<VectorHit> hits = index.search(randomVector(new Random(9)), 50);
+        assertThat(hits).extracting(VectorHit::getUserId)
+                .noneMatch(userId -> Integer.parseInt(userId.substring(5)) % 3 == 0);
+    }
+
+    @Test
+    @DisplayName("갱신된 벡터로 즉시 검색됨")
+    void updateReplacesVector() {
+        Random random = new Random(4);
+        HnswIndex index = buildIndex(random);
+        float[] target = randomVector(random);
+
+        index.upsert("user-7", target);
+
+        List<VectorHit> hits = index.search(target, 1);
+        assertThat(hits).extracting(VectorHit::getUserId).containsExactly("user-7");
+        assertThat(hits.get(0).getScore()).isGreaterThan(0.999f);
+        assertThat(index.size()).isEqualTo(COUNT);
+    }
+
+    @Test
+    @DisplayName("모든 항목 삭제 후 다시 삽입 가능")
+    void removeAllThenInsert() {
+        HnswIndex index = new HnswIndex(0, 8, 50, 20, 11);
+        index.upsert("a", new float[]{1, 0});
+        index.upsert("b", new float[]{0, 1});
+
+        index.remove("a");
+        index.remove("b");
+        assertThat(index.search(new float[]{1, 0}, 1)).isEmpty();
+
+        index.upsert("c", new float[]{1, 1});
+        assertThat(index.search(new float[]{1, 0}, 1)).extracting(VectorHit::getUserId).containsExactly("c");
+    }
+
+    @Test
+    @DisplayName("삭제 노드가 절반을 넘으면 그래프를 다시 구성해 톰스톤을 회수하고 검색 결과는 유지")
+    void compactTombstones() {
+        HnswIndex index = buildIndex(new Random(5));
+
+        // 짝수 번호를 모두 삭제하면 1001번째 삭제에서 재구성된다 (1000개 삭제 시점은 정확히 절반)
+        for (int i = 0; i < COUNT; i += 2) {
+            index.remove("user-" + i);
+        }
+        assertThat(index.deletedCount()).isEqualTo(COUNT / 2);
+
+        index.remove("user-1");
+        assertThat(index.deletedCount()).isZero();
+        assertThat(index.size()).isEqualTo(COUNT / 2 - 1);
+        assertThat(index.recallAtK(10, 100, 13)).isGreaterThanOrEqualTo(0.9);
+
+        float[] query = randomVector(new Random(14));
+        assertThat(index.search(query, 20)).extracting(VectorHit::getUserId)
+                .noneMatch(userId -> Integer.parseInt(userId.substring(5)) % 2 == 0 || userId.equals("user-1"));
+
+        // 재구성 이후에도 갱신과 삭제가 정상 동작
+        index.upsert("user-3", query);
+        assertThat(index.search(query, 1)).extracting(VectorHit::getUserId).containsExactly("user-3");
+        assertThat(index.remove("user-3")).isTrue();
+        assertThat(index.search(query, 5)).extracting(VectorHit::getUserId).doesNotContain("user-3");
+    }
+
+    @Test
+    @DisplayName("같은 항목을 반복 갱신해도 톰스톤이 쌓이지 않음")
+    void repeatedUpdatesStayBounded() {
+        Random random = new Random(6);
+        HnswIndex index = new HnswIndex(0, 8, 50, 20, 17);
+
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 100; i++) {
+                index.upsert("user-" + i, randomVector(random));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.deletedCount()).isLessThanOrEqualTo(100);
+        assertThat(index.recallAtK(10, 50, 19)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("필터 검색 - 넓은 조건과 좁은 조건 모두 조건 내 정확한 상위 k개와 일치")
+    void searchWithFilter() {
+        HnswIndex index = buildIndex(new Random(4));
+        float[] query = randomVector(new Random(12));
+
+        // 절반이 통과하는 조건은 그래프 탐색, 0.5%만 통과하는 조건은 전수 비교로 처리된다
+        for (int modulo : new int[]{2, 200}) {
+            Predicate<String> filter = userId -> Integer.parseInt(userId.substring(5)) % modulo == 0;
+
+            List<VectorHit> hits = index.search(query, 10, filter);
+            List<VectorHit> expected = index.exactSearch(query, COUNT).stream()
+                    .filter(hit -> filter.test(hit.getUserId()))
+                    .limit(10)
+                    .toList();
+
+            assertThat(hits).extracting(VectorHit::getUserId).allMatch(filter);
+            assertThat(hits).hasSameSizeAs(expected);
+            long overlap = hits.stream().map(VectorHit::getUserId)
+                    .filter(userId -> expected.stream().anyMatch(hit -> hit.getUserId().equals(userId)))
+                    .count();
+            assertThat(overlap).isGreaterThanOrEqualTo(9);
+        }
+    }
+
+        private static HnswIndex buildIndex(Random random) {
+        HnswIndex index = new HnswIndex(0, 12, 100, 40, random.nextLong());
+        for (int i = 0; i < COUNT; i++) {
+            index.upsert("user-" + i, randomVector(random));
+        }
+        return index;
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
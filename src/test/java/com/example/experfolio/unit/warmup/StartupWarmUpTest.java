@@ -0,0 +1,138 @@
+package com.example.experfolio.unit.warmup;
+
+import com.example.experfolio.domain.portfolio.cache.PortfolioSummaryCache;
+import com.example.experfolio.domain.portfolio.document.Portfolio;
+import com.example.experfolio.domain.search.client.EmbeddingClient;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.service.SearchService;
+import com.example.experfolio.global.security.jwt.JwtTokenProvider;
+import com.example.experfolio.global.warmup.StartupWarmUp;
+import com.example.experfolio.global.warmup.WarmUpContext;
+import com.example.experfolio.global.warmup.WarmUpHealthIndicator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartupWarmUp 단위 테스트")
+class StartupWarmUpTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EmbeddingClient embeddingClient;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private PortfolioSummaryCache portfolioSummaryCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StartupWarmUp warmUp;
+    private WarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "warm-up-test-secret-key-that-is-long-enough-for-hs256", 3600, 86400);
+        warmUp = new StartupWarmUp(mongoTemplate, embeddingClient, s3Client, searchService, portfolioSummaryCache,
+                jwtTokenProvider, new ObjectMapper(), meterRegistry,
+                true, 60000, List.of("React 개발자", " ", "Spring 백엔드"), SearchMode.KEYWORD, 10, 3, 2, 5,
+                "bucket");
+        healthIndicator = new WarmUpHealthIndicator(warmUp);
+    }
+
+    @Test
+    @DisplayName("모든 단계를 실행하고, 실패한 단계는 기록만 한 뒤 readiness를 연다")
+    @SuppressWarnings("unchecked")
+    void runAllStepsAndOpenReadiness() {
+        given(mongoTemplate.find(any(Query.class), eq(Portfolio.class))).willReturn(List.of(
+                Portfolio.builder().userId("user-1").build(),
+                Portfolio.builder().userId("user-2").build()));
+        given(s3Client.headBucket(any(Consumer.class))).willThrow(S3Exception.builder().message("no access").build());
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        warmUp.run();
+
+        assertThat(warmUp.getState()).isEqualTo(StartupWarmUp.State.COMPLETED);
+        assertThat(warmUp.getDurationMs()).isNotNegative();
+        assertThat(warmUp.getStepResults())
+                .containsOnlyKeys("mongo_pool", "ai_pool", "r2", "jwt", "jackson", "candidate_summaries", "search_queries")
+                .hasEntrySatisfying("r2", result -> assertThat(result).startsWith("failed"))
+                .hasEntrySatisfying("jwt", result -> assertThat(result).endsWith("ms"));
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.get("startup.warmup.duration").tag("step", "total").timer().count()).isEqualTo(1);
+
+        then(mongoTemplate).should(times(2)).executeCommand(any(Document.class));
+        then(embeddingClient).should(times(3)).embed(anyString());
+        then(portfolioSummaryCache).should().getAll(List.of("user-1", "user-2"));
+        then(searchService).should().search("React 개발자", SearchMode.KEYWORD);
+        then(searchService).should().search("Spring 백엔드", SearchMode.KEYWORD);
+    }
+
+    @Test
+    @DisplayName("커넥션 워밍업은 전용 스레드에서, 검색 재실행은 워밍업 표시를 켠 채로 실행")
+    void dedicatedThreadsAndWarmUpMarker() {
+        Set<String> connectionThreads = ConcurrentHashMap.newKeySet();
+        List<Boolean> searchMarkers = new ArrayList<>();
+        given(embeddingClient.embed(anyString())).willAnswer(invocation -> {
+            connectionThreads.add(Thread.currentThread().getName());
+            return new float[]{1f};
+        });
+        given(searchService.search(anyString(), any())).willAnswer(invocation -> {
+            searchMarkers.add(WarmUpContext.isActive());
+            return null;
+        });
+
+        warmUp.run();
+
+        assertThat(connectionThreads).isNotEmpty().allMatch(name -> name.startsWith("startup-warmup-io-"));
+        assertThat(searchMarkers).containsExactly(true, true);
+        assertThat(WarmUpContext.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 바로 readiness를 연다")
+    void disabled() {
+        StartupWarmUp disabled = new StartupWarmUp(mongoTemplate, embeddingClient, s3Client, searchService,
+                portfolioSummaryCache, null, new ObjectMapper(), meterRegistry,
+                false, 60000, List.of(), SearchMode.AI, 10, 1, 1, 1, "bucket");
+
+        disabled.onApplicationReady();
+
+        assertThat(new WarmUpHealthIndicator(disabled).health().getStatus()).isEqualTo(Status.UP);
+        then(mongoTemplate).shouldHaveNoInteractions();
+    }
+}
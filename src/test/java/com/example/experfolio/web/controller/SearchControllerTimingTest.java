@@ -0,0 +1,104 @@
+package com.example.experfolio.web.controller;
+
+import com.example.experfolio.domain.search.controller.SearchController;
+import com.example.experfolio.domain.search.controller.SearchResponseJsonConverter;
+import com.example.experfolio.domain.search.controller.SearchResponseTimingAdvice;
+import com.example.experfolio.domain.search.dto.SearchMode;
+import com.example.experfolio.domain.search.dto.SearchResponseDto;
+import com.example.experfolio.domain.search.metrics.SearchMetrics;
+import com.example.experfolio.domain.search.service.SearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("SearchController 응답 직렬화 시간 측정 테스트")
+class SearchControllerTimingTest {
+
+    private static final String REQUEST = "{\"query\":\"React 개발자\"}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        SearchService searchService = mock(SearchService.class);
+        given(searchService.search(anyString(), any(), any())).willAnswer(invocation -> {
+            Map<String, Double> timings = new LinkedHashMap<>();
+            timings.put("ai_call", 12.5);
+            return SearchResponseDto.builder()
+                    .status("success")
+                    .mode(SearchMode.AI)
+                    .candidates(List.of())
+                    .timings(timings)
+                    .build();
+        });
+
+        SearchController controller = new SearchController(searchService, new ThreadPoolTaskExecutor());
+        SearchResponseTimingAdvice timingAdvice = new SearchResponseTimingAdvice();
+        ReflectionTestUtils.setField(timingAdvice, "debugTimingEnabled", true);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new SearchResponseJsonConverter(objectMapper, new SearchMetrics(meterRegistry)),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .setControllerAdvice(timingAdvice)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("디버그 헤더가 있으면 timings와 직렬화 시간을 포함한 Server-Timing 헤더 반환")
+    void debugHeaderIncludesTimings() throws Exception {
+        mockMvc.perform(post("/api/v1/search")
+                        .header("X-Search-Debug", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timings.ai_call").value(12.5))
+                .andExpect(header().string("Server-Timing",
+                        matchesPattern("ai_call;dur=12\\.5, serialization;dur=[0-9.]+")));
+
+        assertThat(meterRegistry.find("search.stage.duration").tag("stage", "serialization").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디버그 헤더가 없으면 timings와 Server-Timing 헤더를 제외하고 직렬화 시간만 기록")
+    void withoutDebugHeader() throws Exception {
+        mockMvc.perform(post("/api/v1/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.timings").doesNotExist())
+                .andExpect(header().doesNotExist("Server-Timing"));
+
+        assertThat(meterRegistry.find("search.stage.duration").tag("stage", "serialization").timer().count())
+                .isEqualTo(1);
+    }
+}